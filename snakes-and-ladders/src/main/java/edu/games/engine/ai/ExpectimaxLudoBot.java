@@ -0,0 +1,303 @@
+package edu.games.engine.ai;
+
+import edu.games.engine.board.LudoPath;
+import edu.games.engine.exception.ValidationException;
+import edu.games.engine.model.LudoColor;
+import edu.games.engine.model.LudoState;
+import edu.games.engine.rule.LudoRuleEngine;
+import java.io.Serial;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Ludo bot that searches future dice outcomes with expectimax within a time budget.
+ * <p>
+ * Decision nodes take the best move for the side to move: the bot's own color
+ * maximises, every opponent minimises the bot's score. Chance nodes average over the
+ * six faces of the next roll. The search deepens one ply at a time until the budget
+ * runs out and answers with the best move of the deepest search that finished. Each
+ * root move is searched as its own task, so the moves are explored in parallel.
+ * <p>
+ * All search happens on {@link LudoState} with {@link LudoRuleEngine#applyMove}, so it
+ * never touches the live game. With a {@link TranspositionTable}, chance nodes reached
+ * again through another move order or after a bump are looked up instead of searched.
+ * The bot starts a new table generation on every decision, so each bot needs a table of
+ * its own.
+ */
+public final class ExpectimaxLudoBot implements LudoBot {
+
+  /** Default time budget per decision, short enough to answer within one animation frame. */
+  public static final long DEFAULT_BUDGET_MILLIS = 12;
+  /** Deepest search in plies, however much time is left. */
+  public static final int MAX_DEPTH = 24;
+
+  private static final int FACES = 6;
+  private static final double WIN = 1_000_000;
+  private static final double PIECE_OUT = 10;
+  private static final double IN_GOAL_LANE = 10;
+  private static final double FINISHED = 20;
+  private static final SearchTimeout TIMEOUT = new SearchTimeout();
+  private static final long[] PERSPECTIVE_KEYS =
+      new SplittableRandom(0x9E3779B97F4A7C15L).longs(LudoColor.values().length).toArray();
+
+  private final LudoRuleEngine rules;
+  private final long budgetNanos;
+  private final Executor executor;
+  private final TranspositionTable table;
+
+  /**
+   * Creates a bot with the default time budget, searching on the common pool.
+   *
+   * @param rules the rule engine for the board being played
+   */
+  public ExpectimaxLudoBot(LudoRuleEngine rules) {
+    this(rules, DEFAULT_BUDGET_MILLIS);
+  }
+
+  /**
+   * Creates a bot with the given time budget, searching on the common pool.
+   *
+   * @param rules        the rule engine for the board being played
+   * @param budgetMillis the time allowed per decision in milliseconds
+   * @throws ValidationException if the budget is negative
+   */
+  public ExpectimaxLudoBot(LudoRuleEngine rules, long budgetMillis) {
+    this(rules, budgetMillis, ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Creates a bot with the given time budget and executor for the root moves.
+   *
+   * @param rules        the rule engine for the board being played
+   * @param budgetMillis the time allowed per decision in milliseconds
+   * @param executor     the executor the root moves are searched on
+   * @throws ValidationException if the budget is negative
+   */
+  public ExpectimaxLudoBot(LudoRuleEngine rules, long budgetMillis, Executor executor) {
+    this(rules, budgetMillis, executor, null);
+  }
+
+  /**
+   * Creates a bot that caches chance-node values in a transposition table.
+   *
+   * @param rules        the rule engine for the board being played
+   * @param budgetMillis the time allowed per decision in milliseconds
+   * @param executor     the executor the root moves are searched on
+   * @param table        the table to cache values in, not shared with another bot, or null
+   *                     to search without one
+   * @throws ValidationException if the budget is negative
+   */
+  public ExpectimaxLudoBot(
+      LudoRuleEngine rules, long budgetMillis, Executor executor, TranspositionTable table) {
+    if (budgetMillis < 0) {
+      throw new ValidationException("Invalid budgetMillis: cannot be negative");
+    }
+    this.rules = Objects.requireNonNull(rules, "Rule engine cannot be null.");
+    this.budgetNanos = budgetMillis * 1_000_000;
+    this.executor = Objects.requireNonNull(executor, "Executor cannot be null.");
+    this.table = table;
+  }
+
+  /**
+   * Chooses a piece by iterative deepening until the time budget is spent.
+   * A one-ply search always completes, so there is an answer even with no budget.
+   *
+   * @param state the position, with the roller as the side to move
+   * @param roll  the value rolled
+   * @return the ID of the piece to move
+   */
+  @Override
+  public int choosePiece(LudoState state, int roll) {
+    long deadline = System.nanoTime() + budgetNanos;
+    startSearch();
+    List<Integer> moves = legalMoves(state, roll);
+    if (moves.size() <= 1) {
+      return moves.isEmpty() ? 0 : moves.get(0);
+    }
+    int best = search(state, roll, moves, 1, Long.MAX_VALUE);
+    for (int depth = 2; depth <= MAX_DEPTH && System.nanoTime() < deadline; depth++) {
+      int deeper = search(state, roll, moves, depth, deadline);
+      if (deeper < 0) {
+        break;
+      }
+      best = deeper;
+    }
+    return best;
+  }
+
+  /**
+   * Chooses a piece with a search of fixed depth, ignoring the time budget.
+   *
+   * @param state the position, with the roller as the side to move
+   * @param roll  the value rolled
+   * @param depth the number of plies to search, at least one
+   * @return the ID of the piece to move
+   * @throws ValidationException if the depth is not positive
+   */
+  public int choosePiece(LudoState state, int roll, int depth) {
+    if (depth < 1) {
+      throw new ValidationException("Invalid depth: must be greater than 0");
+    }
+    startSearch();
+    List<Integer> moves = legalMoves(state, roll);
+    if (moves.size() <= 1) {
+      return moves.isEmpty() ? 0 : moves.get(0);
+    }
+    return search(state, roll, moves, depth, Long.MAX_VALUE);
+  }
+
+  private void startSearch() {
+    if (table != null) {
+      table.newSearch();
+    }
+  }
+
+  private List<Integer> legalMoves(LudoState state, int roll) {
+    List<Integer> moves = new ArrayList<>(LudoState.PIECES);
+    for (int piece = 0; piece < LudoState.PIECES; piece++) {
+      if (rules.canMove(state, piece, roll)) {
+        moves.add(piece);
+      }
+    }
+    return moves;
+  }
+
+  /**
+   * Searches every root move as its own task.
+   *
+   * @return the best piece, or -1 if the deadline passed before all moves were searched
+   * @throws RuntimeException the failure of a move's task, for anything but the deadline
+   */
+  private int search(LudoState state, int roll, List<Integer> moves, int depth, long deadline) {
+    LudoColor me = state.colorToMove();
+    List<CompletableFuture<Double>> values = new ArrayList<>(moves.size());
+    for (int piece : moves) {
+      values.add(CompletableFuture.supplyAsync(
+          () -> afterMove(state, piece, roll, depth - 1, me, deadline), executor));
+    }
+    int best = -1;
+    double bestValue = Double.NEGATIVE_INFINITY;
+    for (int i = 0; i < moves.size(); i++) {
+      double value;
+      try {
+        value = values.get(i).join();
+      } catch (CompletionException e) {
+        if (e.getCause() instanceof SearchTimeout) {
+          return -1;
+        }
+        throw e.getCause() instanceof RuntimeException cause ? cause : e;
+      }
+      if (value > bestValue) {
+        bestValue = value;
+        best = moves.get(i);
+      }
+    }
+    return best;
+  }
+
+  private double afterMove(
+      LudoState state, int piece, int roll, int depth, LudoColor me, long deadline) {
+    LudoColor mover = state.colorToMove();
+    LudoState next = rules.applyMove(state, piece, roll);
+    if (rules.hasWon(next, mover)) {
+      return mover == me ? WIN + depth : -WIN - depth;
+    }
+    return chance(next, depth, me, deadline);
+  }
+
+  private double chance(LudoState state, int depth, LudoColor me, long deadline) {
+    if (depth == 0) {
+      return evaluate(state, me);
+    }
+    long key = 0;
+    if (table != null) {
+      key = rules.hash(state) ^ PERSPECTIVE_KEYS[me.ordinal()];
+      long entry = table.probe(key);
+      if (entry != TranspositionTable.MISS && TranspositionTable.depth(entry) >= depth) {
+        return TranspositionTable.value(entry);
+      }
+    }
+    double total = 0;
+    for (int roll = 1; roll <= FACES; roll++) {
+      total += decide(state, roll, depth, me, deadline);
+    }
+    double value = total / FACES;
+    if (table != null) {
+      table.store(key, depth, value, -1);
+    }
+    return value;
+  }
+
+  private double decide(LudoState state, int roll, int depth, LudoColor me, long deadline) {
+    if (System.nanoTime() > deadline) {
+      throw TIMEOUT;
+    }
+    boolean maximise = state.colorToMove() == me;
+    double best = maximise ? Double.NEGATIVE_INFINITY : Double.POSITIVE_INFINITY;
+    boolean moved = false;
+    for (int piece = 0; piece < LudoState.PIECES; piece++) {
+      if (!rules.canMove(state, piece, roll)) {
+        continue;
+      }
+      moved = true;
+      double value = afterMove(state, piece, roll, depth - 1, me, deadline);
+      best = maximise ? Math.max(best, value) : Math.min(best, value);
+    }
+    return moved ? best : chance(state.nextSide(), depth - 1, me, deadline);
+  }
+
+  /**
+   * Scores a position as the bot's progress minus that of its strongest opponent.
+   */
+  private static double evaluate(LudoState state, LudoColor me) {
+    double mine = 0;
+    double rival = state.seatCount() == 1 ? 0 : Double.NEGATIVE_INFINITY;
+    for (int seat = 0; seat < state.seatCount(); seat++) {
+      LudoColor color = state.seatColor(seat);
+      double score = progress(state, color);
+      if (color == me) {
+        mine = score;
+      } else {
+        rival = Math.max(rival, score);
+      }
+    }
+    return mine - rival;
+  }
+
+  private static double progress(LudoState state, LudoColor color) {
+    double score = 0;
+    for (int piece = 0; piece < LudoState.PIECES; piece++) {
+      int index = state.routeIndex(color, piece);
+      if (index == LudoPath.HOME) {
+        continue;
+      }
+      score += PIECE_OUT + index;
+      if (LudoPath.isGoalIndex(index)) {
+        score += IN_GOAL_LANE;
+      }
+      if (index == LudoPath.FINAL_ROUTE_INDEX) {
+        score += FINISHED;
+      }
+    }
+    return score;
+  }
+
+  /**
+   * Thrown inside a search task when the deadline passes. Shared and stackless,
+   * since it only unwinds the search.
+   */
+  private static final class SearchTimeout extends RuntimeException {
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    SearchTimeout() {
+      super("Search deadline passed", null, false, false);
+    }
+  }
+}
@@ -0,0 +1,99 @@
+package edu.games.engine.ai;
+
+import edu.games.engine.board.LudoPath;
+import edu.games.engine.model.LudoColor;
+import edu.games.engine.model.LudoState;
+import edu.games.engine.rule.LudoRuleEngine;
+import java.util.Objects;
+
+/**
+ * Simple rule-of-thumb Ludo bots, used as fast baselines in tournaments.
+ * None of them looks further ahead than the current move.
+ */
+public final class HeuristicLudoBots {
+
+  private HeuristicLudoBots() {
+    // Prevent instantiation
+  }
+
+  /**
+   * Returns a bot that always moves its most advanced movable piece,
+   * racing one piece home at a time.
+   *
+   * @param rules the rule engine for the board being played
+   * @return the bot
+   */
+  public static LudoBot advanceLeader(LudoRuleEngine rules) {
+    Objects.requireNonNull(rules, "Rule engine cannot be null.");
+    return (state, roll) -> pick(rules, state, roll, false);
+  }
+
+  /**
+   * Returns a bot that always moves its least advanced movable piece,
+   * bringing pieces out of home first and keeping them together.
+   *
+   * @param rules the rule engine for the board being played
+   * @return the bot
+   */
+  public static LudoBot advanceTrailer(LudoRuleEngine rules) {
+    Objects.requireNonNull(rules, "Rule engine cannot be null.");
+    return (state, roll) -> pick(rules, state, roll, true);
+  }
+
+  /**
+   * Returns a bot that captures whenever it can, otherwise leaves home on a six,
+   * otherwise moves its most advanced piece.
+   *
+   * @param rules the rule engine for the board being played
+   * @return the bot
+   */
+  public static LudoBot captureFirst(LudoRuleEngine rules) {
+    Objects.requireNonNull(rules, "Rule engine cannot be null.");
+    return (state, roll) -> {
+      LudoColor me = state.colorToMove();
+      int opponentsHome = opponentsAtHome(state, me);
+      for (int piece = 0; piece < LudoState.PIECES; piece++) {
+        if (rules.canMove(state, piece, roll)
+            && opponentsAtHome(rules.applyMove(state, piece, roll), me) > opponentsHome) {
+          return piece;
+        }
+      }
+      for (int piece = 0; piece < LudoState.PIECES; piece++) {
+        if (state.routeIndex(me, piece) == LudoPath.HOME && rules.canMove(state, piece, roll)) {
+          return piece;
+        }
+      }
+      return pick(rules, state, roll, false);
+    };
+  }
+
+  private static int pick(LudoRuleEngine rules, LudoState state, int roll, boolean trailing) {
+    LudoColor me = state.colorToMove();
+    int best = 0;
+    int bestIndex = trailing ? Integer.MAX_VALUE : Integer.MIN_VALUE;
+    for (int piece = 0; piece < LudoState.PIECES; piece++) {
+      if (!rules.canMove(state, piece, roll)) {
+        continue;
+      }
+      int index = state.routeIndex(me, piece);
+      if (trailing ? index < bestIndex : index > bestIndex) {
+        bestIndex = index;
+        best = piece;
+      }
+    }
+    return best;
+  }
+
+  private static int opponentsAtHome(LudoState state, LudoColor me) {
+    int count = 0;
+    for (int seat = 0; seat < state.seatCount(); seat++) {
+      LudoColor color = state.seatColor(seat);
+      for (int piece = 0; color != me && piece < LudoState.PIECES; piece++) {
+        if (state.routeIndex(color, piece) == LudoPath.HOME) {
+          count++;
+        }
+      }
+    }
+    return count;
+  }
+}
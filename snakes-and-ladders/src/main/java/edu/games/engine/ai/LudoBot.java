@@ -0,0 +1,20 @@
+package edu.games.engine.ai;
+
+import edu.games.engine.model.LudoState;
+
+/**
+ * A computer player for Ludo that picks which piece to move after a roll.
+ */
+@FunctionalInterface
+public interface LudoBot {
+
+  /**
+   * Chooses the piece the color to move should move with the given roll.
+   * When no piece can move, any piece ID may be returned, as the turn passes either way.
+   *
+   * @param state the position, with the roller as the side to move
+   * @param roll  the value rolled
+   * @return the ID of the piece to move (0-3)
+   */
+  int choosePiece(LudoState state, int roll);
+}
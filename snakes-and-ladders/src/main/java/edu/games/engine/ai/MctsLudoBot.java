@@ -0,0 +1,462 @@
+package edu.games.engine.ai;
+
+import edu.games.engine.board.LudoBoard;
+import edu.games.engine.dice.RandomDice;
+import edu.games.engine.exception.GameEngineException;
+import edu.games.engine.exception.ValidationException;
+import edu.games.engine.impl.DefaultGame;
+import edu.games.engine.model.LudoColor;
+import edu.games.engine.model.LudoState;
+import edu.games.engine.model.Player;
+import edu.games.engine.model.Token;
+import edu.games.engine.rule.LudoRuleEngine;
+import edu.games.engine.rule.MoveUndo;
+import edu.games.engine.strategy.LudoGameStrategy;
+import edu.ntnu.idatt2003.utils.Log;
+import java.time.LocalDate;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.logging.Logger;
+
+/**
+ * Ludo bot based on Monte Carlo tree search over the packed {@link LudoState}.
+ * <p>
+ * The tree alternates decision nodes, where the side to move picks a piece for a known
+ * roll, with chance nodes, where the next roll of the single die is drawn. Every worker
+ * thread runs whole playouts against the shared tree: it walks down by UCT, expands
+ * one node, finishes the game with random moves and credits the winner on the way back.
+ * The random moves are played with {@link LudoRuleEngine#makeMove} on a game each worker
+ * builds once per search, so a rollout allocates no state per move.
+ * Visits and wins are atomic counters, and a visit is counted on the way down so that
+ * concurrent workers spread over different moves instead of all following the same one.
+ * <p>
+ * A search stops after a fixed number of playouts or when the time budget runs out,
+ * whichever comes first. The tree below the chosen move is kept, and reused when the
+ * next decision is found in it.
+ * <p>
+ * Workers run on an executor the bot does not own: either one given by the caller, or a
+ * daemon pool with a thread per core that all bots share, started on first use. Many
+ * bots in one tournament therefore never hold more threads than there are cores.
+ */
+public final class MctsLudoBot implements LudoBot, AutoCloseable {
+
+  /** Default number of playouts per decision. */
+  public static final int DEFAULT_PLAYOUTS = 20_000;
+  /** Default time budget per decision in milliseconds. */
+  public static final long DEFAULT_BUDGET_MILLIS = 12;
+
+  private static final int FACES = 6;
+  private static final int MAX_PLAYOUT_MOVES = 4_000;
+  private static final int REUSE_SEARCH_LIMIT = 4_096;
+  private static final double EXPLORATION = Math.sqrt(2);
+  private static final LocalDate BIRTHDAY = LocalDate.of(2000, 1, 1);
+  private static final Logger MUTED = Log.muted();
+
+  private final LudoRuleEngine rules;
+  private final int maxPlayouts;
+  private final long budgetNanos;
+  private final int workerCount;
+  private final ExecutorService workers;
+  private ChanceNode kept;
+  private int lastPlayouts;
+  private int lastReusedVisits;
+
+  /**
+   * Creates a bot with the default playout count and time budget, with a worker per core
+   * on the shared pool.
+   *
+   * @param rules the rule engine for the board being played
+   */
+  public MctsLudoBot(LudoRuleEngine rules) {
+    this(rules, DEFAULT_PLAYOUTS, DEFAULT_BUDGET_MILLIS, Runtime.getRuntime().availableProcessors());
+  }
+
+  /**
+   * Creates a bot whose workers run on the shared pool.
+   *
+   * @param rules        the rule engine for the board being played
+   * @param maxPlayouts  the number of playouts after which a search stops
+   * @param budgetMillis the time after which a search stops, in milliseconds
+   * @param threads      the number of workers running playouts at once
+   * @throws ValidationException if the playout count or thread count is not positive,
+   *                             or the budget is negative
+   */
+  public MctsLudoBot(LudoRuleEngine rules, int maxPlayouts, long budgetMillis, int threads) {
+    this(rules, maxPlayouts, budgetMillis, threads, SharedWorkers.POOL);
+  }
+
+  /**
+   * Creates a bot whose workers run on the given executor. The caller keeps ownership
+   * of the executor and shuts it down.
+   *
+   * @param rules        the rule engine for the board being played
+   * @param maxPlayouts  the number of playouts after which a search stops
+   * @param budgetMillis the time after which a search stops, in milliseconds
+   * @param threads      the number of workers running playouts at once
+   * @param workers      the executor the workers run on
+   * @throws ValidationException if the playout count or thread count is not positive,
+   *                             or the budget is negative
+   */
+  public MctsLudoBot(LudoRuleEngine rules, int maxPlayouts, long budgetMillis, int threads,
+      ExecutorService workers) {
+    if (maxPlayouts < 1 || threads < 1 || budgetMillis < 0) {
+      throw new ValidationException(
+          "Invalid search limits: playouts and threads must be positive, budget cannot be negative");
+    }
+    this.rules = Objects.requireNonNull(rules, "Rule engine cannot be null.");
+    this.maxPlayouts = maxPlayouts;
+    this.budgetNanos = budgetMillis * 1_000_000;
+    this.workerCount = threads;
+    this.workers = Objects.requireNonNull(workers, "Executor cannot be null.");
+  }
+
+  /**
+   * Searches until the playout count or time budget is reached and returns the most
+   * visited move. At least one playout is run for every move, so there is an answer
+   * even with no budget.
+   *
+   * @param state the position, with the roller as the side to move
+   * @param roll  the value rolled
+   * @return the ID of the piece to move
+   */
+  @Override
+  public synchronized int choosePiece(LudoState state, int roll) {
+    long deadline = System.nanoTime() + budgetNanos;
+    DecisionNode root = reusableRoot(state, roll);
+    if (root == null) {
+      root = new DecisionNode(state, roll, legalMoves(state, roll));
+    }
+    lastReusedVisits = root.visitsTotal.get();
+    if (root.pieces.length <= 1) {
+      lastPlayouts = 0;
+      kept = root.child(0, this);
+      return root.pieces.length == 0 ? 0 : root.pieces[0];
+    }
+
+    AtomicInteger started = new AtomicInteger();
+    int minimum = Math.min(root.pieces.length, maxPlayouts);
+    DecisionNode searchRoot = root;
+    List<Future<?>> running = new ArrayList<>(workerCount);
+    for (int i = 0; i < workerCount; i++) {
+      running.add(workers.submit(() -> {
+        int n;
+        Path path = new Path();
+        Rollout rollout = new Rollout(rules, state);
+        while ((n = started.getAndIncrement()) < maxPlayouts
+            && (n < minimum || System.nanoTime() < deadline)) {
+          playout(searchRoot, path, rollout);
+        }
+      }));
+    }
+    awaitAll(running);
+    lastPlayouts = root.visitsTotal.get() - lastReusedVisits;
+
+    int best = root.mostVisited();
+    kept = root.child(best, this);
+    return root.pieces[best];
+  }
+
+  /**
+   * Returns the number of playouts run by the last search.
+   *
+   * @return the playout count
+   */
+  public synchronized int lastPlayouts() {
+    return lastPlayouts;
+  }
+
+  /**
+   * Returns how many playouts of earlier searches the last search started from,
+   * through a reused subtree.
+   *
+   * @return the visits already on the root when the last search began
+   */
+  public synchronized int lastReusedVisits() {
+    return lastReusedVisits;
+  }
+
+  /**
+   * Drops the tree kept for reuse. The executor is not the bot's, and keeps running.
+   */
+  @Override
+  public synchronized void close() {
+    kept = null;
+  }
+
+  private static void awaitAll(List<Future<?>> running) {
+    for (Future<?> future : running) {
+      try {
+        future.get();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        running.forEach(f -> f.cancel(true));
+        return;
+      } catch (ExecutionException e) {
+        throw new GameEngineException("MCTS worker failed", e.getCause());
+      }
+    }
+  }
+
+  /**
+   * Looks for the decision in the tree kept from the last search: the position after
+   * the bot's move, followed by any rolls and opponent moves already explored.
+   */
+  private DecisionNode reusableRoot(LudoState state, int roll) {
+    ChanceNode start = kept;
+    kept = null;
+    if (start == null) {
+      return null;
+    }
+    ArrayDeque<ChanceNode> queue = new ArrayDeque<>();
+    queue.add(start);
+    int examined = 0;
+    while (!queue.isEmpty() && examined++ < REUSE_SEARCH_LIMIT) {
+      ChanceNode chance = queue.poll();
+      for (int face = 0; face < FACES; face++) {
+        DecisionNode decision = chance.rolls.get(face);
+        if (decision == null) {
+          continue;
+        }
+        if (decision.roll == roll && decision.state.equals(state)) {
+          return decision;
+        }
+        for (int i = 0; i < decision.children.length(); i++) {
+          ChanceNode next = decision.children.get(i);
+          if (next != null && next.winner == null) {
+            queue.add(next);
+          }
+        }
+      }
+    }
+    return null;
+  }
+
+  private int[] legalMoves(LudoState state, int roll) {
+    int[] moves = new int[LudoState.PIECES];
+    int count = 0;
+    for (int piece = 0; piece < LudoState.PIECES; piece++) {
+      if (rules.canMove(state, piece, roll)) {
+        moves[count++] = piece;
+      }
+    }
+    return Arrays.copyOf(moves, count);
+  }
+
+  /**
+   * Runs one playout: selection and expansion down the tree, a random rollout from the
+   * new leaf and backpropagation of the winner.
+   */
+  private void playout(DecisionNode root, Path path, Rollout rollout) {
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    path.length = 0;
+    DecisionNode decision = root;
+    LudoColor winner;
+    while (true) {
+      int choice = decision.select();
+      path.add(decision, choice);
+      ChanceNode chance = decision.child(choice, this);
+      if (chance.winner != null) {
+        winner = chance.winner;
+        break;
+      }
+      if (chance.visits.getAndIncrement() == 0) {
+        winner = rollout(chance.state, rollout, random);
+        break;
+      }
+      decision = chance.decision(random.nextInt(FACES) + 1, this);
+    }
+    for (int i = 0; i < path.length; i++) {
+      DecisionNode node = path.decisions[i];
+      if (node.state.colorToMove() == winner) {
+        node.wins.incrementAndGet(path.choices[i]);
+      }
+    }
+  }
+
+  /**
+   * Plays random legal moves on the worker's game, set to the given position, until a
+   * color wins. With no legal move, the move of piece 0 passes the turn. The winning
+   * move is taken back so the game holds no winner for the next rollout.
+   *
+   * @return the winning color, or null if the move cap was reached first
+   */
+  private LudoColor rollout(LudoState state, Rollout rollout, ThreadLocalRandom random) {
+    DefaultGame game = rollout.game;
+    int[] movable = rollout.movable;
+    rules.restore(state, game);
+    for (int move = 0; move < MAX_PLAYOUT_MOVES; move++) {
+      int roll = random.nextInt(FACES) + 1;
+      int count = 0;
+      for (int piece = 0; piece < LudoState.PIECES; piece++) {
+        if (rules.canMove(game, piece, roll)) {
+          movable[count++] = piece;
+        }
+      }
+      long undo = rules.makeMove(game, count == 0 ? 0 : movable[random.nextInt(count)], roll);
+      if (MoveUndo.won(undo)) {
+        rules.unmakeMove(game, undo);
+        return state.seatColor(MoveUndo.seat(undo));
+      }
+    }
+    return null;
+  }
+
+  /** Holds the pool shared by bots without an executor of their own, started on first use. */
+  private static final class SharedWorkers {
+    static final ExecutorService POOL = Executors.newFixedThreadPool(
+        Runtime.getRuntime().availableProcessors(), task -> {
+          Thread thread = new Thread(task, "ludo-mcts");
+          thread.setDaemon(true);
+          return thread;
+        });
+  }
+
+  /**
+   * The game one worker plays its rollouts on, with a player for every seat of the
+   * searched position. Built once per search and reset to the leaf of every playout.
+   */
+  private static final class Rollout {
+    final DefaultGame game;
+    final int[] movable = new int[LudoState.PIECES];
+
+    Rollout(LudoRuleEngine rules, LudoState root) {
+      List<Player> players = new ArrayList<>(root.seatCount());
+      for (int seat = 0; seat < root.seatCount(); seat++) {
+        Token token = Token.valueOf(root.seatColor(seat).name());
+        players.add(new Player("Seat " + (seat + 1), token, BIRTHDAY));
+      }
+      this.game = new DefaultGame(new LudoBoard(rules.path()), new LudoGameStrategy(rules),
+          players, new RandomDice(1), MUTED);
+    }
+  }
+
+  /**
+   * The decisions and choices of one playout on the way down, reused by a worker for
+   * every playout of a search so that a playout allocates no list or boxed move.
+   */
+  private static final class Path {
+    DecisionNode[] decisions = new DecisionNode[64];
+    int[] choices = new int[64];
+    int length;
+
+    void add(DecisionNode decision, int choice) {
+      if (length == decisions.length) {
+        decisions = Arrays.copyOf(decisions, length * 2);
+        choices = Arrays.copyOf(choices, length * 2);
+      }
+      decisions[length] = decision;
+      choices[length++] = choice;
+    }
+  }
+
+  /**
+   * A position where the side to move is about to roll.
+   */
+  private static final class ChanceNode {
+    final LudoState state;
+    final LudoColor winner;
+    final AtomicInteger visits = new AtomicInteger();
+    final AtomicReferenceArray<DecisionNode> rolls = new AtomicReferenceArray<>(FACES);
+
+    ChanceNode(LudoState state, LudoColor winner) {
+      this.state = state;
+      this.winner = winner;
+    }
+
+    DecisionNode decision(int roll, MctsLudoBot bot) {
+      DecisionNode node = rolls.get(roll - 1);
+      if (node == null) {
+        rolls.compareAndSet(roll - 1, null, new DecisionNode(state, roll, bot.legalMoves(state, roll)));
+        node = rolls.get(roll - 1);
+      }
+      return node;
+    }
+  }
+
+  /**
+   * A position with a known roll, where the side to move picks a piece.
+   * With no legal move, the single child is the position after passing.
+   */
+  private static final class DecisionNode {
+    final LudoState state;
+    final int roll;
+    final int[] pieces;
+    final AtomicReferenceArray<ChanceNode> children;
+    final AtomicIntegerArray visits;
+    final AtomicIntegerArray wins;
+    final AtomicInteger visitsTotal = new AtomicInteger();
+
+    DecisionNode(LudoState state, int roll, int[] pieces) {
+      this.state = state;
+      this.roll = roll;
+      this.pieces = pieces;
+      int width = Math.max(1, pieces.length);
+      this.children = new AtomicReferenceArray<>(width);
+      this.visits = new AtomicIntegerArray(width);
+      this.wins = new AtomicIntegerArray(width);
+    }
+
+    /**
+     * Picks a child by UCT and counts the visit straight away, so that it acts as a
+     * virtual loss for other workers until the playout's result is known.
+     */
+    int select() {
+      int width = visits.length();
+      int total = visitsTotal.getAndIncrement() + 1;
+      int best = 0;
+      double bestScore = Double.NEGATIVE_INFINITY;
+      double logTotal = Math.log(total);
+      for (int i = 0; i < width; i++) {
+        int n = visits.get(i);
+        double score = n == 0
+            ? Double.POSITIVE_INFINITY
+            : (double) wins.get(i) / n + EXPLORATION * Math.sqrt(logTotal / n);
+        if (score > bestScore) {
+          bestScore = score;
+          best = i;
+        }
+      }
+      visits.incrementAndGet(best);
+      return best;
+    }
+
+    int mostVisited() {
+      int best = 0;
+      for (int i = 1; i < visits.length(); i++) {
+        if (visits.get(i) > visits.get(best)) {
+          best = i;
+        }
+      }
+      return best;
+    }
+
+    ChanceNode child(int index, MctsLudoBot bot) {
+      ChanceNode node = children.get(index);
+      if (node == null) {
+        children.compareAndSet(index, null, bot.afterChoice(this, index));
+        node = children.get(index);
+      }
+      return node;
+    }
+  }
+
+  private ChanceNode afterChoice(DecisionNode decision, int index) {
+    if (decision.pieces.length == 0) {
+      return new ChanceNode(decision.state.nextSide(), null);
+    }
+    LudoColor mover = decision.state.colorToMove();
+    LudoState next = rules.applyMove(decision.state, decision.pieces[index], decision.roll);
+    return new ChanceNode(next, rules.hasWon(next, mover) ? mover : null);
+  }
+}
@@ -0,0 +1,46 @@
+package edu.games.engine.ai;
+
+import edu.games.engine.model.LudoState;
+import edu.games.engine.rule.LudoRuleEngine;
+import java.util.Objects;
+import java.util.random.RandomGenerator;
+
+/**
+ * Ludo bot that moves a random movable piece. Cheap enough for soak tests and as a
+ * baseline opponent for stronger bots.
+ */
+public final class RandomLudoBot implements LudoBot {
+
+  private final LudoRuleEngine rules;
+  private final RandomGenerator random;
+
+  /**
+   * Creates a random bot drawing from the given generator.
+   *
+   * @param rules  the rule engine for the board being played
+   * @param random the source of randomness
+   */
+  public RandomLudoBot(LudoRuleEngine rules, RandomGenerator random) {
+    this.rules = Objects.requireNonNull(rules, "Rule engine cannot be null.");
+    this.random = Objects.requireNonNull(random, "Random generator cannot be null.");
+  }
+
+  /**
+   * Picks one of the movable pieces with equal probability.
+   *
+   * @param state the position, with the roller as the side to move
+   * @param roll  the value rolled
+   * @return the ID of the piece to move, or 0 if none can move
+   */
+  @Override
+  public int choosePiece(LudoState state, int roll) {
+    int[] movable = new int[LudoState.PIECES];
+    int count = 0;
+    for (int piece = 0; piece < LudoState.PIECES; piece++) {
+      if (rules.canMove(state, piece, roll)) {
+        movable[count++] = piece;
+      }
+    }
+    return count == 0 ? 0 : movable[random.nextInt(count)];
+  }
+}
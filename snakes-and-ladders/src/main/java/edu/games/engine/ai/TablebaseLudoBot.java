@@ -0,0 +1,66 @@
+package edu.games.engine.ai;
+
+import edu.games.engine.model.LudoState;
+import edu.games.engine.rule.LudoRuleEngine;
+import edu.games.engine.tablebase.LudoTablebase;
+import java.util.Objects;
+
+/**
+ * Ludo bot that plays endgames perfectly from a {@link LudoTablebase} and hands every
+ * other position to a fallback bot.
+ * <p>
+ * In a covered position it tries each movable piece and looks up the position that
+ * follows, so a decision costs at most four table reads and no search.
+ */
+public final class TablebaseLudoBot implements LudoBot {
+
+  private final LudoRuleEngine rules;
+  private final LudoTablebase tablebase;
+  private final LudoBot fallback;
+
+  /**
+   * Creates a bot.
+   *
+   * @param rules     the rule engine for the board being played
+   * @param tablebase the endgame tablebase
+   * @param fallback  the bot that decides positions the tablebase does not cover
+   */
+  public TablebaseLudoBot(LudoRuleEngine rules, LudoTablebase tablebase, LudoBot fallback) {
+    this.rules = Objects.requireNonNull(rules, "Rule engine cannot be null.");
+    this.tablebase = Objects.requireNonNull(tablebase, "Tablebase cannot be null.");
+    this.fallback = Objects.requireNonNull(fallback, "Fallback bot cannot be null.");
+  }
+
+  /**
+   * Chooses the piece with the best win probability if the position is covered.
+   *
+   * @param state the position, with the roller as the side to move
+   * @param roll  the value rolled
+   * @return the ID of the piece to move
+   */
+  @Override
+  public int choosePiece(LudoState state, int roll) {
+    if (!tablebase.covers(state)) {
+      return fallback.choosePiece(state, roll);
+    }
+    int best = 0;
+    double bestValue = -1;
+    for (int piece = 0; piece < LudoState.PIECES; piece++) {
+      if (!rules.canMove(state, piece, roll)) {
+        continue;
+      }
+      LudoState next = rules.applyMove(state, piece, roll);
+      if (rules.hasWon(next, state.colorToMove())) {
+        return piece;
+      }
+      double value = next.sideToMove() == state.sideToMove()
+          ? tablebase.winProbability(next)
+          : 1 - tablebase.winProbability(next);
+      if (value > bestValue) {
+        bestValue = value;
+        best = piece;
+      }
+    }
+    return best;
+  }
+}
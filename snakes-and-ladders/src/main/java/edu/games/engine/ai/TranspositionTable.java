@@ -0,0 +1,159 @@
+package edu.games.engine.ai;
+
+import edu.games.engine.exception.ValidationException;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Fixed-size table of search results keyed by position hash, shared by any number of
+ * search threads without locks.
+ * <p>
+ * The threads must all work for one searcher, the only caller of {@link #newSearch()}.
+ * Starting a generation ages every entry in the table, so two searchers calling it in
+ * turn would each treat the other's live results as stale and overwrite them.
+ * <p>
+ * Each slot is two words: the entry data and the hash XORed with the data. A reader
+ * only accepts a slot whose two words XOR back to the hash it asked for, so a slot
+ * torn by two threads writing at once reads as a miss instead of a wrong result.
+ * A slot keeps its entry until one of equal or greater depth arrives, unless the entry
+ * is left over from an earlier search (see {@link #newSearch()}).
+ * <p>
+ * Entries are packed into a {@code long}: bits 0-31 hold the value as a {@code float},
+ * bits 32-39 the depth, bits 40-42 the best move plus one, bits 43-50 the search
+ * generation and bit 63 marks the entry as present. {@link #MISS} is returned when
+ * nothing is stored.
+ */
+public final class TranspositionTable {
+
+  /** Returned by {@link #probe(long)} when the position is not in the table. */
+  public static final long MISS = 0L;
+  /** The deepest search depth an entry can record. */
+  public static final int MAX_DEPTH = 0xFF;
+
+  private static final int DEPTH_SHIFT = 32;
+  private static final int MOVE_SHIFT = 40;
+  private static final int GENERATION_SHIFT = 43;
+  private static final long PRESENT = 1L << 63;
+
+  private final AtomicLongArray slots;
+  private final int mask;
+  private volatile int generation;
+
+  /**
+   * Creates a table with room for at least the given number of entries,
+   * rounded up to a power of two.
+   *
+   * @param entries the minimum number of entries
+   * @throws ValidationException if the size is not between 1 and 2^29
+   */
+  public TranspositionTable(int entries) {
+    if (entries < 1 || entries > 1 << 29) {
+      throw new ValidationException("Invalid entries: must be between 1 and " + (1 << 29));
+    }
+    int capacity = Integer.highestOneBit(entries);
+    if (capacity < entries) {
+      capacity <<= 1;
+    }
+    this.slots = new AtomicLongArray(2 * capacity);
+    this.mask = capacity - 1;
+  }
+
+  /**
+   * Returns the number of entries the table holds.
+   *
+   * @return the capacity
+   */
+  public int capacity() {
+    return mask + 1;
+  }
+
+  /**
+   * Starts a new search generation. Entries from earlier generations can then be
+   * replaced regardless of their depth, so old deep results do not fill the table.
+   * Only the searcher owning the table may call this, once before each search.
+   */
+  public void newSearch() {
+    generation = (generation + 1) & 0xFF;
+  }
+
+  /**
+   * Looks up a position.
+   *
+   * @param hash the position hash
+   * @return the packed entry, or {@link #MISS}
+   */
+  public long probe(long hash) {
+    int slot = slotOf(hash);
+    long check = slots.getOpaque(slot);
+    long data = slots.getOpaque(slot + 1);
+    return data != MISS && (check ^ data) == hash ? data : MISS;
+  }
+
+  /**
+   * Stores a search result, unless the slot holds a deeper result from the current search.
+   *
+   * @param hash     the position hash
+   * @param depth    the depth the value was searched to, clamped to {@link #MAX_DEPTH}
+   * @param value    the value of the position
+   * @param bestMove the best move found, between 0 and 6, or -1 if none
+   */
+  public void store(long hash, int depth, double value, int bestMove) {
+    int slot = slotOf(hash);
+    int current = generation;
+    long existing = slots.getOpaque(slot + 1);
+    if (existing != MISS && generation(existing) == current && depth(existing) > depth) {
+      return;
+    }
+    long data = PRESENT
+        | ((long) current << GENERATION_SHIFT)
+        | ((long) (bestMove + 1) << MOVE_SHIFT)
+        | ((long) Math.min(Math.max(depth, 0), MAX_DEPTH) << DEPTH_SHIFT)
+        | (Float.floatToRawIntBits((float) value) & 0xFFFF_FFFFL);
+    slots.setOpaque(slot, hash ^ data);
+    slots.setOpaque(slot + 1, data);
+  }
+
+  /** Empties the table. */
+  public void clear() {
+    for (int i = 0; i < slots.length(); i++) {
+      slots.setOpaque(i, 0L);
+    }
+  }
+
+  /**
+   * Returns the value of an entry.
+   *
+   * @param entry a packed entry
+   * @return the stored value
+   */
+  public static double value(long entry) {
+    return Float.intBitsToFloat((int) entry);
+  }
+
+  /**
+   * Returns the depth of an entry.
+   *
+   * @param entry a packed entry
+   * @return the stored depth
+   */
+  public static int depth(long entry) {
+    return (int) (entry >>> DEPTH_SHIFT) & 0xFF;
+  }
+
+  /**
+   * Returns the best move of an entry.
+   *
+   * @param entry a packed entry
+   * @return the stored move, or -1 if none
+   */
+  public static int bestMove(long entry) {
+    return ((int) (entry >>> MOVE_SHIFT) & 0b111) - 1;
+  }
+
+  private static int generation(long entry) {
+    return (int) (entry >>> GENERATION_SHIFT) & 0xFF;
+  }
+
+  private int slotOf(long hash) {
+    return (int) ((hash ^ (hash >>> 32)) & mask) << 1;
+  }
+}
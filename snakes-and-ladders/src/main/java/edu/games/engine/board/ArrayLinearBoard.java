@@ -0,0 +1,114 @@
+package edu.games.engine.board;
+
+import edu.games.engine.exception.ValidationException;
+
+/**
+ * A linear board backed by a flat array of tiles indexed by tile ID.
+ * <p>
+ * Movement is plain index arithmetic clamped at the last tile, instead of
+ * walking {@link LinearTile#next()} links one step at a time. The tiles are
+ * still linked, so code that follows {@code next()} keeps working.
+ */
+public final class ArrayLinearBoard implements IndexedBoard {
+
+  private final LinearTile[] tiles;
+  private final int lastId;
+
+  /**
+   * Constructs an array-backed board with tiles from 0 to {@code size}.
+   *
+   * @param size the ID of the last tile (must be at least 2)
+   * @throws ValidationException if size is less than 2
+   */
+  public ArrayLinearBoard(int size) {
+    if (size < 2) {
+      throw new ValidationException("Invalid boardSize: cannot be less than 2");
+    }
+    this.tiles = new LinearTile[size + 1];
+    this.lastId = size;
+    for (int i = 0; i <= size; i++) {
+      tiles[i] = new LinearTile(i);
+      if (i > 0) {
+        tiles[i - 1].nextTile = tiles[i];
+      }
+    }
+  }
+
+  /**
+   * Returns the starting tile of the board (ID 0).
+   *
+   * @return the start {@link Tile}
+   */
+  @Override
+  public Tile start() {
+    return tiles[0];
+  }
+
+  /**
+   * Moves a piece a number of steps from the given tile.
+   * Stops at the last tile if the move would pass it.
+   *
+   * @param from  the tile to start from
+   * @param steps the number of steps to move (must be non-negative)
+   * @return the destination {@link Tile}
+   * @throws ValidationException if steps are negative or the tile does not belong to this board
+   */
+  @Override
+  public Tile move(Tile from, int steps) {
+    if (steps < 0) {
+      throw new ValidationException("steps cannot be < 0");
+    }
+    int id = indexOf(from);
+    return tiles[steps >= lastId - id ? lastId : id + steps];
+  }
+
+  /**
+   * Returns the tile with the given ID.
+   *
+   * @param id the tile ID
+   * @return the {@link LinearTile} or {@code null} if not found
+   */
+  @Override
+  public LinearTile tile(int id) {
+    return id >= 0 && id <= lastId ? tiles[id] : null;
+  }
+
+  /**
+   * Returns the ID of the last tile on the board.
+   *
+   * @return the last tile ID
+   */
+  public int lastTileId() {
+    return lastId;
+  }
+
+  /**
+   * Checks if the given tile is the last tile on the board.
+   *
+   * @param tile the tile to check
+   * @return {@code true} if it's the last tile, {@code false} otherwise
+   * @throws ValidationException if the tile does not belong to this board
+   */
+  @Override
+  public boolean isEnd(Tile tile) {
+    return indexOf(tile) == lastId;
+  }
+
+  /**
+   * Resolves a generic {@link Tile} to its array index on this board.
+   *
+   * @param tile the tile to resolve
+   * @return the tile's index
+   * @throws ValidationException if the tile is not a {@link LinearTile} on this board
+   */
+  private int indexOf(Tile tile) {
+    if (!(tile instanceof LinearTile lt)) {
+      throw new ValidationException("Not a LinearTile");
+    }
+    int id = lt.tileId();
+    if (id < 0 || id > lastId) {
+      throw new ValidationException("Tile " + id + " is not on this board");
+    }
+    return id;
+  }
+}
@@ -0,0 +1,18 @@
+package edu.games.engine.board;
+
+/**
+ * A linear board whose tiles can be looked up directly by their ID.
+ * <p>
+ * Used by rules that need to place a piece on a specific tile,
+ * such as snakes, ladders and bumping back to start.
+ */
+public interface IndexedBoard extends Board {
+
+  /**
+   * Returns the tile with the given ID.
+   *
+   * @param id the tile ID
+   * @return the {@link LinearTile}, or {@code null} if the board has no such tile
+   */
+  LinearTile tile(int id);
+}
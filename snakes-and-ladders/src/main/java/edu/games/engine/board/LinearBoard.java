@@ -9,7 +9,7 @@ import java.util.Map;
  * <p>
  * Supports basic tile movement and end-tile checking.
  */
-public final class LinearBoard implements Board {
+public final class LinearBoard implements IndexedBoard {
 
   private final Map<Integer, LinearTile> tiles = new HashMap<>();
 
@@ -85,6 +85,7 @@ public final class LinearBoard implements Board {
    * @param id the tile ID
    * @return the {@link LinearTile} or {@code null} if not found
    */
+  @Override
   public LinearTile tile(int id) {
     return tiles.get(id);
   }
@@ -78,4 +78,13 @@ public final class LudoBoard implements Board {
     }
     return null;
   }
+
+  /**
+   * Returns the movement path of the board, which also offers index-based movement.
+   *
+   * @return the Ludo path
+   */
+  public LudoPath path() {
+    return path;
+  }
 }
@@ -1,8 +1,10 @@
 package edu.games.engine.board;
 
+import edu.games.engine.exception.ValidationException;
 import edu.games.engine.model.LudoColor;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.EnumMap;
 import java.util.List;
@@ -14,12 +16,29 @@ import java.util.Map;
  * This includes a shared ring of 52 tiles and color-specific goal paths (6
  * tiles per color).
  * Responsible for handling piece movement based on color and steps.
+ * <p>
+ * Each color's route, from its start tile around the ring and through its goal lane,
+ * is precomputed as a flat array. A piece's position can therefore be described by a
+ * route index, where {@link #HOME} means the piece has not entered the board and
+ * {@link #FINAL_ROUTE_INDEX} is the last goal tile. Moving is an index add clamped
+ * at the final goal tile.
  */
 public class LudoPath implements MovementPath {
 
+  /** Route index of a piece that is still at home. */
+  public static final int HOME = -1;
+  /** Number of tiles on a color's route: the full ring followed by the goal lane. */
+  public static final int ROUTE_LENGTH = 52 + 6;
+  /** Route index of the last goal tile. */
+  public static final int FINAL_ROUTE_INDEX = ROUTE_LENGTH - 1;
+
+  private static final int MAX_TILE_ID = 76;
+
   private final List<LudoRingTile> ring = new ArrayList<>(52);
   private final Map<LudoColor, List<LudoGoalTile>> goals = new EnumMap<>(LudoColor.class);
   private final Map<LudoColor, LudoRingTile> startingPoints = new EnumMap<>(LudoColor.class);
+  private final LudoTile[][] routes = new LudoTile[LudoColor.values().length][];
+  private final int[][] routeIndexByTileId = new int[LudoColor.values().length][];
 
   /**
    * Builds the Ludo path: 52 ring tiles and 4 goal paths (one per color).
@@ -60,7 +79,25 @@ public class LudoPath implements MovementPath {
       LudoRingTile startTile = ring.get(entryIndex);
       startingPoints.put(c, startTile);
       startTile.goalEntry(lane.getFirst());
+      buildRoute(c, entryIndex, lane);
+    }
+  }
+
+  private void buildRoute(LudoColor color, int entryIndex, List<LudoGoalTile> lane) {
+    LudoTile[] route = new LudoTile[ROUTE_LENGTH];
+    for (int i = 0; i < 52; i++) {
+      route[i] = ring.get((entryIndex + i) % 52);
+    }
+    for (int j = 0; j < 6; j++) {
+      route[52 + j] = lane.get(j);
     }
+    int[] indexByTileId = new int[MAX_TILE_ID + 1];
+    Arrays.fill(indexByTileId, HOME);
+    for (int i = 0; i < ROUTE_LENGTH; i++) {
+      indexByTileId[route[i].tileId()] = i;
+    }
+    routes[color.ordinal()] = route;
+    routeIndexByTileId[color.ordinal()] = indexByTileId;
   }
 
   /**
@@ -76,11 +113,7 @@ public class LudoPath implements MovementPath {
 
   /**
    * Returns the result of moving from a tile with a number of steps.
-   * Handles transitions from ring to goal path.
-   * 
-   * <p>
-   * This method was to a large degree generated by ChatGBT.
-   * </p>
+   * Handles transitions from ring to goal path by looking up the owner's route.
    *
    * @param from  the starting tile
    * @param steps number of steps to move
@@ -92,32 +125,103 @@ public class LudoPath implements MovementPath {
     if (from == null) {
       return (steps == 6) ? startingPoints.get(owner) : null;
     }
+    if (steps <= 0) {
+      return from;
+    }
+
+    if (!(from instanceof LudoTile ludoTile)) {
+      return from;
+    }
+    int index = routeIndexOf(owner, from);
+    if (index == HOME) {
+      return walkOffRoute(ludoTile, steps);
+    }
+    return tileAt(owner, advance(index, steps));
+  }
+
+  /**
+   * Returns the route index of a tile on a color's route.
+   *
+   * @param color the player's color
+   * @param tile  the tile to look up, or null for home
+   * @return the route index, or {@link #HOME} if the tile is null or not on the route
+   */
+  public int routeIndexOf(LudoColor color, Tile tile) {
+    return tile == null ? HOME : routeIndexOf(color, tile.tileId());
+  }
+
+  /**
+   * Returns the route index of a tile ID on a color's route.
+   *
+   * @param color  the player's color
+   * @param tileId the tile ID to look up
+   * @return the route index, or {@link #HOME} if the tile is not on the route
+   */
+  public int routeIndexOf(LudoColor color, int tileId) {
+    int[] indexByTileId = routeIndexByTileId[color.ordinal()];
+    return tileId >= 0 && tileId < indexByTileId.length ? indexByTileId[tileId] : HOME;
+  }
+
+  /**
+   * Returns the tile at a route index on a color's route.
+   *
+   * @param color      the player's color
+   * @param routeIndex the route index
+   * @return the tile, or null for {@link #HOME}
+   * @throws ValidationException if the index is outside the route
+   */
+  public LudoTile tileAt(LudoColor color, int routeIndex) {
+    if (routeIndex == HOME) {
+      return null;
+    }
+    if (routeIndex < 0 || routeIndex > FINAL_ROUTE_INDEX) {
+      throw new ValidationException("Invalid routeIndex: must be between -1 and " + FINAL_ROUTE_INDEX);
+    }
+    return routes[color.ordinal()][routeIndex];
+  }
+
+  /**
+   * Returns the route index reached by moving a number of steps.
+   * A piece leaves home only on a six and never moves past the final goal tile.
+   * The route is the same for every color, so no color is needed.
+   *
+   * @param routeIndex the current route index, or {@link #HOME}
+   * @param steps      number of steps to move
+   * @return the resulting route index
+   */
+  public static int advance(int routeIndex, int steps) {
+    if (routeIndex == HOME) {
+      return steps == 6 ? 0 : HOME;
+    }
+    if (steps <= 0) {
+      return routeIndex;
+    }
+    return steps >= FINAL_ROUTE_INDEX - routeIndex ? FINAL_ROUTE_INDEX : routeIndex + steps;
+  }
 
-    LudoTile currentTile = (LudoTile) from;
-    int entryId = getEntryPointId(owner);
-    int preEntryId = (entryId == 1) ? 52 : entryId - 1;
+  /**
+   * Checks whether a route index lies in the goal lane.
+   *
+   * @param routeIndex the route index
+   * @return true if the index is one of the six goal tiles
+   */
+  public static boolean isGoalIndex(int routeIndex) {
+    return routeIndex >= 52;
+  }
 
+  /**
+   * Steps along tile links for a tile that is not on the owner's route,
+   * such as another color's goal lane.
+   */
+  private static Tile walkOffRoute(LudoTile from, int steps) {
+    LudoTile currentTile = from;
     for (int i = 0; i < steps; i++) {
-      LudoTile next;
-      if (currentTile instanceof LudoRingTile ringTile) {
-        if (ringTile.tileId() == preEntryId &&
-            ringTile.next(null) != null &&
-            ringTile.next(null).tileId() == entryId) {
-          next = goals.get(owner).getFirst();
-        } else {
-          next = ringTile.next(null);
-        }
-      } else if (currentTile instanceof LudoGoalTile goalTile) {
-        next = goalTile.next(null);
-      } else {
+      LudoTile next = currentTile.next(null);
+      if (next == null) {
         return currentTile;
       }
-
-      if (next == null)
-        return currentTile;
       currentTile = next;
     }
-
     return currentTile;
   }
 
@@ -150,21 +254,6 @@ public class LudoPath implements MovementPath {
     return Collections.unmodifiableMap(goals);
   }
 
-  /**
-   * Gets the entry point tile ID for a color's goal path.
-   *
-   * @param color the player's color
-   * @return the ring tile ID just before goal entry
-   */
-  private int getEntryPointId(LudoColor color) {
-    return switch (color) {
-      case BLUE -> 1;
-      case RED -> 14;
-      case GREEN -> 27;
-      case YELLOW -> 40;
-    };
-  }
-
   /**
    * Returns null since players start at home (not on the board).
    */
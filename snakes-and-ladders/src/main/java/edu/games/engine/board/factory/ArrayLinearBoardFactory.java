@@ -0,0 +1,23 @@
+package edu.games.engine.board.factory;
+
+import edu.games.engine.board.ArrayLinearBoard;
+import edu.games.engine.board.Board;
+
+/**
+ * Factory for creating {@link ArrayLinearBoard} instances.
+ * <p>
+ * Drop-in alternative to {@link LinearBoardFactory} with constant-time movement.
+ */
+public class ArrayLinearBoardFactory implements JsonBoardLoader {
+
+  /**
+   * Creates a new {@link ArrayLinearBoard} with the given number of tiles.
+   *
+   * @param size the number of tiles for the board
+   * @return a new {@link ArrayLinearBoard} instance
+   */
+  @Override
+  public Board create(int size) {
+    return new ArrayLinearBoard(size);
+  }
+}
@@ -0,0 +1,105 @@
+package edu.games.engine.dice;
+
+import edu.games.engine.exception.ValidationException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Helpers for a roll of up to {@link #MAX_DICE} six-sided dice packed into one {@code int}.
+ * <p>
+ * Bits 0-7 hold the sum, bits 8-11 the number of dice and every die after that takes
+ * three bits, starting at bit 12. A packed roll is a plain value, so rolling and
+ * inspecting it never allocates.
+ */
+public final class PackedRoll {
+
+  /** The largest number of dice that fits in a packed roll. */
+  public static final int MAX_DICE = 6;
+
+  private static final int COUNT_SHIFT = 8;
+  private static final int DICE_SHIFT = 12;
+  private static final int DIE_BITS = 3;
+
+  private PackedRoll() {
+  }
+
+  /**
+   * Packs the given die values.
+   *
+   * @param values the die values, each between 1 and 6
+   * @param count  the number of dice to read from {@code values}
+   * @return the packed roll
+   * @throws ValidationException if the count or a value is out of range
+   */
+  public static int pack(int[] values, int count) {
+    if (count < 1 || count > MAX_DICE) {
+      throw new ValidationException("Invalid number of dice: must be between 1 and " + MAX_DICE);
+    }
+    int packed = count << COUNT_SHIFT;
+    int sum = 0;
+    for (int i = 0; i < count; i++) {
+      int value = values[i];
+      if (value < 1 || value > 6) {
+        throw new ValidationException("Invalid die value: " + value);
+      }
+      packed |= value << (DICE_SHIFT + DIE_BITS * i);
+      sum += value;
+    }
+    return packed | sum;
+  }
+
+  /**
+   * Returns the sum of all dice.
+   *
+   * @param packed the packed roll
+   * @return the sum
+   */
+  public static int sum(int packed) {
+    return packed & 0xFF;
+  }
+
+  /**
+   * Returns the number of dice in the roll.
+   *
+   * @param packed the packed roll
+   * @return the number of dice
+   */
+  public static int count(int packed) {
+    return (packed >>> COUNT_SHIFT) & 0xF;
+  }
+
+  /**
+   * Returns the value of one die.
+   *
+   * @param packed the packed roll
+   * @param index  the die index
+   * @return the value of the die
+   */
+  public static int die(int packed, int index) {
+    return (packed >>> (DICE_SHIFT + DIE_BITS * index)) & 0b111;
+  }
+
+  /**
+   * Checks whether the roll is exactly two dice showing the same value.
+   *
+   * @param packed the packed roll
+   * @return true if the roll is a double
+   */
+  public static boolean isDouble(int packed) {
+    return count(packed) == 2 && die(packed, 0) == die(packed, 1);
+  }
+
+  /**
+   * Unpacks the die values into a list.
+   *
+   * @param packed the packed roll
+   * @return an unmodifiable list of die values
+   */
+  public static List<Integer> toList(int packed) {
+    List<Integer> values = new ArrayList<>(count(packed));
+    for (int i = 0; i < count(packed); i++) {
+      values.add(die(packed, i));
+    }
+    return List.copyOf(values);
+  }
+}
@@ -0,0 +1,48 @@
+package edu.games.engine.dice;
+
+/**
+ * Dice that can be rolled and read without boxing or allocating.
+ * <p>
+ * Intended for simulation and engine hot paths; the list-based {@link Dice} methods
+ * remain available for the UI and event payloads.
+ */
+public interface PrimitiveDice extends Dice {
+
+  /**
+   * Returns how many dice are rolled at once.
+   *
+   * @return the number of dice
+   */
+  int getDiceCount();
+
+  /**
+   * Rolls all dice and writes the individual values into the given array.
+   *
+   * @param out array receiving one value per die, at least {@link #getDiceCount()} long
+   * @return the sum of the dice rolled
+   */
+  int rollInto(int[] out);
+
+  /**
+   * Rolls all dice and returns the result as a {@link PackedRoll}.
+   *
+   * @return the packed roll
+   */
+  int rollPacked();
+
+  /**
+   * Performs several rolls in one call, writing each as a {@link PackedRoll}.
+   * The last of them becomes the most recent roll.
+   *
+   * @param n   the number of rolls
+   * @param out array receiving the packed rolls, at least {@code n} long
+   */
+  void rollMany(int n, int[] out);
+
+  /**
+   * Returns the most recent roll as a {@link PackedRoll}.
+   *
+   * @return the packed roll, or {@code 0} if the dice have not been rolled
+   */
+  int lastPacked();
+}
@@ -1,18 +1,25 @@
 package edu.games.engine.dice;
 
 import edu.games.engine.exception.ValidationException;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Random;
+import java.util.random.RandomGenerator;
 
 /**
- * A dice implementation that rolls one or more six-sided dice using {@link Random}.
+ * A dice implementation that rolls one or more six-sided dice using a
+ * {@link RandomGenerator}, such as {@link Random} or {@link java.util.SplittableRandom}.
+ * <p>
+ * The last roll is kept in an {@code int[]}; the list returned by {@link #lastValues()}
+ * is built at most once per roll, and only when asked for. Packed rolls are available
+ * for up to {@link PackedRoll#MAX_DICE} dice.
  */
-public class RandomDice implements Dice {
+public class RandomDice implements PrimitiveDice {
 
   private final int numberOfDice;
-  private final Random random;
-  private final List<Integer> lastRolledValues = new ArrayList<>();
+  private final RandomGenerator random;
+  private final int[] lastRolledValues;
+  private boolean rolled;
+  private List<Integer> lastValuesView = List.of();
 
   /**
    * Creates a new random dice roller with a given number of dice.
@@ -21,21 +28,17 @@ public class RandomDice implements Dice {
    * @throws ValidationException if the number is less than 1
    */
   public RandomDice(int numberOfDice) {
-    if (numberOfDice < 1) {
-      throw new ValidationException("Invalid number of dice: must be greater than 0");
-    }
-    this.numberOfDice = numberOfDice;
-    this.random = new Random();
+    this(numberOfDice, new Random());
   }
 
   /**
    * Creates a new random dice roller with a given number of dice and a custom random source.
    *
    * @param numberOfDice the number of dice to roll
-   * @param rnd a {@link Random} instance to use
+   * @param rnd the random generator to use
    * @throws ValidationException if arguments are invalid
    */
-  public RandomDice(int numberOfDice, Random rnd) {
+  public RandomDice(int numberOfDice, RandomGenerator rnd) {
     if (numberOfDice < 1)
       throw new ValidationException("Invalid number of dice: must be greater than 0");
     if (rnd == null) {
@@ -43,6 +46,7 @@ public class RandomDice implements Dice {
     }
     this.numberOfDice = numberOfDice;
     this.random = rnd;
+    this.lastRolledValues = new int[numberOfDice];
   }
 
   /**
@@ -52,21 +56,90 @@ public class RandomDice implements Dice {
    */
   @Override
   public int roll() {
-    lastRolledValues.clear();
     int sum = 0;
     for (int i = 0; i < numberOfDice; i++) {
       int dieValue = random.nextInt(1, 7);
-      lastRolledValues.add(dieValue);
+      lastRolledValues[i] = dieValue;
       sum += dieValue;
     }
+    rolled = true;
+    lastValuesView = null;
     return sum;
   }
 
+  /**
+   * Rolls all dice and writes the individual values into the given array.
+   *
+   * @param out array receiving one value per die
+   * @return the sum of the dice rolled
+   * @throws ValidationException if the array is too short
+   */
+  @Override
+  public int rollInto(int[] out) {
+    if (out == null || out.length < numberOfDice) {
+      throw new ValidationException("Invalid out: must hold at least " + numberOfDice + " values");
+    }
+    int sum = roll();
+    System.arraycopy(lastRolledValues, 0, out, 0, numberOfDice);
+    return sum;
+  }
+
+  /**
+   * Rolls all dice and returns the result as a {@link PackedRoll}.
+   *
+   * @return the packed roll
+   * @throws ValidationException if there are more dice than a packed roll can hold
+   */
+  @Override
+  public int rollPacked() {
+    requirePackable();
+    roll();
+    return PackedRoll.pack(lastRolledValues, numberOfDice);
+  }
+
+  /**
+   * Performs several rolls in one call, writing each as a {@link PackedRoll}.
+   *
+   * @param n   the number of rolls
+   * @param out array receiving the packed rolls
+   * @throws ValidationException if {@code n} is negative or the array is too short
+   */
+  @Override
+  public void rollMany(int n, int[] out) {
+    if (n < 0 || out == null || out.length < n) {
+      throw new ValidationException("Invalid out: must hold at least " + n + " rolls");
+    }
+    requirePackable();
+    for (int i = 0; i < n; i++) {
+      out[i] = rollPacked();
+    }
+  }
+
+  /**
+   * Returns the most recent roll as a {@link PackedRoll}.
+   *
+   * @return the packed roll, or {@code 0} if the dice have not been rolled
+   * @throws ValidationException if there are more dice than a packed roll can hold
+   */
+  @Override
+  public int lastPacked() {
+    requirePackable();
+    return rolled ? PackedRoll.pack(lastRolledValues, numberOfDice) : 0;
+  }
+
+  private void requirePackable() {
+    if (numberOfDice > PackedRoll.MAX_DICE) {
+      throw new ValidationException(
+          "Cannot pack " + numberOfDice + " dice: at most " + PackedRoll.MAX_DICE + " fit in a packed roll");
+    }
+  }
+
   /**
    * Returns how many dice this instance rolls.
    *
    * @return the number of dice
    */
+  @Override
   public int getDiceCount() {
     return numberOfDice;
   }
@@ -78,6 +151,13 @@ public class RandomDice implements Dice {
    */
   @Override
   public List<Integer> lastValues() {
-    return List.copyOf(lastRolledValues);
+    if (lastValuesView == null) {
+      Integer[] values = new Integer[numberOfDice];
+      for (int i = 0; i < numberOfDice; i++) {
+        values[i] = lastRolledValues[i];
+      }
+      lastValuesView = List.of(values);
+    }
+    return lastValuesView;
   }
 }
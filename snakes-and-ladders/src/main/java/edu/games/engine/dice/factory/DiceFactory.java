@@ -13,4 +13,16 @@ public interface DiceFactory {
    * @return a new {@code Dice} object
    */
   Dice create();
+
+  /**
+   * Creates the dice for a numbered stream. Seeded factories return the same sequence of
+   * rolls for the same stream index every time, independent of which thread asks or in
+   * which order. Factories without a seed ignore the index.
+   *
+   * @param streamIndex the stream index, for example the index of a game in a batch
+   * @return a new {@code Dice} object
+   */
+  default Dice create(long streamIndex) {
+    return create();
+  }
 }
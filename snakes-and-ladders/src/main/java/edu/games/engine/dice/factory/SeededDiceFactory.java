@@ -0,0 +1,85 @@
+package edu.games.engine.dice.factory;
+
+import edu.games.engine.dice.Dice;
+import edu.games.engine.dice.RandomDice;
+import edu.ntnu.idatt2003.utils.SplitMix;
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Factory for {@link RandomDice} driven by independent, reproducible random streams.
+ * <p>
+ * Every stream is a {@link SplittableRandom} whose seed is derived from the master seed
+ * and the stream index alone. A batch that gives game {@code i} the dice for stream
+ * {@code i} therefore rolls exactly the same numbers whether it runs on one thread or
+ * many, and a single game can be replayed on its own.
+ */
+public class SeededDiceFactory implements DiceFactory {
+
+  private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+  private final int dice;
+  private final long masterSeed;
+  private final AtomicLong nextStream = new AtomicLong();
+
+  /**
+   * Creates a factory producing two dice per roll.
+   *
+   * @param masterSeed the seed all streams are derived from
+   */
+  public SeededDiceFactory(long masterSeed) {
+    this(2, masterSeed);
+  }
+
+  /**
+   * Creates a factory producing the given number of dice per roll.
+   *
+   * @param dice       number of dice per roll
+   * @param masterSeed the seed all streams are derived from
+   */
+  public SeededDiceFactory(int dice, long masterSeed) {
+    this.dice = dice;
+    this.masterSeed = masterSeed;
+  }
+
+  /**
+   * Creates dice for the next unused stream index, counting from zero.
+   *
+   * @return a new {@link Dice} instance
+   */
+  @Override
+  public Dice create() {
+    return create(nextStream.getAndIncrement());
+  }
+
+  /**
+   * Creates dice for the given stream index.
+   *
+   * @param streamIndex the stream index
+   * @return a new {@link Dice} instance
+   */
+  @Override
+  public Dice create(long streamIndex) {
+    return new RandomDice(dice, stream(streamIndex));
+  }
+
+  /**
+   * Returns a fresh generator for the given stream index.
+   *
+   * @param streamIndex the stream index
+   * @return a generator seeded from the master seed and the index
+   */
+  public SplittableRandom stream(long streamIndex) {
+    // Mixing keeps streams with adjacent indices from being shifted copies of each other
+    return new SplittableRandom(SplitMix.mix64(masterSeed + GOLDEN_GAMMA * (streamIndex + 1)));
+  }
+
+  /**
+   * Returns the master seed.
+   *
+   * @return the master seed
+   */
+  public long getMasterSeed() {
+    return masterSeed;
+  }
+}
@@ -7,11 +7,14 @@ import edu.games.engine.board.Tile;
 import edu.games.engine.dice.Dice;
 import edu.games.engine.model.Game;
 import edu.games.engine.model.Player;
+import edu.games.engine.model.PlayerPiece;
+import edu.games.engine.model.TileOccupancy;
+import edu.games.engine.model.Zobrist;
 import edu.games.engine.strategy.GameStrategy;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 /**
@@ -22,9 +25,11 @@ public class DefaultGame implements Game {
 
   private static final Logger LOG = Logger.getLogger(DefaultGame.class.getName());
 
+  private final Logger log;
   private final Board board;
   private final GameStrategy strategy;
   private final Dice dice;
+  private final TileOccupancy occupancy = new TileOccupancy();
   private final List<Player> players;
   private int currentIndex = 0;
   private Player winner;
@@ -38,19 +43,36 @@ public class DefaultGame implements Game {
    * @param dice           the dice mechanism
    */
   public DefaultGame(Board board, GameStrategy strategy, List<Player> initialPlayers, Dice dice) {
+    this(board, strategy, initialPlayers, dice, LOG);
+  }
+
+  /**
+   * Constructs a new DefaultGame that reports its progress to the given logger.
+   * Headless callers can pass a muted logger to keep per-turn logging off the hot path.
+   *
+   * @param board          the game board
+   * @param strategy       the game rules and logic
+   * @param initialPlayers the initial list of players
+   * @param dice           the dice mechanism
+   * @param log            the logger used for turn and lifecycle messages
+   */
+  public DefaultGame(
+      Board board, GameStrategy strategy, List<Player> initialPlayers, Dice dice, Logger log) {
+    this.log = Objects.requireNonNull(log, "Logger cannot be null.");
     this.board = Objects.requireNonNull(board, "Board cannot be null.");
     this.strategy = Objects.requireNonNull(strategy, "GameStrategy cannot be null.");
     this.dice = Objects.requireNonNull(dice, "Dice cannot be null.");
 
-    this.players = new ArrayList<>(Objects.requireNonNull(initialPlayers, "Initial players list cannot be null."));
+    this.players = new TrackedPlayerList(
+        Objects.requireNonNull(initialPlayers, "Initial players list cannot be null."), occupancy);
 
-    LOG.info(() -> "DefaultGame instance created. Board: " + board.getClass().getSimpleName() +
+    log.info(() -> "DefaultGame instance created. Board: " + board.getClass().getSimpleName() +
         ", Strategy: " + strategy.getClass().getSimpleName() +
         ", Dice: " + dice.getClass().getSimpleName() +
         ", Initial Players: " + this.players.size());
 
     if (this.players.isEmpty()) {
-      LOG.warning(
+      log.warning(
           "Game initialized with an empty player list. Players may need to be added before playTurn() is called.");
     }
   }
@@ -64,48 +86,48 @@ public class DefaultGame implements Game {
    */
   @Override
   public int playTurn() {
-    LOG.fine("playTurn called.");
+    log.fine("playTurn called.");
     if (winner != null) {
       String msg = "Game already finished - winner is " + winner.getName();
-      LOG.warning(msg);
+      log.warning(msg);
       throw new RuleViolationException(msg);
     }
     if (players.isEmpty()) {
       String msg = "Cannot play turn: No players in the game.";
-      LOG.severe(msg);
+      log.severe(msg);
       throw new ValidationException(msg);
     }
 
     Player currentPlayer = currentPlayer();
-    LOG.info(
+    log.info(
         () -> "Player " + currentPlayer.getName() + " (Token: " + currentPlayer.getToken() + ") is taking a turn.");
 
     int rolledValue = dice.roll();
-    LOG.info(() -> currentPlayer.getName() + " rolled " + dice.lastValues() + " (sum: " + rolledValue + ")");
+    log.info(() -> currentPlayer.getName() + " rolled " + dice.lastValues() + " (sum: " + rolledValue + ")");
 
     Tile destinationTile = strategy.movePiece(currentPlayer, -1, rolledValue, this);
     if (destinationTile != null) {
-      LOG.fine(() -> currentPlayer.getName() + " attempting to move to tile " + destinationTile.tileId());
+      log.fine(() -> currentPlayer.getName() + " attempting to move to tile " + destinationTile.tileId());
       Tile oldTile = currentPlayer.getCurrentTile();
       currentPlayer.moveTo(destinationTile);
-      LOG.info(() -> currentPlayer.getName() + " moved from " +
+      log.info(() -> currentPlayer.getName() + " moved from " +
           (oldTile != null ? oldTile.tileId() : "Start/Home") + " to tile " + destinationTile.tileId());
       strategy.applySpecialRules(currentPlayer, null, destinationTile, this);
     } else {
-      LOG.info(() -> currentPlayer.getName() + " could not move with roll " + rolledValue + " (destination was null).");
+      log.info(() -> currentPlayer.getName() + " could not move with roll " + rolledValue + " (destination was null).");
     }
 
     boolean extraTurn = strategy.processDiceRoll(currentPlayer, rolledValue, this);
     if (!extraTurn) {
       currentIndex = (currentIndex + 1) % players.size();
-      LOG.info(() -> "Turn passed. Next player: " + currentPlayer().getName() + " (Index: " + currentIndex + ")");
+      log.info(() -> "Turn passed. Next player: " + currentPlayer().getName() + " (Index: " + currentIndex + ")");
     } else {
-      LOG.info(() -> currentPlayer.getName() + " gets an extra turn.");
+      log.info(() -> currentPlayer.getName() + " gets an extra turn.");
     }
 
     if (strategy.checkWinCondition(currentPlayer, this)) {
       winner = currentPlayer;
-      LOG.info("WINNER DECLARED: " + winner.getName());
+      log.info("WINNER DECLARED: " + winner.getName());
     }
 
     return rolledValue;
@@ -119,11 +141,11 @@ public class DefaultGame implements Game {
   @Override
   public Player currentPlayer() {
     if (players.isEmpty()) {
-      LOG.severe("currentPlayer() called but no players have been added to the game.");
+      log.severe("currentPlayer() called but no players have been added to the game.");
       throw new ValidationException("No players added to the game");
     }
     if (currentIndex < 0 || currentIndex >= players.size()) {
-      LOG.severe(
+      log.severe(
           "Invalid currentIndex " + currentIndex + " for player list size " + players.size() + ". Resetting to 0.");
       currentIndex = 0;
       if (players.isEmpty()) {
@@ -153,6 +175,85 @@ public class DefaultGame implements Game {
     return players;
   }
 
+  /**
+   * Returns the index of which players stand on which tile.
+   * It follows every player in {@link #getPlayers()} as they move.
+   *
+   * @return the tile occupancy index
+   */
+  public TileOccupancy getOccupancy() {
+    return occupancy;
+  }
+
+  /**
+   * Returns the Zobrist hash of the position: where every piece stands and whose turn it is.
+   * Piece keys are maintained on every move, so this costs one XOR per player.
+   *
+   * @return the position hash
+   * @see Zobrist
+   */
+  public long positionHash() {
+    long hash = Zobrist.side(currentIndex);
+    for (int i = 0; i < players.size(); i++) {
+      hash ^= players.get(i).positionKey();
+    }
+    return hash;
+  }
+
+  /**
+   * Copies where every piece stands, whose turn it is and who has won.
+   *
+   * @return a checkpoint that {@link #restore(GameCheckpoint)} can put back
+   */
+  public GameCheckpoint checkpoint() {
+    Tile[][] tiles = new Tile[players.size()][];
+    for (int p = 0; p < tiles.length; p++) {
+      List<PlayerPiece> pieces = players.get(p).getPieces();
+      tiles[p] = new Tile[pieces.size()];
+      for (int piece = 0; piece < tiles[p].length; piece++) {
+        tiles[p][piece] = pieces.get(piece).getCurrentTile();
+      }
+    }
+    return new GameCheckpoint(tiles, currentIndex, winner == null ? -1 : players.indexOf(winner));
+  }
+
+  /**
+   * Moves every piece back to where a checkpoint of this game saw it, and restores the
+   * turn and the winner.
+   *
+   * @param checkpoint the checkpoint to restore
+   * @throws ValidationException if the checkpoint was taken with other players
+   */
+  public void restore(GameCheckpoint checkpoint) {
+    Objects.requireNonNull(checkpoint, "Checkpoint cannot be null.");
+    if (checkpoint.playerCount() != players.size()) {
+      throw new ValidationException("Checkpoint has " + checkpoint.playerCount()
+          + " players but the game has " + players.size());
+    }
+    for (int p = 0; p < players.size(); p++) {
+      List<PlayerPiece> pieces = players.get(p).getPieces();
+      if (checkpoint.pieceCount(p) != pieces.size()) {
+        throw new ValidationException("Checkpoint does not match the pieces of player " + p);
+      }
+      for (int piece = 0; piece < pieces.size(); piece++) {
+        pieces.get(piece).moveTo(checkpoint.tile(p, piece));
+      }
+    }
+    if (!players.isEmpty()) {
+      setCurrentPlayerIndex(checkpoint.currentPlayerIndex());
+    }
+    setWinner(checkpoint.winnerIndex() < 0 ? null : players.get(checkpoint.winnerIndex()));
+  }
+
+  /**
+   * Returns the index of the current player in {@link #getPlayers()}.
+   *
+   * @return the current player index
+   */
+  public int getCurrentPlayerIndex() {
+    return currentIndex;
+  }
+
   /**
    * Manually sets the current player index.
    *
@@ -160,13 +261,13 @@ public class DefaultGame implements Game {
    */
   public void setCurrentPlayerIndex(int idx) {
     if (players.isEmpty()) {
-      LOG.severe("Cannot set current player index: No players in the game.");
+      log.severe("Cannot set current player index: No players in the game.");
       throw new ValidationException("No players - cannot set the current player index");
     }
     int oldIndex = this.currentIndex;
     this.currentIndex = Math.floorMod(idx, players.size());
-    if (oldIndex != this.currentIndex) {
-      LOG.fine(() -> "Current player index changed from " + oldIndex + " to: " + this.currentIndex +
+    if (oldIndex != this.currentIndex && log.isLoggable(Level.FINE)) {
+      log.fine(() -> "Current player index changed from " + oldIndex + " to: " + this.currentIndex +
           " (Player: " + (players.get(this.currentIndex) != null ? players.get(this.currentIndex).getName() : "N/A")
           + ")");
     }
@@ -180,10 +281,13 @@ public class DefaultGame implements Game {
   public void setWinner(Player winner) {
     Player oldWinner = this.winner;
     this.winner = winner;
+    if (!log.isLoggable(Level.INFO)) {
+      return;
+    }
     if (winner != null && winner != oldWinner) {
-      LOG.info("Winner set to: " + winner.getName());
+      log.info("Winner set to: " + winner.getName());
     } else if (winner == null && oldWinner != null) {
-      LOG.info("Winner cleared (was: " + oldWinner.getName() + ").");
+      log.info("Winner cleared (was: " + oldWinner.getName() + ").");
     }
   }
 
@@ -0,0 +1,72 @@
+package edu.games.engine.impl;
+
+import edu.games.engine.board.Tile;
+
+/**
+ * Full copy of the mutable state of a {@link DefaultGame}: the tile of every piece, whose
+ * turn it is and who has won. Taken with {@link DefaultGame#checkpoint()} and put back
+ * with {@link DefaultGame#restore(GameCheckpoint)} on the same game.
+ * <p>
+ * Tiles are held by reference. Boards never replace their tiles, so a checkpoint stays
+ * valid for as long as the game it was taken from.
+ */
+public final class GameCheckpoint {
+
+  private final Tile[][] pieceTiles;
+  private final int currentPlayerIndex;
+  private final int winnerIndex;
+
+  GameCheckpoint(Tile[][] pieceTiles, int currentPlayerIndex, int winnerIndex) {
+    this.pieceTiles = pieceTiles;
+    this.currentPlayerIndex = currentPlayerIndex;
+    this.winnerIndex = winnerIndex;
+  }
+
+  /**
+   * Returns the number of players captured.
+   *
+   * @return the number of players
+   */
+  public int playerCount() {
+    return pieceTiles.length;
+  }
+
+  /**
+   * Returns the number of pieces captured for a player.
+   *
+   * @param player the index of the player
+   * @return the number of pieces
+   */
+  public int pieceCount(int player) {
+    return pieceTiles[player].length;
+  }
+
+  /**
+   * Returns the tile a piece stood on.
+   *
+   * @param player the index of the player
+   * @param piece  the ID of the piece
+   * @return the tile, or {@code null} if the piece was at home
+   */
+  public Tile tile(int player, int piece) {
+    return pieceTiles[player][piece];
+  }
+
+  /**
+   * Returns the index of the player whose turn it was.
+   *
+   * @return the current player index
+   */
+  public int currentPlayerIndex() {
+    return currentPlayerIndex;
+  }
+
+  /**
+   * Returns the index of the winner.
+   *
+   * @return the winner index, or -1 if nobody had won
+   */
+  public int winnerIndex() {
+    return winnerIndex;
+  }
+}
@@ -0,0 +1,79 @@
+package edu.games.engine.impl;
+
+import edu.games.engine.model.Player;
+import edu.games.engine.model.TileOccupancy;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+
+/**
+ * Player list of a {@link DefaultGame} that keeps the game's {@link TileOccupancy}
+ * in step with its contents. Players are tracked when added and untracked when removed,
+ * so callers can keep mutating {@link DefaultGame#getPlayers()} directly. A player is
+ * untracked only once no index of the list holds it any more, which keeps the index
+ * intact while {@link java.util.List#sort} moves players around. The list counts the
+ * slots holding each player, so a swap costs constant time rather than a scan.
+ */
+final class TrackedPlayerList extends AbstractList<Player> implements RandomAccess {
+
+  private final List<Player> players;
+  private final TileOccupancy occupancy;
+  // Slots holding each player, by identity as the occupancy index tracks them
+  private final Map<Player, Integer> slots = new IdentityHashMap<>();
+
+  TrackedPlayerList(Collection<Player> initialPlayers, TileOccupancy occupancy) {
+    this.players = new ArrayList<>(initialPlayers);
+    this.occupancy = occupancy;
+    players.forEach(this::hold);
+  }
+
+  @Override
+  public Player get(int index) {
+    return players.get(index);
+  }
+
+  @Override
+  public int size() {
+    return players.size();
+  }
+
+  @Override
+  public Player set(int index, Player player) {
+    Player previous = players.set(index, player);
+    // Sorting swaps through set, so the list may briefly hold a player twice
+    hold(player);
+    release(previous);
+    return previous;
+  }
+
+  @Override
+  public void add(int index, Player player) {
+    players.add(index, player);
+    hold(player);
+  }
+
+  @Override
+  public Player remove(int index) {
+    Player removed = players.remove(index);
+    release(removed);
+    return removed;
+  }
+
+  /** Counts a slot holding the player and tracks it. */
+  private void hold(Player player) {
+    slots.merge(player, 1, Integer::sum);
+    occupancy.track(player);
+  }
+
+  /** Counts a slot no longer holding the player, untracking it with the last one. */
+  private void release(Player player) {
+    if (slots.merge(player, -1, Integer::sum) == 0) {
+      slots.remove(player);
+      occupancy.untrack(player);
+    }
+  }
+}
@@ -2,10 +2,15 @@ package edu.games.engine.model;
 
 import edu.games.engine.board.Tile;
 import edu.games.engine.observer.BoardGameEvent;
+import edu.games.engine.observer.BoardGameEvent.EventType;
 import edu.games.engine.observer.BoardGameObserver;
+import edu.games.engine.observer.GameEvent;
 import edu.games.engine.observer.Observable;
-import java.util.ArrayList;
-import java.util.List;
+import edu.games.engine.observer.ObserverIndex;
+import java.util.EnumSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Predicate;
 
 /**
  * Abstract base class for board games that supports observer functionality.
@@ -13,7 +18,7 @@ import java.util.List;
  * observers of in-game events.
  */
 public abstract class BoardGame implements Observable {
-  private final List<BoardGameObserver> observers = new ArrayList<>();
+  private final ObserverIndex observers = new ObserverIndex();
 
   /**
    * Adds an observer if it's not already registered.
@@ -22,8 +27,38 @@ public abstract class BoardGame implements Observable {
    */
   @Override
   public void addObserver(BoardGameObserver observer) {
-    if (!observers.contains(observer)) {
-      observers.add(observer);
+    addObserver(observer, EnumSet.allOf(EventType.class), null);
+  }
+
+  /**
+   * Adds an observer for some event types, if it's not already registered.
+   *
+   * @param observer the observer to add
+   * @param types    the event types the observer wants
+   * @throws edu.games.engine.exception.ValidationException if no type is given
+   */
+  @Override
+  public void addObserver(BoardGameObserver observer, Set<EventType> types) {
+    addObserver(observer, types, null);
+  }
+
+  /**
+   * Adds an observer that only gets the events passing a filter, if it's not already
+   * registered.
+   *
+   * @param observer the observer to add
+   * @param filter   the test every event must pass to reach the observer
+   */
+  @Override
+  public void addObserver(BoardGameObserver observer, Predicate<? super BoardGameEvent> filter) {
+    addObserver(observer, EnumSet.allOf(EventType.class),
+        Objects.requireNonNull(filter, "Filter cannot be null"));
+  }
+
+  private void addObserver(
+      BoardGameObserver observer, Set<EventType> types, Predicate<? super BoardGameEvent> filter) {
+    if (observer != null && !observers.contains(observer)) {
+      observers.add(observer, types, filter);
     }
   }
 
@@ -44,9 +79,7 @@ public abstract class BoardGame implements Observable {
    */
   @Override
   public void notifyObservers(BoardGameEvent event) {
-    for (BoardGameObserver observer : observers) {
-      observer.update(event);
-    }
+    observers.publish(event);
   }
 
   /**
@@ -58,17 +91,21 @@ public abstract class BoardGame implements Observable {
    * @param toTile the tile the player moved to
    */
   protected void playerMoved(Player player, Tile fromTile, Tile toTile) {
-    PlayerMoveData moveData = new PlayerMoveData(player, fromTile, toTile);
-    notifyObservers(new BoardGameEvent(BoardGameEvent.EventType.PLAYER_MOVED, moveData));
+    GameEvent.PlayerMoved move = new GameEvent.PlayerMoved(
+        player,
+        fromTile == null ? -1 : fromTile.tileId(),
+        toTile == null ? -1 : toTile.tileId());
+    notifyObservers(BoardGameEvent.of(move, new PlayerMoveData(player, fromTile, toTile)));
   }
 
   /**
-   * Encapsulates data related to a player's movement on the board.
+   * Encapsulates data related to a player's movement on the board: either the tiles moved
+   * between, or only their ids for games that track positions by number.
    */
   public static class PlayerMoveData {
     private final Player player;
-    private final Tile fromTile;
-    private final Tile toTile;
+    private final Object from;
+    private final Object to;
 
     /**
      * Constructs a new PlayerMoveData instance.
@@ -79,20 +116,79 @@ public abstract class BoardGame implements Observable {
      */
     public PlayerMoveData(Player player, Tile fromTile, Tile toTile) {
       this.player = player;
-      this.fromTile = fromTile;
-      this.toTile = toTile;
+      this.from = fromTile;
+      this.to = toTile;
+    }
+
+    /**
+     * Constructs a new PlayerMoveData instance from tile ids.
+     *
+     * @param player the player who moved
+     * @param fromTileId the id of the tile they moved from
+     * @param toTileId the id of the tile they moved to
+     */
+    public PlayerMoveData(Player player, int fromTileId, int toTileId) {
+      this.player = player;
+      this.from = fromTileId;
+      this.to = toTileId;
     }
 
     public Player getPlayer() {
       return player;
     }
 
+    /**
+     * Returns the raw "from" value, which may be a {@link Tile} or an {@link Integer}.
+     *
+     * @return the starting tile or tile id
+     */
+    public Object getFrom() {
+      return from;
+    }
+
+    /**
+     * Returns the raw "to" value, which may be a {@link Tile} or an {@link Integer}.
+     *
+     * @return the destination tile or tile id
+     */
+    public Object getTo() {
+      return to;
+    }
+
+    /**
+     * Returns the starting tile id, regardless of representation.
+     *
+     * @return the starting tile id
+     */
+    public int getFromTileId() {
+      return (from instanceof Tile tile) ? tile.tileId() : (Integer) from;
+    }
+
+    /**
+     * Returns the destination tile id, regardless of representation.
+     *
+     * @return the destination tile id
+     */
+    public int getToTileId() {
+      return (to instanceof Tile tile) ? tile.tileId() : (Integer) to;
+    }
+
+    /**
+     * Returns the starting tile, or {@code null} if the move was given by ids.
+     *
+     * @return the starting tile or null
+     */
     public Tile getFromTile() {
-      return fromTile;
+      return (from instanceof Tile tile) ? tile : null;
     }
 
+    /**
+     * Returns the destination tile, or {@code null} if the move was given by ids.
+     *
+     * @return the destination tile or null
+     */
     public Tile getToTile() {
-      return toTile;
+      return (to instanceof Tile tile) ? tile : null;
     }
   }
 }
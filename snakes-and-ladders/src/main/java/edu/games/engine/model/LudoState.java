@@ -0,0 +1,197 @@
+package edu.games.engine.model;
+
+import edu.games.engine.board.LudoPath;
+import edu.games.engine.exception.ValidationException;
+import java.util.List;
+
+/**
+ * Compact, immutable Ludo position packed into two {@code long}s.
+ * <p>
+ * Every piece is stored as its route index on its color's route (see
+ * {@link LudoPath}), offset by one so that {@code 0} means home. Pieces are slotted
+ * by color and piece ID, six bits each, eight pieces per word. The spare high bits
+ * hold the seating order, the number of seats and the seat whose turn it is.
+ * Being a record of two primitives, a state is cheap to copy, compare and hash.
+ *
+ * <pre>
+ * low  bits  0-47  pieces of colors 0-1      high bits  0-47  pieces of colors 2-3
+ * low  bits 48-49  seat to move              high bits 48-55  color of seats 0-3
+ *                                            high bits 56-58  number of seats
+ * </pre>
+ *
+ * @param low  the low word
+ * @param high the high word
+ */
+public record LudoState(long low, long high) {
+
+  /** Route index of a piece that is still at home. */
+  public static final int HOME = LudoPath.HOME;
+  /** Number of pieces per color. */
+  public static final int PIECES = 4;
+
+  private static final int PIECE_BITS = 6;
+  private static final long PIECE_MASK = (1L << PIECE_BITS) - 1;
+  private static final int MAX_ROUTE_INDEX = (int) PIECE_MASK - 1;
+  private static final int META_SHIFT = 48;
+  private static final int SEAT_COUNT_SHIFT = META_SHIFT + 8;
+  private static final LudoColor[] COLORS = LudoColor.values();
+
+  /**
+   * Creates a state with every piece at home and the first seat to move.
+   *
+   * @param seats the colors in turn order
+   * @return the initial state
+   * @throws ValidationException if there are no seats, more than four, or a repeated color
+   */
+  public static LudoState initial(List<LudoColor> seats) {
+    if (seats == null || seats.isEmpty() || seats.size() > COLORS.length) {
+      throw new ValidationException("Invalid seats: must be between 1 and " + COLORS.length);
+    }
+    long high = (long) seats.size() << SEAT_COUNT_SHIFT;
+    int seen = 0;
+    for (int seat = 0; seat < seats.size(); seat++) {
+      LudoColor color = seats.get(seat);
+      if (color == null || (seen & (1 << color.ordinal())) != 0) {
+        throw new ValidationException("Invalid seats: colors must be unique and non-null");
+      }
+      seen |= 1 << color.ordinal();
+      high |= (long) color.ordinal() << (META_SHIFT + 2 * seat);
+    }
+    return new LudoState(0L, high);
+  }
+
+  /**
+   * Returns the number of seats at the table.
+   *
+   * @return the seat count
+   */
+  public int seatCount() {
+    return (int) (high >>> SEAT_COUNT_SHIFT) & 0b111;
+  }
+
+  /**
+   * Returns the color playing in a seat.
+   *
+   * @param seat the seat in turn order
+   * @return the seat's color
+   */
+  public LudoColor seatColor(int seat) {
+    return COLORS[(int) (high >>> (META_SHIFT + 2 * seat)) & 0b11];
+  }
+
+  /**
+   * Returns the seat whose turn it is.
+   *
+   * @return the seat to move
+   */
+  public int sideToMove() {
+    return (int) (low >>> META_SHIFT) & 0b11;
+  }
+
+  /**
+   * Returns the color whose turn it is.
+   *
+   * @return the color to move
+   */
+  public LudoColor colorToMove() {
+    return seatColor(sideToMove());
+  }
+
+  /**
+   * Returns a copy of this state with another seat to move.
+   *
+   * @param seat the seat to move
+   * @return the updated state
+   * @throws ValidationException if the seat is not at the table
+   */
+  public LudoState withSideToMove(int seat) {
+    if (seat < 0 || seat >= seatCount()) {
+      throw new ValidationException("Invalid seat: must be between 0 and " + (seatCount() - 1));
+    }
+    return new LudoState((low & ~(0b11L << META_SHIFT)) | ((long) seat << META_SHIFT), high);
+  }
+
+  /**
+   * Returns a copy of this state with the turn passed to the next seat.
+   *
+   * @return the updated state
+   */
+  public LudoState nextSide() {
+    return withSideToMove((sideToMove() + 1) % seatCount());
+  }
+
+  /**
+   * Returns the route index of a piece.
+   *
+   * @param color   the piece's color
+   * @param pieceId the piece ID (0-3)
+   * @return the route index, or {@link #HOME}
+   */
+  public int routeIndex(LudoColor color, int pieceId) {
+    int slot = slot(color, pieceId);
+    long word = slot < 8 ? low : high;
+    return (int) ((word >>> shift(slot)) & PIECE_MASK) - 1;
+  }
+
+  /**
+   * Returns a copy of this state with one piece moved.
+   *
+   * @param color      the piece's color
+   * @param pieceId    the piece ID (0-3)
+   * @param routeIndex the new route index, or {@link #HOME}
+   * @return the updated state
+   * @throws ValidationException if the route index cannot be stored
+   */
+  public LudoState withRouteIndex(LudoColor color, int pieceId, int routeIndex) {
+    if (routeIndex < HOME || routeIndex > MAX_ROUTE_INDEX) {
+      throw new ValidationException("Invalid routeIndex: " + routeIndex);
+    }
+    int slot = slot(color, pieceId);
+    long cleared = ~(PIECE_MASK << shift(slot));
+    long bits = (long) (routeIndex + 1) << shift(slot);
+    return slot < 8
+        ? new LudoState((low & cleared) | bits, high)
+        : new LudoState(low, (high & cleared) | bits);
+  }
+
+  /**
+   * Checks whether all pieces of a color have the given route index.
+   *
+   * @param color      the color to check
+   * @param routeIndex the route index every piece must have
+   * @return true if all four pieces are on that index
+   */
+  public boolean allPiecesAt(LudoColor color, int routeIndex) {
+    int colorShift = (color.ordinal() & 1) * PIECES * PIECE_BITS;
+    long word = color.ordinal() < 2 ? low : high;
+    long group = (word >>> colorShift) & ((1L << PIECES * PIECE_BITS) - 1);
+    long one = (routeIndex + 1) & PIECE_MASK;
+    long expected = one | one << PIECE_BITS | one << 2 * PIECE_BITS | one << 3 * PIECE_BITS;
+    return group == expected;
+  }
+
+  private static int slot(LudoColor color, int pieceId) {
+    if (pieceId < 0 || pieceId >= PIECES) {
+      throw new ValidationException("pieceId out of range: " + pieceId);
+    }
+    return color.ordinal() * PIECES + pieceId;
+  }
+
+  private static int shift(int slot) {
+    return (slot & 7) * PIECE_BITS;
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder("LudoState[");
+    for (int seat = 0; seat < seatCount(); seat++) {
+      LudoColor color = seatColor(seat);
+      sb.append(seat == sideToMove() ? "*" : "").append(color).append('=');
+      for (int piece = 0; piece < PIECES; piece++) {
+        sb.append(piece == 0 ? "" : ",").append(routeIndex(color, piece));
+      }
+      sb.append(seat + 1 < seatCount() ? " " : "");
+    }
+    return sb.append(']').toString();
+  }
+}
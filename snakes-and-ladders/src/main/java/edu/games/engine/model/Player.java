@@ -17,6 +17,15 @@ public final class Player {
   private final LocalDate birthday;
   private final List<PlayerPiece> pieces;
 
+  /** The occupancy index tracking this player, maintained by {@link TileOccupancy}. */
+  TileOccupancy occupancy;
+  /** The tile this player is currently indexed under. */
+  Tile indexedTile;
+  /** XOR of the {@link Zobrist} keys of this player's pieces, kept up to date once keyed. */
+  long positionKey;
+  /** Whether {@link #positionKey} has been read and is maintained by piece moves. */
+  boolean keyed;
+
   /**
    * Constructs a new Player with four pieces.
    *
@@ -41,7 +50,7 @@ public final class Player {
 
     this.pieces = new ArrayList<>(4);
     for (int i = 0; i < 4; i++) {
-      this.pieces.add(new PlayerPiece(i));
+      this.pieces.add(new PlayerPiece(i, this));
     }
   }
 
@@ -72,6 +81,26 @@ public final class Player {
     return birthday;
   }
 
+  /**
+   * Returns the Zobrist key of where this player's pieces stand, without the side to move.
+   * The first call computes the key from the pieces; from then on every piece move keeps
+   * it up to date, so later reads are free. Players whose key is never read, such as
+   * those in Snakes and Ladders, never pay for the upkeep.
+   *
+   * @return the XOR of the {@link Zobrist#piece(Token, int, Tile)} keys of all pieces
+   */
+  public long positionKey() {
+    if (!keyed) {
+      long key = 0;
+      for (PlayerPiece piece : pieces) {
+        key ^= Zobrist.piece(token, piece.getPlayerPieceId(), piece.getCurrentTile());
+      }
+      positionKey = key;
+      keyed = true;
+    }
+    return positionKey;
+  }
+
   /**
    * Returns all the pieces belonging to the player.
    *
@@ -97,11 +126,13 @@ public final class Player {
    * @return the current tile, or null
    */
   public Tile getCurrentTile() {
-    return pieces.stream()
-        .filter(PlayerPiece::isOnBoard)
-        .map(PlayerPiece::getCurrentTile)
-        .findFirst()
-        .orElse(null);
+    for (int i = 0; i < pieces.size(); i++) {
+      Tile tile = pieces.get(i).getCurrentTile();
+      if (tile != null) {
+        return tile;
+      }
+    }
+    return null;
   }
 
   /**
@@ -8,6 +8,7 @@ import edu.games.engine.board.Tile;
  */
 public class PlayerPiece {
   private final int playerPieceId;
+  private final Player owner;
   private Tile currentTile;
 
   /**
@@ -16,7 +17,18 @@ public class PlayerPiece {
    * @param playerPieceId the ID of the piece (typically 0–3)
    */
   public PlayerPiece(int playerPieceId) {
+    this(playerPieceId, null);
+  }
+
+  /**
+   * Constructs a piece that reports its moves back to the owning player.
+   *
+   * @param playerPieceId the ID of the piece
+   * @param owner the player owning the piece, or null
+   */
+  PlayerPiece(int playerPieceId, Player owner) {
     this.playerPieceId = playerPieceId;
+    this.owner = owner;
     this.currentTile = null; // Start at home
   }
 
@@ -44,7 +56,19 @@ public class PlayerPiece {
    * @param tile the new tile
    */
   public void moveTo(Tile tile) {
+    Tile previous = currentTile;
     this.currentTile = tile;
+    if (owner == null) {
+      return;
+    }
+    if (owner.keyed) {
+      Token token = owner.getToken();
+      owner.positionKey ^= Zobrist.piece(token, playerPieceId, previous)
+          ^ Zobrist.piece(token, playerPieceId, tile);
+    }
+    if (owner.occupancy != null) {
+      owner.occupancy.update(owner);
+    }
   }
 
   /**
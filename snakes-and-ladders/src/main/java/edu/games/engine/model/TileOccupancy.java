@@ -0,0 +1,119 @@
+package edu.games.engine.model;
+
+import edu.games.engine.board.Tile;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Index from tile ID to the players standing on that tile.
+ * <p>
+ * A tracked player is indexed by {@link Player#getCurrentTile()} and re-indexed
+ * every time one of its pieces moves, so "who is on tile X" is a single map lookup
+ * instead of a scan over all players. A player is tracked by one index at a time: an
+ * index that starts tracking a player takes it over from the index that tracked it
+ * before, so a player can move on to a new game once its old one is dropped.
+ */
+public final class TileOccupancy {
+
+  private final Map<Integer, Slot> slots = new HashMap<>();
+
+  /**
+   * Starts tracking a player, indexing it under its current tile. A player tracked by
+   * another index, that is another game, is removed from that index first.
+   *
+   * @param player the player to track
+   */
+  public void track(Player player) {
+    if (player.occupancy == this) {
+      return;
+    }
+    if (player.occupancy != null) {
+      player.occupancy.untrack(player);
+    }
+    player.occupancy = this;
+    player.indexedTile = null;
+    update(player);
+  }
+
+  /**
+   * Stops tracking a player and removes it from its tile.
+   * Does nothing if the player is not tracked by this index.
+   *
+   * @param player the player to stop tracking
+   */
+  public void untrack(Player player) {
+    if (player.occupancy != this) {
+      return;
+    }
+    remove(player, player.indexedTile);
+    player.indexedTile = null;
+    player.occupancy = null;
+  }
+
+  /**
+   * Returns the tracked players standing on the given tile, in arrival order.
+   *
+   * @param tileId the tile to look up
+   * @return a read-only live view of the occupants, empty if the tile is free
+   */
+  public List<Player> occupantsOf(int tileId) {
+    Slot slot = slots.get(tileId);
+    return slot == null ? List.of() : slot.view;
+  }
+
+  /**
+   * Checks whether any tracked player stands on the given tile.
+   *
+   * @param tileId the tile to check
+   * @return true if the tile has at least one occupant
+   */
+  public boolean isOccupied(int tileId) {
+    Slot slot = slots.get(tileId);
+    return slot != null && !slot.players.isEmpty();
+  }
+
+  /**
+   * Re-indexes a tracked player after one of its pieces moved.
+   */
+  void update(Player player) {
+    Tile was = player.indexedTile;
+    Tile now = player.getCurrentTile();
+    if (was == now || (was != null && now != null && was.tileId() == now.tileId())) {
+      player.indexedTile = now;
+      return;
+    }
+    remove(player, was);
+    if (now != null) {
+      slots.computeIfAbsent(now.tileId(), id -> new Slot()).players.add(player);
+    }
+    player.indexedTile = now;
+  }
+
+  private void remove(Player player, Tile tile) {
+    if (tile == null) {
+      return;
+    }
+    Slot slot = slots.get(tile.tileId());
+    if (slot == null) {
+      return;
+    }
+    List<Player> players = slot.players;
+    for (int i = 0; i < players.size(); i++) {
+      if (players.get(i) == player) {
+        players.remove(i);
+        return;
+      }
+    }
+  }
+
+  /**
+   * Occupants of one tile together with a reusable read-only view.
+   */
+  private static final class Slot {
+    private final List<Player> players = new ArrayList<>(2);
+    private final List<Player> view = Collections.unmodifiableList(players);
+  }
+}
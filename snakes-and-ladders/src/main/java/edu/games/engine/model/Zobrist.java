@@ -0,0 +1,80 @@
+package edu.games.engine.model;
+
+import edu.games.engine.board.Tile;
+import edu.ntnu.idatt2003.utils.SplitMix;
+import java.util.SplittableRandom;
+
+/**
+ * Fixed random keys for Zobrist hashing of board positions.
+ * <p>
+ * A position hashes to the XOR of one key per (token, piece, tile) and one key for the
+ * seat to move. A piece at home contributes nothing, so moving a piece only needs its
+ * old and new key XORed in, and a position where every piece is at home hashes to the
+ * side key alone. Keys come from a fixed seed, so hashes are the same in every run.
+ *
+ * @see Player#positionKey()
+ */
+public final class Zobrist {
+
+  /** The largest tile ID with a precomputed key; larger IDs are hashed on the fly. */
+  public static final int MAX_TABLE_TILE_ID = 127;
+  /** The number of seats with their own side-to-move key. */
+  public static final int SIDES = 8;
+
+  private static final int PIECES = LudoState.PIECES;
+  private static final int TILES = MAX_TABLE_TILE_ID + 1;
+  private static final long SEED = 0x2545F4914F6CDD1DL;
+  private static final long[] PIECE_KEYS = new long[Token.values().length * PIECES * TILES];
+  private static final long[] SIDE_KEYS = new long[SIDES];
+
+  static {
+    SplittableRandom random = new SplittableRandom(SEED);
+    for (int i = 0; i < PIECE_KEYS.length; i++) {
+      PIECE_KEYS[i] = random.nextLong();
+    }
+    for (int i = 0; i < SIDE_KEYS.length; i++) {
+      SIDE_KEYS[i] = random.nextLong();
+    }
+  }
+
+  private Zobrist() {
+  }
+
+  /**
+   * Returns the key of a piece standing on a tile.
+   *
+   * @param token   the token of the piece's owner
+   * @param pieceId the ID of the piece
+   * @param tile    the tile, or null for home
+   * @return the key, or 0 for a piece at home
+   */
+  public static long piece(Token token, int pieceId, Tile tile) {
+    return tile == null ? 0 : piece(token, pieceId, tile.tileId());
+  }
+
+  /**
+   * Returns the key of a piece standing on a tile.
+   *
+   * @param token   the token of the piece's owner
+   * @param pieceId the ID of the piece, between 0 and 3
+   * @param tileId  the ID of the tile
+   * @return the key
+   */
+  public static long piece(Token token, int pieceId, int tileId) {
+    int slot = token.ordinal() * PIECES + pieceId;
+    if (tileId >= 0 && tileId < TILES) {
+      return PIECE_KEYS[slot * TILES + tileId];
+    }
+    return SplitMix.mix64(SEED ^ ((long) slot << 32) ^ tileId);
+  }
+
+  /**
+   * Returns the key for the seat whose turn it is.
+   *
+   * @param seat the seat index; seats wrap around after {@link #SIDES}
+   * @return the key
+   */
+  public static long side(int seat) {
+    return SIDE_KEYS[Math.floorMod(seat, SIDES)];
+  }
+}
@@ -3,6 +3,11 @@ package edu.games.engine.observer;
 /**
  * Represents an event that occurs during a board game.
  * Each event has a specific type and optional associated data.
+ * <p>
+ * Events built from a {@link GameEvent} carry the typed record, and work out the untyped
+ * data only when {@link #getData()} is first called, so observers that switch over
+ * {@link #event()} never pay for it. Events built the old way work out the record when
+ * {@link #event()} is first called. Either way both views of the event are available.
  */
 public class BoardGameEvent {
 
@@ -39,7 +44,9 @@ public class BoardGameEvent {
   }
 
   private final EventType typeOfEvent;
-  private final Object data;
+  // Filled in on first use. Both are immutable values, so a race only works them out twice
+  private GameEvent event;
+  private Object data;
 
   /**
    * Constructs a new BoardGameEvent with a specific type and optional data.
@@ -52,6 +59,47 @@ public class BoardGameEvent {
     this.data = data;
   }
 
+  /**
+   * Constructs a new BoardGameEvent from a typed event.
+   *
+   * @param event the typed event
+   */
+  public BoardGameEvent(GameEvent event) {
+    this(event, null);
+  }
+
+  private BoardGameEvent(GameEvent event, Object data) {
+    this.typeOfEvent = event.type();
+    this.event = event;
+    this.data = data;
+  }
+
+  /**
+   * Creates an event from a typed event and the untyped data the producer already has at
+   * hand, such as the list of dice values, so it need not be built again.
+   *
+   * @param event the typed event
+   * @param data  the untyped data, or {@code null} to work it out from the event
+   * @return the event
+   */
+  public static BoardGameEvent of(GameEvent event, Object data) {
+    return new BoardGameEvent(event, data);
+  }
+
+  /**
+   * Returns the typed form of this event.
+   *
+   * @return the typed event, or {@code null} if the event has no type
+   */
+  public GameEvent event() {
+    GameEvent typed = event;
+    if (typed == null) {
+      typed = GameEvent.of(typeOfEvent, data);
+      event = typed;
+    }
+    return typed;
+  }
+
   /**
    * Returns the type of event.
    *
@@ -67,6 +115,11 @@ public class BoardGameEvent {
    * @return the event data, or null if no data is present
    */
   public Object getData() {
-    return data;
+    Object untyped = data;
+    if (untyped == null && event != null) {
+      untyped = event.payload();
+      data = untyped;
+    }
+    return untyped;
   }
 }
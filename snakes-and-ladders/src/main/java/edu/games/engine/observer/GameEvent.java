@@ -0,0 +1,311 @@
+package edu.games.engine.observer;
+
+import edu.games.engine.board.Tile;
+import edu.games.engine.dice.PackedRoll;
+import edu.games.engine.exception.ValidationException;
+import edu.games.engine.model.BoardGame;
+import edu.games.engine.model.Player;
+import edu.games.engine.observer.BoardGameEvent.EventType;
+import java.util.List;
+
+/**
+ * A typed board game event, one record per {@link EventType}.
+ * <p>
+ * Observers get one through {@link BoardGameEvent#event()} and can switch over it with
+ * record patterns instead of casting {@link BoardGameEvent#getData()}. Apart from the
+ * players involved, the records hold primitives only, so building one allocates a single
+ * small object, and the records for rolls, selections and turns are cheap to cache.
+ */
+public sealed interface GameEvent {
+
+  /**
+   * Returns the type of the event.
+   *
+   * @return the event type
+   */
+  EventType type();
+
+  /**
+   * Returns the untyped payload older observers find in {@link BoardGameEvent#getData()}.
+   *
+   * @return the payload, or {@code null} if the event has none
+   */
+  Object payload();
+
+  /**
+   * A new game was started.
+   *
+   * @param boardSize the number of tiles, or {@code 0} for boards of fixed size
+   */
+  record GameStarted(int boardSize) implements GameEvent {
+    @Override
+    public EventType type() {
+      return EventType.GAME_STARTED;
+    }
+
+    @Override
+    public Object payload() {
+      return boardSize;
+    }
+  }
+
+  /** The game was reset or replaced, and observers should redraw it from scratch. */
+  record GameReset() implements GameEvent {
+    @Override
+    public EventType type() {
+      return EventType.GAME_RESET;
+    }
+
+    @Override
+    public Object payload() {
+      return null;
+    }
+  }
+
+  /**
+   * A player joined the game.
+   *
+   * @param player the new player
+   */
+  record PlayerAdded(Player player) implements GameEvent {
+    @Override
+    public EventType type() {
+      return EventType.PLAYER_ADDED;
+    }
+
+    @Override
+    public Object payload() {
+      return player;
+    }
+  }
+
+  /**
+   * Players were loaded from a file.
+   *
+   * @param playerCount the number of players in the game afterwards
+   */
+  record PlayersLoaded(int playerCount) implements GameEvent {
+    @Override
+    public EventType type() {
+      return EventType.PLAYERS_LOADED;
+    }
+
+    @Override
+    public Object payload() {
+      return null;
+    }
+  }
+
+  /**
+   * The dice were rolled.
+   *
+   * @param packedRoll the roll, packed as described by {@link PackedRoll}
+   */
+  record DiceRolled(int packedRoll) implements GameEvent {
+
+    /**
+     * Packs a list of die values into an event. An empty list gives a roll of no dice.
+     *
+     * @param values the die values, each between 0 and 7
+     * @return the event
+     * @throws ValidationException if there are more than {@link PackedRoll#MAX_DICE} dice
+     *                             or a value does not fit
+     */
+    public static DiceRolled of(List<? extends Number> values) {
+      return new DiceRolled(pack(values));
+    }
+
+    /**
+     * Packs a list of die values the way {@link PackedRoll} does, but without insisting on
+     * at least one die or on six-sided dice.
+     *
+     * @param values the die values, each between 0 and 7
+     * @return the packed roll
+     * @throws ValidationException if there are more than {@link PackedRoll#MAX_DICE} dice
+     *                             or a value does not fit
+     */
+    public static int pack(List<? extends Number> values) {
+      if (values.size() > PackedRoll.MAX_DICE) {
+        throw new ValidationException(
+            "Invalid dice roll: at most " + PackedRoll.MAX_DICE + " dice fit in an event");
+      }
+      int packed = values.size() << 8;
+      int sum = 0;
+      for (int i = 0; i < values.size(); i++) {
+        int value = values.get(i).intValue();
+        if (value < 0 || value > 7) {
+          throw new ValidationException("Invalid die value: " + value);
+        }
+        packed |= value << (12 + 3 * i);
+        sum += value;
+      }
+      return packed | sum;
+    }
+
+    /**
+     * Returns the number of dice rolled.
+     *
+     * @return the number of dice
+     */
+    public int count() {
+      return PackedRoll.count(packedRoll);
+    }
+
+    /**
+     * Returns the value of one die.
+     *
+     * @param index the die index, below {@link #count()}
+     * @return the die value
+     */
+    public int die(int index) {
+      return PackedRoll.die(packedRoll, index);
+    }
+
+    /**
+     * Returns the sum of all dice.
+     *
+     * @return the sum
+     */
+    public int sum() {
+      return PackedRoll.sum(packedRoll);
+    }
+
+    /**
+     * Returns the die values as a list.
+     *
+     * @return an unmodifiable list of die values
+     */
+    public List<Integer> values() {
+      return PackedRoll.toList(packedRoll);
+    }
+
+    @Override
+    public EventType type() {
+      return EventType.DICE_ROLLED;
+    }
+
+    @Override
+    public Object payload() {
+      return values();
+    }
+  }
+
+  /**
+   * A player's token or piece moved.
+   *
+   * @param player     the player who moved
+   * @param fromTileId the tile moved from, or {@code -1} if the piece was off the board
+   * @param toTileId   the tile moved to, or {@code -1} if the piece left the board
+   */
+  record PlayerMoved(Player player, int fromTileId, int toTileId) implements GameEvent {
+    @Override
+    public EventType type() {
+      return EventType.PLAYER_MOVED;
+    }
+
+    @Override
+    public Object payload() {
+      return new BoardGame.PlayerMoveData(player, fromTileId, toTileId);
+    }
+  }
+
+  /**
+   * A Ludo piece was selected for the next move.
+   *
+   * @param pieceIndex the index of the piece
+   */
+  record PieceSelected(int pieceIndex) implements GameEvent {
+    @Override
+    public EventType type() {
+      return EventType.PIECE_SELECTED;
+    }
+
+    @Override
+    public Object payload() {
+      return pieceIndex;
+    }
+  }
+
+  /**
+   * The turn passed, or stayed, after a move.
+   *
+   * @param player the player whose turn it is now
+   */
+  record TurnChanged(Player player) implements GameEvent {
+    @Override
+    public EventType type() {
+      return EventType.TURN_CHANGED;
+    }
+
+    @Override
+    public Object payload() {
+      return player;
+    }
+  }
+
+  /**
+   * A player won.
+   *
+   * @param winner the winner
+   */
+  record WinnerDeclared(Player winner) implements GameEvent {
+    @Override
+    public EventType type() {
+      return EventType.WINNER_DECLARED;
+    }
+
+    @Override
+    public Object payload() {
+      return winner;
+    }
+  }
+
+  /**
+   * Builds the typed event for an untyped one. Payloads of the wrong kind are read as
+   * missing: no player, no dice and {@code -1} for numbers.
+   *
+   * @param type the event type
+   * @param data the untyped payload
+   * @return the typed event, or {@code null} if the type is {@code null}
+   */
+  static GameEvent of(EventType type, Object data) {
+    if (type == null) {
+      return null;
+    }
+    return switch (type) {
+      case GAME_STARTED -> new GameStarted(intOf(data));
+      case GAME_RESET -> new GameReset();
+      case PLAYER_ADDED -> new PlayerAdded(playerOf(data));
+      case PLAYERS_LOADED -> new PlayersLoaded(data instanceof List<?> list ? list.size() : 0);
+      case DICE_ROLLED -> data instanceof List<?> list
+          ? DiceRolled.of(list.stream().map(Number.class::cast).toList())
+          : DiceRolled.of(List.of());
+      case PLAYER_MOVED -> moveOf(data);
+      case PIECE_SELECTED -> new PieceSelected(intOf(data));
+      case TURN_CHANGED -> new TurnChanged(playerOf(data));
+      case WINNER_DECLARED -> new WinnerDeclared(playerOf(data));
+    };
+  }
+
+  private static PlayerMoved moveOf(Object data) {
+    if (data instanceof BoardGame.PlayerMoveData move) {
+      return new PlayerMoved(move.getPlayer(), tileIdOf(move.getFrom()), tileIdOf(move.getTo()));
+    }
+    return new PlayerMoved(null, -1, -1);
+  }
+
+  private static int tileIdOf(Object tile) {
+    if (tile instanceof Tile t) {
+      return t.tileId();
+    }
+    return tile instanceof Integer id ? id : -1;
+  }
+
+  private static int intOf(Object data) {
+    return data instanceof Number number ? number.intValue() : -1;
+  }
+
+  private static Player playerOf(Object data) {
+    return data instanceof Player player ? player : null;
+  }
+}
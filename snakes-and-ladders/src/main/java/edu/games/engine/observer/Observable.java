@@ -1,5 +1,9 @@
 package edu.games.engine.observer;
 
+import edu.games.engine.observer.BoardGameEvent.EventType;
+import java.util.Set;
+import java.util.function.Predicate;
+
 /**
  * Represents an observable entity in the board game.
  * Implementing classes can have observers that are notified of game events.
@@ -13,6 +17,23 @@ public interface Observable {
    */
   void addObserver(BoardGameObserver observer);
 
+  /**
+   * Registers an observer that only receives events of the given types. Events of other
+   * types never reach it, so it costs nothing when they are published.
+   *
+   * @param observer the observer to add
+   * @param types    the event types the observer wants
+   */
+  void addObserver(BoardGameObserver observer, Set<EventType> types);
+
+  /**
+   * Registers an observer that only receives the events that pass a filter.
+   *
+   * @param observer the observer to add
+   * @param filter   the test every event must pass to reach the observer
+   */
+  void addObserver(BoardGameObserver observer, Predicate<? super BoardGameEvent> filter);
+
   /**
    * Unregisters an observer so it no longer receives updates.
    *
@@ -0,0 +1,183 @@
+package edu.games.engine.observer;
+
+import edu.games.engine.exception.ValidationException;
+import edu.games.engine.observer.BoardGameEvent.EventType;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * Observers indexed by the event types they want, so publishing an event only reaches
+ * the observers interested in its type.
+ * <p>
+ * Every observer is registered for a set of types, all of them by default, and
+ * optionally with a filter that each event of those types must also pass. For every
+ * type the index keeps an array of the observers that want it, in registration order.
+ * The arrays are replaced, never changed, when an observer is added or removed, so
+ * publishing neither locks nor copies and may run while another thread registers. An
+ * observer added or removed while an event is being published may or may not receive it.
+ * Events without a type reach only the observers registered for every type.
+ */
+public final class ObserverIndex {
+
+  private static final EventType[] TYPES = EventType.values();
+  private static final Entry[] NO_ENTRIES = new Entry[0];
+
+  private final Object lock = new Object();
+  private volatile Entry[] entries = NO_ENTRIES;
+  // One array per type ordinal, and a last one for events without a type
+  private volatile Entry[][] byType = index(NO_ENTRIES);
+
+  /**
+   * Registers an observer for every event type. The same observer may be registered
+   * more than once; use {@link #contains} first to avoid it.
+   *
+   * @param observer the observer to add
+   */
+  public void add(BoardGameObserver observer) {
+    add(observer, EnumSet.allOf(EventType.class), null);
+  }
+
+  /**
+   * Registers an observer for some event types.
+   *
+   * @param observer the observer to add
+   * @param types    the event types the observer wants
+   * @param filter   a further test events of those types must pass, or {@code null}
+   * @throws ValidationException if no event type is given
+   */
+  public void add(
+      BoardGameObserver observer, Set<EventType> types, Predicate<? super BoardGameEvent> filter) {
+    Objects.requireNonNull(observer, "Observer cannot be null");
+    Objects.requireNonNull(types, "Event types cannot be null");
+    if (types.isEmpty()) {
+      throw new ValidationException("Invalid event types: must name at least one");
+    }
+    Entry entry = new Entry(observer, EnumSet.copyOf(types), filter);
+    synchronized (lock) {
+      Entry[] grown = Arrays.copyOf(entries, entries.length + 1);
+      grown[entries.length] = entry;
+      entries = grown;
+      byType = index(grown);
+    }
+  }
+
+  /**
+   * Unregisters every observer that matches.
+   *
+   * @param which the test picking the observers to remove
+   * @return the observers removed, in registration order
+   */
+  public List<BoardGameObserver> removeIf(Predicate<? super BoardGameObserver> which) {
+    List<BoardGameObserver> removed = new ArrayList<>();
+    synchronized (lock) {
+      List<Entry> kept = new ArrayList<>(entries.length);
+      for (Entry entry : entries) {
+        if (which.test(entry.observer)) {
+          removed.add(entry.observer);
+        } else {
+          kept.add(entry);
+        }
+      }
+      if (!removed.isEmpty()) {
+        entries = kept.toArray(NO_ENTRIES);
+        byType = index(entries);
+      }
+    }
+    return removed;
+  }
+
+  /**
+   * Unregisters an observer from every type it was registered for.
+   *
+   * @param observer the observer to remove
+   * @return {@code true} if the observer was registered
+   */
+  public boolean remove(BoardGameObserver observer) {
+    return !removeIf(registered -> registered.equals(observer)).isEmpty();
+  }
+
+  /**
+   * Checks whether any registered observer matches.
+   *
+   * @param which the test to apply
+   * @return {@code true} if an observer passes it
+   */
+  public boolean anyMatch(Predicate<? super BoardGameObserver> which) {
+    for (Entry entry : entries) {
+      if (which.test(entry.observer)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Checks whether an observer is registered.
+   *
+   * @param observer the observer to look for
+   * @return {@code true} if an equal observer is registered
+   */
+  public boolean contains(BoardGameObserver observer) {
+    return anyMatch(registered -> registered.equals(observer));
+  }
+
+  /**
+   * Checks whether no observer is registered.
+   *
+   * @return {@code true} if publishing would reach nobody
+   */
+  public boolean isEmpty() {
+    return entries.length == 0;
+  }
+
+  /**
+   * Checks whether an event of the given type would reach an observer, before its filter.
+   *
+   * @param type the event type
+   * @return {@code true} if an observer is registered for the type
+   */
+  public boolean wants(EventType type) {
+    return byType[slot(type)].length > 0;
+  }
+
+  /**
+   * Calls every observer registered for the event's type whose filter lets it through,
+   * in registration order. An exception thrown by an observer stops the delivery.
+   *
+   * @param event the event to publish
+   */
+  public void publish(BoardGameEvent event) {
+    for (Entry entry : byType[slot(event.getTypeOfEvent())]) {
+      if (entry.filter == null || entry.filter.test(event)) {
+        entry.observer.update(event);
+      }
+    }
+  }
+
+  private static int slot(EventType type) {
+    return type == null ? TYPES.length : type.ordinal();
+  }
+
+  private static Entry[][] index(Entry[] entries) {
+    Entry[][] index = new Entry[TYPES.length + 1][];
+    for (EventType type : TYPES) {
+      index[type.ordinal()] = Arrays.stream(entries)
+          .filter(entry -> entry.types.contains(type))
+          .toArray(Entry[]::new);
+    }
+    index[TYPES.length] = Arrays.stream(entries)
+        .filter(entry -> entry.types.size() == TYPES.length)
+        .toArray(Entry[]::new);
+    return index;
+  }
+
+  /** One registration: an observer, the types it wants and its filter. */
+  private record Entry(
+      BoardGameObserver observer, Set<EventType> types, Predicate<? super BoardGameEvent> filter) {
+  }
+}
@@ -0,0 +1,169 @@
+package edu.games.engine.rule;
+
+import edu.games.engine.exception.ValidationException;
+import edu.ntnu.idatt2003.persistence.BoardAdapter;
+import java.util.Map;
+
+/**
+ * Precompiled snake and ladder destinations for a Snakes and Ladders board.
+ * <p>
+ * All jumps are folded into one {@code int[]} indexed by tile ID, so resolving a
+ * landing is a single array read. Chained jumps, such as a ladder top that lands on a
+ * snake head, are followed to their final tile when the table is compiled, and cycles
+ * are rejected. When a tile has both a snake and a ladder, the snake wins.
+ */
+public final class JumpTable {
+
+  private static final int UNVISITED = 0;
+  private static final int IN_PROGRESS = 1;
+  private static final int RESOLVED = 2;
+
+  private final int[] resolvedDestination;
+
+  private JumpTable(int[] resolvedDestination) {
+    this.resolvedDestination = resolvedDestination;
+  }
+
+  /**
+   * Compiles the snakes and ladders of a loaded board.
+   *
+   * @param mapData the board size, snakes and ladders
+   * @return the compiled jump table
+   * @throws ValidationException if a jump uses a negative tile or the jumps form a cycle
+   */
+  public static JumpTable compile(BoardAdapter.MapData mapData) {
+    return compile(mapData.boardSize(), mapData.snakes(), mapData.ladders());
+  }
+
+  /**
+   * Compiles snakes and ladders without a known board size.
+   * The table is sized to the highest tile ID mentioned by any jump.
+   *
+   * @param snakes  map of snake head positions to their tails
+   * @param ladders map of ladder base positions to their tops
+   * @return the compiled jump table
+   * @throws ValidationException if a jump uses a negative tile or the jumps form a cycle
+   */
+  public static JumpTable compile(Map<Integer, Integer> snakes, Map<Integer, Integer> ladders) {
+    return compile(0, snakes, ladders);
+  }
+
+  /**
+   * Compiles snakes and ladders for a board with tiles from 0 to {@code boardSize}.
+   * Jumps that mention tiles past the board are kept, and the table grows to cover them.
+   *
+   * @param boardSize the ID of the last tile
+   * @param snakes    map of snake head positions to their tails
+   * @param ladders   map of ladder base positions to their tops
+   * @return the compiled jump table
+   * @throws ValidationException if a jump uses a negative tile or the jumps form a cycle
+   */
+  public static JumpTable compile(
+      int boardSize, Map<Integer, Integer> snakes, Map<Integer, Integer> ladders) {
+    if (boardSize < 0) {
+      throw new ValidationException("Invalid boardSize: cannot be negative");
+    }
+    int last = Math.max(boardSize, Math.max(highestTile(snakes), highestTile(ladders)));
+    int[] direct = new int[last + 1];
+    for (int i = 0; i <= last; i++) {
+      direct[i] = i;
+    }
+    addJumps(direct, ladders, "ladder");
+    addJumps(direct, snakes, "snake");
+
+    int[] resolved = new int[direct.length];
+    int[] state = new int[direct.length];
+    int[] path = new int[direct.length];
+    for (int i = 0; i < direct.length; i++) {
+      if (state[i] != RESOLVED) {
+        resolveChain(i, direct, resolved, state, path);
+      }
+    }
+    return new JumpTable(resolved);
+  }
+
+  /**
+   * Returns the final tile a piece ends on after landing on the given tile.
+   *
+   * @param tileId the tile the piece landed on
+   * @return the resolved destination, or {@code tileId} itself if there is no jump
+   */
+  public int resolve(int tileId) {
+    return tileId >= 0 && tileId < resolvedDestination.length
+        ? resolvedDestination[tileId]
+        : tileId;
+  }
+
+  /**
+   * Checks whether landing on the given tile moves the piece elsewhere.
+   *
+   * @param tileId the tile to check
+   * @return {@code true} if the tile starts a snake or ladder
+   */
+  public boolean hasJump(int tileId) {
+    return resolve(tileId) != tileId;
+  }
+
+  /**
+   * Returns the highest tile ID covered by the table.
+   *
+   * @return the last tile ID
+   */
+  public int lastTileId() {
+    return resolvedDestination.length - 1;
+  }
+
+  private static void addJumps(int[] direct, Map<Integer, Integer> jumps, String kind) {
+    if (jumps == null) {
+      return;
+    }
+    jumps.forEach((from, to) -> {
+      if (from == null || to == null || from < 0 || to < 0) {
+        throw new ValidationException(
+            "Invalid " + kind + " from " + from + " to " + to + ": tiles cannot be negative");
+      }
+      direct[from] = to;
+    });
+  }
+
+  /**
+   * Follows the chain of jumps from {@code start} and stores its final tile for every
+   * tile on the chain. Iterative, so long chains on large boards cannot overflow the stack.
+   */
+  private static void resolveChain(int start, int[] direct, int[] resolved, int[] state, int[] path) {
+    int length = 0;
+    int tile = start;
+    while (state[tile] == UNVISITED && direct[tile] != tile) {
+      state[tile] = IN_PROGRESS;
+      path[length++] = tile;
+      tile = direct[tile];
+    }
+    if (state[tile] == IN_PROGRESS) {
+      throw new ValidationException("Snakes and ladders form a cycle through tile " + tile);
+    }
+    if (state[tile] == UNVISITED) {
+      resolved[tile] = tile;
+      state[tile] = RESOLVED;
+    }
+    int end = resolved[tile];
+    for (int i = 0; i < length; i++) {
+      resolved[path[i]] = end;
+      state[path[i]] = RESOLVED;
+    }
+  }
+
+  private static int highestTile(Map<Integer, Integer> jumps) {
+    int highest = 0;
+    if (jumps != null) {
+      for (Map.Entry<Integer, Integer> e : jumps.entrySet()) {
+        if (e.getKey() != null) {
+          highest = Math.max(highest, e.getKey());
+        }
+        if (e.getValue() != null) {
+          highest = Math.max(highest, e.getValue());
+        }
+      }
+    }
+    return highest;
+  }
+}
@@ -2,12 +2,20 @@ package edu.games.engine.rule;
 
 import edu.games.engine.board.LudoPath;
 import edu.games.engine.board.Tile;
+import edu.games.engine.dice.PackedRoll;
+import edu.games.engine.exception.RuleViolationException;
+import edu.games.engine.exception.ValidationException;
 import edu.games.engine.impl.DefaultGame;
 import edu.games.engine.model.LudoColor;
+import edu.games.engine.model.LudoState;
 import edu.games.engine.model.Player;
 import edu.games.engine.model.PlayerPiece;
+import edu.games.engine.model.Token;
+import edu.games.engine.model.Zobrist;
 import edu.ntnu.idatt2003.utils.Log;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.logging.Logger;
 
 /**
  * Rule engine for Ludo, implementing color-specific goal paths,
@@ -15,7 +23,10 @@ import java.util.List;
  */
 public final class LudoRuleEngine implements RuleEngine {
 
+  private static final Token[] TOKENS = tokensByColor();
+
   private final LudoPath path;
+  private final Logger log;
 
   /**
    * Creates a new Ludo rule engine using the specified movement path.
@@ -23,7 +34,27 @@ public final class LudoRuleEngine implements RuleEngine {
    * @param path the Ludo movement path
    */
   public LudoRuleEngine(LudoPath path) {
+    this(path, Log.game());
+  }
+
+  /**
+   * Creates a new Ludo rule engine that reports bumps to the given logger.
+   *
+   * @param path the Ludo movement path
+   * @param log  the logger used for in-game messages
+   */
+  public LudoRuleEngine(LudoPath path, Logger log) {
     this.path = path;
+    this.log = log;
+  }
+
+  /**
+   * Returns the movement path this engine plays on.
+   *
+   * @return the Ludo path
+   */
+  public LudoPath path() {
+    return path;
   }
 
   /**
@@ -39,6 +70,19 @@ public final class LudoRuleEngine implements RuleEngine {
     return !diceValues.isEmpty() && diceValues.get(0) == 6;
   }
 
+  /**
+   * Grants an extra turn when the first die of a packed roll shows a six.
+   *
+   * @param player the player taking the turn
+   * @param packedRoll the roll as a {@link PackedRoll}
+   * @param game the current game context
+   * @return true if an extra turn is granted
+   */
+  @Override
+  public boolean grantsExtraTurn(Player player, int packedRoll, DefaultGame game) {
+    return PackedRoll.count(packedRoll) > 0 && PackedRoll.die(packedRoll, 0) == 6;
+  }
+
   /**
    * Applies post-move effects such as bumping opponent pieces
    * from a shared tile on the main ring.
@@ -77,6 +121,318 @@ public final class LudoRuleEngine implements RuleEngine {
         .allMatch(p -> isPieceInFinalGoal(p, goalBaseId, finalGoalTileId));
   }
 
+  /**
+   * Sends home every opponent piece sharing the ring tile of the given piece,
+   * working directly on the packed state.
+   *
+   * @param state   the position after the piece moved
+   * @param mover   the color of the moved piece
+   * @param pieceId the ID of the moved piece
+   * @return the position after bumping
+   */
+  public LudoState applyBumping(LudoState state, LudoColor mover, int pieceId) {
+    int routeIndex = state.routeIndex(mover, pieceId);
+    if (routeIndex == LudoPath.HOME || LudoPath.isGoalIndex(routeIndex)) {
+      return state;
+    }
+    int tileId = path.tileAt(mover, routeIndex).tileId();
+    LudoState result = state;
+    for (int seat = 0; seat < state.seatCount(); seat++) {
+      LudoColor other = state.seatColor(seat);
+      if (other == mover) {
+        continue;
+      }
+      int otherIndex = path.routeIndexOf(other, tileId);
+      for (int piece = 0; piece < LudoState.PIECES; piece++) {
+        if (result.routeIndex(other, piece) == otherIndex) {
+          result = result.withRouteIndex(other, piece, LudoPath.HOME);
+        }
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Checks whether a piece of the color to move would change tile with the given roll.
+   * A piece at home needs a six, and a piece on its final goal tile cannot move.
+   *
+   * @param state   the position before the move
+   * @param pieceId the ID of the piece to move
+   * @param roll    the value rolled
+   * @return true if the move changes the position of the piece
+   */
+  public boolean canMove(LudoState state, int pieceId, int roll) {
+    int from = state.routeIndex(state.colorToMove(), pieceId);
+    return LudoPath.advance(from, roll) != from;
+  }
+
+  /**
+   * Checks whether a piece of the current player would change tile with the given roll,
+   * following the same rules as {@link #canMove(LudoState, int, int)}.
+   *
+   * @param game    the game to check
+   * @param pieceId the ID of the piece to move
+   * @param roll    the value rolled
+   * @return true if the move changes the position of the piece
+   * @throws ValidationException if the current player has no Ludo color
+   */
+  public boolean canMove(DefaultGame game, int pieceId, int roll) {
+    Player player = game.currentPlayer();
+    int from = path.routeIndexOf(colorOf(player), player.getPiece(pieceId).getCurrentTile());
+    return LudoPath.advance(from, roll) != from;
+  }
+
+  /**
+   * Plays one move for the color to move on the packed state, following the same rules
+   * as a move through the gateway: the piece advances and bumps opponents off its ring
+   * tile, and the turn passes on unless a six was rolled. A move that cannot be made
+   * passes the turn without changing any piece.
+   *
+   * @param state   the position before the move
+   * @param pieceId the ID of the piece to move
+   * @param roll    the value rolled
+   * @return the position after the move
+   */
+  public LudoState applyMove(LudoState state, int pieceId, int roll) {
+    LudoColor mover = state.colorToMove();
+    int from = state.routeIndex(mover, pieceId);
+    int to = LudoPath.advance(from, roll);
+    if (to == from) {
+      return state.nextSide();
+    }
+    LudoState moved = applyBumping(state.withRouteIndex(mover, pieceId, to), mover, pieceId);
+    return roll == 6 ? moved : moved.nextSide();
+  }
+
+  /**
+   * Checks on the packed state whether a color has all four pieces on its final goal tile.
+   *
+   * @param state the position to check
+   * @param color the color to check
+   * @return true if the color has won
+   */
+  public boolean hasWon(LudoState state, LudoColor color) {
+    return state.allPiecesAt(color, LudoPath.FINAL_ROUTE_INDEX);
+  }
+
+  /**
+   * Computes the Zobrist hash of a packed position. It equals
+   * {@link DefaultGame#positionHash()} of a game captured into that state.
+   *
+   * @param state the position to hash
+   * @return the position hash
+   */
+  public long hash(LudoState state) {
+    long hash = Zobrist.side(state.sideToMove());
+    for (int seat = 0; seat < state.seatCount(); seat++) {
+      LudoColor color = state.seatColor(seat);
+      Token token = TOKENS[color.ordinal()];
+      for (int piece = 0; piece < LudoState.PIECES; piece++) {
+        int routeIndex = state.routeIndex(color, piece);
+        if (routeIndex != LudoPath.HOME) {
+          hash ^= Zobrist.piece(token, piece, path.tileAt(color, routeIndex).tileId());
+        }
+      }
+    }
+    return hash;
+  }
+
+  /**
+   * Packs the position of a Ludo game. Seats follow the order of
+   * {@link DefaultGame#getPlayers()}.
+   *
+   * @param game the game to capture
+   * @return the packed position
+   * @throws ValidationException if a player has no Ludo color or a piece is off its route
+   */
+  public LudoState capture(DefaultGame game) {
+    List<Player> players = game.getPlayers();
+    List<LudoColor> seats = new ArrayList<>(players.size());
+    for (Player player : players) {
+      seats.add(colorOf(player));
+    }
+    LudoState state = LudoState.initial(seats);
+    for (int seat = 0; seat < players.size(); seat++) {
+      Player player = players.get(seat);
+      LudoColor color = seats.get(seat);
+      for (int piece = 0; piece < LudoState.PIECES; piece++) {
+        Tile tile = player.getPiece(piece).getCurrentTile();
+        int routeIndex = path.routeIndexOf(color, tile);
+        if (tile != null && routeIndex == LudoPath.HOME) {
+          throw new ValidationException(
+              "Tile " + tile.tileId() + " is not on the " + color + " route");
+        }
+        state = state.withRouteIndex(color, piece, routeIndex);
+      }
+      if (player == game.currentPlayer()) {
+        state = state.withSideToMove(seat);
+      }
+    }
+    return state;
+  }
+
+  /**
+   * Moves every piece of a Ludo game to the position held in a packed state
+   * and hands the turn to the state's side to move.
+   *
+   * @param state the position to restore
+   * @param game  the game to update
+   * @throws ValidationException if the game's seating does not match the state
+   */
+  public void restore(LudoState state, DefaultGame game) {
+    List<Player> players = game.getPlayers();
+    if (players.size() != state.seatCount()) {
+      throw new ValidationException(
+          "State has " + state.seatCount() + " seats but the game has " + players.size() + " players");
+    }
+    for (int seat = 0; seat < players.size(); seat++) {
+      if (colorOf(players.get(seat)) != state.seatColor(seat)) {
+        throw new ValidationException("Seat " + seat + " is not " + state.seatColor(seat));
+      }
+    }
+    for (int seat = 0; seat < players.size(); seat++) {
+      Player player = players.get(seat);
+      LudoColor color = state.seatColor(seat);
+      for (int piece = 0; piece < LudoState.PIECES; piece++) {
+        player.getPiece(piece).moveTo(path.tileAt(color, state.routeIndex(color, piece)));
+      }
+    }
+    game.setCurrentPlayerIndex(state.sideToMove());
+  }
+
+  /**
+   * Plays one move for the current player directly on the game's pieces, following
+   * the same rules as {@link #applyMove(LudoState, int, int)}, and returns what is
+   * needed to take it back with {@link #unmakeMove(DefaultGame, long)}. A winning move
+   * declares the winner on the game. Bumps are not logged, so a search can walk the
+   * tree without allocating.
+   *
+   * @param game    the game to play the move on
+   * @param pieceId the ID of the piece to move
+   * @param roll    the value rolled
+   * @return the packed undo record, see {@link MoveUndo}
+   * @throws RuleViolationException if the game already has a winner
+   * @throws ValidationException    if the game has more than four players, the piece ID is
+   *                                out of range or the piece is off its route
+   */
+  public long makeMove(DefaultGame game, int pieceId, int roll) {
+    List<Player> players = game.getPlayers();
+    if (players.size() > MoveUndo.MAX_SEATS) {
+      throw new ValidationException("Invalid players: at most " + MoveUndo.MAX_SEATS + " can be seated");
+    }
+    if (pieceId < 0 || pieceId >= LudoState.PIECES) {
+      throw new ValidationException("pieceId out of range: " + pieceId);
+    }
+    if (game.getWinner().isPresent()) {
+      throw new RuleViolationException("Game already finished");
+    }
+    Player player = game.currentPlayer();
+    int seat = game.getCurrentPlayerIndex();
+    LudoColor color = colorOf(player);
+    PlayerPiece piece = player.getPiece(pieceId);
+    Tile fromTile = piece.getCurrentTile();
+    int from = path.routeIndexOf(color, fromTile);
+    if (fromTile != null && from == LudoPath.HOME) {
+      throw new ValidationException(
+          "Tile " + fromTile.tileId() + " is not on the " + color + " route");
+    }
+
+    long undo = MoveUndo.pack(seat, pieceId, from);
+    int to = LudoPath.advance(from, roll);
+    if (to == from) {
+      game.setCurrentPlayerIndex(seat + 1);
+      return undo;
+    }
+    Tile landed = path.tileAt(color, to);
+    piece.moveTo(landed);
+    undo = MoveUndo.withMoved(undo);
+    if (isOnMainRing(landed)) {
+      undo = bumpForUndo(players, seat, landed.tileId(), undo);
+    }
+    if (allPiecesOnFinalTile(player, color)) {
+      game.setWinner(player);
+      undo = MoveUndo.withWon(undo);
+    }
+    if (roll != 6) {
+      game.setCurrentPlayerIndex(seat + 1);
+    }
+    return undo;
+  }
+
+  /**
+   * Takes back a move made with {@link #makeMove(DefaultGame, int, int)}: the moved
+   * piece returns to its old tile, bumped pieces return to the tile they were bumped
+   * from, the winner is cleared and the turn goes back to the seat that moved.
+   * Moves must be unmade in the reverse order they were made.
+   *
+   * @param game the game the move was made on
+   * @param undo the record returned by {@code makeMove}
+   */
+  public void unmakeMove(DefaultGame game, long undo) {
+    List<Player> players = game.getPlayers();
+    int seat = MoveUndo.seat(undo);
+    if (MoveUndo.moved(undo)) {
+      Player player = players.get(seat);
+      PlayerPiece piece = player.getPiece(MoveUndo.pieceId(undo));
+      Tile landed = piece.getCurrentTile();
+      piece.moveTo(path.tileAt(colorOf(player), MoveUndo.fromRouteIndex(undo)));
+      for (int bumped = MoveUndo.bumpedMask(undo); bumped != 0; bumped &= bumped - 1) {
+        int bit = Integer.numberOfTrailingZeros(bumped);
+        players.get(bit / LudoState.PIECES).getPiece(bit % LudoState.PIECES).moveTo(landed);
+      }
+    }
+    if (MoveUndo.won(undo)) {
+      game.setWinner(null);
+    }
+    game.setCurrentPlayerIndex(seat);
+  }
+
+  private static long bumpForUndo(List<Player> players, int mover, int tileId, long undo) {
+    for (int seat = 0; seat < players.size(); seat++) {
+      if (seat == mover) {
+        continue;
+      }
+      List<PlayerPiece> pieces = players.get(seat).getPieces();
+      for (int id = 0; id < pieces.size(); id++) {
+        Tile tile = pieces.get(id).getCurrentTile();
+        if (tile != null && tile.tileId() == tileId) {
+          pieces.get(id).moveTo(null);
+          undo = MoveUndo.withBumped(undo, seat, id);
+        }
+      }
+    }
+    return undo;
+  }
+
+  private boolean allPiecesOnFinalTile(Player player, LudoColor color) {
+    int finalTileId = path.tileAt(color, LudoPath.FINAL_ROUTE_INDEX).tileId();
+    List<PlayerPiece> pieces = player.getPieces();
+    for (int id = 0; id < pieces.size(); id++) {
+      Tile tile = pieces.get(id).getCurrentTile();
+      if (tile == null || tile.tileId() != finalTileId) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static Token[] tokensByColor() {
+    LudoColor[] colors = LudoColor.values();
+    Token[] tokens = new Token[colors.length];
+    for (LudoColor color : colors) {
+      tokens[color.ordinal()] = Token.valueOf(color.name());
+    }
+    return tokens;
+  }
+
+  private static LudoColor colorOf(Player player) {
+    try {
+      return LudoColor.valueOf(player.getToken().name());
+    } catch (IllegalArgumentException e) {
+      throw new ValidationException("Token " + player.getToken() + " has no Ludo color");
+    }
+  }
+
   private boolean isInvalidState(Player player, PlayerPiece piece, Tile tile, DefaultGame game) {
     return player == null || piece == null || tile == null || game == null;
   }
@@ -102,12 +458,11 @@ public final class LudoRuleEngine implements RuleEngine {
 
   private void sendPieceHome(Player bumper, Player bumpedPlayer, PlayerPiece piece, Tile fromTile) {
     piece.moveTo(null);
-    Log.game()
-        .info(
-            () ->
-                String.format(
-                    "%s bumps %s's piece back to home from tile %d",
-                    bumper.getName(), bumpedPlayer.getName(), fromTile.tileId()));
+    log.info(
+        () ->
+            String.format(
+                "%s bumps %s's piece back to home from tile %d",
+                bumper.getName(), bumpedPlayer.getName(), fromTile.tileId()));
   }
 
   private int goalBaseId(Player player) {
@@ -0,0 +1,118 @@
+package edu.games.engine.rule;
+
+import edu.games.engine.board.LudoPath;
+
+/**
+ * Helpers for the undo record of a Ludo move, packed into one {@code long}.
+ * <p>
+ * Bits 0-15 hold one bit per bumped piece ({@code seat * 4 + piece}), bits 16-21 the
+ * route index the moved piece came from plus one, bits 22-23 the piece, bits 24-26
+ * the seat that moved, bit 27 whether the piece changed tile and bit 28 whether the
+ * move won the game. A record is a plain value, so making and unmaking moves in a
+ * search never allocates.
+ *
+ * @see LudoRuleEngine#makeMove
+ * @see LudoRuleEngine#unmakeMove
+ */
+public final class MoveUndo {
+
+  /** The largest number of seats a record can describe. */
+  public static final int MAX_SEATS = 4;
+
+  private static final int FROM_SHIFT = 16;
+  private static final int PIECE_SHIFT = 22;
+  private static final int SEAT_SHIFT = 24;
+  private static final long MOVED = 1L << 27;
+  private static final long WON = 1L << 28;
+
+  private MoveUndo() {
+  }
+
+  static long pack(int seat, int pieceId, int fromRouteIndex) {
+    return ((long) seat << SEAT_SHIFT)
+        | ((long) pieceId << PIECE_SHIFT)
+        | ((long) (fromRouteIndex + 1) << FROM_SHIFT);
+  }
+
+  static long withMoved(long undo) {
+    return undo | MOVED;
+  }
+
+  static long withBumped(long undo, int seat, int pieceId) {
+    return undo | (1L << (seat * 4 + pieceId));
+  }
+
+  static long withWon(long undo) {
+    return undo | WON;
+  }
+
+  /**
+   * Returns the seat that made the move, which is also the turn index before it.
+   *
+   * @param undo the undo record
+   * @return the seat index
+   */
+  public static int seat(long undo) {
+    return (int) (undo >>> SEAT_SHIFT) & 0b111;
+  }
+
+  /**
+   * Returns the piece that was moved.
+   *
+   * @param undo the undo record
+   * @return the piece ID
+   */
+  public static int pieceId(long undo) {
+    return (int) (undo >>> PIECE_SHIFT) & 0b11;
+  }
+
+  /**
+   * Returns the route index the moved piece started from.
+   *
+   * @param undo the undo record
+   * @return the route index, or {@link LudoPath#HOME}
+   */
+  public static int fromRouteIndex(long undo) {
+    return ((int) (undo >>> FROM_SHIFT) & 0b11_1111) - 1;
+  }
+
+  /**
+   * Checks whether the piece changed tile. A move that cannot be made only passes the turn.
+   *
+   * @param undo the undo record
+   * @return true if the piece moved
+   */
+  public static boolean moved(long undo) {
+    return (undo & MOVED) != 0;
+  }
+
+  /**
+   * Checks whether the move won the game for the seat that made it.
+   *
+   * @param undo the undo record
+   * @return true if the move declared a winner
+   */
+  public static boolean won(long undo) {
+    return (undo & WON) != 0;
+  }
+
+  /**
+   * Returns one bit per piece sent home by the move, at {@code seat * 4 + piece}.
+   *
+   * @param undo the undo record
+   * @return the bumped-piece mask
+   */
+  public static int bumpedMask(long undo) {
+    return (int) undo & 0xFFFF;
+  }
+
+  /**
+   * Returns the number of pieces sent home by the move.
+   *
+   * @param undo the undo record
+   * @return the number of bumped pieces
+   */
+  public static int bumpedCount(long undo) {
+    return Integer.bitCount(bumpedMask(undo));
+  }
+}
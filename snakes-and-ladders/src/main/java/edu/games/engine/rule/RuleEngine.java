@@ -1,6 +1,7 @@
 package edu.games.engine.rule;
 
 import edu.games.engine.board.Tile;
+import edu.games.engine.dice.PackedRoll;
 import edu.games.engine.impl.DefaultGame;
 import edu.games.engine.model.Player;
 import edu.games.engine.model.PlayerPiece;
@@ -18,6 +19,19 @@ public interface RuleEngine {
    */
   boolean grantsExtraTurn(Player player, List<Integer> diceValues, DefaultGame game);
 
+  /**
+   * Determines if a packed roll grants the player an extra turn. Rule engines on hot paths
+   * override this to decide without unpacking; the default unpacks and delegates.
+   *
+   * @param player The current player.
+   * @param packedRoll The roll as a {@link PackedRoll}.
+   * @param game The current game instance.
+   * @return true if an extra turn should be granted, false otherwise.
+   */
+  default boolean grantsExtraTurn(Player player, int packedRoll, DefaultGame game) {
+    return grantsExtraTurn(player, PackedRoll.toList(packedRoll), game);
+  }
+
   /**
    * Applies any effects that occur after a piece lands on a new tile. This can include moving due
    * to a snake/ladder, or bumping other pieces. This method might modify the player's piece's
@@ -1,13 +1,16 @@
 package edu.games.engine.rule;
 
-import edu.games.engine.board.LinearBoard;
+import edu.games.engine.board.IndexedBoard;
 import edu.games.engine.board.Tile;
+import edu.games.engine.dice.PackedRoll;
 import edu.games.engine.impl.DefaultGame;
 import edu.games.engine.model.Player;
 import edu.games.engine.model.PlayerPiece;
 import edu.ntnu.idatt2003.utils.Log;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.logging.Logger;
 
 /**
  * Rule engine for Snakes and Ladders.
@@ -15,8 +18,8 @@ import java.util.Map;
  * bumping opponents, and win conditions.
  */
 public final class SnlRuleEngine implements RuleEngine {
-  private final Map<Integer, Integer> snakes;
-  private final Map<Integer, Integer> ladders;
+  private final JumpTable jumps;
+  private final Logger log;
 
   /**
    * Constructs a new rule engine with given snake and ladder mappings.
@@ -25,8 +28,39 @@ public final class SnlRuleEngine implements RuleEngine {
    * @param ladders map of ladder base positions to their tops
    */
   public SnlRuleEngine(Map<Integer, Integer> snakes, Map<Integer, Integer> ladders) {
-    this.snakes = snakes;
-    this.ladders = ladders;
+    this(snakes, ladders, Log.game());
+  }
+
+  /**
+   * Constructs a new rule engine that reports snakes, ladders and bumps to the given logger.
+   *
+   * @param snakes  map of snake head positions to their tails
+   * @param ladders map of ladder base positions to their tops
+   * @param log     the logger used for in-game messages
+   */
+  public SnlRuleEngine(Map<Integer, Integer> snakes, Map<Integer, Integer> ladders, Logger log) {
+    this(JumpTable.compile(snakes, ladders), log);
+  }
+
+  /**
+   * Constructs a new rule engine from a precompiled jump table.
+   *
+   * @param jumps the compiled snake and ladder destinations
+   */
+  public SnlRuleEngine(JumpTable jumps) {
+    this(jumps, Log.game());
+  }
+
+  /**
+   * Constructs a new rule engine from a precompiled jump table that reports
+   * snakes, ladders and bumps to the given logger.
+   *
+   * @param jumps the compiled snake and ladder destinations
+   * @param log   the logger used for in-game messages
+   */
+  public SnlRuleEngine(JumpTable jumps, Logger log) {
+    this.jumps = Objects.requireNonNull(jumps, "JumpTable cannot be null.");
+    this.log = log;
   }
 
   /**
@@ -46,6 +80,19 @@ public final class SnlRuleEngine implements RuleEngine {
     return isDouble && sum != 12;
   }
 
+  /**
+   * Grants an extra turn on a packed double, unless it is double sixes.
+   *
+   * @param player     the player who rolled
+   * @param packedRoll the roll as a {@link PackedRoll}
+   * @param game       the game context
+   * @return true if player should get an extra turn
+   */
+  @Override
+  public boolean grantsExtraTurn(Player player, int packedRoll, DefaultGame game) {
+    return PackedRoll.isDouble(packedRoll) && PackedRoll.sum(packedRoll) != 12;
+  }
+
   /**
    * Applies post-move effects like climbing ladders, sliding down snakes,
    * and bumping other players on the same tile.
@@ -62,47 +109,49 @@ public final class SnlRuleEngine implements RuleEngine {
       return;
     }
 
-    LinearBoard board = (LinearBoard) game.getBoard();
+    IndexedBoard board = (IndexedBoard) game.getBoard();
     Tile destinationTile = applySnakesOrLadders(player, landedTile, board);
     applyBumping(player, destinationTile, board, game);
   }
 
   private boolean isValidState(Player player, Tile tile, DefaultGame game) {
-    return player != null && tile != null && game != null && game.getBoard() instanceof LinearBoard;
+    return player != null && tile != null && game != null && game.getBoard() instanceof IndexedBoard;
   }
 
-  private Tile applySnakesOrLadders(Player player, Tile tile, LinearBoard board) {
+  private Tile applySnakesOrLadders(Player player, Tile tile, IndexedBoard board) {
     int pos = tile.tileId();
-    Integer newPos = snakes.getOrDefault(pos, ladders.get(pos));
+    int newPos = jumps.resolve(pos);
 
-    if (newPos != null) {
+    if (newPos != pos) {
       Tile newTile = board.tile(newPos);
       player.moveTo(newTile);
-      Log.game()
-          .info(() -> player.getName()
-              + (newPos > pos ? " climbs a ladder" : " slides down a snake")
-              + " to tile " + newPos);
+      log.info(() -> player.getName()
+          + (newPos > pos ? " climbs a ladder" : " slides down a snake")
+          + " to tile " + newPos);
       return newTile;
     }
 
     return tile;
   }
 
-  private void applyBumping(Player currentPlayer, Tile tile, LinearBoard board, DefaultGame game) {
+  private void applyBumping(Player currentPlayer, Tile tile, IndexedBoard board, DefaultGame game) {
     if (tile.tileId() == board.start().tileId()) return;
 
-    game.getPlayers().stream()
-        .filter(p ->
-            p != currentPlayer &&
-                p.getCurrentTile() != null &&
-                p.getCurrentTile().tileId() == tile.tileId())
-        .forEach(other -> {
-          other.moveTo(board.start());
-          Log.game()
-              .info(() -> currentPlayer.getName()
-                  + " bumps " + other.getName()
-                  + " back to start from tile " + tile.tileId());
-        });
+    // Walk backwards: each bumped player leaves the list, shifting only visited entries.
+    List<Player> occupants = game.getOccupancy().occupantsOf(tile.tileId());
+    for (int i = occupants.size() - 1; i >= 0; i--) {
+      Player other = occupants.get(i);
+      if (other != currentPlayer) {
+        bump(currentPlayer, other, tile, board);
+      }
+    }
+  }
+
+  private void bump(Player currentPlayer, Player other, Tile tile, IndexedBoard board) {
+    other.moveTo(board.start());
+    log.info(() -> currentPlayer.getName()
+        + " bumps " + other.getName()
+        + " back to start from tile " + tile.tileId());
   }
 
   /**
@@ -0,0 +1,58 @@
+package edu.games.engine.simulation;
+
+/**
+ * Exact statistics of a single token's game on a Snakes and Ladders board,
+ * as solved by {@link SnlMarkovChain}.
+ * <p>
+ * Game length is measured in dice rolls unless stated otherwise, matching
+ * {@link SimulationResult}.
+ *
+ * @param expectedRolls       expected number of rolls to finish
+ * @param expectedTurns       expected number of turns to finish, extra turns included in the turn
+ * @param lengthDistribution  probability of finishing on each roll; index is the roll count
+ * @param tailProbability     probability of lasting longer than the distribution covers
+ * @param expectedVisits      expected landings per tile; index is the tile ID
+ */
+public record MarkovAnalysis(
+    double expectedRolls,
+    double expectedTurns,
+    double[] lengthDistribution,
+    double tailProbability,
+    double[] expectedVisits) {
+
+  /**
+   * Returns the probability of finishing within the given number of rolls.
+   *
+   * @param rolls the number of rolls
+   * @return the cumulative probability
+   */
+  public double finishedWithin(int rolls) {
+    double total = 0;
+    for (int i = 0; i <= Math.min(rolls, lengthDistribution.length - 1); i++) {
+      total += lengthDistribution[i];
+    }
+    return total;
+  }
+
+  /**
+   * Returns the smallest number of rolls within which at least half of all games finish.
+   *
+   * @return the median game length in rolls
+   */
+  public int medianRolls() {
+    double total = 0;
+    for (int i = 0; i < lengthDistribution.length; i++) {
+      total += lengthDistribution[i];
+      if (total >= 0.5) {
+        return i;
+      }
+    }
+    return lengthDistribution.length;
+  }
+
+  @Override
+  public String toString() {
+    return "MarkovAnalysis[expectedRolls=%.4f, expectedTurns=%.4f, medianRolls=%d, tail=%.3g]"
+        .formatted(expectedRolls, expectedTurns, medianRolls(), tailProbability);
+  }
+}
@@ -0,0 +1,70 @@
+package edu.games.engine.simulation;
+
+import java.util.Arrays;
+
+/**
+ * Aggregated outcome of a batch of headless Snakes and Ladders games.
+ * <p>
+ * Game length is measured in dice rolls, so extra turns count as separate rolls.
+ *
+ * @param gamesPlayed      the number of games that were started
+ * @param unfinishedGames  games that hit the roll cap without a winner
+ * @param lengthHistogram  number of finished games per game length; index is the roll count
+ * @param winsBySeat       number of wins per seat; index is the seat in turn order
+ * @param snakes           total number of snake slides across all games
+ * @param ladders          total number of ladder climbs across all games
+ * @param bumps            total number of opponents sent back to start across all games
+ */
+public record SimulationResult(
+    long gamesPlayed,
+    long unfinishedGames,
+    long[] lengthHistogram,
+    long[] winsBySeat,
+    long snakes,
+    long ladders,
+    long bumps) {
+
+  /**
+   * Returns the number of games that produced a winner.
+   *
+   * @return the number of finished games
+   */
+  public long finishedGames() {
+    return gamesPlayed - unfinishedGames;
+  }
+
+  /**
+   * Returns the mean game length in rolls over all finished games.
+   *
+   * @return the mean length, or {@code 0} if no game finished
+   */
+  public double meanLength() {
+    long finished = finishedGames();
+    if (finished == 0) {
+      return 0;
+    }
+    double total = 0;
+    for (int rolls = 0; rolls < lengthHistogram.length; rolls++) {
+      total += (double) rolls * lengthHistogram[rolls];
+    }
+    return total / finished;
+  }
+
+  /**
+   * Returns the share of finished games won by the given seat.
+   *
+   * @param seat the seat index in turn order
+   * @return the win rate between {@code 0} and {@code 1}
+   */
+  public double winRate(int seat) {
+    long finished = finishedGames();
+    return finished == 0 ? 0 : (double) winsBySeat[seat] / finished;
+  }
+
+  @Override
+  public String toString() {
+    return "SimulationResult[games=%d, unfinished=%d, meanLength=%.2f, winsBySeat=%s, snakes=%d, ladders=%d, bumps=%d]"
+        .formatted(gamesPlayed, unfinishedGames, meanLength(), Arrays.toString(winsBySeat),
+            snakes, ladders, bumps);
+  }
+}
@@ -0,0 +1,428 @@
+package edu.games.engine.simulation;
+
+import edu.games.engine.dice.PackedRoll;
+import edu.games.engine.exception.ValidationException;
+import edu.games.engine.rule.JumpTable;
+import edu.games.engine.rule.RuleEngine;
+import edu.games.engine.rule.SnlRuleEngine;
+import edu.ntnu.idatt2003.persistence.BoardAdapter;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Exact analysis of a single token's path through a Snakes and Ladders board.
+ * <p>
+ * The board is turned into a sparse absorbing Markov chain over tile IDs, with one
+ * transition per dice roll: two dice are rolled, a 12 leaves the token in place, any
+ * other sum moves it forward (stopping at the last tile) and the landing tile is resolved
+ * through the {@link JumpTable}. The last tile is absorbing. Whether a roll grants an
+ * extra turn is asked of the rule engine, which matters only for counting turns.
+ * <p>
+ * Expectations are found by solving the linear systems with Gauss-Seidel sweeps, which
+ * take a single sweep on boards without snakes. The length distribution is found by
+ * pushing the probability mass forward roll by roll. All work is on primitive arrays in
+ * compressed sparse row form, with at most twelve entries per tile.
+ */
+public final class SnlMarkovChain {
+
+  /** Default probability mass left unresolved when the length distribution stops. */
+  public static final double DEFAULT_TAIL_TOLERANCE = 1e-12;
+  /** Default upper bound on the number of rolls in the length distribution. */
+  public static final int DEFAULT_MAX_ROLLS = 1_000_000;
+
+  private static final double CONVERGENCE = 1e-13;
+  private static final int MAX_SWEEPS = 1_000_000;
+
+  private final int lastTile;
+  private final int[] rowStart;
+  private final int[] column;
+  private final double[] probability;
+  private final double[] turnEndWeight;
+  private final int[] columnStart;
+  private final int[] row;
+  private final double[] columnProbability;
+
+  /**
+   * Builds the chain for a loaded board.
+   *
+   * @param mapData the board size, snakes and ladders
+   * @return the chain for that board
+   * @throws ValidationException if the jumps are invalid or the board cannot be finished
+   */
+  public static SnlMarkovChain of(BoardAdapter.MapData mapData) {
+    Objects.requireNonNull(mapData, "Map-data cannot be null.");
+    JumpTable jumps = JumpTable.compile(mapData);
+    return new SnlMarkovChain(mapData.boardSize(), jumps, new SnlRuleEngine(jumps));
+  }
+
+  /**
+   * Builds the chain for a board with tiles from 0 to {@code boardSize}.
+   *
+   * @param boardSize the ID of the last tile
+   * @param jumps     the compiled snakes and ladders
+   * @param rules     the rule engine deciding which rolls grant an extra turn
+   * @throws ValidationException if the board is too small or cannot be finished
+   */
+  public SnlMarkovChain(int boardSize, JumpTable jumps, RuleEngine rules) {
+    if (boardSize < 2) {
+      throw new ValidationException("Invalid boardSize: cannot be less than 2");
+    }
+    Objects.requireNonNull(jumps, "JumpTable cannot be null.");
+    Objects.requireNonNull(rules, "RuleEngine cannot be null.");
+    this.lastTile = boardSize;
+
+    Outcomes outcomes = Outcomes.of(rules);
+    int[] dest = new int[outcomes.size()];
+    double[] mass = new double[outcomes.size()];
+    this.rowStart = new int[lastTile + 1];
+    int[] columns = new int[lastTile * outcomes.size()];
+    double[] probabilities = new double[columns.length];
+    this.turnEndWeight = new double[lastTile];
+
+    int entries = 0;
+    for (int tile = 0; tile < lastTile; tile++) {
+      rowStart[tile] = entries;
+      int used = 0;
+      double turnEnd = 0;
+      for (int o = 0; o < outcomes.size(); o++) {
+        int steps = outcomes.steps[o];
+        int raw = steps >= lastTile - tile ? lastTile : tile + steps;
+        int to = Math.min(jumps.resolve(raw), lastTile);
+        if (!outcomes.extraTurn[o] || to == lastTile) {
+          turnEnd += outcomes.probability[o];
+        }
+        int slot = 0;
+        while (slot < used && dest[slot] != to) {
+          slot++;
+        }
+        if (slot == used) {
+          dest[used] = to;
+          mass[used++] = 0;
+        }
+        mass[slot] += outcomes.probability[o];
+      }
+      for (int i = 0; i < used; i++) {
+        columns[entries] = dest[i];
+        probabilities[entries++] = mass[i];
+      }
+      turnEndWeight[tile] = turnEnd;
+    }
+    rowStart[lastTile] = entries;
+    this.column = Arrays.copyOf(columns, entries);
+    this.probability = Arrays.copyOf(probabilities, entries);
+
+    this.columnStart = new int[lastTile + 2];
+    this.row = new int[entries];
+    this.columnProbability = new double[entries];
+    transpose();
+    requireFinishable();
+  }
+
+  /**
+   * Returns the ID of the last, absorbing tile.
+   *
+   * @return the last tile ID
+   */
+  public int lastTile() {
+    return lastTile;
+  }
+
+  /**
+   * Returns the transition probability from one tile to another in a single roll.
+   *
+   * @param from the tile before the roll
+   * @param to   the tile after the roll and any snake or ladder
+   * @return the probability, {@code 1} for staying on the last tile
+   */
+  public double transition(int from, int to) {
+    if (from == lastTile) {
+      return to == lastTile ? 1 : 0;
+    }
+    for (int i = rowStart[from]; i < rowStart[from + 1]; i++) {
+      if (column[i] == to) {
+        return probability[i];
+      }
+    }
+    return 0;
+  }
+
+  /**
+   * Solves for the expected number of rolls to finish from every tile.
+   *
+   * @return expected rolls indexed by tile ID, {@code 0} on the last tile
+   */
+  public double[] expectedRollsFrom() {
+    double[] ones = new double[lastTile];
+    Arrays.fill(ones, 1);
+    return solveFromEachTile(ones);
+  }
+
+  /**
+   * Solves for the expected number of turns to finish from every tile, where a turn
+   * ends on any roll that does not grant an extra turn or that wins the game.
+   *
+   * @return expected turns indexed by tile ID, {@code 0} on the last tile
+   */
+  public double[] expectedTurnsFrom() {
+    return solveFromEachTile(turnEndWeight);
+  }
+
+  /**
+   * Solves for the expected number of times the token lands on each tile in a game
+   * started on tile 0, counting landings after snakes and ladders.
+   * Tiles that cannot be landed on twice report the probability of ever landing there.
+   *
+   * @return expected landings indexed by tile ID, {@code 1} on the last tile
+   */
+  public double[] expectedVisits() {
+    double[] visits = new double[lastTile + 1];
+    double[] direct = new double[lastTile];
+    for (int i = rowStart[0]; i < rowStart[1]; i++) {
+      if (column[i] < lastTile) {
+        direct[column[i]] = probability[i];
+      }
+    }
+    for (int sweep = 0; sweep < MAX_SWEEPS; sweep++) {
+      double change = 0;
+      for (int tile = 0; tile < lastTile; tile++) {
+        double sum = direct[tile];
+        double self = 0;
+        for (int i = columnStart[tile]; i < columnStart[tile + 1]; i++) {
+          if (row[i] == tile) {
+            self = columnProbability[i];
+          } else {
+            sum += visits[row[i]] * columnProbability[i];
+          }
+        }
+        double updated = sum / (1 - self);
+        change = Math.max(change, Math.abs(updated - visits[tile]));
+        visits[tile] = updated;
+      }
+      if (change <= CONVERGENCE * Math.max(1, maxAbs(visits))) {
+        visits[lastTile] = 1;
+        return visits;
+      }
+    }
+    throw new ValidationException("Visit frequencies did not converge");
+  }
+
+  /**
+   * Computes the distribution of game length in rolls for a game started on tile 0.
+   *
+   * @param tailTolerance stop once less than this probability mass is still in play
+   * @param maxRolls      stop after this many rolls at the latest
+   * @return the length distribution
+   * @throws ValidationException if the tolerance or roll cap is not positive
+   */
+  public LengthDistribution lengthDistribution(double tailTolerance, int maxRolls) {
+    if (!(tailTolerance > 0)) {
+      throw new ValidationException("Invalid tailTolerance: must be greater than 0");
+    }
+    if (maxRolls < 1) {
+      throw new ValidationException("Invalid maxRolls: must be greater than 0");
+    }
+    double[] current = new double[lastTile];
+    double[] next = new double[lastTile];
+    current[0] = 1;
+    double inPlay = 1;
+    double[] finishedAt = new double[64];
+    int rolls = 0;
+    while (inPlay > tailTolerance && rolls < maxRolls) {
+      rolls++;
+      Arrays.fill(next, 0);
+      double finished = 0;
+      for (int tile = 0; tile < lastTile; tile++) {
+        double m = current[tile];
+        if (m == 0) {
+          continue;
+        }
+        for (int i = rowStart[tile]; i < rowStart[tile + 1]; i++) {
+          int to = column[i];
+          if (to == lastTile) {
+            finished += m * probability[i];
+          } else {
+            next[to] += m * probability[i];
+          }
+        }
+      }
+      if (rolls >= finishedAt.length) {
+        finishedAt = Arrays.copyOf(finishedAt, finishedAt.length * 2);
+      }
+      finishedAt[rolls] = finished;
+      inPlay -= finished;
+      double[] swap = current;
+      current = next;
+      next = swap;
+    }
+    return new LengthDistribution(Arrays.copyOf(finishedAt, rolls + 1), Math.max(0, inPlay));
+  }
+
+  /**
+   * Runs every analysis for a game started on tile 0 with the default tolerances.
+   *
+   * @return the combined analysis
+   */
+  public MarkovAnalysis analyze() {
+    LengthDistribution length = lengthDistribution(DEFAULT_TAIL_TOLERANCE, DEFAULT_MAX_ROLLS);
+    return new MarkovAnalysis(
+        expectedRollsFrom()[0],
+        expectedTurnsFrom()[0],
+        length.probabilities(),
+        length.tailProbability(),
+        expectedVisits());
+  }
+
+  /**
+   * Solves {@code x(t) = w(t) + sum_u Q(t,u) x(u)} with {@code x = 0} on the last tile,
+   * sweeping from the end of the board towards the start.
+   */
+  private double[] solveFromEachTile(double[] weight) {
+    double[] x = new double[lastTile + 1];
+    for (int sweep = 0; sweep < MAX_SWEEPS; sweep++) {
+      double change = 0;
+      for (int tile = lastTile - 1; tile >= 0; tile--) {
+        double sum = weight[tile];
+        double self = 0;
+        for (int i = rowStart[tile]; i < rowStart[tile + 1]; i++) {
+          if (column[i] == tile) {
+            self = probability[i];
+          } else {
+            sum += probability[i] * x[column[i]];
+          }
+        }
+        double updated = sum / (1 - self);
+        change = Math.max(change, Math.abs(updated - x[tile]));
+        x[tile] = updated;
+      }
+      if (change <= CONVERGENCE * Math.max(1, maxAbs(x))) {
+        return x;
+      }
+    }
+    throw new ValidationException("Expected length did not converge");
+  }
+
+  private void transpose() {
+    for (int c : column) {
+      columnStart[c + 1]++;
+    }
+    for (int c = 0; c <= lastTile; c++) {
+      columnStart[c + 1] += columnStart[c];
+    }
+    int[] fill = Arrays.copyOf(columnStart, lastTile + 1);
+    for (int r = 0; r < lastTile; r++) {
+      for (int i = rowStart[r]; i < rowStart[r + 1]; i++) {
+        int slot = fill[column[i]]++;
+        row[slot] = r;
+        columnProbability[slot] = probability[i];
+      }
+    }
+  }
+
+  /**
+   * Rejects boards where a tile reachable from the start can never reach the last tile,
+   * since the expected length would be infinite.
+   */
+  private void requireFinishable() {
+    boolean[] canFinish = new boolean[lastTile + 1];
+    int[] stack = new int[lastTile + 1];
+    int top = 0;
+    canFinish[lastTile] = true;
+    stack[top++] = lastTile;
+    while (top > 0) {
+      int tile = stack[--top];
+      for (int i = columnStart[tile]; i < columnStart[tile + 1]; i++) {
+        if (!canFinish[row[i]]) {
+          canFinish[row[i]] = true;
+          stack[top++] = row[i];
+        }
+      }
+    }
+
+    boolean[] reached = new boolean[lastTile + 1];
+    reached[0] = true;
+    stack[top++] = 0;
+    while (top > 0) {
+      int tile = stack[--top];
+      if (!canFinish[tile]) {
+        throw new ValidationException("Tile " + tile + " can be reached but never leads to the end");
+      }
+      if (tile == lastTile) {
+        continue;
+      }
+      for (int i = rowStart[tile]; i < rowStart[tile + 1]; i++) {
+        if (!reached[column[i]]) {
+          reached[column[i]] = true;
+          stack[top++] = column[i];
+        }
+      }
+    }
+  }
+
+  private static double maxAbs(double[] values) {
+    double max = 0;
+    for (double v : values) {
+      max = Math.max(max, Math.abs(v));
+    }
+    return max;
+  }
+
+  /**
+   * The distinct outcomes of rolling two dice: steps moved, probability and whether
+   * the roll grants an extra turn.
+   */
+  private static final class Outcomes {
+    private final int[] steps;
+    private final double[] probability;
+    private final boolean[] extraTurn;
+
+    private Outcomes(int[] steps, double[] probability, boolean[] extraTurn) {
+      this.steps = steps;
+      this.probability = probability;
+      this.extraTurn = extraTurn;
+    }
+
+    /** Groups the 36 ordered rolls by sum and extra-turn outcome. */
+    static Outcomes of(RuleEngine rules) {
+      double[] mass = new double[2 * 13];
+      int[] dice = new int[2];
+      for (int a = 1; a <= 6; a++) {
+        for (int b = 1; b <= 6; b++) {
+          dice[0] = a;
+          dice[1] = b;
+          boolean extra = rules.grantsExtraTurn(null, PackedRoll.pack(dice, 2), null);
+          mass[(a + b) * 2 + (extra ? 1 : 0)] += 1.0 / 36;
+        }
+      }
+      int count = 0;
+      for (double m : mass) {
+        count += m > 0 ? 1 : 0;
+      }
+      int[] steps = new int[count];
+      double[] probability = new double[count];
+      boolean[] extraTurn = new boolean[count];
+      int o = 0;
+      for (int i = 0; i < mass.length; i++) {
+        if (mass[i] > 0) {
+          int sum = i / 2;
+          steps[o] = sum == 12 ? 0 : sum;
+          probability[o] = mass[i];
+          extraTurn[o++] = (i & 1) == 1;
+        }
+      }
+      return new Outcomes(steps, probability, extraTurn);
+    }
+
+    int size() {
+      return steps.length;
+    }
+  }
+
+  /**
+   * Distribution of game length in rolls.
+   *
+   * @param probabilities   probability of finishing on each roll; index is the roll count
+   * @param tailProbability probability of a game lasting longer than the last index
+   */
+  public record LengthDistribution(double[] probabilities, double tailProbability) {
+  }
+}
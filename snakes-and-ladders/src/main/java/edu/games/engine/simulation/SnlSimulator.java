@@ -0,0 +1,323 @@
+package edu.games.engine.simulation;
+
+import edu.games.engine.board.ArrayLinearBoard;
+import edu.games.engine.dice.Dice;
+import edu.games.engine.dice.factory.DiceFactory;
+import edu.games.engine.dice.factory.SeededDiceFactory;
+import edu.games.engine.exception.ValidationException;
+import edu.games.engine.impl.DefaultGame;
+import edu.games.engine.model.Player;
+import edu.games.engine.model.Token;
+import edu.games.engine.rule.JumpTable;
+import edu.games.engine.rule.SnlRuleEngine;
+import edu.games.engine.strategy.GameStrategy;
+import edu.games.engine.strategy.SnlGameStrategy;
+import edu.ntnu.idatt2003.persistence.BoardAdapter;
+import edu.ntnu.idatt2003.persistence.BoardFactory;
+import edu.ntnu.idatt2003.utils.Log;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.logging.Logger;
+import java.util.stream.IntStream;
+
+/**
+ * Headless batch runner for Snakes and Ladders.
+ * <p>
+ * Plays complete games through {@link DefaultGame#playTurn()} without any gateway,
+ * observers or UI, spreading the games over all cores with a parallel stream.
+ * Engine logging is routed to a muted logger so the batch never reaches the
+ * console or the shared "GAME" logger.
+ * <p>
+ * Seeded runs give game {@code i} the dice stream {@code i} of a {@link SeededDiceFactory},
+ * so the result depends only on the master seed, never on the number of threads, and any
+ * single game of a batch can be replayed with {@link #replay(long, int, int)}.
+ */
+public final class SnlSimulator {
+
+  /** Default upper bound on rolls per game before it is counted as unfinished. */
+  public static final int DEFAULT_MAX_ROLLS = 10_000;
+
+  private static final Logger MUTED = Log.muted();
+  private static final LocalDate BIRTHDAY = LocalDate.of(2000, 1, 1);
+  private static final Token[] SEAT_TOKENS = Token.values();
+
+  private final ArrayLinearBoard board;
+  private final GameStrategy strategy;
+  private final int maxRolls;
+
+  /**
+   * Creates a simulator for the given board data with the default roll cap.
+   *
+   * @param mapData the board size, snakes and ladders to simulate
+   */
+  public SnlSimulator(BoardAdapter.MapData mapData) {
+    this(mapData, DEFAULT_MAX_ROLLS);
+  }
+
+  /**
+   * Creates a simulator for the given board data.
+   *
+   * @param mapData  the board size, snakes and ladders to simulate
+   * @param maxRolls the number of rolls after which a game is abandoned
+   * @throws ValidationException if the roll cap is not positive
+   */
+  public SnlSimulator(BoardAdapter.MapData mapData, int maxRolls) {
+    Objects.requireNonNull(mapData, "Map-data cannot be null.");
+    if (maxRolls < 1) {
+      throw new ValidationException("Invalid maxRolls: must be greater than 0");
+    }
+    this.board = new ArrayLinearBoard(mapData.boardSize());
+    this.strategy = new SnlGameStrategy(
+        new SnlRuleEngine(JumpTable.compile(mapData), MUTED),
+        mapData.snakes(),
+        mapData.ladders());
+    this.maxRolls = maxRolls;
+  }
+
+  /**
+   * Creates a simulator for a board JSON resource on the classpath.
+   *
+   * @param resourcePath the classpath location of the board JSON
+   * @return a simulator for that board
+   */
+  public static SnlSimulator fromClasspath(String resourcePath) {
+    return new SnlSimulator(BoardFactory.loadFromClasspath(resourcePath));
+  }
+
+  /**
+   * Plays the given number of games in parallel and aggregates the outcome.
+   *
+   * @param games the number of games to play
+   * @param seats the number of players per game
+   * @return the aggregated result of all games
+   * @throws ValidationException if the number of games or seats is invalid
+   */
+  public SimulationResult run(int games, int seats) {
+    return run(games, seats, ThreadLocalRandom.current().nextLong());
+  }
+
+  /**
+   * Plays the given number of games in parallel from a master seed.
+   * The same seed always gives the same result, whatever the thread count.
+   *
+   * @param games      the number of games to play
+   * @param seats      the number of players per game
+   * @param masterSeed the seed every game's dice stream is derived from
+   * @return the aggregated result of all games
+   * @throws ValidationException if the number of games or seats is invalid
+   */
+  public SimulationResult run(int games, int seats, long masterSeed) {
+    if (games < 0) {
+      throw new ValidationException("Invalid games: cannot be negative");
+    }
+    validateSeats(seats);
+    DiceFactory dice = new SeededDiceFactory(masterSeed);
+    return IntStream.range(0, games)
+        .parallel()
+        .collect(
+            () -> new Tally(seats, maxRolls),
+            (tally, i) -> playGame(tally, seats, dice.create(i)),
+            Tally::merge)
+        .toResult();
+  }
+
+  /**
+   * Replays a single game of a seeded batch, for example to inspect an outlier.
+   *
+   * @param masterSeed the master seed of the batch
+   * @param gameIndex  the index of the game within the batch
+   * @param seats      the number of players per game
+   * @return the result of that one game
+   * @throws ValidationException if the game index or seat count is invalid
+   */
+  public SimulationResult replay(long masterSeed, int gameIndex, int seats) {
+    if (gameIndex < 0) {
+      throw new ValidationException("Invalid gameIndex: cannot be negative");
+    }
+    validateSeats(seats);
+    Tally tally = new Tally(seats, maxRolls);
+    playGame(tally, seats, new SeededDiceFactory(masterSeed).create(gameIndex));
+    return tally.toResult();
+  }
+
+  /**
+   * Plays games on from a position in the middle of a game, one after another on the
+   * calling thread. Used for win-probability rollouts, where the caller decides how the
+   * work is spread over threads. Stops early, with only the games finished so far
+   * counted, if the calling thread is interrupted.
+   *
+   * @param positions  the tile ID of every seat, in turn order
+   * @param seatToMove the seat whose turn it is
+   * @param games      the number of games to play
+   * @param seed       the seed the dice streams of these games are derived from
+   * @return the aggregated result of the games that were played
+   * @throws ValidationException if the position, seat to move or number of games is invalid
+   */
+  public SimulationResult rollouts(int[] positions, int seatToMove, int games, long seed) {
+    validatePosition(positions, seatToMove);
+    if (games < 0) {
+      throw new ValidationException("Invalid games: cannot be negative");
+    }
+    DiceFactory dice = new SeededDiceFactory(seed);
+    Tally tally = new Tally(positions.length, maxRolls);
+    for (int i = 0; i < games && !Thread.currentThread().isInterrupted(); i++) {
+      playGame(tally, positions, seatToMove, dice.create(i));
+    }
+    return tally.toResult();
+  }
+
+  /**
+   * Returns the ID of the last tile of the simulated board.
+   *
+   * @return the goal tile ID
+   */
+  public int lastTileId() {
+    return board.lastTileId();
+  }
+
+  /**
+   * Checks that a mid-game position can be played on this simulator's board.
+   *
+   * @throws ValidationException if the seat count, a tile ID or the seat to move is invalid
+   */
+  void validatePosition(int[] positions, int seatToMove) {
+    Objects.requireNonNull(positions, "Positions cannot be null.");
+    validateSeats(positions.length);
+    if (seatToMove < 0 || seatToMove >= positions.length) {
+      throw new ValidationException("Invalid seatToMove: must be between 0 and " + (positions.length - 1));
+    }
+    for (int position : positions) {
+      if (position < 0 || position > lastTileId()) {
+        throw new ValidationException("Invalid position: " + position);
+      }
+    }
+  }
+
+  private static void validateSeats(int seats) {
+    if (seats < 1 || seats > SEAT_TOKENS.length) {
+      throw new ValidationException("Invalid seats: must be between 1 and " + SEAT_TOKENS.length);
+    }
+  }
+
+  /**
+   * Plays one game to completion and records it in the tally.
+   * Snakes, ladders and bumps are derived by comparing positions before and after each roll,
+   * so the engine itself stays untouched.
+   */
+  private void playGame(Tally tally, int seats, Dice dice) {
+    playGame(tally, new int[seats], 0, dice);
+  }
+
+  private void playGame(Tally tally, int[] start, int seatToMove, Dice dice) {
+    int seats = start.length;
+    List<Player> players = new ArrayList<>(seats);
+    for (int seat = 0; seat < seats; seat++) {
+      players.add(new Player("Seat " + (seat + 1), SEAT_TOKENS[seat], BIRTHDAY));
+    }
+    DefaultGame game = new DefaultGame(board, strategy, players, dice, MUTED);
+    strategy.initializeGame(game);
+    for (int seat = 0; seat < seats; seat++) {
+      if (start[seat] != 0) {
+        players.get(seat).moveTo(board.tile(start[seat]));
+      }
+    }
+    game.setCurrentPlayerIndex(seatToMove);
+
+    int[] before = new int[seats];
+    int rolls = 0;
+    while (game.getWinner().isEmpty() && rolls < maxRolls) {
+      Player mover = game.currentPlayer();
+      int moverSeat = 0;
+      for (int seat = 0; seat < seats; seat++) {
+        Player player = players.get(seat);
+        before[seat] = player.getCurrentTile().tileId();
+        if (player == mover) {
+          moverSeat = seat;
+        }
+      }
+
+      int rolled = game.playTurn();
+      rolls++;
+
+      int plainMove = rolled == 12 ? before[moverSeat]
+          : board.move(board.tile(before[moverSeat]), rolled).tileId();
+      tally.recordRoll(players, before, moverSeat, plainMove);
+    }
+    tally.recordGame(players, game.getWinner().orElse(null), rolls);
+  }
+
+  /**
+   * Mutable per-thread accumulator, merged pairwise by the parallel stream.
+   */
+  private static final class Tally {
+    private final long[] lengths;
+    private final long[] wins;
+    private long games;
+    private long unfinished;
+    private long snakes;
+    private long ladders;
+    private long bumps;
+
+    Tally(int seats, int maxRolls) {
+      this.lengths = new long[maxRolls + 1];
+      this.wins = new long[seats];
+    }
+
+    void recordRoll(List<Player> players, int[] before, int moverSeat, int plainMove) {
+      for (int seat = 0; seat < before.length; seat++) {
+        int after = players.get(seat).getCurrentTile().tileId();
+        if (seat == moverSeat) {
+          if (after > plainMove) {
+            ladders++;
+          } else if (after < plainMove) {
+            snakes++;
+          }
+        } else if (after != before[seat]) {
+          bumps++;
+        }
+      }
+    }
+
+    void recordGame(List<Player> players, Player winner, int rolls) {
+      games++;
+      if (winner == null) {
+        unfinished++;
+        return;
+      }
+      lengths[rolls]++;
+      for (int seat = 0; seat < wins.length; seat++) {
+        if (players.get(seat) == winner) {
+          wins[seat]++;
+        }
+      }
+    }
+
+    void merge(Tally other) {
+      for (int i = 0; i < lengths.length; i++) {
+        lengths[i] += other.lengths[i];
+      }
+      for (int i = 0; i < wins.length; i++) {
+        wins[i] += other.wins[i];
+      }
+      games += other.games;
+      unfinished += other.unfinished;
+      snakes += other.snakes;
+      ladders += other.ladders;
+      bumps += other.bumps;
+    }
+
+    SimulationResult toResult() {
+      int last = lengths.length - 1;
+      while (last > 0 && lengths[last] == 0) {
+        last--;
+      }
+      return new SimulationResult(
+          games, unfinished, Arrays.copyOf(lengths, last + 1), wins.clone(),
+          snakes, ladders, bumps);
+    }
+  }
+}
@@ -0,0 +1,79 @@
+package edu.games.engine.simulation;
+
+import java.util.Arrays;
+
+/**
+ * Estimated chance of winning for every seat of a Snakes and Ladders position.
+ * <p>
+ * Estimates are published by {@link WinOddsEstimator} while its rollouts run, so an
+ * estimate may be based on only part of the planned rollouts until {@code complete}
+ * is set. Probabilities are taken over finished rollouts only.
+ *
+ * @param generation    the position the estimate belongs to; higher is newer
+ * @param probabilities the chance of winning per seat, in turn order
+ * @param rollouts      the number of finished rollouts behind the estimate
+ * @param complete      {@code true} once no further rollouts will refine the estimate
+ */
+public record WinOdds(long generation, double[] probabilities, long rollouts, boolean complete) {
+
+  private static final WinOdds NONE = new WinOdds(0, new double[0], 0, true);
+
+  /**
+   * Returns the estimate used before any position has been submitted.
+   *
+   * @return an empty, complete estimate
+   */
+  public static WinOdds none() {
+    return NONE;
+  }
+
+  /**
+   * Creates the estimate for a position where a seat has already won.
+   *
+   * @param generation the position the estimate belongs to
+   * @param seats      the number of seats
+   * @param winner     the seat that has won
+   * @return a complete estimate giving the winner probability one
+   */
+  static WinOdds decided(long generation, int seats, int winner) {
+    double[] probabilities = new double[seats];
+    probabilities[winner] = 1.0;
+    return new WinOdds(generation, probabilities, 0, true);
+  }
+
+  /**
+   * Creates the estimate for a position whose rollouts have not reported yet.
+   *
+   * @param generation the position the estimate belongs to
+   * @param seats      the number of seats
+   * @return an incomplete estimate with every probability at zero
+   */
+  static WinOdds pending(long generation, int seats) {
+    return new WinOdds(generation, new double[seats], 0, false);
+  }
+
+  /**
+   * Returns the estimated chance of winning for a seat.
+   *
+   * @param seat the seat index in turn order
+   * @return the probability between {@code 0} and {@code 1}
+   */
+  public double probability(int seat) {
+    return probabilities[seat];
+  }
+
+  /**
+   * Returns the number of seats covered by the estimate.
+   *
+   * @return the seat count
+   */
+  public int seats() {
+    return probabilities.length;
+  }
+
+  @Override
+  public String toString() {
+    return "WinOdds[generation=%d, probabilities=%s, rollouts=%d, complete=%b]"
+        .formatted(generation, Arrays.toString(probabilities), rollouts, complete);
+  }
+}
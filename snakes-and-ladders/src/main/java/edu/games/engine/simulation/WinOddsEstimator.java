@@ -0,0 +1,244 @@
+package edu.games.engine.simulation;
+
+import edu.games.engine.exception.ValidationException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Background Monte Carlo estimator of who is going to win a Snakes and Ladders game.
+ * <p>
+ * Every {@link #submit} starts a new generation: the rollouts of the previous position
+ * are cancelled, and the new position is played out in batches on a small pool of daemon
+ * threads. The running estimate is refined and republished after every batch, so
+ * {@link #latest()} never blocks and always returns the newest estimate there is.
+ * Batches that finish after a newer position has been submitted are dropped.
+ * <p>
+ * Rollouts only ever see a copy of the positions, never the live game.
+ * <p>
+ * Estimators made with the no-argument constructor run on one pool shared by all of
+ * them, started on first use, whose threads exit when idle; they need not be closed.
+ * An estimator made with an explicit thread count owns its pool and must be closed.
+ */
+public final class WinOddsEstimator implements AutoCloseable {
+
+  /** Default number of rollouts per position. */
+  public static final int DEFAULT_ROLLOUTS = 4_000;
+  /** Default number of rollouts per batch. */
+  public static final int DEFAULT_BATCH_SIZE = 250;
+
+  private static final AtomicInteger POOL_COUNT = new AtomicInteger();
+
+  private final ThreadPoolExecutor workers;
+  private final boolean ownsWorkers;
+  private final int rollouts;
+  private final int batchSize;
+  private final AtomicLong generation = new AtomicLong();
+  private final AtomicReference<WinOdds> latest = new AtomicReference<>(WinOdds.none());
+  private final List<Future<?>> pending = new ArrayList<>();
+
+  /**
+   * Creates an estimator with the default rollout budget on the shared pool, which uses
+   * all but one core.
+   */
+  public WinOddsEstimator() {
+    this(DEFAULT_ROLLOUTS, DEFAULT_BATCH_SIZE, SharedWorkers.POOL, false);
+  }
+
+  /**
+   * Creates an estimator.
+   *
+   * @param rollouts  the number of rollouts played per position
+   * @param batchSize the number of rollouts between two published estimates
+   * @param threads   the maximum number of threads running rollouts at once
+   * @throws ValidationException if any argument is not positive
+   */
+  public WinOddsEstimator(int rollouts, int batchSize, int threads) {
+    this(rollouts, batchSize, newPool(checkSettings(rollouts, batchSize, threads)), true);
+  }
+
+  private WinOddsEstimator(
+      int rollouts, int batchSize, ThreadPoolExecutor workers, boolean ownsWorkers) {
+    this.rollouts = rollouts;
+    this.batchSize = batchSize;
+    this.workers = workers;
+    this.ownsWorkers = ownsWorkers;
+  }
+
+  private static int checkSettings(int rollouts, int batchSize, int threads) {
+    if (rollouts < 1 || batchSize < 1 || threads < 1) {
+      throw new ValidationException("Invalid estimator: rollouts, batchSize and threads must be positive");
+    }
+    return threads;
+  }
+
+  private static ThreadPoolExecutor newPool(int threads) {
+    ThreadPoolExecutor pool = new ThreadPoolExecutor(
+        threads, threads, 30, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), daemonThreads());
+    pool.allowCoreThreadTimeOut(true);
+    return pool;
+  }
+
+  /**
+   * Starts estimating a new position, cancelling the work for any earlier one.
+   * Returns at once; the estimate is published through {@link #latest()}.
+   * A position where a seat is already on the last tile is decided without rollouts.
+   *
+   * @param simulator  the simulator for the board being played
+   * @param positions  the tile ID of every seat, in turn order
+   * @param seatToMove the seat whose turn it is
+   * @return the generation of the submitted position
+   * @throws ValidationException if the position is not valid for the simulator
+   */
+  public synchronized long submit(SnlSimulator simulator, int[] positions, int seatToMove) {
+    Objects.requireNonNull(simulator, "Simulator cannot be null.");
+    Objects.requireNonNull(positions, "Positions cannot be null.");
+    int[] snapshot = positions.clone();
+    simulator.validatePosition(snapshot, seatToMove);
+
+    long current = generation.incrementAndGet();
+    cancelPending();
+    int winner = seatOn(snapshot, simulator.lastTileId());
+    if (winner >= 0) {
+      latest.set(WinOdds.decided(current, snapshot.length, winner));
+      return current;
+    }
+    latest.set(WinOdds.pending(current, snapshot.length));
+
+    Round round = new Round(current, snapshot.length, (rollouts + batchSize - 1) / batchSize);
+    for (int start = 0; start < rollouts; start += batchSize) {
+      int games = Math.min(batchSize, rollouts - start);
+      long seed = ThreadLocalRandom.current().nextLong();
+      pending.add(workers.submit(() -> {
+        if (generation.get() == current) {
+          round.add(simulator.rollouts(snapshot, seatToMove, games, seed));
+        }
+      }));
+    }
+    return current;
+  }
+
+  /**
+   * Cancels any running rollouts and clears the published estimate.
+   */
+  public synchronized void clear() {
+    generation.incrementAndGet();
+    cancelPending();
+    latest.set(WinOdds.none());
+  }
+
+  /**
+   * Returns the newest published estimate without waiting for running rollouts.
+   *
+   * @return the latest estimate, or {@link WinOdds#none()} if nothing was submitted
+   */
+  public WinOdds latest() {
+    return latest.get();
+  }
+
+  /**
+   * Stops all rollouts, and the worker threads if this estimator owns them.
+   * The shared pool is left running for the other estimators.
+   */
+  @Override
+  public synchronized void close() {
+    generation.incrementAndGet();
+    if (ownsWorkers) {
+      workers.shutdownNow();
+    } else {
+      cancelPending();
+    }
+  }
+
+  private void cancelPending() {
+    pending.forEach(f -> f.cancel(true));
+    pending.clear();
+    workers.purge();
+  }
+
+  private static int seatOn(int[] positions, int tileId) {
+    for (int seat = 0; seat < positions.length; seat++) {
+      if (positions[seat] == tileId) {
+        return seat;
+      }
+    }
+    return -1;
+  }
+
+  private static ThreadFactory daemonThreads() {
+    int pool = POOL_COUNT.incrementAndGet();
+    AtomicInteger count = new AtomicInteger();
+    return task -> {
+      Thread thread = new Thread(task, "win-odds-" + pool + "-" + count.incrementAndGet());
+      thread.setDaemon(true);
+      thread.setPriority(Thread.MIN_PRIORITY);
+      return thread;
+    };
+  }
+
+  /** Holds the pool of the default estimators, so it is only started when first needed. */
+  private static final class SharedWorkers {
+    static final ThreadPoolExecutor POOL =
+        newPool(Math.max(1, Runtime.getRuntime().availableProcessors() - 1));
+  }
+
+  /**
+   * Lock-free running totals for the rollouts of one generation.
+   */
+  private final class Round {
+    private final long id;
+    private final AtomicLongArray wins;
+    private final AtomicLong finished = new AtomicLong();
+    private final AtomicInteger batchesLeft;
+
+    Round(long id, int seats, int batches) {
+      this.id = id;
+      this.wins = new AtomicLongArray(seats);
+      this.batchesLeft = new AtomicInteger(batches);
+    }
+
+    void add(SimulationResult result) {
+      if (Thread.currentThread().isInterrupted() || generation.get() != id) {
+        return;
+      }
+      for (int seat = 0; seat < wins.length(); seat++) {
+        wins.addAndGet(seat, result.winsBySeat()[seat]);
+      }
+      finished.addAndGet(result.finishedGames());
+      boolean complete = batchesLeft.decrementAndGet() == 0;
+      publish(snapshot(complete));
+    }
+
+    private WinOdds snapshot(boolean complete) {
+      long total = finished.get();
+      double[] probabilities = new double[wins.length()];
+      for (int seat = 0; seat < probabilities.length && total > 0; seat++) {
+        probabilities[seat] = (double) wins.get(seat) / total;
+      }
+      return new WinOdds(id, probabilities, total, complete);
+    }
+
+    /**
+     * Replaces the published estimate unless a newer generation, or a later
+     * estimate of this one, got there first.
+     */
+    private void publish(WinOdds candidate) {
+      latest.updateAndGet(prev -> prev.generation() > id
+          || (prev.generation() == id && !supersedes(candidate, prev)) ? prev : candidate);
+    }
+
+    private boolean supersedes(WinOdds candidate, WinOdds prev) {
+      return candidate.complete() || (!prev.complete() && candidate.rollouts() > prev.rollouts());
+    }
+  }
+}
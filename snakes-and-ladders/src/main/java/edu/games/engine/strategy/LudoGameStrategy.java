@@ -2,6 +2,9 @@ package edu.games.engine.strategy;
 
 import edu.games.engine.board.LudoBoard;
 import edu.games.engine.board.Tile;
+import edu.games.engine.dice.Dice;
+import edu.games.engine.dice.PackedRoll;
+import edu.games.engine.dice.PrimitiveDice;
 import edu.games.engine.exception.ValidationException;
 import edu.games.engine.impl.DefaultGame;
 import edu.games.engine.model.LudoColor;
@@ -48,7 +51,11 @@ public class LudoGameStrategy implements GameStrategy {
    */
   @Override
   public boolean processDiceRoll(Player player, int diceValue, DefaultGame game) {
-    return ruleEngine.grantsExtraTurn(player, game.getDice().lastValues(), game);
+    Dice dice = game.getDice();
+    if (dice instanceof PrimitiveDice primitive && primitive.getDiceCount() <= PackedRoll.MAX_DICE) {
+      return ruleEngine.grantsExtraTurn(player, primitive.lastPacked(), game);
+    }
+    return ruleEngine.grantsExtraTurn(player, dice.lastValues(), game);
   }
 
   /**
@@ -107,4 +114,42 @@ public class LudoGameStrategy implements GameStrategy {
       Player player, PlayerPiece piece, Tile destinationTile, DefaultGame game) {
     ruleEngine.applyPostLandingEffects(player, piece, destinationTile, game);
   }
+
+  /**
+   * Plays a chosen piece as one Ludo turn: moves it to the destination from
+   * {@link #movePiece}, applies the special rules, checks for a win and passes the turn
+   * unless the roll grants another one. A piece that cannot move, or would stay where it
+   * is, passes the turn at once.
+   * <p>
+   * The Ludo gateway and headless matches both move pieces through this method, so
+   * their turns cannot drift apart.
+   *
+   * @param player     the player taking the turn, who must be the current player
+   * @param pieceIndex the index of the piece to move
+   * @param diceValue  the dice roll value
+   * @param game       the game context
+   * @return the outcome of the move
+   */
+  public MoveResult playMove(Player player, int pieceIndex, int diceValue, DefaultGame game) {
+    PlayerPiece piece = player.getPiece(pieceIndex);
+    Tile from = piece.getCurrentTile();
+    Tile to = movePiece(player, pieceIndex, diceValue, game);
+    if (to == null || (from != null && to.tileId() == from.tileId())) {
+      passTurn(player, game);
+      return new MoveResult(from, to, false, false, false);
+    }
+    piece.moveTo(to);
+    applySpecialRules(player, piece, to, game);
+    boolean won = checkWinCondition(player, game);
+    boolean extraTurn = processDiceRoll(player, diceValue, game);
+    if (!extraTurn) {
+      passTurn(player, game);
+    }
+    return new MoveResult(from, to, true, won, extraTurn);
+  }
+
+  private static void passTurn(Player player, DefaultGame game) {
+    int players = game.getPlayers().size();
+    game.setCurrentPlayerIndex((game.getPlayers().indexOf(player) + 1) % players);
+  }
 }
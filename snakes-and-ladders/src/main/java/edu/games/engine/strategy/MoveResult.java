@@ -0,0 +1,15 @@
+package edu.games.engine.strategy;
+
+import edu.games.engine.board.Tile;
+
+/**
+ * The outcome of moving a chosen piece with {@link LudoGameStrategy#playMove}.
+ *
+ * @param from      the tile the piece stood on, or {@code null} if it was off the board
+ * @param to        the tile the piece moved to, or {@code null} if it could not move
+ * @param moved     whether the piece changed tiles
+ * @param won       whether the move won the game
+ * @param extraTurn whether the player keeps the turn
+ */
+public record MoveResult(Tile from, Tile to, boolean moved, boolean won, boolean extraTurn) {
+}
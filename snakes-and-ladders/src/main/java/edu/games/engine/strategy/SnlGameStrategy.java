@@ -1,6 +1,9 @@
 package edu.games.engine.strategy;
 
 import edu.games.engine.board.Tile;
+import edu.games.engine.dice.Dice;
+import edu.games.engine.dice.PackedRoll;
+import edu.games.engine.dice.PrimitiveDice;
 import edu.games.engine.impl.DefaultGame;
 import edu.games.engine.model.Player;
 import edu.games.engine.model.PlayerPiece;
@@ -59,7 +62,11 @@ public class SnlGameStrategy implements GameStrategy {
    */
   @Override
   public boolean processDiceRoll(Player player, int diceValue, DefaultGame game) {
-    return ruleEngine.grantsExtraTurn(player, game.getDice().lastValues(), game);
+    Dice dice = game.getDice();
+    if (dice instanceof PrimitiveDice primitive && primitive.getDiceCount() <= PackedRoll.MAX_DICE) {
+      return ruleEngine.grantsExtraTurn(player, primitive.lastPacked(), game);
+    }
+    return ruleEngine.grantsExtraTurn(player, dice.lastValues(), game);
   }
 
   /**
@@ -1,6 +1,8 @@
 package edu.games.engine.strategy.factory;
 
 import edu.games.engine.board.LudoPath;
+import edu.games.engine.exception.ValidationException;
+import edu.games.engine.rule.JumpTable;
 import edu.games.engine.rule.LudoRuleEngine;
 import edu.games.engine.rule.RuleEngine;
 import edu.games.engine.rule.SnlRuleEngine;
@@ -8,6 +10,8 @@ import edu.games.engine.strategy.GameStrategy;
 import edu.games.engine.strategy.LudoGameStrategy;
 import edu.games.engine.strategy.SnlGameStrategy;
 import edu.ntnu.idatt2003.persistence.BoardAdapter;
+import edu.ntnu.idatt2003.utils.Log;
+import java.util.logging.Logger;
 
 /**
  * Factory class for creating game strategies for different board game types.
@@ -26,25 +30,52 @@ public class GameStrategyFactory {
    * @param ludoPath the LudoPath used to construct movement and rule logic
    * @return a GameStrategy implementation for Ludo
    */
-  public static GameStrategy createLudoStrategy(LudoPath ludoPath) {
+  public static LudoGameStrategy createLudoStrategy(LudoPath ludoPath) {
+    return createLudoStrategy(ludoPath, Log.game());
+  }
+
+  /**
+   * Creates a Ludo game strategy that reports bumps to the given logger,
+   * for example a muted one for batch play.
+   *
+   * @param ludoPath the LudoPath used to construct movement and rule logic
+   * @param log      the logger used for in-game messages
+   * @return a GameStrategy implementation for Ludo
+   */
+  public static LudoGameStrategy createLudoStrategy(LudoPath ludoPath, Logger log) {
     if (ludoPath == null) {
       throw new NullPointerException("LudoPath cannot be null.");
     }
-    RuleEngine ludoRuleEngine = new LudoRuleEngine(ludoPath);
+    RuleEngine ludoRuleEngine = new LudoRuleEngine(ludoPath, log);
     return new LudoGameStrategy(ludoRuleEngine);
   }
 
   /**
    * Creates a Snakes and Ladders game strategy based on parsed map data.
+   * Snakes and ladders are compiled into a {@link JumpTable} up front.
    *
    * @param mapData the board data including snakes and ladders positions
    * @return a GameStrategy implementation for Snakes and Ladders
+   * @throws ValidationException if the jumps use negative tiles or form a cycle
    */
   public static GameStrategy createSnlStrategy(BoardAdapter.MapData mapData) {
+    return createSnlStrategy(mapData, Log.game());
+  }
+
+  /**
+   * Creates a Snakes and Ladders game strategy that reports snakes, ladders and bumps
+   * to the given logger.
+   *
+   * @param mapData the board data including snakes and ladders positions
+   * @param log     the logger used for in-game messages
+   * @return a GameStrategy implementation for Snakes and Ladders
+   * @throws ValidationException if the jumps use negative tiles or form a cycle
+   */
+  public static GameStrategy createSnlStrategy(BoardAdapter.MapData mapData, Logger log) {
     if (mapData == null) {
       throw new NullPointerException("Map-data cannot be null.");
     }
-    RuleEngine snlRuleEngine = new SnlRuleEngine(mapData.snakes(), mapData.ladders());
+    RuleEngine snlRuleEngine = new SnlRuleEngine(JumpTable.compile(mapData), log);
     return new SnlGameStrategy(snlRuleEngine, mapData.snakes(), mapData.ladders());
   }
 }
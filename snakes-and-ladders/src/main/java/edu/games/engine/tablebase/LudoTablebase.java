@@ -0,0 +1,210 @@
+package edu.games.engine.tablebase;
+
+import edu.games.engine.board.LudoPath;
+import edu.games.engine.exception.StorageException;
+import edu.games.engine.exception.ValidationException;
+import edu.games.engine.model.LudoColor;
+import edu.games.engine.model.LudoState;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Read-only view of a Ludo endgame tablebase written by {@link LudoTablebaseGenerator}.
+ * <p>
+ * The file is memory-mapped, so lookups read straight from the page cache and the
+ * table never lives on the heap. A lookup ranks the unfinished pieces of each seat
+ * and reads one 16-bit entry, whatever the size of the table.
+ * <p>
+ * The file starts with a 16-byte header: the magic number, the format version, the
+ * largest number of unfinished pieces per color, the two seat colors and the number
+ * of entries. Each entry is the probability that the side to move wins with perfect
+ * play from both sides, stored as an unsigned fraction of {@value #SCALE}. Entries are
+ * ordered by side to move, then the pieces of seat 0, then the pieces of seat 1.
+ * A color's pieces are ranked as a sorted multiset of route indices plus one, with
+ * finished pieces left out.
+ */
+public final class LudoTablebase {
+
+  /** The largest number of unfinished pieces per color a tablebase can hold. */
+  public static final int MAX_PIECES = 2;
+
+  static final int MAGIC = 0x4C445442;
+  static final int VERSION = 1;
+  static final int HEADER_BYTES = 16;
+  static final int SCALE = 0xFFFF;
+  /** Number of places an unfinished piece can be: home plus every route index but the last. */
+  static final int PLACES = LudoPath.FINAL_ROUTE_INDEX + 1;
+
+  private final ByteBuffer entries;
+  private final List<LudoColor> seats;
+  private final int maxPieces;
+  private final int colorStates;
+
+  private LudoTablebase(ByteBuffer entries, List<LudoColor> seats, int maxPieces) {
+    this.entries = entries;
+    this.seats = seats;
+    this.maxPieces = maxPieces;
+    this.colorStates = colorStates(maxPieces);
+  }
+
+  /**
+   * Memory-maps a tablebase file.
+   *
+   * @param file the file to open
+   * @return the tablebase
+   * @throws StorageException if the file cannot be read or is not a valid tablebase
+   */
+  public static LudoTablebase open(Path file) {
+    Objects.requireNonNull(file, "File cannot be null.");
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+      return fromBuffer(mapped, file);
+    } catch (IOException e) {
+      throw new StorageException("Could not open tablebase " + file, e);
+    }
+  }
+
+  private static LudoTablebase fromBuffer(ByteBuffer buffer, Path file) {
+    if (buffer.capacity() < HEADER_BYTES || buffer.getInt(0) != MAGIC || buffer.get(4) != VERSION) {
+      throw new StorageException("Not a Ludo tablebase: " + file);
+    }
+    int maxPieces = buffer.get(5);
+    int first = buffer.get(6);
+    int second = buffer.get(7);
+    int entryCount = buffer.getInt(8);
+    LudoColor[] colors = LudoColor.values();
+    if (maxPieces < 1 || maxPieces > MAX_PIECES
+        || first < 0 || first >= colors.length || second < 0 || second >= colors.length
+        || entryCount != entryCount(maxPieces)
+        || buffer.capacity() != HEADER_BYTES + 2L * entryCount) {
+      throw new StorageException("Corrupt Ludo tablebase header: " + file);
+    }
+    return new LudoTablebase(buffer, List.of(colors[first], colors[second]), maxPieces);
+  }
+
+  /**
+   * Returns the seat colors the tablebase was generated for, in turn order.
+   *
+   * @return the two seat colors
+   */
+  public List<LudoColor> seats() {
+    return seats;
+  }
+
+  /**
+   * Returns the largest number of unfinished pieces per color the tablebase covers.
+   *
+   * @return the piece limit
+   */
+  public int maxPieces() {
+    return maxPieces;
+  }
+
+  /**
+   * Returns the number of positions stored.
+   *
+   * @return the number of entries
+   */
+  public int size() {
+    return entryCount(maxPieces);
+  }
+
+  /**
+   * Checks whether a position is in the tablebase: the same two seats, no winner yet,
+   * and no more than {@link #maxPieces()} unfinished pieces per color.
+   *
+   * @param state the position to check
+   * @return true if the position can be looked up
+   */
+  public boolean covers(LudoState state) {
+    return indexOf(state) >= 0;
+  }
+
+  /**
+   * Returns the probability that the side to move wins with perfect play from both sides.
+   *
+   * @param state the position to look up
+   * @return the win probability, accurate to about {@code 1 / 65535}
+   * @throws ValidationException if the position is not covered
+   */
+  public double winProbability(LudoState state) {
+    int index = indexOf(state);
+    if (index < 0) {
+      throw new ValidationException("Position is not in the tablebase");
+    }
+    return winProbability(index);
+  }
+
+  double winProbability(int index) {
+    return entries.getChar(HEADER_BYTES + 2 * index) / (double) SCALE;
+  }
+
+  private int indexOf(LudoState state) {
+    if (state.seatCount() != 2
+        || state.seatColor(0) != seats.get(0)
+        || state.seatColor(1) != seats.get(1)) {
+      return -1;
+    }
+    int first = colorState(state, seats.get(0), maxPieces);
+    int second = colorState(state, seats.get(1), maxPieces);
+    if (first < 0 || second < 0) {
+      return -1;
+    }
+    return index(state.sideToMove(), first, second, colorStates);
+  }
+
+  /**
+   * Ranks the unfinished pieces of one color.
+   *
+   * @return the rank, or -1 if the color has finished or has too many pieces left
+   */
+  private static int colorState(LudoState state, LudoColor color, int maxPieces) {
+    int count = 0;
+    int low = 0;
+    int high = 0;
+    for (int piece = 0; piece < LudoState.PIECES; piece++) {
+      int routeIndex = state.routeIndex(color, piece);
+      if (routeIndex == LudoPath.FINAL_ROUTE_INDEX) {
+        continue;
+      }
+      if (++count > maxPieces) {
+        return -1;
+      }
+      int place = routeIndex + 1;
+      if (count == 1) {
+        low = place;
+      } else {
+        high = Math.max(low, place);
+        low = Math.min(low, place);
+      }
+    }
+    return count == 0 ? -1 : rank(count, low, high);
+  }
+
+  /**
+   * Ranks a sorted multiset of one or two places: single pieces come first,
+   * then pairs in colexicographic order.
+   */
+  static int rank(int count, int low, int high) {
+    return count == 1 ? low : PLACES + high * (high + 1) / 2 + low;
+  }
+
+  static int colorStates(int maxPieces) {
+    return maxPieces == 1 ? PLACES : PLACES + PLACES * (PLACES + 1) / 2;
+  }
+
+  static int entryCount(int maxPieces) {
+    int states = colorStates(maxPieces);
+    return 2 * states * states;
+  }
+
+  static int index(int side, int first, int second, int colorStates) {
+    return (side * colorStates + first) * colorStates + second;
+  }
+}
@@ -0,0 +1,269 @@
+package edu.games.engine.tablebase;
+
+import edu.games.engine.board.LudoPath;
+import edu.games.engine.exception.StorageException;
+import edu.games.engine.exception.ValidationException;
+import edu.games.engine.model.LudoColor;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.logging.Logger;
+import java.util.stream.IntStream;
+
+/**
+ * Solves two-seat Ludo endgames exactly and writes them as a {@link LudoTablebase} file.
+ * <p>
+ * Every position where each color has between one and {@code maxPieces} pieces left
+ * to bring home is enumerated, with moves following {@link LudoPath#advance} and
+ * bumping on shared ring tiles. Because of dice, bumps and passed turns a position can
+ * come back, so there is no single backward pass; instead the values are swept
+ * retrogradely, positions closest to the end first, updating in place until no win
+ * probability changes by more than the tolerance. Each position's value is the chance
+ * that the side to move wins when both sides pick their best piece for every roll.
+ */
+public final class LudoTablebaseGenerator {
+
+  /** Default largest change in any value at which the sweeps stop. */
+  public static final double DEFAULT_TOLERANCE = 1e-9;
+
+  private static final Logger LOG = Logger.getLogger(LudoTablebaseGenerator.class.getName());
+  private static final int FACES = 6;
+  private static final int RING = 52;
+  private static final int BLOCKED = -1;
+  private static final int WON = -2;
+  private static final int MAX_SWEEPS = 100_000;
+
+  private final List<LudoColor> seats;
+  private final int maxPieces;
+  private final int colorStates;
+  private final int[] counts;
+  private final int[] lows;
+  private final int[] highs;
+  private final int[] next;
+  private final int[] landing;
+  private final int[] sentHome;
+  private final int[][] bumped = new int[2][RING];
+
+  /**
+   * Creates a generator.
+   *
+   * @param path      the Ludo path the moves follow
+   * @param seats     the two seat colors, in turn order
+   * @param maxPieces the largest number of unfinished pieces per color, 1 or 2
+   * @throws ValidationException if there are not two distinct seats or the piece limit is invalid
+   */
+  public LudoTablebaseGenerator(LudoPath path, List<LudoColor> seats, int maxPieces) {
+    Objects.requireNonNull(path, "Path cannot be null.");
+    Objects.requireNonNull(seats, "Seats cannot be null.");
+    if (seats.size() != 2 || seats.get(0) == null || seats.get(0) == seats.get(1)) {
+      throw new ValidationException("Invalid seats: need two distinct colors");
+    }
+    if (maxPieces < 1 || maxPieces > LudoTablebase.MAX_PIECES) {
+      throw new ValidationException(
+          "Invalid maxPieces: must be between 1 and " + LudoTablebase.MAX_PIECES);
+    }
+    this.seats = List.copyOf(seats);
+    this.maxPieces = maxPieces;
+    this.colorStates = LudoTablebase.colorStates(maxPieces);
+    this.counts = new int[colorStates];
+    this.lows = new int[colorStates];
+    this.highs = new int[colorStates];
+    this.next = new int[colorStates * maxPieces * FACES];
+    this.landing = new int[next.length];
+    this.sentHome = new int[colorStates * RING];
+    enumerateColorStates();
+    buildMoves();
+    buildBumps(path);
+  }
+
+  /**
+   * Solves every position and writes the tablebase to a file, replacing any existing file.
+   *
+   * @param file the file to write
+   * @throws StorageException if the file cannot be written
+   */
+  public void generate(Path file) {
+    generate(file, DEFAULT_TOLERANCE);
+  }
+
+  /**
+   * Solves every position to the given tolerance and writes the tablebase to a file.
+   *
+   * @param file      the file to write
+   * @param tolerance the largest change in any value at which the sweeps stop
+   * @throws StorageException if the file cannot be written
+   */
+  public void generate(Path file, double tolerance) {
+    Objects.requireNonNull(file, "File cannot be null.");
+    write(file, solve(tolerance));
+  }
+
+  /**
+   * Computes the win probability of the side to move for every position,
+   * indexed as in the tablebase file.
+   */
+  double[] solve(double tolerance) {
+    if (!(tolerance > 0)) {
+      throw new ValidationException("Invalid tolerance: must be greater than 0");
+    }
+    double[] values = new double[LudoTablebase.entryCount(maxPieces)];
+    Arrays.fill(values, 0.5);
+    int[] order = IntStream.range(0, colorStates).boxed()
+        .sorted(Comparator.comparingInt(this::distanceLeft))
+        .mapToInt(Integer::intValue)
+        .toArray();
+
+    for (int sweep = 1; sweep <= MAX_SWEEPS; sweep++) {
+      double largestChange = 0;
+      for (int first : order) {
+        for (int second : order) {
+          for (int side = 0; side < 2; side++) {
+            int index = LudoTablebase.index(side, first, second, colorStates);
+            double value = value(values, side, first, second);
+            largestChange = Math.max(largestChange, Math.abs(value - values[index]));
+            values[index] = value;
+          }
+        }
+      }
+      if (largestChange < tolerance) {
+        int sweeps = sweep;
+        LOG.info(() -> "Solved " + values.length + " Ludo endgame positions in " + sweeps + " sweeps");
+        return values;
+      }
+    }
+    throw new ValidationException("Tablebase did not converge to tolerance " + tolerance);
+  }
+
+  /**
+   * Computes one position's value from the current values of its successors.
+   */
+  private double value(double[] values, int side, int first, int second) {
+    int mine = side == 0 ? first : second;
+    int theirs = side == 0 ? second : first;
+    double total = 0;
+    for (int roll = 1; roll <= FACES; roll++) {
+      double best = -1;
+      for (int slot = 0; slot < counts[mine]; slot++) {
+        if (slot == 1 && highs[mine] == lows[mine]) {
+          continue;
+        }
+        int move = (mine * maxPieces + slot) * FACES + roll - 1;
+        int moved = next[move];
+        if (moved == BLOCKED) {
+          continue;
+        }
+        double value = 1;
+        if (moved != WON) {
+          int to = landing[move];
+          int hit = to < RING ? sentHome[theirs * RING + bumped[side][to]] : theirs;
+          value = roll == 6
+              ? values[indexFor(side, side, moved, hit)]
+              : 1 - values[indexFor(1 - side, side, moved, hit)];
+        }
+        best = Math.max(best, value);
+      }
+      if (best < 0) {
+        best = 1 - values[indexFor(1 - side, side, mine, theirs)];
+      }
+      total += best;
+    }
+    return total / FACES;
+  }
+
+  private int indexFor(int toMove, int side, int mine, int theirs) {
+    return side == 0
+        ? LudoTablebase.index(toMove, mine, theirs, colorStates)
+        : LudoTablebase.index(toMove, theirs, mine, colorStates);
+  }
+
+  private int distanceLeft(int state) {
+    int distance = (LudoTablebase.PLACES - lows[state]);
+    return counts[state] == 2 ? distance + LudoTablebase.PLACES - highs[state] : distance;
+  }
+
+  private void enumerateColorStates() {
+    for (int low = 0; low < LudoTablebase.PLACES; low++) {
+      setColorState(LudoTablebase.rank(1, low, 0), 1, low, 0);
+      for (int high = low; maxPieces == 2 && high < LudoTablebase.PLACES; high++) {
+        setColorState(LudoTablebase.rank(2, low, high), 2, low, high);
+      }
+    }
+  }
+
+  private void setColorState(int state, int count, int low, int high) {
+    counts[state] = count;
+    lows[state] = low;
+    highs[state] = high;
+  }
+
+  private void buildMoves() {
+    for (int state = 0; state < colorStates; state++) {
+      for (int slot = 0; slot < counts[state]; slot++) {
+        int place = slot == 0 ? lows[state] : highs[state];
+        int other = slot == 0 ? highs[state] : lows[state];
+        for (int roll = 1; roll <= FACES; roll++) {
+          int move = (state * maxPieces + slot) * FACES + roll - 1;
+          int from = place - 1;
+          int to = LudoPath.advance(from, roll);
+          landing[move] = to;
+          if (to == from) {
+            next[move] = BLOCKED;
+          } else if (to == LudoPath.FINAL_ROUTE_INDEX) {
+            next[move] = counts[state] == 1 ? WON : LudoTablebase.rank(1, other, 0);
+          } else if (counts[state] == 1) {
+            next[move] = LudoTablebase.rank(1, to + 1, 0);
+          } else {
+            next[move] = LudoTablebase.rank(2, Math.min(to + 1, other), Math.max(to + 1, other));
+          }
+        }
+      }
+      for (int routeIndex = 0; routeIndex < RING; routeIndex++) {
+        int place = routeIndex + 1;
+        int low = lows[state] == place ? 0 : lows[state];
+        int high = counts[state] == 2 && highs[state] == place ? 0 : highs[state];
+        sentHome[state * RING + routeIndex] = counts[state] == 1
+            ? LudoTablebase.rank(1, low, 0)
+            : LudoTablebase.rank(2, Math.min(low, high), Math.max(low, high));
+      }
+    }
+  }
+
+  private void buildBumps(LudoPath path) {
+    for (int side = 0; side < 2; side++) {
+      LudoColor mover = seats.get(side);
+      LudoColor other = seats.get(1 - side);
+      for (int routeIndex = 0; routeIndex < RING; routeIndex++) {
+        bumped[side][routeIndex] = path.routeIndexOf(other, path.tileAt(mover, routeIndex).tileId());
+      }
+    }
+  }
+
+  private void write(Path file, double[] values) {
+    ByteBuffer buffer = ByteBuffer.allocate(LudoTablebase.HEADER_BYTES + 2 * values.length);
+    buffer.putInt(LudoTablebase.MAGIC)
+        .put((byte) LudoTablebase.VERSION)
+        .put((byte) maxPieces)
+        .put((byte) seats.get(0).ordinal())
+        .put((byte) seats.get(1).ordinal())
+        .putInt(values.length)
+        .putInt(0);
+    for (double value : values) {
+      buffer.putChar((char) Math.round(Math.min(1, Math.max(0, value)) * LudoTablebase.SCALE));
+    }
+    buffer.flip();
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+        StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+      while (buffer.hasRemaining()) {
+        channel.write(buffer);
+      }
+    } catch (IOException e) {
+      throw new StorageException("Could not write tablebase " + file, e);
+    }
+  }
+}
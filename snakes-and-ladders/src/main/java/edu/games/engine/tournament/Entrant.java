@@ -0,0 +1,25 @@
+package edu.games.engine.tournament;
+
+import edu.games.engine.exception.ValidationException;
+import java.util.Objects;
+
+/**
+ * A named bot policy taking part in a tournament.
+ *
+ * @param name    the unique display name of the policy
+ * @param factory creates the policy's bot for each game
+ */
+public record Entrant(String name, LudoBotFactory factory) {
+
+  /**
+   * Validates the entrant.
+   *
+   * @throws ValidationException if the name is blank
+   */
+  public Entrant {
+    if (name == null || name.isBlank()) {
+      throw new ValidationException("Invalid entrant: name cannot be blank");
+    }
+    Objects.requireNonNull(factory, "Factory cannot be null.");
+  }
+}
@@ -0,0 +1,22 @@
+package edu.games.engine.tournament;
+
+import edu.games.engine.ai.LudoBot;
+import edu.games.engine.rule.LudoRuleEngine;
+import java.util.random.RandomGenerator;
+
+/**
+ * Creates a fresh bot for every tournament game, so that bots with internal state
+ * never share it between games running in parallel.
+ */
+@FunctionalInterface
+public interface LudoBotFactory {
+
+  /**
+   * Creates a bot for one game.
+   *
+   * @param rules  the rule engine of the game
+   * @param random a random source seeded for this game and seat, for bots that need one
+   * @return the bot
+   */
+  LudoBot create(LudoRuleEngine rules, RandomGenerator random);
+}
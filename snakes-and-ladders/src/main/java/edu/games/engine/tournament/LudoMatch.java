@@ -0,0 +1,102 @@
+package edu.games.engine.tournament;
+
+import edu.games.engine.ai.LudoBot;
+import edu.games.engine.board.LudoBoard;
+import edu.games.engine.board.LudoPath;
+import edu.games.engine.dice.Dice;
+import edu.games.engine.exception.ValidationException;
+import edu.games.engine.impl.DefaultGame;
+import edu.games.engine.model.LudoColor;
+import edu.games.engine.model.Player;
+import edu.games.engine.model.Token;
+import edu.games.engine.rule.LudoRuleEngine;
+import edu.games.engine.strategy.LudoGameStrategy;
+import edu.games.engine.strategy.factory.GameStrategyFactory;
+import edu.ntnu.idatt2003.utils.Log;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Logger;
+
+/**
+ * Plays one headless Ludo game between bots on a {@link DefaultGame}.
+ * <p>
+ * A turn rolls, lets the seat's bot pick a piece and plays it with
+ * {@link LudoGameStrategy#playMove}, the same move code the Ludo gateway runs, so
+ * bumping and the extra turn on a six work exactly as in a game through the gateway.
+ * The board and strategy are immutable and shared, so one match object can play games
+ * on many threads at once.
+ */
+public final class LudoMatch {
+
+  /** Seat colors in turn order. */
+  public static final List<LudoColor> SEAT_COLORS =
+      List.of(LudoColor.BLUE, LudoColor.RED, LudoColor.GREEN, LudoColor.YELLOW);
+
+  private static final Logger MUTED = Log.muted();
+  private static final LocalDate BIRTHDAY = LocalDate.of(2000, 1, 1);
+
+  private final LudoBoard board;
+  private final LudoGameStrategy strategy;
+  private final LudoRuleEngine rules;
+  private final int maxTurns;
+
+  /**
+   * Creates a match runner.
+   *
+   * @param maxTurns the number of turns after which a game is abandoned
+   * @throws ValidationException if the turn cap is not positive
+   */
+  public LudoMatch(int maxTurns) {
+    if (maxTurns < 1) {
+      throw new ValidationException("Invalid maxTurns: must be greater than 0");
+    }
+    LudoPath path = new LudoPath();
+    this.board = new LudoBoard(path);
+    this.strategy = GameStrategyFactory.createLudoStrategy(path, MUTED);
+    this.rules = new LudoRuleEngine(path, MUTED);
+    this.maxTurns = maxTurns;
+  }
+
+  /**
+   * Returns the rule engine bots of this match should be built with.
+   *
+   * @return the rule engine
+   */
+  public LudoRuleEngine rules() {
+    return rules;
+  }
+
+  /**
+   * Plays one game to completion.
+   *
+   * @param bots the bot of every seat, in turn order; seat {@code i} plays {@link #SEAT_COLORS}{@code [i]}
+   * @param dice the single die of the game
+   * @return the winning seat, or -1 if the turn cap was reached first
+   * @throws ValidationException if there are not between two and four seats
+   */
+  public int play(List<LudoBot> bots, Dice dice) {
+    if (bots.size() < 2 || bots.size() > SEAT_COLORS.size()) {
+      throw new ValidationException("Invalid seats: must be between 2 and " + SEAT_COLORS.size());
+    }
+    List<Player> players = new ArrayList<>(bots.size());
+    for (int seat = 0; seat < bots.size(); seat++) {
+      Token token = Token.valueOf(SEAT_COLORS.get(seat).name());
+      players.add(new Player("Seat " + (seat + 1), token, BIRTHDAY));
+    }
+    DefaultGame game = new DefaultGame(board, strategy, players, dice, MUTED);
+    strategy.initializeGame(game);
+    List<Player> seated = game.getPlayers();
+
+    for (int turn = 0; turn < maxTurns; turn++) {
+      Player player = game.currentPlayer();
+      int seat = seated.indexOf(player);
+      int roll = dice.roll();
+      int pieceIndex = bots.get(seat).choosePiece(rules.capture(game), roll);
+      if (strategy.playMove(player, pieceIndex, roll, game).won()) {
+        return seat;
+      }
+    }
+    return -1;
+  }
+}
@@ -0,0 +1,31 @@
+package edu.games.engine.tournament;
+
+/**
+ * The rating of one entrant after a tournament, on the Elo scale.
+ * Ratings are relative: the field's average is zero.
+ *
+ * @param name  the entrant's name
+ * @param elo   the estimated rating
+ * @param lower the lower end of the 95% confidence interval
+ * @param upper the upper end of the 95% confidence interval
+ * @param games the number of games the entrant played
+ * @param wins  the number of games the entrant won
+ */
+public record Rating(String name, double elo, double lower, double upper, long games, long wins) {
+
+  /**
+   * Checks whether this rating is clearly above another, with no overlap
+   * between the two confidence intervals.
+   *
+   * @param other the rating to compare with
+   * @return true if this entrant is significantly stronger
+   */
+  public boolean clearlyAbove(Rating other) {
+    return lower > other.upper;
+  }
+
+  @Override
+  public String toString() {
+    return "%s: %.0f [%.0f, %.0f] (%d/%d)".formatted(name, elo, lower, upper, wins, games);
+  }
+}
@@ -0,0 +1,304 @@
+package edu.games.engine.tournament;
+
+import edu.games.engine.ai.LudoBot;
+import edu.games.engine.dice.factory.SeededDiceFactory;
+import edu.games.engine.exception.ValidationException;
+import java.io.Serial;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Round-robin tournament between Ludo bot policies.
+ * <p>
+ * A round plays every seating once: every ordered choice of distinct entrants for the
+ * seats, so each policy plays every seat against every combination of opponents.
+ * Games are spread over a work-stealing {@link ForkJoinPool}, and results are merged
+ * into atomic counters without locks. After every few rounds the entrants are rated
+ * with a Bradley-Terry model on the Elo scale, and the tournament stops early once
+ * every entrant's confidence interval lies clearly above the next one's.
+ * <p>
+ * Game {@code g} always uses dice stream {@code g} of a {@link SeededDiceFactory},
+ * so the same master seed gives the same result whatever the number of threads.
+ */
+public final class Tournament {
+
+  /** Default number of rounds between two checks for settled standings. */
+  public static final int DEFAULT_CHECK_INTERVAL = 5;
+
+  private static final double ELO_SCALE = 400 / Math.log(10);
+  private static final double Z_95 = 1.96;
+  private static final int RATING_ITERATIONS = 200;
+  private static final double PRIOR_WINS = 0.5;
+  private static final long BOT_SEED_SALT = 0x5DEECE66DL;
+  private static final int SEQUENTIAL_GAMES = 8;
+
+  private final List<Entrant> entrants;
+  private final int seats;
+  private final int maxRounds;
+  private final int minRounds;
+  private final LudoMatch match;
+  private final List<int[]> seatings;
+
+  /**
+   * Creates a tournament.
+   *
+   * @param entrants  the competing policies, with unique names
+   * @param seats     the number of seats per game (2-4)
+   * @param maxRounds the number of rounds to play if the standings never settle
+   * @param minRounds the number of rounds to play before stopping early
+   * @param maxTurns  the number of turns after which a game is abandoned
+   * @throws ValidationException if there are fewer entrants than seats, a repeated
+   *                             name, or an invalid round or seat count
+   */
+  public Tournament(List<Entrant> entrants, int seats, int maxRounds, int minRounds, int maxTurns) {
+    Objects.requireNonNull(entrants, "Entrants cannot be null.");
+    if (seats < 2 || seats > LudoMatch.SEAT_COLORS.size() || entrants.size() < seats) {
+      throw new ValidationException("Invalid seats: need 2-4 seats and at least as many entrants");
+    }
+    if (maxRounds < 1 || minRounds < 1 || minRounds > maxRounds) {
+      throw new ValidationException("Invalid rounds: need 1 <= minRounds <= maxRounds");
+    }
+    if (new HashSet<>(entrants.stream().map(Entrant::name).toList()).size() != entrants.size()) {
+      throw new ValidationException("Invalid entrants: names must be unique");
+    }
+    this.entrants = List.copyOf(entrants);
+    this.seats = seats;
+    this.maxRounds = maxRounds;
+    this.minRounds = minRounds;
+    this.match = new LudoMatch(maxTurns);
+    this.seatings = seatings(entrants.size(), seats);
+  }
+
+  /**
+   * Returns the number of games in one round.
+   *
+   * @return the number of distinct seatings
+   */
+  public int gamesPerRound() {
+    return seatings.size();
+  }
+
+  /**
+   * Runs the tournament on the common pool.
+   *
+   * @param masterSeed the seed all dice and bot randomness is derived from
+   * @return the final standings
+   */
+  public TournamentResult run(long masterSeed) {
+    return run(masterSeed, ForkJoinPool.commonPool(), DEFAULT_CHECK_INTERVAL);
+  }
+
+  /**
+   * Runs the tournament.
+   *
+   * @param masterSeed    the seed all dice and bot randomness is derived from
+   * @param pool          the pool the games are played on
+   * @param checkInterval the number of rounds between checks for settled standings
+   * @return the final standings
+   * @throws ValidationException if the check interval is not positive
+   */
+  public TournamentResult run(long masterSeed, ForkJoinPool pool, int checkInterval) {
+    Objects.requireNonNull(pool, "Pool cannot be null.");
+    if (checkInterval < 1) {
+      throw new ValidationException("Invalid checkInterval: must be greater than 0");
+    }
+    Tally tally = new Tally(entrants.size());
+    SeededDiceFactory dice = new SeededDiceFactory(1, masterSeed);
+    SeededDiceFactory botSeeds = new SeededDiceFactory(1, masterSeed ^ BOT_SEED_SALT);
+
+    int rounds = 0;
+    List<Rating> standings = rate(tally);
+    boolean settled = false;
+    while (rounds < maxRounds && !settled) {
+      int batch = Math.min(checkInterval, maxRounds - rounds);
+      long first = (long) rounds * seatings.size();
+      long last = first + (long) batch * seatings.size();
+      pool.invoke(new Games(first, last, tally, dice, botSeeds));
+      rounds += batch;
+      standings = rate(tally);
+      settled = rounds >= minRounds && isSettled(standings);
+    }
+    return new TournamentResult(
+        standings, tally.games.sum(), tally.unfinished.sum(), rounds, settled);
+  }
+
+  private void playGame(long gameIndex, Tally tally, SeededDiceFactory dice, SeededDiceFactory botSeeds) {
+    int[] seating = seatings.get((int) (gameIndex % seatings.size()));
+    SplittableRandom random = botSeeds.stream(gameIndex);
+    List<LudoBot> bots = new ArrayList<>(seats);
+    for (int entrant : seating) {
+      bots.add(entrants.get(entrant).factory().create(match.rules(), random.split()));
+    }
+    int winner = match.play(bots, dice.create(gameIndex));
+    tally.record(seating, winner);
+  }
+
+  /**
+   * Splits a range of game indices in half until it is small enough to play directly.
+   */
+  private final class Games extends RecursiveAction {
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    // Tasks are never serialized; the fields are transient only to say so
+    private final long from;
+    private final long to;
+    private final transient Tally tally;
+    private final transient SeededDiceFactory dice;
+    private final transient SeededDiceFactory botSeeds;
+
+    Games(long from, long to, Tally tally, SeededDiceFactory dice, SeededDiceFactory botSeeds) {
+      this.from = from;
+      this.to = to;
+      this.tally = tally;
+      this.dice = dice;
+      this.botSeeds = botSeeds;
+    }
+
+    @Override
+    protected void compute() {
+      if (to - from <= SEQUENTIAL_GAMES) {
+        for (long game = from; game < to; game++) {
+          playGame(game, tally, dice, botSeeds);
+        }
+        return;
+      }
+      long mid = (from + to) >>> 1;
+      invokeAll(new Games(from, mid, tally, dice, botSeeds), new Games(mid, to, tally, dice, botSeeds));
+    }
+  }
+
+  /**
+   * Lock-free game counters. {@code beat[w * n + l]} counts the games where
+   * entrant {@code w} won and entrant {@code l} sat at the same table.
+   */
+  private static final class Tally {
+    private final int size;
+    private final AtomicLongArray beat;
+    private final AtomicLongArray played;
+    private final AtomicLongArray won;
+    private final LongAdder games = new LongAdder();
+    private final LongAdder unfinished = new LongAdder();
+
+    Tally(int size) {
+      this.size = size;
+      this.beat = new AtomicLongArray(size * size);
+      this.played = new AtomicLongArray(size);
+      this.won = new AtomicLongArray(size);
+    }
+
+    void record(int[] seating, int winnerSeat) {
+      games.increment();
+      for (int entrant : seating) {
+        played.incrementAndGet(entrant);
+      }
+      if (winnerSeat < 0) {
+        unfinished.increment();
+        return;
+      }
+      int winner = seating[winnerSeat];
+      won.incrementAndGet(winner);
+      for (int loser : seating) {
+        if (loser != winner) {
+          beat.incrementAndGet(winner * size + loser);
+        }
+      }
+    }
+  }
+
+  /**
+   * Fits Bradley-Terry strengths to the head-to-head counts with the MM algorithm,
+   * with half a win added each way as a prior, and converts them to Elo. The interval
+   * uses the Fisher information of each rating with the others held fixed.
+   */
+  private List<Rating> rate(Tally tally) {
+    int n = entrants.size();
+    double[][] wins = new double[n][n];
+    for (int i = 0; i < n; i++) {
+      for (int j = 0; j < n; j++) {
+        wins[i][j] = i == j ? 0 : tally.beat.get(i * n + j) + PRIOR_WINS;
+      }
+    }
+    double[] strength = new double[n];
+    Arrays.fill(strength, 1.0);
+    for (int iteration = 0; iteration < RATING_ITERATIONS; iteration++) {
+      double[] next = new double[n];
+      double logSum = 0;
+      for (int i = 0; i < n; i++) {
+        double totalWins = 0;
+        double denominator = 0;
+        for (int j = 0; j < n; j++) {
+          if (i != j) {
+            totalWins += wins[i][j];
+            denominator += (wins[i][j] + wins[j][i]) / (strength[i] + strength[j]);
+          }
+        }
+        next[i] = totalWins / denominator;
+        logSum += Math.log(next[i]);
+      }
+      double mean = Math.exp(logSum / n);
+      for (int i = 0; i < n; i++) {
+        strength[i] = next[i] / mean;
+      }
+    }
+
+    List<Rating> ratings = new ArrayList<>(n);
+    for (int i = 0; i < n; i++) {
+      double information = 0;
+      for (int j = 0; j < n; j++) {
+        if (i != j) {
+          double p = strength[i] / (strength[i] + strength[j]);
+          information += (wins[i][j] + wins[j][i]) * p * (1 - p);
+        }
+      }
+      double elo = ELO_SCALE * Math.log(strength[i]);
+      double margin = Z_95 * ELO_SCALE / Math.sqrt(information);
+      ratings.add(new Rating(entrants.get(i).name(), elo, elo - margin, elo + margin,
+          tally.played.get(i), tally.won.get(i)));
+    }
+    ratings.sort(Comparator.comparingDouble(Rating::elo).reversed());
+    return List.copyOf(ratings);
+  }
+
+  private static boolean isSettled(List<Rating> standings) {
+    for (int i = 0; i + 1 < standings.size(); i++) {
+      if (!standings.get(i).clearlyAbove(standings.get(i + 1))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Lists every ordered choice of {@code seats} distinct entrants out of {@code n}.
+   */
+  private static List<int[]> seatings(int n, int seats) {
+    List<int[]> result = new ArrayList<>();
+    addSeatings(new int[seats], 0, new boolean[n], result);
+    return List.copyOf(result);
+  }
+
+  private static void addSeatings(int[] seating, int seat, boolean[] used, List<int[]> result) {
+    if (seat == seating.length) {
+      result.add(seating.clone());
+      return;
+    }
+    for (int entrant = 0; entrant < used.length; entrant++) {
+      if (!used[entrant]) {
+        used[entrant] = true;
+        seating[seat] = entrant;
+        addSeatings(seating, seat + 1, used, result);
+        used[entrant] = false;
+      }
+    }
+  }
+}
@@ -0,0 +1,31 @@
+package edu.games.engine.tournament;
+
+import java.util.List;
+
+/**
+ * Outcome of a tournament.
+ *
+ * @param standings       ratings of all entrants, strongest first
+ * @param gamesPlayed     the number of games played
+ * @param unfinishedGames games that hit the turn cap without a winner
+ * @param rounds          the number of rounds played; a round plays every seating once
+ * @param settled         {@code true} if every entrant ended clearly above the next one in
+ *                        the standings; with fewer than the maximum rounds, this is why
+ *                        the tournament stopped early
+ */
+public record TournamentResult(
+    List<Rating> standings,
+    long gamesPlayed,
+    long unfinishedGames,
+    int rounds,
+    boolean settled) {
+
+  /**
+   * Returns the strongest entrant's rating.
+   *
+   * @return the first place
+   */
+  public Rating leader() {
+    return standings.get(0);
+  }
+}
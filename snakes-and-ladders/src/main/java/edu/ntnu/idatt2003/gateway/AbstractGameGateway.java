@@ -1,30 +1,55 @@
 package edu.ntnu.idatt2003.gateway;
 
+import edu.games.engine.board.Tile;
 import edu.games.engine.exception.GameEngineException;
 import edu.games.engine.exception.StorageException;
+import edu.games.engine.exception.ValidationException;
 import edu.games.engine.impl.DefaultGame;
+import edu.games.engine.impl.GameCheckpoint;
 import edu.games.engine.impl.overlay.OverlayProvider;
+import edu.games.engine.model.Player;
+import edu.games.engine.model.PlayerPiece;
 import edu.games.engine.model.Token;
 import edu.games.engine.observer.BoardGameEvent;
+import edu.games.engine.observer.BoardGameEvent.EventType;
 import edu.games.engine.observer.BoardGameObserver;
 import edu.games.engine.store.PlayerStore;
+import edu.ntnu.idatt2003.gateway.event.EventDispatcher;
+import edu.ntnu.idatt2003.gateway.event.EventFactory;
+import edu.ntnu.idatt2003.gateway.event.EventSubscription;
+import edu.ntnu.idatt2003.gateway.event.WaitStrategy;
+import edu.ntnu.idatt2003.model.dto.GameStateDTO;
+import edu.ntnu.idatt2003.model.dto.PlayerDTO;
+import edu.ntnu.idatt2003.model.dto.PlayerStateDTO;
+import edu.ntnu.idatt2003.persistence.BinaryGameStateHandler;
+import edu.ntnu.idatt2003.persistence.JsonGameStateHandler;
+import edu.ntnu.idatt2003.persistence.PlayerAdapter;
 import edu.ntnu.idatt2003.presentation.fx.OverlayParams;
+import edu.ntnu.idatt2003.utils.Log;
 import java.nio.file.Path;
 import java.time.LocalDate;
 import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
+import java.util.function.BiFunction;
 import java.util.logging.Logger;
 import java.util.logging.Level;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.function.Predicate;
 
 /**
  * Base gateway handling common game lifecycle, persistence, overlay loading, and observer management.
  * Concrete subclasses must implement {@link #mapStringToToken(String)} to convert UI tokens into domain tokens.
  */
 public abstract class AbstractGameGateway implements CompleteBoardGame {
-  private final List<BoardGameObserver> observers = new ArrayList<>();
+  private final EventDispatcher dispatcher = new EventDispatcher();
+  private EventFactory eventFactory = EventFactory.allocating();
+  private final EventFactory wantedEvents = new WantedEvents();
+  private boolean observersEnabled = true;
   protected final PlayerStore playerStore;
   protected final OverlayProvider overlayProvider;
   protected final Map<Integer, List<OverlayParams>> overlayCache = new HashMap<>();
@@ -32,6 +57,9 @@ public abstract class AbstractGameGateway implements CompleteBoardGame {
   protected DefaultGame game;
 
   private static final Logger LOG = Logger.getLogger(AbstractGameGateway.class.getName());
+  // Children of the shared loggers, so one gateway can be muted without muting the others
+  private final Logger log = childOf(LOG);
+  private final Logger gameLog = childOf(Log.game());
 
   /**
    * Constructs the gateway with required persistence and overlay providers.
@@ -42,7 +70,7 @@ public abstract class AbstractGameGateway implements CompleteBoardGame {
   protected AbstractGameGateway(PlayerStore playerStore, OverlayProvider overlayProvider) {
     this.playerStore = playerStore;
     this.overlayProvider = overlayProvider;
-    LOG.info(() -> "AbstractGameGateway initialized with PlayerStore: "
+    log.info(() -> "AbstractGameGateway initialized with PlayerStore: "
         + playerStore.getClass().getSimpleName()
         + " and OverlayProvider: "
         + overlayProvider.getClass().getSimpleName());
@@ -55,12 +83,93 @@ public abstract class AbstractGameGateway implements CompleteBoardGame {
    */
   @Override
   public void addObserver(BoardGameObserver observer) {
-    if (observer != null && !observers.contains(observer)) {
-      observers.add(observer);
-      LOG.fine(() -> "Observer added: " + observer.getClass().getName());
+    if (observer != null && dispatcher.add(observer)) {
+      log.fine(() -> "Observer added: " + observer.getClass().getName());
     }
   }
 
+  /**
+   * Registers an observer that only receives events of the given types. Events of other
+   * types are never delivered to it, so it costs nothing when they are published.
+   *
+   * @param observer the observer to add
+   * @param types    the event types the observer wants
+   * @throws ValidationException if no type is given
+   */
+  @Override
+  public void addObserver(BoardGameObserver observer, Set<EventType> types) {
+    if (observer != null && dispatcher.add(observer, types)) {
+      log.fine(() -> "Observer added for " + types + ": " + observer.getClass().getName());
+    }
+  }
+
+  /**
+   * Registers an observer that only receives the events that pass a filter. The filter
+   * is tested on the thread driving the game, so it should be cheap.
+   *
+   * @param observer the observer to add
+   * @param filter   the test every event must pass to reach the observer
+   */
+  @Override
+  public void addObserver(BoardGameObserver observer, Predicate<? super BoardGameEvent> filter) {
+    if (observer != null && dispatcher.add(observer, filter)) {
+      log.fine(() -> "Filtered observer added: " + observer.getClass().getName());
+    }
+  }
+
+  /**
+   * Subscribes an observer that receives events on its own executor instead of on the
+   * thread driving the game, so however slow it is, it never holds up a roll.
+   * For example, a view passes {@code Platform::runLater}. An earlier registration of
+   * the same observer is replaced.
+   *
+   * @param observer the observer to subscribe
+   * @param executor the executor to deliver events on
+   * @return the subscription; close it or call {@link #removeObserver} to unsubscribe
+   * @see EventDispatcher#subscribe(BoardGameObserver, Executor, int, WaitStrategy)
+   */
+  @Override
+  public EventSubscription subscribe(BoardGameObserver observer, Executor executor) {
+    EventSubscription subscription = dispatcher.subscribe(observer, executor);
+    log.fine(() -> "Observer subscribed: " + observer.getClass().getName());
+    return subscription;
+  }
+
+  /**
+   * Subscribes an observer that receives events of the given types only, on its own
+   * executor. Events of other types never take a slot in its ring buffer.
+   *
+   * @param observer the observer to subscribe
+   * @param executor the executor to deliver events on
+   * @param types    the event types the observer wants
+   * @return the subscription; close it or call {@link #removeObserver} to unsubscribe
+   * @throws ValidationException if no type is given
+   */
+  @Override
+  public EventSubscription subscribe(
+      BoardGameObserver observer, Executor executor, Set<EventType> types) {
+    EventSubscription subscription = dispatcher.subscribe(observer, executor, types);
+    log.fine(() -> "Observer subscribed for " + types + ": " + observer.getClass().getName());
+    return subscription;
+  }
+
+  /**
+   * Subscribes an observer that receives events on its own executor through a ring
+   * buffer of the given capacity, lingering for more events as the wait strategy says.
+   *
+   * @param observer     the observer to subscribe
+   * @param executor     the executor to deliver events on
+   * @param capacity     how many events the observer may fall behind before events are dropped
+   * @param waitStrategy what the observer does when it runs out of events
+   * @return the subscription; close it or call {@link #removeObserver} to unsubscribe
+   */
+  public EventSubscription subscribe(
+      BoardGameObserver observer, Executor executor, int capacity, WaitStrategy waitStrategy) {
+    EventSubscription subscription = dispatcher.subscribe(observer, executor, capacity, waitStrategy);
+    log.fine(() -> "Observer subscribed: " + observer.getClass().getName());
+    return subscription;
+  }
+
   /**
    * Unregisters a previously added observer.
    *
@@ -68,27 +177,301 @@ public abstract class AbstractGameGateway implements CompleteBoardGame {
    */
   @Override
   public void removeObserver(BoardGameObserver observer) {
-    if (observer != null && observers.remove(observer)) {
-      LOG.fine(() -> "Observer removed: " + observer.getClass().getName());
+    if (observer != null && dispatcher.remove(observer)) {
+      log.fine(() -> "Observer removed: " + observer.getClass().getName());
     }
   }
 
+  /**
+   * Switches event delivery on or off without unregistering observers.
+   * Headless runs turn it off so that no view or animation is driven.
+   *
+   * @param enabled {@code false} to drop all events until enabled again
+   */
+  public void setObserversEnabled(boolean enabled) {
+    this.observersEnabled = enabled;
+  }
+
+  /**
+   * Checks whether events are currently delivered to observers.
+   *
+   * @return {@code true} unless delivery was switched off
+   */
+  public boolean isObserversEnabled() {
+    return observersEnabled;
+  }
+
+  /**
+   * Switches logging of this gateway and its games on or off. Other gateways, and the
+   * shared loggers themselves, keep their levels, so a muted bot run does not silence a
+   * game played next to it.
+   *
+   * @param enabled {@code true} to log as configured, {@code false} to log nothing
+   */
+  public void setLoggingEnabled(boolean enabled) {
+    Level level = enabled ? null : Level.OFF;
+    log.setLevel(level);
+    gameLog.setLevel(level);
+  }
+
+  /**
+   * Checks whether this gateway currently logs.
+   *
+   * @return {@code true} unless logging was switched off
+   */
+  public boolean isLoggingEnabled() {
+    return log.getLevel() != Level.OFF;
+  }
+
+  /**
+   * Returns the logger the gateway's games and rules report to: a child of the
+   * {@code GAME} logger that follows its level until {@link #setLoggingEnabled} mutes it.
+   *
+   * @return the game logger of this gateway
+   */
+  protected Logger gameLog() {
+    return gameLog;
+  }
+
+  private static Logger childOf(Logger parent) {
+    Logger child = Logger.getAnonymousLogger();
+    child.setParent(parent);
+    return child;
+  }
+
+  /**
+   * Sets the factory events are built with, such as {@link EventFactory#flyweight()} for
+   * long headless runs that are watched by a recorder or journal.
+   *
+   * @param eventFactory the factory to use from now on
+   */
+  public void setEventFactory(EventFactory eventFactory) {
+    this.eventFactory = Objects.requireNonNull(eventFactory, "Event factory cannot be null");
+  }
+
+  /**
+   * Returns the factory to build the next event with. It only builds an event if an
+   * observer is registered for its type; otherwise it returns {@code null}, which
+   * {@link #notifyObservers} ignores, so turns played unobserved cost no events at all,
+   * and observers registered for a few types cost none for the others.
+   *
+   * @return the factory for the next event
+   */
+  protected EventFactory events() {
+    return wantedEvents;
+  }
+
   /**
    * Notifies all registered observers of a game event, catching and logging errors per observer.
+   * Added observers are called before this returns; subscribed ones are only handed the event.
    *
-   * @param event the game event to dispatch
+   * @param event the game event to dispatch; {@code null} is ignored
    */
   protected void notifyObservers(BoardGameEvent event) {
-    for (BoardGameObserver observer : new ArrayList<>(observers)) {
-      try {
-        observer.update(event);
-      } catch (Exception e) {
-        LOG.log(Level.SEVERE,
-            "Error in observer " + observer.getClass().getName()
-                + " during update for event " + event.getTypeOfEvent(),
-            e);
+    if (event == null || !observersEnabled || !dispatcher.hasObservers()) {
+      return;
+    }
+    dispatcher.publish(event);
+  }
+
+  /**
+   * Captures the whole game in progress: board configuration, every piece's tile,
+   * the turn, the winner, the selected piece and the last roll.
+   *
+   * @return the game state, ready to be saved
+   * @throws NullPointerException if game is not initialized
+   */
+  public abstract GameStateDTO exportState();
+
+  /**
+   * Replaces the current game with a saved one and notifies observers with a reset event,
+   * which makes views redraw every piece.
+   *
+   * @param state the game state to resume
+   * @throws ValidationException if the state belongs to another game or does not fit the board
+   */
+  public abstract void importState(GameStateDTO state);
+
+  /**
+   * Saves the game in progress. A path ending in {@code .json} is written as JSON,
+   * any other path in the compact binary format.
+   *
+   * @param out the file to write
+   * @throws StorageException if the binary file cannot be written
+   * @throws edu.ntnu.idatt2003.exception.JsonParsingException if the JSON file cannot be written
+   */
+  public void saveGame(Path out) {
+    GameStateDTO state = exportState();
+    if (isJson(out)) {
+      new JsonGameStateHandler().save(state, out);
+    } else {
+      new BinaryGameStateHandler().save(state, out);
+    }
+  }
+
+  /**
+   * Resumes a game saved with {@link #saveGame(Path)}, choosing the format the same way.
+   *
+   * @param in the file to read
+   * @throws StorageException if the binary file cannot be read
+   * @throws edu.ntnu.idatt2003.exception.JsonParsingException if the JSON file cannot be read
+   * @throws ValidationException if the saved game belongs to another game or does not fit the board
+   */
+  public void loadGame(Path in) {
+    importState(isJson(in)
+        ? new JsonGameStateHandler().load(in)
+        : new BinaryGameStateHandler().load(in));
+  }
+
+  private static boolean isJson(Path file) {
+    return file.getFileName().toString().toLowerCase().endsWith(".json");
+  }
+
+  /**
+   * Describes every player of the current game with the tile of each piece.
+   *
+   * @return the players in turn order
+   */
+  protected List<PlayerStateDTO> exportPlayers() {
+    List<PlayerStateDTO> states = new ArrayList<>(game.getPlayers().size());
+    for (Player player : game.getPlayers()) {
+      List<Integer> tileIds = new ArrayList<>(player.getPieces().size());
+      for (PlayerPiece piece : player.getPieces()) {
+        tileIds.add(piece.getCurrentTile() == null ? -1 : piece.getCurrentTile().tileId());
+      }
+      states.add(new PlayerStateDTO(PlayerAdapter.toDto(player), tileIds));
+    }
+    return states;
+  }
+
+  /**
+   * Builds the saved players with every piece on its saved tile, without touching the
+   * current game, and checks the turn, the winner and the last roll against them. A save
+   * that fails here leaves the game in progress as it was.
+   *
+   * @param state      the saved game
+   * @param tileLookup finds the tile with a given ID for a player, or returns {@code null}
+   * @return the players in turn order, ready for {@link #seatPlayers(GameStateDTO, List)}
+   * @throws ValidationException if a birthday, a tile, the piece count, an index or the last
+   *                             roll does not fit the game
+   */
+  protected List<Player> importPlayers(
+      GameStateDTO state, BiFunction<Player, Integer, Tile> tileLookup) {
+    if (state.players() == null) {
+      throw new ValidationException("Invalid players: cannot be null");
+    }
+    List<Player> players = new ArrayList<>(state.players().size());
+    for (PlayerStateDTO saved : state.players()) {
+      PlayerDTO dto = saved.player();
+      Player player = new Player(dto.playerName(), mapStringToToken(dto.playerToken()),
+          parseBirthday(dto));
+      List<PlayerPiece> pieces = player.getPieces();
+      if (saved.pieceTileIds().size() != pieces.size()) {
+        throw new ValidationException("Invalid pieces: " + dto.playerName() + " needs "
+            + pieces.size() + " tile IDs");
+      }
+      for (int i = 0; i < pieces.size(); i++) {
+        int tileId = saved.pieceTileIds().get(i);
+        Tile tile = tileId < 0 ? null : tileLookup.apply(player, tileId);
+        if (tileId >= 0 && tile == null) {
+          throw new ValidationException("Invalid tile: " + tileId + " is not on the board");
+        }
+        pieces.get(i).moveTo(tile);
       }
+      players.add(player);
     }
+    if (state.currentPlayerIndex() < 0
+        || state.currentPlayerIndex() >= Math.max(players.size(), 1)) {
+      throw new ValidationException("Invalid currentPlayerIndex: " + state.currentPlayerIndex());
+    }
+    checkIndex("winnerIndex", state.winnerIndex(), players.size());
+    if (state.lastDiceValues() == null || state.lastDiceValues().stream().anyMatch(Objects::isNull)) {
+      throw new ValidationException("Invalid lastDiceValues: " + state.lastDiceValues());
+    }
+    return players;
+  }
+
+  private static LocalDate parseBirthday(PlayerDTO dto) {
+    if (dto.birthday() == null) {
+      throw new ValidationException("Invalid birthday: " + dto.playerName() + " has none");
+    }
+    try {
+      return LocalDate.parse(dto.birthday());
+    } catch (DateTimeParseException e) {
+      throw new ValidationException("Invalid birthday: " + dto.birthday(), e);
+    }
+  }
+
+  /**
+   * Adds players built by {@link #importPlayers} to the freshly started current game, then
+   * restores the turn and the last roll. Cannot fail, so it runs only once the rest of the
+   * import has been checked.
+   *
+   * @param state   the saved game the players were built from
+   * @param players the imported players in turn order
+   */
+  protected void seatPlayers(GameStateDTO state, List<Player> players) {
+    game.getPlayers().addAll(players);
+    if (!players.isEmpty()) {
+      game.setCurrentPlayerIndex(state.currentPlayerIndex());
+    }
+    lastDiceValues = List.copyOf(state.lastDiceValues());
+  }
+
+  /**
+   * Checks that an index is -1 or within the given bound.
+   *
+   * @throws ValidationException if it is not
+   */
+  protected static void checkIndex(String name, int index, int bound) {
+    if (index < -1 || index >= bound) {
+      throw new ValidationException("Invalid " + name + ": " + index);
+    }
+  }
+
+  /**
+   * Checks that a saved game is of the expected type.
+   *
+   * @throws ValidationException if it is not
+   */
+  protected static void checkGameType(GameStateDTO state, String expected) {
+    if (!expected.equals(state.gameType())) {
+      throw new ValidationException(
+          "Invalid gameType: expected " + expected + " but was " + state.gameType());
+    }
+  }
+
+  /**
+   * Copies the full state of the current game.
+   *
+   * @return a checkpoint that {@link #restoreCheckpoint(GameCheckpoint)} can put back
+   * @throws NullPointerException if game is not initialized
+   */
+  public GameCheckpoint checkpoint() {
+    Objects.requireNonNull(game, "Call newGame before taking a checkpoint");
+    return game.checkpoint();
+  }
+
+  /**
+   * Puts a checkpoint of the current game back and notifies observers with a reset event,
+   * which makes views redraw every piece from {@link #players()}.
+   *
+   * @param checkpoint a checkpoint taken from the current game
+   * @throws NullPointerException if game is not initialized
+   * @throws edu.games.engine.exception.ValidationException if the checkpoint does not match the players
+   */
+  public void restoreCheckpoint(GameCheckpoint checkpoint) {
+    Objects.requireNonNull(game, "Call newGame before restoring a checkpoint");
+    game.restore(checkpoint);
+    onRestored();
+    notifyObservers(events().gameReset());
+  }
+
+  /**
+   * Called after a checkpoint is restored, before observers are notified, so subclasses
+   * can bring the state they keep outside the game in line. Does nothing by default.
+   */
+  protected void onRestored() {
   }
 
   /**
@@ -97,7 +480,7 @@ public abstract class AbstractGameGateway implements CompleteBoardGame {
   @Override
   public boolean hasWinner() {
     boolean hasWinner = game != null && game.getWinner().isPresent();
-    LOG.finest(() -> "Checking for winner: " + hasWinner);
+    log.finest(() -> "Checking for winner: " + hasWinner);
     return hasWinner;
   }
 
@@ -109,7 +492,7 @@ public abstract class AbstractGameGateway implements CompleteBoardGame {
     if (game != null && game.currentPlayer() != null) {
       return game.currentPlayer().getName();
     }
-    LOG.warning("Attempted to get current player name, but game or current player is null.");
+    log.warning("Attempted to get current player name, but game or current player is null.");
     return "";
   }
 
@@ -129,19 +512,19 @@ public abstract class AbstractGameGateway implements CompleteBoardGame {
    */
   @Override
   public void savePlayers(Path out) {
-    LOG.info("Attempting to save players to: " + out);
+    log.info("Attempting to save players to: " + out);
     try {
       if (game != null && game.getPlayers() != null && !game.getPlayers().isEmpty()) {
         playerStore.savePlayers(game.getPlayers(), out);
-        LOG.info("Players saved successfully to: " + out);
+        log.info("Players saved successfully to: " + out);
       } else {
-        LOG.warning("No players to save or game not initialized.");
+        log.warning("No players to save or game not initialized.");
       }
     } catch (StorageException e) {
-      LOG.log(Level.SEVERE, "StorageException while saving players to " + out, e);
+      log.log(Level.SEVERE, "StorageException while saving players to " + out, e);
       throw e;
     } catch (GameEngineException e) {
-      LOG.log(Level.WARNING, "GameEngineException during savePlayers: " + e.getMessage(), e);
+      log.log(Level.WARNING, "GameEngineException during savePlayers: " + e.getMessage(), e);
     }
   }
 
@@ -151,11 +534,11 @@ public abstract class AbstractGameGateway implements CompleteBoardGame {
   @Override
   public void clearPlayers() {
     if (game != null && game.getPlayers() != null) {
-      LOG.info("Clearing all players from the game.");
+      log.info("Clearing all players from the game.");
       game.getPlayers().clear();
-      notifyObservers(new BoardGameEvent(BoardGameEvent.EventType.GAME_RESET, null));
+      notifyObservers(events().gameReset());
     } else {
-      LOG.warning("Attempted to clear players, but game or players list is null.");
+      log.warning("Attempted to clear players, but game or players list is null.");
     }
   }
 
@@ -169,15 +552,15 @@ public abstract class AbstractGameGateway implements CompleteBoardGame {
   public List<OverlayParams> boardOverlays() {
     int size = boardSize();
     if (size <= 0) {
-      LOG.warning("Cannot load overlays for invalid board size: " + size);
+      log.warning("Cannot load overlays for invalid board size: " + size);
       return List.of();
     }
-    LOG.fine("Fetching board overlays for size: " + size);
+    log.fine("Fetching board overlays for size: " + size);
     return overlayCache.computeIfAbsent(size, s -> {
       try {
         return loadOverlays(s);
       } catch (Exception e) {
-        LOG.log(Level.SEVERE, "Failed to load overlays for board size " + s, e);
+        log.log(Level.SEVERE, "Failed to load overlays for board size " + s, e);
         return List.of();
       }
     });
@@ -193,13 +576,13 @@ public abstract class AbstractGameGateway implements CompleteBoardGame {
    * @throws GameEngineException    if any other failure occurs
    */
   protected List<OverlayParams> loadOverlays(int size) {
-    LOG.info("Loading overlays from provider for board size: " + size);
+    log.info("Loading overlays from provider for board size: " + size);
     try {
       List<OverlayParams> loadedOverlays = overlayProvider.overlaysForBoard(size);
-      LOG.info("Successfully loaded " + loadedOverlays.size() + " overlays for board size: " + size);
+      log.info("Successfully loaded " + loadedOverlays.size() + " overlays for board size: " + size);
       return loadedOverlays;
     } catch (Exception e) {
-      LOG.log(Level.SEVERE, "Error loading overlays via provider for board size " + size, e);
+      log.log(Level.SEVERE, "Error loading overlays via provider for board size " + size, e);
       if (e instanceof StorageException) {
         throw (StorageException) e;
       }
@@ -223,7 +606,7 @@ public abstract class AbstractGameGateway implements CompleteBoardGame {
    */
   @Override
   public void loadPlayers(List<String[]> rows) {
-    LOG.info("Loading " + (rows != null ? rows.size() : 0) + " players from rows data.");
+    log.info("Loading " + (rows != null ? rows.size() : 0) + " players from rows data.");
     if (rows != null) {
       for (String[] r : rows) {
         if (r.length >= 3) {
@@ -232,19 +615,85 @@ public abstract class AbstractGameGateway implements CompleteBoardGame {
             String tokenStr = r[1];
             LocalDate birthday = LocalDate.parse(r[2]);
             addPlayer(name, tokenStr, birthday);
-            LOG.fine(() -> "Loaded player: " + name + ", Token: " + tokenStr);
+            log.fine(() -> "Loaded player: " + name + ", Token: " + tokenStr);
           } catch (DateTimeParseException e) {
-            LOG.log(Level.WARNING, "Failed to parse birthday for player data: " + String.join(",", r), e);
+            log.log(Level.WARNING, "Failed to parse birthday for player data: " + String.join(",", r), e);
           } catch (IllegalArgumentException e) {
-            LOG.log(Level.WARNING, "Invalid token or other argument for player data: " + String.join(",", r), e);
+            log.log(Level.WARNING, "Invalid token or other argument for player data: " + String.join(",", r), e);
           } catch (Exception e) {
-            LOG.log(Level.WARNING, "Generic error loading player from row: " + String.join(",", r), e);
+            log.log(Level.WARNING, "Generic error loading player from row: " + String.join(",", r), e);
           }
         } else {
-          LOG.warning("Skipping invalid player row (not enough data): " + String.join(",", r));
+          log.warning("Skipping invalid player row (not enough data): " + String.join(",", r));
         }
       }
-      notifyObservers(new BoardGameEvent(BoardGameEvent.EventType.PLAYERS_LOADED, players()));
+      notifyObservers(events().playersLoaded(players()));
+    }
+  }
+
+  /** Returns whether an event of the given type would reach an observer. */
+  private boolean wants(EventType type) {
+    return observersEnabled && dispatcher.wants(type);
+  }
+
+  /**
+   * The factory {@link #events()} returns: it builds an event with the gateway's factory
+   * when an observer wants its type, and returns {@code null} otherwise.
+   */
+  private final class WantedEvents implements EventFactory {
+
+    @Override
+    public BoardGameEvent gameStarted(int boardSize) {
+      return wants(EventType.GAME_STARTED) ? eventFactory.gameStarted(boardSize) : null;
+    }
+
+    @Override
+    public BoardGameEvent gameReset() {
+      return wants(EventType.GAME_RESET) ? eventFactory.gameReset() : null;
+    }
+
+    @Override
+    public BoardGameEvent playerAdded(Player player) {
+      return wants(EventType.PLAYER_ADDED) ? eventFactory.playerAdded(player) : null;
+    }
+
+    @Override
+    public BoardGameEvent playersLoaded(List<?> players) {
+      return wants(EventType.PLAYERS_LOADED) ? eventFactory.playersLoaded(players) : null;
+    }
+
+    @Override
+    public BoardGameEvent diceRolled(List<Integer> values) {
+      return wants(EventType.DICE_ROLLED) ? eventFactory.diceRolled(values) : null;
+    }
+
+    @Override
+    public BoardGameEvent playerMoved(Player player, int fromTileId, int toTileId) {
+      return wants(EventType.PLAYER_MOVED)
+          ? eventFactory.playerMoved(player, fromTileId, toTileId)
+          : null;
+    }
+
+    @Override
+    public BoardGameEvent playerMoved(Player player, Tile fromTile, Tile toTile) {
+      return wants(EventType.PLAYER_MOVED)
+          ? eventFactory.playerMoved(player, fromTile, toTile)
+          : null;
+    }
+
+    @Override
+    public BoardGameEvent pieceSelected(int pieceIndex) {
+      return wants(EventType.PIECE_SELECTED) ? eventFactory.pieceSelected(pieceIndex) : null;
+    }
+
+    @Override
+    public BoardGameEvent turnChanged(Player player) {
+      return wants(EventType.TURN_CHANGED) ? eventFactory.turnChanged(player) : null;
+    }
+
+    @Override
+    public BoardGameEvent winnerDeclared(Player winner) {
+      return wants(EventType.WINNER_DECLARED) ? eventFactory.winnerDeclared(winner) : null;
     }
   }
 }
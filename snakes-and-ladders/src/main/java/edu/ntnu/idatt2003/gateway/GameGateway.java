@@ -1,6 +1,12 @@
 package edu.ntnu.idatt2003.gateway;
 
+import edu.games.engine.observer.BoardGameEvent;
+import edu.games.engine.observer.BoardGameEvent.EventType;
 import edu.games.engine.observer.BoardGameObserver;
+import edu.ntnu.idatt2003.gateway.event.EventSubscription;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.function.Predicate;
 
 /**
  * Defines the observer registration API for a game gateway.
@@ -17,6 +23,43 @@ public interface GameGateway {
    */
   void addObserver(BoardGameObserver observer);
 
+  /**
+   * Registers an observer that only receives events of the given types.
+   *
+   * @param observer the {@link BoardGameObserver} to add; must not be {@code null}
+   * @param types    the event types the observer wants; must not be empty
+   */
+  void addObserver(BoardGameObserver observer, Set<EventType> types);
+
+  /**
+   * Registers an observer that only receives the events that pass a filter.
+   *
+   * @param observer the {@link BoardGameObserver} to add; must not be {@code null}
+   * @param filter   the test every event must pass to reach the observer
+   */
+  void addObserver(BoardGameObserver observer, Predicate<? super BoardGameEvent> filter);
+
+  /**
+   * Subscribes an observer that receives every event on the given executor instead of
+   * on the thread that plays the game, replacing any earlier registration of it.
+   *
+   * @param observer the {@link BoardGameObserver} to subscribe; must not be {@code null}
+   * @param executor the executor to deliver events on, such as {@code Platform::runLater}
+   * @return the subscription; close it or call {@link #removeObserver} to unsubscribe
+   */
+  EventSubscription subscribe(BoardGameObserver observer, Executor executor);
+
+  /**
+   * Subscribes an observer that receives events of the given types only, on the given
+   * executor, replacing any earlier registration of it.
+   *
+   * @param observer the {@link BoardGameObserver} to subscribe; must not be {@code null}
+   * @param executor the executor to deliver events on, such as {@code Platform::runLater}
+   * @param types    the event types the observer wants; must not be empty
+   * @return the subscription; close it or call {@link #removeObserver} to unsubscribe
+   */
+  EventSubscription subscribe(BoardGameObserver observer, Executor executor, Set<EventType> types);
+
   /**
    * Unregisters a previously registered observer so it no longer receives game events.
    *
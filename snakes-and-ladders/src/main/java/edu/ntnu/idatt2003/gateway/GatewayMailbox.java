@@ -0,0 +1,211 @@
+package edu.ntnu.idatt2003.gateway;
+
+import edu.games.engine.exception.ValidationException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Confines a gateway to one writer at a time: the only way to reach it is to
+ * {@link #submit(Function)} a command, which is queued and run later.
+ * <p>
+ * Producers append to a lock-free queue and count the command in. The producer that
+ * takes the count from zero schedules one drain on the executor; the drain runs the
+ * queued commands in order, up to {@code maxBatch} at a time, and ends once the count
+ * is back at zero. At most one drain is ever scheduled, so the gateway needs no locking,
+ * and with a virtual-thread executor an idle mailbox holds no thread.
+ * <p>
+ * After every batch the drain runs the {@code afterBatch} hook on the gateway, and only
+ * then completes the batch's futures, so a caller that waited for its command sees what
+ * the hook published. Anything a command throws, {@link Error}s included, completes its
+ * own future and leaves the drain running.
+ *
+ * @param <G> the type of gateway behind the mailbox
+ */
+public final class GatewayMailbox<G extends AbstractGameGateway> {
+
+  private static final Logger LOG = Logger.getLogger(GatewayMailbox.class.getName());
+
+  private final G gateway;
+  private final Executor executor;
+  private final int maxBatch;
+  private final int maxPending;
+  private final Consumer<? super G> afterBatch;
+  private final Queue<Command<G, ?>> queue = new ConcurrentLinkedQueue<>();
+  private final AtomicInteger pending = new AtomicInteger();
+  private volatile Thread writer;
+  private volatile boolean closed;
+  private volatile boolean discarding;
+
+  /**
+   * Creates a mailbox.
+   *
+   * @param gateway    the gateway to confine; no other thread may use it afterwards
+   * @param executor   runs the drains
+   * @param maxBatch   most commands run before {@code afterBatch}
+   * @param maxPending most commands that may wait before new ones are refused
+   * @param afterBatch run on the gateway after every batch, before its futures complete
+   * @throws ValidationException if the batch size or the pending limit is not positive
+   */
+  public GatewayMailbox(G gateway, Executor executor, int maxBatch, int maxPending,
+      Consumer<? super G> afterBatch) {
+    this.gateway = Objects.requireNonNull(gateway, "Gateway cannot be null");
+    this.executor = Objects.requireNonNull(executor, "Executor cannot be null");
+    this.afterBatch = Objects.requireNonNull(afterBatch, "After-batch hook cannot be null");
+    if (maxBatch < 1) {
+      throw new ValidationException("Invalid maxBatch: must be greater than 0");
+    }
+    if (maxPending < 1) {
+      throw new ValidationException("Invalid maxPending: must be greater than 0");
+    }
+    this.maxBatch = maxBatch;
+    this.maxPending = maxPending;
+  }
+
+  /**
+   * Queues a command for the gateway and returns at once.
+   *
+   * @param action the command, given the gateway
+   * @param <T>    the type of the command's result
+   * @return a future completed with the command's result or whatever it threw, after the
+   *         {@code afterBatch} hook of its batch; completed with a
+   *         {@link RejectedExecutionException} if the mailbox is closed or full
+   */
+  public <T> CompletableFuture<T> submit(Function<? super G, ? extends T> action) {
+    Objects.requireNonNull(action, "Action cannot be null");
+    Command<G, T> command = new Command<>(action);
+    if (closed) {
+      command.result.completeExceptionally(new RejectedExecutionException("Mailbox is closed"));
+      return command.result;
+    }
+    if (pending.get() >= maxPending) {
+      command.result.completeExceptionally(new RejectedExecutionException("Mailbox is full"));
+      return command.result;
+    }
+    queue.add(command);
+    if (pending.getAndIncrement() == 0) {
+      try {
+        executor.execute(this::drain);
+      } catch (RejectedExecutionException e) {
+        closeNow();
+        drain();
+      }
+    }
+    return command.result;
+  }
+
+  /**
+   * Runs queued commands in batches until none are left. Only one drain runs at a time:
+   * a new one is scheduled only after this one has counted its last command out.
+   */
+  private void drain() {
+    List<Command<G, ?>> batch = new ArrayList<>(Math.min(maxBatch, 64));
+    int taken;
+    do {
+      taken = Math.min(maxBatch, pending.get());
+      for (int i = 0; i < taken; i++) {
+        batch.add(queue.poll());
+      }
+      writer = Thread.currentThread();
+      for (Command<G, ?> command : batch) {
+        if (discarding) {
+          command.failure = new RejectedExecutionException("Mailbox is closed");
+        } else {
+          command.run(gateway);
+        }
+      }
+      try {
+        afterBatch.accept(gateway);
+      } catch (Throwable e) {
+        LOG.log(Level.WARNING, "After-batch hook failed", e);
+      }
+      writer = null;
+      for (Command<G, ?> command : batch) {
+        command.complete();
+      }
+      batch.clear();
+    } while (pending.addAndGet(-taken) > 0);
+  }
+
+  /**
+   * Refuses new commands. Commands already queued still run.
+   */
+  public void close() {
+    closed = true;
+  }
+
+  /**
+   * Refuses new commands, and completes the ones still queued with a
+   * {@link RejectedExecutionException} instead of running them.
+   */
+  public void closeNow() {
+    discarding = true;
+    closed = true;
+  }
+
+  /**
+   * Returns whether the mailbox refuses new commands.
+   *
+   * @return {@code true} once closed
+   */
+  public boolean isClosed() {
+    return closed;
+  }
+
+  /**
+   * Returns the number of commands waiting in or being run from the mailbox.
+   *
+   * @return the number of pending commands
+   */
+  public int pending() {
+    return pending.get();
+  }
+
+  /**
+   * Returns whether the calling thread is running a batch, which makes it the only
+   * thread allowed to use the gateway directly.
+   *
+   * @return {@code true} on the writer thread
+   */
+  public boolean isWriterThread() {
+    return Thread.currentThread() == writer;
+  }
+
+  /** A queued command and, once run, its outcome. */
+  private static final class Command<G, T> {
+    private final Function<? super G, ? extends T> action;
+    private final CompletableFuture<T> result = new CompletableFuture<>();
+    private T value;
+    private Throwable failure;
+
+    Command(Function<? super G, ? extends T> action) {
+      this.action = action;
+    }
+
+    void run(G gateway) {
+      try {
+        value = action.apply(gateway);
+      } catch (Throwable e) {
+        failure = e;
+      }
+    }
+
+    void complete() {
+      if (failure != null) {
+        result.completeExceptionally(failure);
+      } else {
+        result.complete(value);
+      }
+    }
+  }
+}
@@ -1,26 +1,28 @@
 package edu.ntnu.idatt2003.gateway;
 
+import edu.games.engine.ai.LudoBot;
 import edu.games.engine.board.LudoBoard;
 import edu.games.engine.board.LudoPath;
-import edu.games.engine.board.Tile;
 import edu.games.engine.dice.factory.DiceFactory;
 import edu.games.engine.exception.ValidationException;
 import edu.games.engine.impl.DefaultGame;
 import edu.games.engine.impl.overlay.OverlayProvider;
+import edu.games.engine.model.LudoColor;
+import edu.games.engine.model.LudoState;
 import edu.games.engine.model.Player;
-import edu.games.engine.model.PlayerPiece;
 import edu.games.engine.model.Token;
-import edu.games.engine.observer.BoardGameEvent;
+import edu.games.engine.rule.LudoRuleEngine;
 import edu.games.engine.store.PlayerStore;
-import edu.games.engine.strategy.GameStrategy;
+import edu.games.engine.strategy.LudoGameStrategy;
+import edu.games.engine.strategy.MoveResult;
 import edu.games.engine.strategy.factory.GameStrategyFactory;
-import edu.ntnu.idatt2003.gateway.event.PlayerMoveData;
 import edu.ntnu.idatt2003.gateway.view.PlayerView;
+import edu.ntnu.idatt2003.model.dto.GameStateDTO;
 import edu.ntnu.idatt2003.persistence.BoardAdapter.MapData;
-import edu.ntnu.idatt2003.utils.Log;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 /**
@@ -33,6 +35,9 @@ import java.util.Objects;
 public final class LudoGateway extends AbstractGameGateway {
 
   private final DiceFactory diceFactory;
+  private LudoPath path;
+  private LudoRuleEngine rules;
+  private LudoGameStrategy strategy;
   private int selectedPieceIndex = -1;
   private Player winner = null;
 
@@ -68,15 +73,27 @@ public final class LudoGateway extends AbstractGameGateway {
    */
   @Override
   public void newGame(int ignored) {
-    LudoPath path = new LudoPath();
+    startGame();
+    notifyObservers(events().gameStarted(0));
+  }
+
+  /** Builds a path, board, rules and an empty game. */
+  private void startGame() {
+    startGame(new LudoPath());
+  }
+
+  /** Builds the board, rules and an empty game on a path. */
+  private void startGame(LudoPath path) {
+    this.path = path;
     LudoBoard board = new LudoBoard(path);
-    GameStrategy strategy = GameStrategyFactory.createLudoStrategy(path);
+    strategy = GameStrategyFactory.createLudoStrategy(path, gameLog());
+    rules = new LudoRuleEngine(path, gameLog());
 
-    game = new DefaultGame(board, strategy, new ArrayList<>(), diceFactory.create());
+    game = new DefaultGame(board, strategy, new ArrayList<>(), diceFactory.create(), gameLog());
     winner = null;
+    resetSelection();
 
     strategy.initializeGame(game);
-    notifyObservers(new BoardGameEvent(BoardGameEvent.EventType.GAME_STARTED, 0));
   }
 
   /**
@@ -102,7 +119,7 @@ public final class LudoGateway extends AbstractGameGateway {
     game.setCurrentPlayerIndex(0);
     winner = null;
 
-    notifyObservers(new BoardGameEvent(BoardGameEvent.EventType.GAME_RESET, null));
+    notifyObservers(events().gameReset());
   }
 
   /**
@@ -120,7 +137,106 @@ public final class LudoGateway extends AbstractGameGateway {
     Player player = new Player(playerName, mapStringToToken(playerToken), birthday);
     game.getPlayers().add(player);
 
-    notifyObservers(new BoardGameEvent(BoardGameEvent.EventType.PLAYER_ADDED, player));
+    notifyObservers(events().playerAdded(player));
+  }
+
+  /**
+   * Packs the current position into a compact state for search or simulation.
+   *
+   * @return the packed position
+   * @throws NullPointerException if game is not initialized
+   * @throws ValidationException  if there are no players
+   */
+  public LudoState snapshotState() {
+    Objects.requireNonNull(game, "Call newGame before taking a snapshot");
+    return rules.capture(game);
+  }
+
+  /**
+   * Restores a packed position, re-evaluates the winner and notifies observers.
+   *
+   * @param state the position to restore
+   * @throws NullPointerException if game is not initialized
+   * @throws ValidationException  if the seating does not match the current players
+   */
+  public void restoreState(LudoState state) {
+    Objects.requireNonNull(game, "Call newGame before restoring a snapshot");
+    rules.restore(state, game);
+    resetSelection();
+    winner = null;
+    for (int seat = 0; seat < state.seatCount(); seat++) {
+      if (rules.hasWon(state, state.seatColor(seat))) {
+        winner = game.getPlayers().get(seat);
+      }
+    }
+
+    notifyTurnChanged();
+    if (winner != null) {
+      notifyObservers(events().winnerDeclared(winner));
+    }
+  }
+
+  /**
+   * Captures the game in progress, including the selected piece.
+   *
+   * @return the game state, ready to be saved
+   * @throws NullPointerException if game is not initialized
+   */
+  @Override
+  public GameStateDTO exportState() {
+    Objects.requireNonNull(game, "Call newGame before saving");
+    return new GameStateDTO(
+        GameStateDTO.LUDO,
+        boardSize(),
+        Map.of(),
+        Map.of(),
+        exportPlayers(),
+        game.getCurrentPlayerIndex(),
+        winner == null ? -1 : game.getPlayers().indexOf(winner),
+        selectedPieceIndex,
+        lastDiceValues);
+  }
+
+  /**
+   * Starts a fresh board and resumes the saved game on it. Every piece must stand on its
+   * own color's route, and a piece can only be selected after a roll. The save is checked
+   * in full before the current game is replaced, so a rejected save leaves it untouched.
+   *
+   * @param state the game state to resume
+   * @throws ValidationException if the state is not a Ludo game or does not fit the board
+   */
+  @Override
+  public void importState(GameStateDTO state) {
+    Objects.requireNonNull(state, "State cannot be null.");
+    checkGameType(state, GameStateDTO.LUDO);
+    checkIndex("selectedPieceIndex", state.selectedPieceIndex(), LudoState.PIECES);
+    LudoPath savedPath = new LudoPath();
+    List<Player> players = importPlayers(state, (player, tileId) -> {
+      LudoColor color = LudoColor.valueOf(player.getToken().name());
+      return savedPath.tileAt(color, savedPath.routeIndexOf(color, tileId));
+    });
+    if (state.selectedPieceIndex() >= 0 && state.lastDiceValues().isEmpty()) {
+      throw new ValidationException("Invalid selectedPieceIndex: no dice have been rolled");
+    }
+    startGame(savedPath);
+    seatPlayers(state, players);
+    winner = state.winnerIndex() < 0 ? null : game.getPlayers().get(state.winnerIndex());
+    selectedPieceIndex = state.selectedPieceIndex();
+    notifyObservers(events().gameReset());
+  }
+
+  /**
+   * Clears the selection and re-evaluates the winner after a checkpoint is restored.
+   */
+  @Override
+  protected void onRestored() {
+    resetSelection();
+    winner = null;
+    for (Player player : game.getPlayers()) {
+      if (game.getStrategy().checkWinCondition(player, game)) {
+        winner = player;
+      }
+    }
   }
 
   /**
@@ -137,8 +253,32 @@ public final class LudoGateway extends AbstractGameGateway {
       throw new ValidationException("pieceIndex out of range: " + pieceIndex);
     }
     selectedPieceIndex = pieceIndex;
-    notifyObservers(
-        new BoardGameEvent(BoardGameEvent.EventType.PIECE_SELECTED, selectedPieceIndex));
+    notifyObservers(events().pieceSelected(selectedPieceIndex));
+  }
+
+  /**
+   * Returns the piece selected by the current player.
+   *
+   * @return the index of the selected piece, or -1 if none is selected
+   */
+  public int selectedPieceIndex() {
+    return selectedPieceIndex;
+  }
+
+  /**
+   * Lets a computer player choose the piece to move with the last roll and selects it.
+   *
+   * @param bot the bot deciding for the current player
+   * @return the selected piece index, or -1 if there is nothing to decide
+   */
+  public int selectPieceWith(LudoBot bot) {
+    Objects.requireNonNull(bot, "Bot cannot be null");
+    if (game == null || game.getPlayers().isEmpty() || winner != null || lastDiceValues.isEmpty()) {
+      return -1;
+    }
+    int pieceIndex = bot.choosePiece(rules.capture(game), lastDiceValues.get(0));
+    selectPiece(pieceIndex);
+    return pieceIndex;
   }
 
   /**
@@ -172,101 +312,34 @@ public final class LudoGateway extends AbstractGameGateway {
   private int performDiceRoll() {
     final int roll = game.getDice().roll();
     lastDiceValues = game.getDice().lastValues();
-    notifyObservers(new BoardGameEvent(BoardGameEvent.EventType.DICE_ROLLED, lastDiceValues));
-    Log.game().info(() -> "%s rolled %s".formatted(game.currentPlayer().getName(), lastDiceValues));
+    notifyObservers(events().diceRolled(lastDiceValues));
+    gameLog().info(() -> "%s rolled %s".formatted(game.currentPlayer().getName(), lastDiceValues));
     return roll;
   }
 
   /**
-   * Executes the process of moving the chosen piece:
-   * calculates destination, validates move, executes movement,
-   * applies post-move rules, and advances or retains turn.
+   * Moves the chosen piece through the strategy, which applies the rules and passes or
+   * keeps the turn, and notifies observers of the winner, the move and the turn.
    *
    * @param roll the dice roll value
    */
   private void moveSelectedPiece(int roll) {
     Player player = game.currentPlayer();
-    PlayerPiece piece = player.getPiece(selectedPieceIndex);
-    Tile from = piece.getCurrentTile();
-    Tile to = calculateDestination(player, roll);
-
-    if (!hasMoved(from, to)) {
-      passTurnToNextPlayer(player);
-      notifyTurnChanged();
-      resetSelection();
-      return;
+    MoveResult move = strategy.playMove(player, selectedPieceIndex, roll, game);
+    if (move.moved()) {
+      if (move.won()) {
+        winner = player;
+        notifyObservers(events().winnerDeclared(winner));
+      }
+      notifyObservers(events().playerMoved(player, move.from(), move.to()));
     }
-
-    executeMove(piece, to);
-    postMoveProcessing(player, piece, from, to, roll);
-    resetSelection();
-  }
-
-  /** Determines the destination tile for a move. */
-  private Tile calculateDestination(Player player, int roll) {
-    return game.getStrategy().movePiece(player, selectedPieceIndex, roll, game);
-  }
-
-  /** Checks if a move actually changes the tile position. */
-  private boolean hasMoved(Tile from, Tile to) {
-    if (to == null) {
-      return false;
-    }
-    if (from == null) {
-      return true;
-    }
-    return to.tileId() != from.tileId();
-  }
-
-  /** Applies the tile change to the piece. */
-  private void executeMove(PlayerPiece piece, Tile destination) {
-    piece.moveTo(destination);
-  }
-
-  /**
-   * Handles post-move logic: special rules, extra turn, winner declaration,
-   * notification of move and turn change.
-   */
-  private void postMoveProcessing(Player player, PlayerPiece piece, Tile from, Tile to, int roll) {
-    GameStrategy strategy = game.getStrategy();
-    strategy.applySpecialRules(player, piece, to, game);
-    strategy.processDiceRoll(player, roll, game); // may grant extra turn
-    declareWinnerIfAny(player);
-
-    notifyObservers(
-        new BoardGameEvent(
-            BoardGameEvent.EventType.PLAYER_MOVED, new PlayerMoveData(player, from, to)));
-
-    advanceTurnIfNoExtraTurn(player, roll);
     notifyTurnChanged();
-  }
-
-  /** Declares a winner and notifies observers if the player has won. */
-  private void declareWinnerIfAny(Player player) {
-    if (game.getStrategy().checkWinCondition(player, game)) {
-      winner = player;
-      notifyObservers(new BoardGameEvent(BoardGameEvent.EventType.WINNER_DECLARED, winner));
-    }
-  }
-
-  /** Advances the turn if no extra turn was granted by the rules. */
-  private void advanceTurnIfNoExtraTurn(Player player, int roll) {
-    boolean extraTurn = game.getStrategy().processDiceRoll(player, roll, game);
-    if (!extraTurn) {
-      passTurnToNextPlayer(player);
-    }
-  }
-
-  /** Moves the current index to the next player. */
-  private void passTurnToNextPlayer(Player current) {
-    int nextIdx = (game.getPlayers().indexOf(current) + 1) % game.getPlayers().size();
-    game.setCurrentPlayerIndex(nextIdx);
+    resetSelection();
   }
 
   /** Notifies observers that the turn has changed. */
   private void notifyTurnChanged() {
-    notifyObservers(
-        new BoardGameEvent(BoardGameEvent.EventType.TURN_CHANGED, game.currentPlayer()));
+    notifyObservers(events().turnChanged(game.currentPlayer()));
   }
 
   /** Resets the selected piece index for the next action. */
@@ -1,27 +1,31 @@
 package edu.ntnu.idatt2003.gateway;
 
 import edu.games.engine.board.Board;
-import edu.games.engine.board.LinearBoard;
-import edu.games.engine.board.LinearTile;
+import edu.games.engine.board.IndexedBoard;
+import edu.games.engine.board.Tile;
 import edu.games.engine.board.factory.JsonBoardLoader;
 import edu.games.engine.dice.Dice;
-import edu.games.engine.dice.RandomDice;
 import edu.games.engine.dice.factory.DiceFactory;
+import edu.games.engine.exception.ValidationException;
 import edu.games.engine.impl.DefaultGame;
 import edu.games.engine.impl.overlay.OverlayProvider;
 import edu.games.engine.model.Player;
 import edu.games.engine.model.Token;
-import edu.games.engine.observer.BoardGameEvent;
+import edu.games.engine.simulation.SnlSimulator;
+import edu.games.engine.simulation.WinOdds;
+import edu.games.engine.simulation.WinOddsEstimator;
 import edu.games.engine.store.PlayerStore;
 import edu.games.engine.strategy.GameStrategy;
 import edu.games.engine.strategy.SnlGameStrategy;
 import edu.games.engine.strategy.factory.GameStrategyFactory;
-import edu.ntnu.idatt2003.gateway.event.PlayerMoveData;
 import edu.ntnu.idatt2003.gateway.view.PlayerView;
+import edu.ntnu.idatt2003.gateway.view.WinOddsView;
+import edu.ntnu.idatt2003.model.dto.GameStateDTO;
 import edu.ntnu.idatt2003.persistence.BoardAdapter;
 import edu.ntnu.idatt2003.persistence.BoardFactory;
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -31,14 +35,20 @@ import java.util.Objects;
  * <p>
  * Responsible for initializing, resetting, and driving game play,
  * notifying observers of events such as dice rolls, moves, and game start/reset.
+ * After every roll, a background {@link WinOddsEstimator} plays the position out to
+ * estimate each player's chance of winning, available through {@link #winOdds()}.
  */
 public final class SnlGateway extends AbstractGameGateway {
   private final JsonBoardLoader boardFactory;
   private final DiceFactory diceFactory;
+  private final WinOddsEstimator winOddsEstimator;
   private GameStrategy gameStrategy;
+  private SnlSimulator simulator;
+  private BoardAdapter.MapData boardConfig;
 
   /**
-   * Constructs a new SnlGateway with the given dependencies.
+   * Constructs a new SnlGateway with the given dependencies. Win odds are estimated on
+   * the worker pool shared by all gateways, so the gateway holds no threads of its own.
    *
    * @param boardFactory    loader for board configurations
    * @param diceFactory     factory to create dice instances
@@ -50,9 +60,29 @@ public final class SnlGateway extends AbstractGameGateway {
       DiceFactory diceFactory,
       PlayerStore playerStore,
       OverlayProvider overlayProvider) {
+    this(boardFactory, diceFactory, playerStore, overlayProvider, new WinOddsEstimator());
+  }
+
+  /**
+   * Constructs a new SnlGateway with the given dependencies and win-odds estimator.
+   *
+   * @param boardFactory     loader for board configurations
+   * @param diceFactory      factory to create dice instances
+   * @param playerStore      persistence for player data
+   * @param overlayProvider  provider for UI overlays
+   * @param winOddsEstimator background estimator of each player's chance of winning,
+   *                         or {@code null} to run without estimates
+   */
+  public SnlGateway(
+      JsonBoardLoader boardFactory,
+      DiceFactory diceFactory,
+      PlayerStore playerStore,
+      OverlayProvider overlayProvider,
+      WinOddsEstimator winOddsEstimator) {
     super(playerStore, overlayProvider);
     this.boardFactory = boardFactory;
     this.diceFactory = diceFactory;
+    this.winOddsEstimator = winOddsEstimator;
   }
 
   /**
@@ -64,27 +94,43 @@ public final class SnlGateway extends AbstractGameGateway {
   @Override
   public void newGame(int size) {
     String resource = "/boards/board" + size + ".json";
-    BoardAdapter.MapData map = BoardFactory.loadFromClasspath(resource);
-    this.gameStrategy = GameStrategyFactory.createSnlStrategy(map);
-    Board board = boardFactory.create(map.boardSize());
+    startGame(BoardFactory.loadFromClasspath(resource));
+    notifyObservers(events().gameStarted(size));
+  }
+
+  /** Builds the strategy, board, dice and an empty game for a board configuration. */
+  private void startGame(BoardAdapter.MapData map) {
+    startGame(map, boardFactory.create(map.boardSize()));
+  }
+
+  /**
+   * Builds the strategy, dice and an empty game on a board, and only then makes them
+   * current, so a configuration that fails to build leaves the game in progress alone.
+   */
+  private void startGame(BoardAdapter.MapData map, Board board) {
+    GameStrategy strategy = GameStrategyFactory.createSnlStrategy(map, gameLog());
+    SnlSimulator mapSimulator = winOddsEstimator == null ? null : new SnlSimulator(map);
     Dice dice = diceFactory.create();
-    game = new DefaultGame(board, gameStrategy, new ArrayList<>(), dice);
+    DefaultGame started = new DefaultGame(board, strategy, new ArrayList<>(), dice, gameLog());
+    strategy.initializeGame(started);
 
-    gameStrategy.initializeGame(game);
-    notifyObservers(new BoardGameEvent(BoardGameEvent.EventType.GAME_STARTED, size));
+    this.boardConfig = map;
+    this.gameStrategy = strategy;
+    this.simulator = mapSimulator;
+    clearWinOdds();
+    game = started;
   }
 
   /**
-   * Starts a new game from pre-loaded MapData.
-   * Uses a default linear board and two-dice random roller.
+   * Starts a new game from pre-loaded MapData, with its snakes and ladders on the board.
    *
-   * @param data the map data (ignored for board content)
+   * @param data the board size, snakes and ladders to play with
    */
   @Override
   public void newGame(BoardAdapter.MapData data) {
-    LinearBoard board = new LinearBoard(data.boardSize());
-    Dice dice = new RandomDice(2);
-    game = new DefaultGame(board, gameStrategy, new ArrayList<>(), dice);
+    Objects.requireNonNull(data, "Map data cannot be null.");
+    startGame(data);
+    notifyObservers(events().gameStarted(data.boardSize()));
   }
 
   /**
@@ -97,7 +143,64 @@ public final class SnlGateway extends AbstractGameGateway {
     game.getPlayers().forEach(p -> p.moveTo(game.getBoard().start()));
     game.setWinner(null);
     game.setCurrentPlayerIndex(0);
-    notifyObservers(new BoardGameEvent(BoardGameEvent.EventType.GAME_RESET, null));
+    refreshWinOdds();
+    notifyObservers(events().gameReset());
+  }
+
+  /**
+   * Captures the game in progress, including the snakes and ladders of its board.
+   *
+   * @return the game state, ready to be saved
+   * @throws NullPointerException if game is not initialized
+   */
+  @Override
+  public GameStateDTO exportState() {
+    Objects.requireNonNull(game, "Call newGame before saving");
+    int winnerIndex = game.getWinner().map(game.getPlayers()::indexOf).orElse(-1);
+    return new GameStateDTO(
+        GameStateDTO.SNAKES_AND_LADDERS,
+        boardConfig.boardSize(),
+        getSnakes(),
+        getLadders(),
+        exportPlayers(),
+        game.getCurrentPlayerIndex(),
+        winnerIndex,
+        -1,
+        lastDiceValues);
+  }
+
+  /**
+   * Rebuilds the saved board from its snakes and ladders and resumes the saved game on it.
+   * The save is checked in full before the current game is replaced, so a rejected save
+   * leaves it untouched.
+   *
+   * @param state the game state to resume
+   * @throws ValidationException if the state is not a Snakes and Ladders game or does not fit the board
+   */
+  @Override
+  public void importState(GameStateDTO state) {
+    Objects.requireNonNull(state, "State cannot be null.");
+    checkGameType(state, GameStateDTO.SNAKES_AND_LADDERS);
+    BoardAdapter.MapData map =
+        new BoardAdapter.MapData(state.boardSize(), state.snakes(), state.ladders());
+    Board savedBoard = boardFactory.create(map.boardSize());
+    if (!(savedBoard instanceof IndexedBoard board)) {
+      throw new ValidationException("Board does not support looking up tiles by ID");
+    }
+    List<Player> players = importPlayers(state, (player, tileId) -> board.tile(tileId));
+    startGame(map, savedBoard);
+    seatPlayers(state, players);
+    game.setWinner(state.winnerIndex() < 0 ? null : game.getPlayers().get(state.winnerIndex()));
+    refreshWinOdds();
+    notifyObservers(events().gameReset());
+  }
+
+  /**
+   * Restarts the win-odds estimate for the restored position.
+   */
+  @Override
+  protected void onRestored() {
+    refreshWinOdds();
   }
 
   /**
@@ -113,7 +216,8 @@ public final class SnlGateway extends AbstractGameGateway {
     Player newPlayer = new Player(playerName, mapStringToToken(playerToken), birthday);
     newPlayer.moveTo(game.getBoard().start());
     game.getPlayers().add(newPlayer);
-    notifyObservers(new BoardGameEvent(BoardGameEvent.EventType.PLAYER_ADDED, newPlayer));
+    refreshWinOdds();
+    notifyObservers(events().playerAdded(newPlayer));
   }
 
   /**
@@ -130,21 +234,18 @@ public final class SnlGateway extends AbstractGameGateway {
 
     int rollValue = game.playTurn();
     lastDiceValues = game.getDice().lastValues();
-    notifyObservers(new BoardGameEvent(BoardGameEvent.EventType.DICE_ROLLED, lastDiceValues));
+    refreshWinOdds();
+    notifyObservers(events().diceRolled(lastDiceValues));
 
     if (currentPlayer.getCurrentTile().tileId() != startPosition) {
-      notifyObservers(new BoardGameEvent(
-          BoardGameEvent.EventType.PLAYER_MOVED,
-          new PlayerMoveData(
-              currentPlayer,
-              startPosition,
-              currentPlayer.getCurrentTile().tileId())));
+      notifyObservers(events().playerMoved(
+          currentPlayer, startPosition, currentPlayer.getCurrentTile().tileId()));
     }
 
     game.getWinner().ifPresent(w ->
-        notifyObservers(new BoardGameEvent(BoardGameEvent.EventType.WINNER_DECLARED, w)));
+        notifyObservers(events().winnerDeclared(w)));
 
-    notifyObservers(new BoardGameEvent(BoardGameEvent.EventType.TURN_CHANGED, game.currentPlayer()));
+    notifyObservers(events().turnChanged(game.currentPlayer()));
     return rollValue;
   }
 
@@ -156,8 +257,8 @@ public final class SnlGateway extends AbstractGameGateway {
   @Override
   public int boardSize() {
     if (game == null) return 0;
-    LinearBoard linearBoard = (LinearBoard) game.getBoard();
-    return ((LinearTile) linearBoard.move(linearBoard.start(), Integer.MAX_VALUE)).tileId();
+    Board board = game.getBoard();
+    return board.move(board.start(), Integer.MAX_VALUE).tileId();
   }
 
   /**
@@ -215,4 +316,57 @@ public final class SnlGateway extends AbstractGameGateway {
     }
     return Map.of();
   }
+
+  /**
+   * Returns the latest estimate of each player's chance of winning.
+   * Never waits for the background rollouts; while they run, the estimate is refined
+   * between calls, and an estimate for an earlier turn is never returned.
+   *
+   * @return the win probabilities in the same order as {@link #players()}
+   */
+  public WinOddsView winOdds() {
+    if (winOddsEstimator == null || game == null) {
+      return WinOddsView.EMPTY;
+    }
+    WinOdds odds = winOddsEstimator.latest();
+    if (odds.seats() != game.getPlayers().size()) {
+      return WinOddsView.EMPTY;
+    }
+    return new WinOddsView(
+        Arrays.stream(odds.probabilities()).boxed().toList(), odds.rollouts(), odds.complete());
+  }
+
+  /**
+   * Hands a copy of the current positions to the estimator, which cancels the
+   * rollouts for the previous turn. Positions the simulator cannot play,
+   * such as tiles of a board it was not built for, clear the estimate instead.
+   */
+  private void refreshWinOdds() {
+    List<Player> players = game.getPlayers();
+    if (simulator == null || players.isEmpty()) {
+      clearWinOdds();
+      return;
+    }
+    int[] positions = new int[players.size()];
+    for (int seat = 0; seat < positions.length; seat++) {
+      Tile tile = players.get(seat).getCurrentTile();
+      if (tile == null) {
+        clearWinOdds();
+        return;
+      }
+      positions[seat] = tile.tileId();
+    }
+    int seatToMove = Math.max(players.indexOf(game.currentPlayer()), 0);
+    try {
+      winOddsEstimator.submit(simulator, positions, seatToMove);
+    } catch (ValidationException e) {
+      clearWinOdds();
+    }
+  }
+
+  private void clearWinOdds() {
+    if (winOddsEstimator != null) {
+      winOddsEstimator.clear();
+    }
+  }
 }
@@ -1,7 +1,7 @@
 package edu.ntnu.idatt2003.gateway;
 
+import edu.games.engine.board.factory.ArrayLinearBoardFactory;
 import edu.games.engine.board.factory.JsonBoardLoader;
-import edu.games.engine.board.factory.LinearBoardFactory;
 import edu.games.engine.dice.factory.DiceFactory;
 import edu.games.engine.dice.factory.RandomDiceFactory;
 import edu.games.engine.impl.CsvPlayerStore;
@@ -15,7 +15,7 @@ import edu.games.engine.store.PlayerStore;
  * <p>
  * Uses:
  * <ul>
- *   <li>{@link LinearBoardFactory} for board loading</li>
+ *   <li>{@link ArrayLinearBoardFactory} for board loading</li>
  *   <li>{@link RandomDiceFactory} for dice creation</li>
  *   <li>{@link CsvPlayerStore} for player persistence</li>
  *   <li>{@link JsonOverlayProvider} for UI overlays</li>
@@ -25,13 +25,13 @@ public final class SnlGatewayFactory {
 
   /**
    * Creates and returns a fully configured {@link SnlGateway} using
-   * the default JSON-based board loader, random dice, CSV player store,
+   * the array-backed board loader, random dice, CSV player store,
    * and JSON overlay provider.
    *
    * @return a ready-to-use {@link SnlGateway} instance
    */
   public static SnlGateway createDefault() {
-    JsonBoardLoader boardLoader = new LinearBoardFactory();
+    JsonBoardLoader boardLoader = new ArrayLinearBoardFactory();
     DiceFactory diceFactory = new RandomDiceFactory();
     PlayerStore playerStore = new CsvPlayerStore();
     OverlayProvider overlayProv = new JsonOverlayProvider("/overlays/");
@@ -39,6 +39,22 @@ public final class SnlGatewayFactory {
     return new SnlGateway(boardLoader, diceFactory, playerStore, overlayProv);
   }
 
+  /**
+   * Creates a {@link SnlGateway} for headless runs: the same board loader and dice as
+   * {@link #createDefault()}, but without background win-odds estimates, which would
+   * otherwise start a round of rollouts after every roll.
+   *
+   * @return a gateway suited to bot-driven games without a UI
+   */
+  public static SnlGateway createHeadless() {
+    return new SnlGateway(
+        new ArrayLinearBoardFactory(),
+        new RandomDiceFactory(),
+        new CsvPlayerStore(),
+        new JsonOverlayProvider("/overlays/"),
+        null);
+  }
+
   /**
    * Private constructor to prevent instantiation.
    */
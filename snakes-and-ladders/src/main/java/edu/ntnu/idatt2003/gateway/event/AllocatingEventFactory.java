@@ -0,0 +1,10 @@
+package edu.ntnu.idatt2003.gateway.event;
+
+/** The factory that builds a new event every time; every method keeps its default. */
+final class AllocatingEventFactory implements EventFactory {
+
+  static final AllocatingEventFactory INSTANCE = new AllocatingEventFactory();
+
+  private AllocatingEventFactory() {
+  }
+}
@@ -0,0 +1,263 @@
+package edu.ntnu.idatt2003.gateway.event;
+
+import edu.games.engine.observer.BoardGameEvent;
+import edu.games.engine.observer.BoardGameEvent.EventType;
+import edu.games.engine.observer.BoardGameObserver;
+import edu.games.engine.observer.ObserverIndex;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.function.Predicate;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Copy-on-write registry of the observers of one gateway, and the code that delivers
+ * events to them.
+ * <p>
+ * Observers are kept in {@link ObserverIndex}es, one array per event type, that are
+ * replaced, never changed, when an observer is added or removed. Publishing reads the
+ * array for the event's type and walks it, so it neither copies nor locks, and touches
+ * only the observers that asked for that type; registration, which is rare, builds new
+ * arrays. An observer added or removed while an event is being published may or may
+ * not receive that event.
+ * <p>
+ * Observers registered with {@link #add(BoardGameObserver)} are called on the
+ * publishing thread, in the order they were added, before {@link #publish} returns.
+ * Observers registered with {@link #subscribe} get the event later, on their own
+ * executor, through an {@link EventSubscription}; for them publishing costs one ring
+ * buffer write, however slow the observer is. Events are expected to be published from
+ * one thread at a time, as the gateways do.
+ * <p>
+ * An observer is registered at most once. Adding one that is already added or subscribed
+ * does nothing; subscribing one replaces its earlier registration, so moving an observer
+ * from {@code add} to {@code subscribe} never delivers events to it twice.
+ */
+public final class EventDispatcher {
+
+  private static final Logger LOG = Logger.getLogger(EventDispatcher.class.getName());
+  private static final Set<EventType> ALL_TYPES =
+      Collections.unmodifiableSet(EnumSet.allOf(EventType.class));
+
+  private final Object lock = new Object();
+  private final ObserverIndex observers = new ObserverIndex();
+  private final ObserverIndex subscriptions = new ObserverIndex();
+
+  /**
+   * Registers an observer that is called on the publishing thread for every event.
+   *
+   * @param observer the observer to add
+   * @return {@code false} if the observer was already added or subscribed
+   */
+  public boolean add(BoardGameObserver observer) {
+    return add(observer, ALL_TYPES, null);
+  }
+
+  /**
+   * Registers an observer that is called on the publishing thread for events of the
+   * given types only.
+   *
+   * @param observer the observer to add
+   * @param types    the event types the observer wants
+   * @return {@code false} if the observer was already added or subscribed
+   * @throws edu.games.engine.exception.ValidationException if no type is given
+   */
+  public boolean add(BoardGameObserver observer, Set<EventType> types) {
+    return add(observer, types, null);
+  }
+
+  /**
+   * Registers an observer that is called on the publishing thread for the events that
+   * pass a filter. The filter runs on the publishing thread for every event.
+   *
+   * @param observer the observer to add
+   * @param filter   the test every event must pass to reach the observer
+   * @return {@code false} if the observer was already added or subscribed
+   */
+  public boolean add(BoardGameObserver observer, Predicate<? super BoardGameEvent> filter) {
+    return add(observer, ALL_TYPES, Objects.requireNonNull(filter, "Filter cannot be null"));
+  }
+
+  private boolean add(
+      BoardGameObserver observer, Set<EventType> types, Predicate<? super BoardGameEvent> filter) {
+    Objects.requireNonNull(observer, "Observer cannot be null");
+    synchronized (lock) {
+      if (observers.anyMatch(guarded -> ((Guarded) guarded).observer().equals(observer))
+          || subscriptions.anyMatch(forward -> subscribes(forward, observer))) {
+        return false;
+      }
+      observers.add(new Guarded(observer), types, filter);
+      return true;
+    }
+  }
+
+  /**
+   * Subscribes an observer that receives every event on the given executor, with the
+   * default capacity and {@link WaitStrategy#blocking()}.
+   *
+   * @param observer the observer to subscribe
+   * @param executor the executor to deliver events on
+   * @return the subscription; close it to unsubscribe
+   */
+  public EventSubscription subscribe(BoardGameObserver observer, Executor executor) {
+    return subscribe(observer, executor, ALL_TYPES);
+  }
+
+  /**
+   * Subscribes an observer that receives events of the given types on the given
+   * executor, with the default capacity and {@link WaitStrategy#blocking()}. Events of
+   * other types are never written to its ring buffer.
+   *
+   * @param observer the observer to subscribe
+   * @param executor the executor to deliver events on
+   * @param types    the event types the observer wants
+   * @return the subscription; close it to unsubscribe
+   * @throws edu.games.engine.exception.ValidationException if no type is given
+   */
+  public EventSubscription subscribe(
+      BoardGameObserver observer, Executor executor, Set<EventType> types) {
+    return subscribe(
+        observer, executor, EventSubscription.DEFAULT_CAPACITY, WaitStrategy.blocking(), types);
+  }
+
+  /**
+   * Subscribes an observer that receives every event on the given executor.
+   *
+   * @param observer     the observer to subscribe
+   * @param executor     the executor to deliver events on
+   * @param capacity     how many events the observer may fall behind before events are
+   *                     dropped, rounded up to a power of two
+   * @param waitStrategy what the observer's drain task does when it runs out of events
+   * @return the subscription; close it to unsubscribe
+   * @throws edu.games.engine.exception.ValidationException if the capacity is not
+   *                                                        between 1 and 2^30
+   */
+  public EventSubscription subscribe(
+      BoardGameObserver observer, Executor executor, int capacity, WaitStrategy waitStrategy) {
+    return subscribe(observer, executor, capacity, waitStrategy, ALL_TYPES);
+  }
+
+  /**
+   * Subscribes an observer that receives events of the given types on the given executor.
+   *
+   * @param observer     the observer to subscribe
+   * @param executor     the executor to deliver events on
+   * @param capacity     how many events the observer may fall behind before events are
+   *                     dropped, rounded up to a power of two
+   * @param waitStrategy what the observer's drain task does when it runs out of events
+   * @param types        the event types the observer wants
+   * @return the subscription; close it to unsubscribe
+   * @throws edu.games.engine.exception.ValidationException if the capacity is not
+   *                                                        between 1 and 2^30, or no
+   *                                                        type is given
+   */
+  public EventSubscription subscribe(BoardGameObserver observer, Executor executor,
+      int capacity, WaitStrategy waitStrategy, Set<EventType> types) {
+    EventSubscription subscription =
+        new EventSubscription(this, observer, executor, capacity, waitStrategy);
+    List<BoardGameObserver> replaced;
+    synchronized (lock) {
+      try {
+        subscriptions.add(new Forward(subscription), types, null);
+      } catch (RuntimeException e) {
+        subscription.close();
+        throw e;
+      }
+      observers.removeIf(guarded -> ((Guarded) guarded).observer().equals(observer));
+      replaced = subscriptions.removeIf(forward ->
+          ((Forward) forward).subscription() != subscription && subscribes(forward, observer));
+    }
+    for (BoardGameObserver forward : replaced) {
+      ((Forward) forward).subscription().close();
+    }
+    return subscription;
+  }
+
+  private static boolean subscribes(BoardGameObserver forward, BoardGameObserver observer) {
+    return ((Forward) forward).subscription().observer().equals(observer);
+  }
+
+  /**
+   * Unregisters an observer, whether it was added or subscribed. A subscription is
+   * closed.
+   *
+   * @param observer the observer to remove
+   * @return {@code true} if the observer was registered
+   */
+  public boolean remove(BoardGameObserver observer) {
+    if (observer == null) {
+      return false;
+    }
+    boolean removed = !observers
+        .removeIf(guarded -> ((Guarded) guarded).observer().equals(observer))
+        .isEmpty();
+    List<BoardGameObserver> closing = subscriptions.removeIf(forward -> subscribes(forward, observer));
+    for (BoardGameObserver forward : closing) {
+      ((Forward) forward).subscription().close();
+    }
+    return removed || !closing.isEmpty();
+  }
+
+  /** Called by a subscription that is being closed. */
+  void remove(EventSubscription subscription) {
+    subscriptions.removeIf(forward -> ((Forward) forward).subscription() == subscription);
+  }
+
+  /**
+   * Returns whether any observer is registered.
+   *
+   * @return {@code true} if publishing would reach somebody
+   */
+  public boolean hasObservers() {
+    return !observers.isEmpty() || !subscriptions.isEmpty();
+  }
+
+  /**
+   * Returns whether an event of the given type would reach any observer, before filters.
+   * Producers use it to skip building events nobody wants.
+   *
+   * @param type the event type
+   * @return {@code true} if an observer is added or subscribed for the type
+   */
+  public boolean wants(EventType type) {
+    return observers.wants(type) || subscriptions.wants(type);
+  }
+
+  /**
+   * Delivers an event: calls the added observers that want it in turn, catching and
+   * logging their errors, then hands it to every subscription that wants it. Observers
+   * registered for other event types are not touched at all.
+   *
+   * @param event the event to publish
+   */
+  public void publish(BoardGameEvent event) {
+    observers.publish(event);
+    subscriptions.publish(event);
+  }
+
+  /** An added observer, with its errors caught and logged. */
+  private record Guarded(BoardGameObserver observer) implements BoardGameObserver {
+    @Override
+    public void update(BoardGameEvent event) {
+      try {
+        observer.update(event);
+      } catch (Exception e) {
+        LOG.log(Level.SEVERE,
+            "Error in observer " + observer.getClass().getName()
+                + " during update for event " + event.getTypeOfEvent(),
+            e);
+      }
+    }
+  }
+
+  /** Hands events to a subscription's ring buffer. */
+  private record Forward(EventSubscription subscription) implements BoardGameObserver {
+    @Override
+    public void update(BoardGameEvent event) {
+      subscription.publish(event);
+    }
+  }
+}
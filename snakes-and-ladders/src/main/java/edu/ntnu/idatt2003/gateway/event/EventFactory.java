@@ -0,0 +1,151 @@
+package edu.ntnu.idatt2003.gateway.event;
+
+import edu.games.engine.board.Tile;
+import edu.games.engine.model.Player;
+import edu.games.engine.observer.BoardGameEvent;
+import edu.games.engine.observer.GameEvent;
+import java.util.List;
+
+/**
+ * Builds the events a gateway publishes.
+ * <p>
+ * The default, {@link #allocating()}, builds a new event every time. {@link #flyweight()}
+ * hands out the same immutable event whenever it is asked for the same one again, so a
+ * long headless run produces next to no garbage for its rolls, moves and turns. Observers
+ * of a flyweight factory must not tell events apart by identity: two turns with the same
+ * roll publish the very same object.
+ */
+public interface EventFactory {
+
+  /**
+   * Returns the factory that builds a new event every time.
+   *
+   * @return the allocating factory
+   */
+  static EventFactory allocating() {
+    return AllocatingEventFactory.INSTANCE;
+  }
+
+  /**
+   * Returns a new factory that reuses events. It is not thread-safe; give each gateway
+   * its own.
+   *
+   * @return a flyweight factory
+   */
+  static EventFactory flyweight() {
+    return new FlyweightEventFactory();
+  }
+
+  /**
+   * Builds the event for a new game.
+   *
+   * @param boardSize the number of tiles, or {@code 0} for boards of fixed size
+   * @return the event
+   */
+  default BoardGameEvent gameStarted(int boardSize) {
+    return new BoardGameEvent(new GameEvent.GameStarted(boardSize));
+  }
+
+  /**
+   * Builds the event for a reset game.
+   *
+   * @return the event
+   */
+  default BoardGameEvent gameReset() {
+    return new BoardGameEvent(new GameEvent.GameReset());
+  }
+
+  /**
+   * Builds the event for a player joining.
+   *
+   * @param player the new player
+   * @return the event
+   */
+  default BoardGameEvent playerAdded(Player player) {
+    return new BoardGameEvent(new GameEvent.PlayerAdded(player));
+  }
+
+  /**
+   * Builds the event for players loaded from a file.
+   *
+   * @param players the players in the game afterwards, passed on as the untyped data
+   * @return the event
+   */
+  default BoardGameEvent playersLoaded(List<?> players) {
+    return BoardGameEvent.of(new GameEvent.PlayersLoaded(players.size()), players);
+  }
+
+  /**
+   * Builds the event for a roll of the dice.
+   *
+   * @param values the die values, passed on as the untyped data
+   * @return the event
+   */
+  default BoardGameEvent diceRolled(List<Integer> values) {
+    return BoardGameEvent.of(GameEvent.DiceRolled.of(values), values);
+  }
+
+  /**
+   * Builds the event for a move between tile ids. Its untyped data is a
+   * {@link PlayerMoveData} holding the ids.
+   *
+   * @param player     the player who moved
+   * @param fromTileId the tile moved from, or {@code -1} if the piece was off the board
+   * @param toTileId   the tile moved to, or {@code -1} if the piece left the board
+   * @return the event
+   */
+  default BoardGameEvent playerMoved(Player player, int fromTileId, int toTileId) {
+    return BoardGameEvent.of(new GameEvent.PlayerMoved(player, fromTileId, toTileId),
+        new PlayerMoveData(player, fromTileId, toTileId));
+  }
+
+  /**
+   * Builds the event for a move between tiles. Its untyped data is a
+   * {@link PlayerMoveData} holding the tiles themselves.
+   *
+   * @param player   the player who moved
+   * @param fromTile the tile moved from, or {@code null} if the piece was off the board
+   * @param toTile   the tile moved to, or {@code null} if the piece left the board
+   * @return the event
+   */
+  default BoardGameEvent playerMoved(Player player, Tile fromTile, Tile toTile) {
+    return BoardGameEvent.of(
+        new GameEvent.PlayerMoved(player, tileIdOf(fromTile), tileIdOf(toTile)),
+        new PlayerMoveData(player, fromTile, toTile));
+  }
+
+  /**
+   * Builds the event for a selected piece.
+   *
+   * @param pieceIndex the index of the piece
+   * @return the event
+   */
+  default BoardGameEvent pieceSelected(int pieceIndex) {
+    return new BoardGameEvent(new GameEvent.PieceSelected(pieceIndex));
+  }
+
+  /**
+   * Builds the event for the turn passing.
+   *
+   * @param player the player whose turn it is now
+   * @return the event
+   */
+  default BoardGameEvent turnChanged(Player player) {
+    return new BoardGameEvent(new GameEvent.TurnChanged(player));
+  }
+
+  /**
+   * Builds the event for a win.
+   *
+   * @param winner the winner
+   * @return the event
+   */
+  default BoardGameEvent winnerDeclared(Player winner) {
+    return new BoardGameEvent(new GameEvent.WinnerDeclared(winner));
+  }
+
+  /** Returns the id of a tile, or {@code -1} for a piece that is off the board. */
+  private static int tileIdOf(Tile tile) {
+    return tile == null ? -1 : tile.tileId();
+  }
+}
@@ -0,0 +1,69 @@
+package edu.ntnu.idatt2003.gateway.event;
+
+import edu.games.engine.observer.BoardGameEvent;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded single-producer, single-consumer ring of events.
+ * <p>
+ * The producer and the consumer each own one counter and only read the other's, so
+ * neither ever locks or retries. A slot is written before the producer's counter is
+ * released, and cleared before the consumer's counter is, so each side sees complete
+ * slots only. The capacity is rounded up to a power of two to index with a mask.
+ */
+final class EventRingBuffer {
+
+  private final BoardGameEvent[] slots;
+  private final int mask;
+  private final AtomicLong head = new AtomicLong();
+  private final AtomicLong tail = new AtomicLong();
+
+  EventRingBuffer(int capacity) {
+    this.slots = new BoardGameEvent[capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1];
+    this.mask = slots.length - 1;
+  }
+
+  /**
+   * Adds an event. Producer side only.
+   *
+   * @return {@code false} if the ring is full and the event was not added
+   */
+  boolean offer(BoardGameEvent event) {
+    long t = tail.getPlain();
+    if (t - head.getAcquire() >= slots.length) {
+      return false;
+    }
+    slots[(int) t & mask] = event;
+    tail.setRelease(t + 1);
+    return true;
+  }
+
+  /**
+   * Removes the oldest event. Consumer side only.
+   *
+   * @return the event, or {@code null} if the ring is empty
+   */
+  BoardGameEvent poll() {
+    long h = head.getPlain();
+    if (h == tail.getAcquire()) {
+      return null;
+    }
+    int index = (int) h & mask;
+    BoardGameEvent event = slots[index];
+    slots[index] = null;
+    head.setRelease(h + 1);
+    return event;
+  }
+
+  boolean isEmpty() {
+    return head.getAcquire() == tail.getAcquire();
+  }
+
+  int size() {
+    return (int) (tail.getAcquire() - head.getAcquire());
+  }
+
+  int capacity() {
+    return slots.length;
+  }
+}
@@ -0,0 +1,184 @@
+package edu.ntnu.idatt2003.gateway.event;
+
+import edu.games.engine.exception.ValidationException;
+import edu.games.engine.observer.BoardGameEvent;
+import edu.games.engine.observer.BoardGameObserver;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * An observer that receives events on an executor of its own choosing, through a bounded
+ * ring buffer, instead of on the thread that publishes them.
+ * <p>
+ * Publishing only writes the event into the ring and, if the subscriber is not already
+ * running, hands one drain task to its executor. The drain task delivers the queued
+ * events in order, at most {@value #MAX_EVENTS_PER_RUN} per run so a shared executor such
+ * as the JavaFX thread is never held for long, and then asks its {@link WaitStrategy}
+ * whether to linger for more. A subscriber that falls so far behind that its ring fills
+ * up loses the events that do not fit rather than slowing the game down; they are
+ * counted by {@link #droppedCount()}.
+ * <p>
+ * Created by {@link EventDispatcher#subscribe}; close it to unsubscribe.
+ */
+public final class EventSubscription implements AutoCloseable {
+
+  /** Default number of events a subscriber may fall behind before events are dropped. */
+  public static final int DEFAULT_CAPACITY = 1024;
+  /** Most events delivered before the drain task gives its executor back. */
+  public static final int MAX_EVENTS_PER_RUN = 256;
+
+  private static final Logger LOG = Logger.getLogger(EventSubscription.class.getName());
+
+  private final BoardGameObserver observer;
+  private final Executor executor;
+  private final WaitStrategy waitStrategy;
+  private final EventRingBuffer ring;
+  private final EventDispatcher dispatcher;
+  private final AtomicBoolean scheduled = new AtomicBoolean();
+  private final LongAdder dropped = new LongAdder();
+  private final Runnable drain = this::drain;
+  private volatile boolean closed;
+
+  EventSubscription(EventDispatcher dispatcher, BoardGameObserver observer, Executor executor,
+      int capacity, WaitStrategy waitStrategy) {
+    if (capacity < 1 || capacity > 1 << 30) {
+      throw new ValidationException("Invalid capacity: must be between 1 and 2^30");
+    }
+    this.dispatcher = dispatcher;
+    this.observer = Objects.requireNonNull(observer, "Observer cannot be null");
+    this.executor = Objects.requireNonNull(executor, "Executor cannot be null");
+    this.waitStrategy = Objects.requireNonNull(waitStrategy, "Wait strategy cannot be null");
+    this.ring = new EventRingBuffer(capacity);
+  }
+
+  /** Publisher side: queues the event and makes sure a drain task will deliver it. */
+  void publish(BoardGameEvent event) {
+    if (closed) {
+      return;
+    }
+    if (!ring.offer(event)) {
+      dropped.increment();
+      return;
+    }
+    schedule();
+  }
+
+  private void schedule() {
+    if (!scheduled.get() && scheduled.compareAndSet(false, true)) {
+      try {
+        executor.execute(drain);
+      } catch (RejectedExecutionException e) {
+        scheduled.set(false);
+        LOG.log(Level.WARNING, "Executor refused events for " + observer.getClass().getName(), e);
+      }
+    }
+  }
+
+  /** Consumer side: delivers queued events, then lingers or lets go of the executor. */
+  private void drain() {
+    int delivered = 0;
+    int idleRounds = 0;
+    while (!closed) {
+      BoardGameEvent event = ring.poll();
+      if (event != null) {
+        deliver(event);
+        idleRounds = 0;
+        // Hand the rest to a fresh task; if the executor refuses, keep going here
+        if (++delivered >= MAX_EVENTS_PER_RUN && resubmit()) {
+          return;
+        }
+      } else if (!waitStrategy.idle(idleRounds++)) {
+        break;
+      }
+    }
+    scheduled.set(false);
+    // An event published after the last poll but before the flag was cleared saw the
+    // flag set and did not schedule a drain, so look once more
+    if (!closed && !ring.isEmpty()) {
+      schedule();
+    }
+  }
+
+  /** Gives the executor back and continues in a fresh task, if the executor allows. */
+  private boolean resubmit() {
+    try {
+      executor.execute(drain);
+      return true;
+    } catch (RejectedExecutionException e) {
+      return false;
+    }
+  }
+
+  private void deliver(BoardGameEvent event) {
+    try {
+      observer.update(event);
+    } catch (Exception e) {
+      LOG.log(Level.SEVERE,
+          "Error in observer " + observer.getClass().getName()
+              + " during update for event " + event.getTypeOfEvent(),
+          e);
+    }
+  }
+
+  /**
+   * Returns the observer events are delivered to.
+   *
+   * @return the observer
+   */
+  public BoardGameObserver observer() {
+    return observer;
+  }
+
+  /**
+   * Returns the number of events published but not yet delivered.
+   *
+   * @return the backlog
+   */
+  public int backlog() {
+    return ring.size();
+  }
+
+  /**
+   * Returns the number of events that did not fit in the ring and were never delivered.
+   *
+   * @return the dropped event count
+   */
+  public long droppedCount() {
+    return dropped.sum();
+  }
+
+  /**
+   * Returns the number of events the ring holds, the requested capacity rounded up to a
+   * power of two.
+   *
+   * @return the ring capacity
+   */
+  public int capacity() {
+    return ring.capacity();
+  }
+
+  /**
+   * Returns whether the subscription has been closed.
+   *
+   * @return {@code true} once closed
+   */
+  public boolean isClosed() {
+    return closed;
+  }
+
+  /**
+   * Unsubscribes. Events still in the ring are not delivered.
+   */
+  @Override
+  public void close() {
+    if (!closed) {
+      closed = true;
+      dispatcher.remove(this);
+    }
+  }
+}
@@ -0,0 +1,179 @@
+package edu.ntnu.idatt2003.gateway.event;
+
+import edu.games.engine.board.Tile;
+import edu.games.engine.model.Player;
+import edu.games.engine.observer.BoardGameEvent;
+import edu.games.engine.observer.GameEvent;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Event factory that builds each distinct event once and hands the same instance out
+ * after that.
+ * <p>
+ * Resets, rolls, piece selections and board sizes take a handful of events in all.
+ * Turns, wins and arrivals are kept per player, and so are moves, keyed by the tiles
+ * moved between; a snakes and ladders board of 100 tiles has about a thousand distinct
+ * moves, which come to roughly 60 kB per player once all of them have happened. That is
+ * worth it for long runs of one game, less so for many short-lived ones, hence opt-in.
+ * Players are found by identity, and forgotten when a new game starts.
+ */
+final class FlyweightEventFactory implements EventFactory {
+
+  /** Players cached before the cache is cleared, in case games never restart. */
+  static final int MAX_PLAYERS = 16;
+  /** Distinct moves cached per player. */
+  static final int MAX_MOVES_PER_PLAYER = 2_048;
+
+  private static final int MAX_SMALL = 64;
+
+  private final BoardGameEvent reset = new BoardGameEvent(new GameEvent.GameReset());
+  private final IntEventCache starts = new IntEventCache(MAX_SMALL);
+  private final IntEventCache rolls = new IntEventCache(MAX_SMALL);
+  private final IntEventCache selections = new IntEventCache(MAX_SMALL);
+  private final List<PlayerEvents> players = new ArrayList<>();
+
+  @Override
+  public BoardGameEvent gameStarted(int boardSize) {
+    players.clear();
+    BoardGameEvent event = starts.get(boardSize);
+    if (event == null) {
+      event = EventFactory.super.gameStarted(boardSize);
+      starts.put(boardSize, event);
+    }
+    return event;
+  }
+
+  @Override
+  public BoardGameEvent gameReset() {
+    return reset;
+  }
+
+  @Override
+  public BoardGameEvent playerAdded(Player player) {
+    PlayerEvents events = eventsOf(player);
+    if (events.added == null) {
+      events.added = EventFactory.super.playerAdded(player);
+    }
+    return events.added;
+  }
+
+  @Override
+  public BoardGameEvent diceRolled(List<Integer> values) {
+    int packed = GameEvent.DiceRolled.pack(values);
+    BoardGameEvent event = rolls.get(packed);
+    if (event == null) {
+      event = BoardGameEvent.of(new GameEvent.DiceRolled(packed), values);
+      rolls.put(packed, event);
+    }
+    return event;
+  }
+
+  @Override
+  public BoardGameEvent playerMoved(Player player, int fromTileId, int toTileId) {
+    BoardGameEvent event = cachedMove(player, fromTileId, toTileId, null, null);
+    if (event == null) {
+      event = EventFactory.super.playerMoved(player, fromTileId, toTileId);
+      cacheMove(player, fromTileId, toTileId, event);
+    }
+    return event;
+  }
+
+  @Override
+  public BoardGameEvent playerMoved(Player player, Tile fromTile, Tile toTile) {
+    int fromTileId = fromTile == null ? -1 : fromTile.tileId();
+    int toTileId = toTile == null ? -1 : toTile.tileId();
+    BoardGameEvent event = cachedMove(player, fromTileId, toTileId, fromTile, toTile);
+    if (event == null) {
+      event = EventFactory.super.playerMoved(player, fromTile, toTile);
+      cacheMove(player, fromTileId, toTileId, event);
+    }
+    return event;
+  }
+
+  /**
+   * Returns the cached event for a move, provided its data carries the same tiles, or
+   * none for a move given by ids.
+   */
+  private BoardGameEvent cachedMove(Player player, int fromTileId, int toTileId,
+      Tile fromTile, Tile toTile) {
+    if (!isCacheable(fromTileId) || !isCacheable(toTileId)) {
+      return null;
+    }
+    BoardGameEvent event = eventsOf(player).moves.get(moveKey(fromTileId, toTileId));
+    if (event != null && event.getData() instanceof PlayerMoveData move
+        && move.getFromTile() == fromTile && move.getToTile() == toTile) {
+      return event;
+    }
+    return null;
+  }
+
+  private void cacheMove(Player player, int fromTileId, int toTileId, BoardGameEvent event) {
+    if (isCacheable(fromTileId) && isCacheable(toTileId)) {
+      eventsOf(player).moves.put(moveKey(fromTileId, toTileId), event);
+    }
+  }
+
+  private static boolean isCacheable(int tileId) {
+    return tileId >= -1 && tileId <= Short.MAX_VALUE;
+  }
+
+  private static int moveKey(int fromTileId, int toTileId) {
+    return (fromTileId << 16) | (toTileId & 0xFFFF);
+  }
+
+  @Override
+  public BoardGameEvent pieceSelected(int pieceIndex) {
+    BoardGameEvent event = selections.get(pieceIndex);
+    if (event == null) {
+      event = EventFactory.super.pieceSelected(pieceIndex);
+      selections.put(pieceIndex, event);
+    }
+    return event;
+  }
+
+  @Override
+  public BoardGameEvent turnChanged(Player player) {
+    PlayerEvents events = eventsOf(player);
+    if (events.turn == null) {
+      events.turn = EventFactory.super.turnChanged(player);
+    }
+    return events.turn;
+  }
+
+  @Override
+  public BoardGameEvent winnerDeclared(Player winner) {
+    PlayerEvents events = eventsOf(winner);
+    if (events.won == null) {
+      events.won = EventFactory.super.winnerDeclared(winner);
+    }
+    return events.won;
+  }
+
+  private PlayerEvents eventsOf(Player player) {
+    for (int i = 0; i < players.size(); i++) {
+      if (players.get(i).player == player) {
+        return players.get(i);
+      }
+    }
+    if (players.size() >= MAX_PLAYERS) {
+      players.clear();
+    }
+    PlayerEvents events = new PlayerEvents(player);
+    players.add(events);
+    return events;
+  }
+
+  /** The cached events of one player. */
+  private static final class PlayerEvents {
+    private final Player player;
+    private final IntEventCache moves = new IntEventCache(MAX_MOVES_PER_PLAYER);
+    private BoardGameEvent added;
+    private BoardGameEvent turn;
+    private BoardGameEvent won;
+
+    private PlayerEvents(Player player) {
+      this.player = player;
+    }
+  }
+}
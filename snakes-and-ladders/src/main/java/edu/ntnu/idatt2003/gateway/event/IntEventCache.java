@@ -0,0 +1,87 @@
+package edu.ntnu.idatt2003.gateway.event;
+
+import edu.games.engine.observer.BoardGameEvent;
+
+/**
+ * Open-addressing map from {@code int} keys to events, for {@link FlyweightEventFactory}.
+ * <p>
+ * Looking a key up neither boxes it nor allocates. The table grows until it holds
+ * {@code maxSize} events; after that new keys are simply not cached, though the event
+ * of a cached key can still be replaced.
+ */
+final class IntEventCache {
+
+  private final int maxSize;
+  private int[] keys = new int[16];
+  private BoardGameEvent[] events = new BoardGameEvent[16];
+  private int size;
+
+  IntEventCache(int maxSize) {
+    this.maxSize = maxSize;
+  }
+
+  /**
+   * Returns the event cached for a key.
+   *
+   * @return the event, or {@code null} if none is cached
+   */
+  BoardGameEvent get(int key) {
+    int mask = events.length - 1;
+    for (int i = slot(key, mask); events[i] != null; i = (i + 1) & mask) {
+      if (keys[i] == key) {
+        return events[i];
+      }
+    }
+    return null;
+  }
+
+  /** Caches an event for a key, replacing the one cached for it, unless the cache is full. */
+  void put(int key, BoardGameEvent event) {
+    int mask = events.length - 1;
+    for (int i = slot(key, mask); events[i] != null; i = (i + 1) & mask) {
+      if (keys[i] == key) {
+        events[i] = event;
+        return;
+      }
+    }
+    if (size >= maxSize) {
+      return;
+    }
+    if ((size + 1) * 2 > events.length) {
+      grow();
+    }
+    insert(key, event);
+    size++;
+  }
+
+  int size() {
+    return size;
+  }
+
+  private void grow() {
+    int[] oldKeys = keys;
+    BoardGameEvent[] oldEvents = events;
+    keys = new int[oldKeys.length * 2];
+    events = new BoardGameEvent[oldEvents.length * 2];
+    for (int i = 0; i < oldEvents.length; i++) {
+      if (oldEvents[i] != null) {
+        insert(oldKeys[i], oldEvents[i]);
+      }
+    }
+  }
+
+  private void insert(int key, BoardGameEvent event) {
+    int mask = events.length - 1;
+    int i = slot(key, mask);
+    while (events[i] != null) {
+      i = (i + 1) & mask;
+    }
+    keys[i] = key;
+    events[i] = event;
+  }
+
+  private static int slot(int key, int mask) {
+    int h = key * 0x9E3779B9;
+    return (h ^ (h >>> 16)) & mask;
+  }
+}
@@ -1,17 +1,15 @@
 package edu.ntnu.idatt2003.gateway.event;
 
 import edu.games.engine.board.Tile;
+import edu.games.engine.model.BoardGame;
 import edu.games.engine.model.Player;
 
 /**
  * Encapsulates data about a player move event.
  * Supports both tile-based moves (Ludo) and ID-based moves (Snakes & Ladders).
+ * The gateways publish it as the untyped data of {@code PLAYER_MOVED} events.
  */
-public class PlayerMoveData {
-
-  private final Player player;
-  private final Object fromTile;
-  private final Object toTile;
+public class PlayerMoveData extends BoardGame.PlayerMoveData {
 
   /**
    * Creates a move record for games using {@link Tile} objects (e.g., Ludo).
@@ -21,9 +19,7 @@ public class PlayerMoveData {
    * @param toTile   the destination tile of the move
    */
   public PlayerMoveData(Player player, Tile fromTile, Tile toTile) {
-    this.player = player;
-    this.fromTile = fromTile;
-    this.toTile = toTile;
+    super(player, fromTile, toTile);
   }
 
   /**
@@ -34,73 +30,6 @@ public class PlayerMoveData {
    * @param toTileId   the destination tile ID of the move
    */
   public PlayerMoveData(Player player, int fromTileId, int toTileId) {
-    this.player = player;
-    this.fromTile = fromTileId;
-    this.toTile = toTileId;
-  }
-
-  /**
-   * Returns the player involved in this move.
-   *
-   * @return the moving player
-   */
-  public Player getPlayer() {
-    return player;
-  }
-
-  /**
-   * Returns the raw "from" value, which may be a {@link Tile} or an {@link Integer}.
-   *
-   * @return the starting tile or tile ID
-   */
-  public Object getFrom() {
-    return fromTile;
-  }
-
-  /**
-   * Returns the raw "to" value, which may be a {@link Tile} or an {@link Integer}.
-   *
-   * @return the destination tile or tile ID
-   */
-  public Object getTo() {
-    return toTile;
-  }
-
-  /**
-   * Retrieves the starting tile ID, regardless of representation.
-   *
-   * @return the starting tile ID
-   */
-  public int getFromTileId() {
-    return (fromTile instanceof Tile) ? ((Tile) fromTile).tileId() : (Integer) fromTile;
-  }
-
-  /**
-   * Retrieves the destination tile ID, regardless of representation.
-   *
-   * @return the destination tile ID
-   */
-  public int getToTileId() {
-    return (toTile instanceof Tile) ? ((Tile) toTile).tileId() : (Integer) toTile;
-  }
-
-  /**
-   * Returns the starting {@link Tile} if available, or {@code null} if this instance
-   * was created using integer IDs.
-   *
-   * @return the starting Tile or null
-   */
-  public Tile getFromTile() {
-    return (fromTile instanceof Tile) ? (Tile) fromTile : null;
-  }
-
-  /**
-   * Returns the destination {@link Tile} if available, or {@code null} if this instance
-   * was created using integer IDs.
-   *
-   * @return the destination Tile or null
-   */
-  public Tile getToTile() {
-    return (toTile instanceof Tile) ? (Tile) toTile : null;
+    super(player, fromTileId, toTileId);
   }
 }
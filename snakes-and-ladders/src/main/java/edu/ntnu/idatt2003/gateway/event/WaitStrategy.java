@@ -0,0 +1,104 @@
+package edu.ntnu.idatt2003.gateway.event;
+
+import edu.games.engine.exception.ValidationException;
+import java.time.Duration;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Decides what an {@link EventSubscription} does when it has delivered every event and
+ * its ring buffer is empty.
+ * <p>
+ * A subscriber that lets go of its executor at once costs nothing while the game is
+ * quiet, but the next event has to schedule it again, which the publishing thread pays
+ * for. Lingering a little, by spinning, yielding or sleeping, lets a subscriber pick up
+ * bursts of events with no hand-off at all, at the price of the CPU it burns while it
+ * waits. The strategy runs on the subscriber's executor, never on the publishing thread.
+ */
+@FunctionalInterface
+public interface WaitStrategy {
+
+  /**
+   * Called each time the consumer finds its buffer empty.
+   *
+   * @param idleRounds how many times in a row the buffer was found empty, starting at 0
+   * @return {@code true} to look at the buffer again, {@code false} to let go of the
+   *         executor until the next event is published
+   */
+  boolean idle(int idleRounds);
+
+  /**
+   * Returns the strategy that lets go of the executor as soon as the buffer is empty.
+   * Best for executors shared with other work, such as the JavaFX application thread.
+   *
+   * @return the blocking strategy
+   */
+  static WaitStrategy blocking() {
+    return idleRounds -> false;
+  }
+
+  /**
+   * Returns a strategy that busy-spins before letting go of the executor.
+   *
+   * @param spins the number of empty checks before giving up
+   * @return the busy-spin strategy
+   * @throws ValidationException if spins is negative
+   */
+  static WaitStrategy busySpin(int spins) {
+    requireNonNegative(spins, "spins");
+    return idleRounds -> {
+      Thread.onSpinWait();
+      return idleRounds < spins;
+    };
+  }
+
+  /**
+   * Returns a strategy that spins briefly and then yields the CPU to other threads
+   * before letting go of the executor.
+   *
+   * @param yields the number of times to yield after spinning
+   * @return the yielding strategy
+   * @throws ValidationException if yields is negative
+   */
+  static WaitStrategy yielding(int yields) {
+    requireNonNegative(yields, "yields");
+    int spins = 100;
+    return idleRounds -> {
+      if (idleRounds < spins) {
+        Thread.onSpinWait();
+      } else {
+        Thread.yield();
+      }
+      return idleRounds < spins + yields;
+    };
+  }
+
+  /**
+   * Returns a strategy that spins, then yields, then sleeps in short naps until the
+   * buffer has been empty for the given time.
+   *
+   * @param linger how long to wait for the next event before letting go of the executor
+   * @return the sleeping strategy
+   * @throws ValidationException if linger is negative
+   */
+  static WaitStrategy sleeping(Duration linger) {
+    long nap = 100_000;
+    long naps = linger.toNanos() / nap;
+    requireNonNegative(naps, "linger");
+    return idleRounds -> {
+      if (idleRounds < 100) {
+        Thread.onSpinWait();
+      } else if (idleRounds < 200) {
+        Thread.yield();
+      } else {
+        LockSupport.parkNanos(nap);
+      }
+      return idleRounds < 200 + naps;
+    };
+  }
+
+  private static void requireNonNegative(long value, String name) {
+    if (value < 0) {
+      throw new ValidationException("Invalid " + name + ": cannot be negative");
+    }
+  }
+}
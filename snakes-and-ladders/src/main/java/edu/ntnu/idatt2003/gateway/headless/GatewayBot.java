@@ -0,0 +1,50 @@
+package edu.ntnu.idatt2003.gateway.headless;
+
+import edu.games.engine.ai.LudoBot;
+import edu.ntnu.idatt2003.gateway.CompleteBoardGame;
+import edu.ntnu.idatt2003.gateway.LudoGateway;
+import edu.ntnu.idatt2003.gateway.SnlGateway;
+import java.util.Objects;
+
+/**
+ * A computer player that takes a whole turn through a gateway's public API,
+ * exactly as the UI controllers would.
+ *
+ * @param <G> the type of gateway the bot plays through
+ */
+@FunctionalInterface
+public interface GatewayBot<G extends CompleteBoardGame> {
+
+  /**
+   * Plays the current player's turn.
+   *
+   * @param gateway the gateway of the running game
+   */
+  void playTurn(G gateway);
+
+  /**
+   * Returns the Snakes and Ladders bot, which has nothing to decide and just rolls.
+   *
+   * @return a bot that rolls the dice
+   */
+  static GatewayBot<SnlGateway> snlRoller() {
+    return SnlGateway::rollDice;
+  }
+
+  /**
+   * Returns a Ludo bot that rolls, lets the given policy pick a piece through
+   * {@link LudoGateway#selectPieceWith(LudoBot)} and moves it with
+   * {@link LudoGateway#applyPieceMovement()}.
+   *
+   * @param policy the policy choosing the piece
+   * @return a bot playing Ludo turns with that policy
+   */
+  static GatewayBot<LudoGateway> ludo(LudoBot policy) {
+    Objects.requireNonNull(policy, "Policy cannot be null");
+    return gateway -> {
+      if (gateway.rollDice() > 0 && gateway.selectPieceWith(policy) >= 0) {
+        gateway.applyPieceMovement();
+      }
+    };
+  }
+}
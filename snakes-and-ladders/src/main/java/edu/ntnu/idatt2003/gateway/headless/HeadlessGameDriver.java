@@ -0,0 +1,141 @@
+package edu.ntnu.idatt2003.gateway.headless;
+
+import edu.games.engine.exception.ValidationException;
+import edu.ntnu.idatt2003.gateway.AbstractGameGateway;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Plays complete bot-vs-bot games through a gateway, without any UI.
+ * <p>
+ * Every action goes through the gateway's public API, so a run exercises the gateway
+ * layer as well as the engine. While games are running, the gateway's observer events
+ * and logging are switched off, so games run as fast as the CPU allows. Only the driven
+ * gateway goes quiet; other games in the same JVM keep logging. The first
+ * game is set up with {@code newGame} and {@code addPlayer}; later games reuse it
+ * through {@code resetGame}.
+ *
+ * @param <G> the type of gateway being driven
+ */
+public final class HeadlessGameDriver<G extends AbstractGameGateway> {
+
+  /** Default cap on bot turns per game before it is counted as unfinished. */
+  public static final int DEFAULT_MAX_TURNS = 10_000;
+
+  private static final LocalDate BIRTHDAY = LocalDate.of(2000, 1, 1);
+
+  private final G gateway;
+  private final int boardSize;
+  private final List<String> tokens;
+  private final List<GatewayBot<G>> bots;
+  private final int maxTurns;
+  private final Map<String, Integer> seatByName = new HashMap<>();
+  private boolean started;
+
+  /**
+   * Creates a driver with the default turn cap.
+   *
+   * @param gateway   the gateway to play through
+   * @param boardSize the board size passed to {@code newGame}
+   * @param tokens    the token of every seat, in turn order
+   * @param bots      the bot of every seat, in turn order
+   * @throws ValidationException if there are no seats or the lists differ in length
+   */
+  public HeadlessGameDriver(G gateway, int boardSize, List<String> tokens, List<GatewayBot<G>> bots) {
+    this(gateway, boardSize, tokens, bots, DEFAULT_MAX_TURNS);
+  }
+
+  /**
+   * Creates a driver.
+   *
+   * @param gateway   the gateway to play through
+   * @param boardSize the board size passed to {@code newGame}
+   * @param tokens    the token of every seat, in turn order
+   * @param bots      the bot of every seat, in turn order
+   * @param maxTurns  the number of turns after which a game is abandoned
+   * @throws ValidationException if there are no seats, the lists differ in length,
+   *                             or the turn cap is not positive
+   */
+  public HeadlessGameDriver(
+      G gateway, int boardSize, List<String> tokens, List<GatewayBot<G>> bots, int maxTurns) {
+    this.gateway = Objects.requireNonNull(gateway, "Gateway cannot be null");
+    Objects.requireNonNull(tokens, "Tokens cannot be null");
+    Objects.requireNonNull(bots, "Bots cannot be null");
+    if (tokens.isEmpty() || tokens.size() != bots.size()) {
+      throw new ValidationException("Invalid seats: need one token and one bot per seat");
+    }
+    if (maxTurns < 1) {
+      throw new ValidationException("Invalid maxTurns: must be greater than 0");
+    }
+    this.boardSize = boardSize;
+    this.tokens = List.copyOf(tokens);
+    this.bots = List.copyOf(bots);
+    this.maxTurns = maxTurns;
+    for (int seat = 0; seat < tokens.size(); seat++) {
+      seatByName.put(seatName(seat), seat);
+    }
+  }
+
+  /**
+   * Plays the given number of games one after another and reports the outcome.
+   * Observer delivery and game logging are restored when the run ends.
+   *
+   * @param games the number of games to play
+   * @return the aggregated report
+   * @throws ValidationException if the number of games is negative
+   */
+  public HeadlessReport play(int games) {
+    if (games < 0) {
+      throw new ValidationException("Invalid games: cannot be negative");
+    }
+    long[] wins = new long[bots.size()];
+    long turns = 0;
+    long unfinished = 0;
+    long startNanos = System.nanoTime();
+    boolean observersEnabled = gateway.isObserversEnabled();
+    boolean loggingEnabled = gateway.isLoggingEnabled();
+    gateway.setObserversEnabled(false);
+    gateway.setLoggingEnabled(false);
+    try {
+      for (int game = 0; game < games; game++) {
+        setUpGame();
+        int gameTurns = 0;
+        int lastSeat = -1;
+        while (!gateway.hasWinner() && gameTurns < maxTurns) {
+          lastSeat = seatByName.get(gateway.currentPlayerName());
+          bots.get(lastSeat).playTurn(gateway);
+          gameTurns++;
+        }
+        turns += gameTurns;
+        if (gateway.hasWinner()) {
+          wins[lastSeat]++;
+        } else {
+          unfinished++;
+        }
+      }
+    } finally {
+      gateway.setLoggingEnabled(loggingEnabled);
+      gateway.setObserversEnabled(observersEnabled);
+    }
+    return new HeadlessReport(games, unfinished, turns, wins, System.nanoTime() - startNanos);
+  }
+
+  private void setUpGame() {
+    if (started) {
+      gateway.resetGame();
+      return;
+    }
+    gateway.newGame(boardSize);
+    for (int seat = 0; seat < tokens.size(); seat++) {
+      gateway.addPlayer(seatName(seat), tokens.get(seat), BIRTHDAY);
+    }
+    started = true;
+  }
+
+  private static String seatName(int seat) {
+    return "Bot " + (seat + 1);
+  }
+}
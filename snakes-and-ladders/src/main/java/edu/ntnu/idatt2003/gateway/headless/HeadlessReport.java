@@ -0,0 +1,45 @@
+package edu.ntnu.idatt2003.gateway.headless;
+
+import java.util.Arrays;
+
+/**
+ * Outcome of a series of bot-driven games played through a gateway.
+ *
+ * @param gamesPlayed     the number of games that were started
+ * @param unfinishedGames games that hit the turn cap without a winner
+ * @param turns           the total number of bot turns across all games
+ * @param winsBySeat      number of wins per seat; index is the seat in turn order
+ * @param elapsedNanos    the wall-clock time of the whole series
+ */
+public record HeadlessReport(
+    long gamesPlayed,
+    long unfinishedGames,
+    long turns,
+    long[] winsBySeat,
+    long elapsedNanos) {
+
+  /**
+   * Returns the number of games played per second of wall-clock time.
+   *
+   * @return the throughput, or {@code 0} if no time was measured
+   */
+  public double gamesPerSecond() {
+    return elapsedNanos == 0 ? 0 : gamesPlayed * 1e9 / elapsedNanos;
+  }
+
+  /**
+   * Returns the mean number of bot turns per game.
+   *
+   * @return the mean game length in turns, or {@code 0} if no game was played
+   */
+  public double meanTurns() {
+    return gamesPlayed == 0 ? 0 : (double) turns / gamesPlayed;
+  }
+
+  @Override
+  public String toString() {
+    return "HeadlessReport[games=%d, unfinished=%d, meanTurns=%.1f, winsBySeat=%s, gamesPerSecond=%.0f]"
+        .formatted(gamesPlayed, unfinishedGames, meanTurns(), Arrays.toString(winsBySeat),
+            gamesPerSecond());
+  }
+}
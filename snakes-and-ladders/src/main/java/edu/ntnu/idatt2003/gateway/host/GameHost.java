@@ -0,0 +1,306 @@
+package edu.ntnu.idatt2003.gateway.host;
+
+import edu.games.engine.exception.ValidationException;
+import edu.ntnu.idatt2003.exception.GameInitializationException;
+import edu.ntnu.idatt2003.gateway.AbstractGameGateway;
+import edu.ntnu.idatt2003.gateway.LudoGateway;
+import edu.ntnu.idatt2003.gateway.SnlGatewayFactory;
+import edu.ntnu.idatt2003.model.dto.GameStateDTO;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+/**
+ * Hosts many independent games in one JVM, each in its own {@link GameSession}.
+ * <p>
+ * Every session owns a gateway of its own and only touches it from its mailbox, so
+ * thousands of games can run side by side without sharing any state. Mailboxes are
+ * drained on virtual threads: a session waiting for its next command holds no thread,
+ * and a busy one holds one only while it works.
+ * <p>
+ * The host keeps a running total of the sessions' estimated footprints. Opening a
+ * session reserves its base footprint in that total with a compare-and-set, so
+ * concurrent opens cannot together overshoot the memory budget; one that would take the
+ * total past the budget first evicts idle sessions and is refused if that does not free
+ * enough. Sessions that have not received a
+ * command for the idle timeout are evicted by a background sweep.
+ */
+public final class GameHost implements AutoCloseable {
+
+  /** Default time without commands after which a session is evicted. */
+  public static final Duration DEFAULT_IDLE_TIMEOUT = Duration.ofMinutes(10);
+  /** Default cap on the estimated heap held by all sessions together. */
+  public static final long DEFAULT_MEMORY_BUDGET_BYTES = 512L * 1024 * 1024;
+
+  private static final Logger LOG = Logger.getLogger(GameHost.class.getName());
+
+  private final Map<String, Supplier<? extends AbstractGameGateway>> gatewayFactories;
+  private final long idleTimeoutNanos;
+  private final long memoryBudgetBytes;
+  private final LongSupplier clock;
+  private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+  private final ScheduledExecutorService sweeper;
+  private final Map<String, GameSession> sessions = new ConcurrentHashMap<>();
+  private final AtomicLong nextId = new AtomicLong();
+  private final AtomicLong footprint = new AtomicLong();
+  private final LongAdder evicted = new LongAdder();
+
+  /**
+   * Creates a host for Snakes and Ladders and Ludo with the default idle timeout and
+   * memory budget.
+   */
+  public GameHost() {
+    this(defaultFactories(), DEFAULT_IDLE_TIMEOUT, DEFAULT_MEMORY_BUDGET_BYTES);
+  }
+
+  /**
+   * Creates a host.
+   *
+   * @param gatewayFactories  a gateway factory for every game type the host offers
+   * @param idleTimeout       the time without commands after which a session is evicted
+   * @param memoryBudgetBytes the cap on the estimated heap held by all sessions
+   * @throws ValidationException if no game types are given, or the timeout or budget
+   *                             is not positive
+   */
+  public GameHost(
+      Map<String, Supplier<? extends AbstractGameGateway>> gatewayFactories,
+      Duration idleTimeout,
+      long memoryBudgetBytes) {
+    this(gatewayFactories, idleTimeout, memoryBudgetBytes, System::nanoTime, true);
+  }
+
+  GameHost(
+      Map<String, Supplier<? extends AbstractGameGateway>> gatewayFactories,
+      Duration idleTimeout,
+      long memoryBudgetBytes,
+      LongSupplier clock,
+      boolean sweep) {
+    Objects.requireNonNull(gatewayFactories, "Gateway factories cannot be null");
+    Objects.requireNonNull(idleTimeout, "Idle timeout cannot be null");
+    if (gatewayFactories.isEmpty()) {
+      throw new ValidationException("Invalid gatewayFactories: need at least one game type");
+    }
+    if (idleTimeout.isNegative() || idleTimeout.isZero()) {
+      throw new ValidationException("Invalid idleTimeout: must be positive");
+    }
+    if (memoryBudgetBytes < 1) {
+      throw new ValidationException("Invalid memoryBudgetBytes: must be greater than 0");
+    }
+    this.gatewayFactories = Map.copyOf(gatewayFactories);
+    this.idleTimeoutNanos = idleTimeout.toNanos();
+    this.memoryBudgetBytes = memoryBudgetBytes;
+    this.clock = Objects.requireNonNull(clock, "Clock cannot be null");
+    if (sweep) {
+      long periodMillis = Math.max(1, idleTimeout.toMillis() / 4);
+      this.sweeper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "game-host-sweeper");
+        thread.setDaemon(true);
+        return thread;
+      });
+      sweeper.scheduleAtFixedRate(this::evictIdle, periodMillis, periodMillis, TimeUnit.MILLISECONDS);
+    } else {
+      this.sweeper = null;
+    }
+  }
+
+  private static Map<String, Supplier<? extends AbstractGameGateway>> defaultFactories() {
+    return Map.of(
+        GameStateDTO.SNAKES_AND_LADDERS, SnlGatewayFactory::createHeadless,
+        GameStateDTO.LUDO, LudoGateway::createDefault);
+  }
+
+  /**
+   * Opens a session and starts a new game in it. The game is set up on the calling
+   * thread, before any other thread can see the session.
+   *
+   * @param gameType  one of the game types the host was created with
+   * @param boardSize the board size passed to {@code newGame}
+   * @return the new session
+   * @throws ValidationException         if the game type is unknown
+   * @throws GameInitializationException if the memory budget is used up even after
+   *                                     evicting idle sessions
+   */
+  public GameSession open(String gameType, int boardSize) {
+    Supplier<? extends AbstractGameGateway> factory = gatewayFactories.get(gameType);
+    if (factory == null) {
+      throw new ValidationException("Unknown game type: " + gameType);
+    }
+    if (!reserve(GameSession.SESSION_BYTES)
+        && (evictIdle() == 0 || !reserve(GameSession.SESSION_BYTES))) {
+      throw new GameInitializationException("Memory budget of " + memoryBudgetBytes
+          + " bytes is used up by " + sessions.size() + " sessions");
+    }
+    GameSession session;
+    String id = Long.toString(nextId.incrementAndGet(), 36);
+    try {
+      AbstractGameGateway gateway = factory.get();
+      gateway.setObserversEnabled(false);
+      gateway.newGame(boardSize);
+      session = new GameSession(id, gameType, gateway, executor, clock, footprint::addAndGet,
+          GameSession.SESSION_BYTES);
+    } catch (RuntimeException | Error e) {
+      footprint.addAndGet(-GameSession.SESSION_BYTES);
+      throw e;
+    }
+    sessions.put(id, session);
+    LOG.fine(() -> "Opened " + gameType + " session " + id);
+    return session;
+  }
+
+  /**
+   * Adds the given bytes to the footprint total unless that would pass the budget.
+   *
+   * @return {@code true} if the bytes were reserved
+   */
+  private boolean reserve(long bytes) {
+    long total;
+    do {
+      total = footprint.get();
+      if (total + bytes > memoryBudgetBytes) {
+        return false;
+      }
+    } while (!footprint.compareAndSet(total, total + bytes));
+    return true;
+  }
+
+  /**
+   * Looks up a session.
+   *
+   * @param id the session id
+   * @return the session, or empty if there is none with that id or it was evicted
+   */
+  public Optional<GameSession> session(String id) {
+    return Optional.ofNullable(sessions.get(id));
+  }
+
+  /**
+   * Sends a command to a session.
+   *
+   * @param id      the session id
+   * @param command the command, given the session's gateway
+   * @param <T>     the type of the command's result
+   * @return the command's future, or empty if there is no such session
+   * @see GameSession#submit
+   */
+  public <T> Optional<CompletableFuture<T>> submit(
+      String id, Function<? super AbstractGameGateway, ? extends T> command) {
+    GameSession session = sessions.get(id);
+    return session == null ? Optional.empty() : Optional.of(session.submit(command));
+  }
+
+  /**
+   * Closes a session and removes it from the host.
+   *
+   * @param id the session id
+   * @return {@code true} if there was such a session
+   */
+  public boolean close(String id) {
+    GameSession session = sessions.remove(id);
+    if (session == null) {
+      return false;
+    }
+    session.close();
+    return true;
+  }
+
+  /**
+   * Evicts every session that has received no command for the idle timeout and has
+   * no command waiting. Called periodically by the host; public so callers can
+   * reclaim memory at once.
+   *
+   * @return the number of sessions evicted
+   */
+  public int evictIdle() {
+    long now = clock.getAsLong();
+    int count = 0;
+    for (GameSession session : sessions.values()) {
+      if (session.pendingCommands() == 0
+          && now - session.lastActiveNanos() >= idleTimeoutNanos
+          && sessions.remove(session.id(), session)) {
+        session.close();
+        count++;
+      }
+    }
+    if (count > 0) {
+      evicted.add(count);
+      int evictedNow = count;
+      LOG.info(() -> "Evicted " + evictedNow + " idle game sessions");
+    }
+    return count;
+  }
+
+  /**
+   * Returns the sessions currently open.
+   *
+   * @return an unmodifiable live view of the sessions
+   */
+  public Collection<GameSession> sessions() {
+    return Collections.unmodifiableCollection(sessions.values());
+  }
+
+  /**
+   * Returns the number of sessions currently open.
+   *
+   * @return the session count
+   */
+  public int sessionCount() {
+    return sessions.size();
+  }
+
+  /**
+   * Returns the estimated heap held by all open sessions.
+   *
+   * @return the total of the sessions' estimates in bytes
+   * @see GameSession#estimatedBytes()
+   */
+  public long estimatedBytes() {
+    return footprint.get();
+  }
+
+  /**
+   * Returns the memory budget the host was created with.
+   *
+   * @return the budget in bytes
+   */
+  public long memoryBudgetBytes() {
+    return memoryBudgetBytes;
+  }
+
+  /**
+   * Returns the number of sessions evicted for being idle since the host was created.
+   *
+   * @return the eviction count
+   */
+  public long evictedCount() {
+    return evicted.sum();
+  }
+
+  /**
+   * Closes every session and stops the host's threads.
+   */
+  @Override
+  public void close() {
+    if (sweeper != null) {
+      sweeper.shutdownNow();
+    }
+    for (String id : sessions.keySet()) {
+      close(id);
+    }
+    executor.shutdown();
+  }
+}
@@ -0,0 +1,335 @@
+package edu.ntnu.idatt2003.gateway.host;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import edu.games.engine.exception.RuleViolationException;
+import edu.games.engine.exception.ValidationException;
+import edu.ntnu.idatt2003.exception.GameInitializationException;
+import edu.ntnu.idatt2003.exception.ResourceNotFoundException;
+import edu.ntnu.idatt2003.gateway.AbstractGameGateway;
+import edu.ntnu.idatt2003.gateway.LudoGateway;
+import edu.ntnu.idatt2003.model.dto.GameStateDTO;
+import edu.ntnu.idatt2003.persistence.JsonGameStateHandler;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.Serial;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Serves the sessions of a {@link GameHost} over HTTP on the loopback interface.
+ * <p>
+ * Built on the JDK's {@link HttpServer}; every exchange is handled on a virtual thread,
+ * which hands its command to the session's mailbox and waits for the result. Commands
+ * that change a game answer with the game's state as written by
+ * {@link JsonGameStateHandler}, read in the same mailbox turn as the change.
+ *
+ * <pre>
+ * GET    /sessions                              host statistics
+ * POST   /sessions?game=LUDO&amp;size=0             open a session, answers {"id": ...}
+ * GET    /sessions/{id}                         game state
+ * DELETE /sessions/{id}                         close the session
+ * POST   /sessions/{id}/players?name=&amp;token=    add a player (birthday= is optional)
+ * POST   /sessions/{id}/roll                    roll for the current player
+ * POST   /sessions/{id}/select?piece=           select a Ludo piece
+ * POST   /sessions/{id}/move                    move the selected Ludo piece
+ * POST   /sessions/{id}/reset                   reset the game
+ * </pre>
+ * Errors answer with {@code {"error": message}}: 400 for invalid input or an unknown
+ * board size, 404 for an unknown or evicted session, 409 for a move the rules forbid,
+ * 503 when the host is out of memory budget or the session is busy, and 504 when a
+ * command times out.
+ */
+public final class GameHostServer implements AutoCloseable {
+
+  /** Default time an exchange waits for its command before giving up. */
+  public static final Duration DEFAULT_COMMAND_TIMEOUT = Duration.ofSeconds(5);
+
+  private static final String PREFIX = "/sessions";
+  private static final LocalDate DEFAULT_BIRTHDAY = LocalDate.of(2000, 1, 1);
+  private static final JsonFactory FACTORY = new JsonFactory();
+  private static final Logger LOG = Logger.getLogger(GameHostServer.class.getName());
+
+  private final GameHost host;
+  private final long commandTimeoutNanos;
+  private final JsonGameStateHandler stateWriter = new JsonGameStateHandler();
+  private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+  private final HttpServer server;
+
+  /**
+   * Starts serving a host on a loopback port with the default command timeout.
+   *
+   * @param host the host whose sessions to serve
+   * @param port the port to listen on, or 0 for any free port
+   * @throws GameInitializationException if the server cannot be started
+   */
+  public GameHostServer(GameHost host, int port) {
+    this(host, port, DEFAULT_COMMAND_TIMEOUT);
+  }
+
+  /**
+   * Starts serving a host on a loopback port.
+   *
+   * @param host           the host whose sessions to serve
+   * @param port           the port to listen on, or 0 for any free port
+   * @param commandTimeout the time an exchange waits for its command
+   * @throws ValidationException         if the timeout is not positive
+   * @throws GameInitializationException if the server cannot be started
+   */
+  public GameHostServer(GameHost host, int port, Duration commandTimeout) {
+    this.host = Objects.requireNonNull(host, "Host cannot be null");
+    Objects.requireNonNull(commandTimeout, "Command timeout cannot be null");
+    if (commandTimeout.isNegative() || commandTimeout.isZero()) {
+      throw new ValidationException("Invalid commandTimeout: must be positive");
+    }
+    this.commandTimeoutNanos = commandTimeout.toNanos();
+    try {
+      server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+    } catch (IOException e) {
+      throw new GameInitializationException("Could not start game host server on port " + port, e);
+    }
+    server.setExecutor(executor);
+    server.createContext(PREFIX, this::handle);
+    server.start();
+    LOG.info(() -> "Game host listening on " + server.getAddress());
+  }
+
+  /**
+   * Returns the port the server listens on.
+   *
+   * @return the bound port
+   */
+  public int port() {
+    return server.getAddress().getPort();
+  }
+
+  /**
+   * Stops accepting exchanges and stops the server. The host and its sessions are left
+   * open.
+   */
+  @Override
+  public void close() {
+    server.stop(0);
+    executor.shutdown();
+  }
+
+  private void handle(HttpExchange exchange) throws IOException {
+    try (exchange) {
+      try {
+        route(exchange);
+      } catch (Exception e) {
+        Throwable cause = unwrap(e);
+        int status = statusOf(cause);
+        if (status == 500) {
+          LOG.log(Level.WARNING, "Game host request failed: " + exchange.getRequestURI(), cause);
+        }
+        String message = cause.getMessage() == null ? cause.getClass().getSimpleName() : cause.getMessage();
+        respond(exchange, status, json -> json.writeStringField("error", message));
+      }
+    }
+  }
+
+  private void route(HttpExchange exchange) throws Exception {
+    String method = exchange.getRequestMethod();
+    String[] path = exchange.getRequestURI().getPath().substring(PREFIX.length()).split("/");
+    Map<String, String> query = parseQuery(exchange.getRequestURI().getRawQuery());
+    if (path.length <= 1) {
+      if ("GET".equals(method)) {
+        respond(exchange, 200, this::writeStats);
+      } else if ("POST".equals(method)) {
+        GameSession session = host.open(require(query, "game"), intParam(query, "size", 0));
+        respond(exchange, 201, json -> json.writeStringField("id", session.id()));
+      } else {
+        respondMethodNotAllowed(exchange);
+      }
+      return;
+    }
+    String id = path[1];
+    String action = path.length > 2 ? path[2] : "";
+    switch (method + " " + action) {
+      case "GET " -> respondState(exchange, id, gateway -> null);
+      case "DELETE " -> {
+        if (!host.close(id)) {
+          throw new UnknownSessionException(id);
+        }
+        exchange.sendResponseHeaders(204, -1);
+      }
+      case "POST players" -> {
+        String name = require(query, "name");
+        String token = require(query, "token");
+        String birthday = query.get("birthday");
+        LocalDate born = birthday == null ? DEFAULT_BIRTHDAY : LocalDate.parse(birthday);
+        respondState(exchange, id, gateway -> {
+          gateway.addPlayer(name, token, born);
+          return null;
+        });
+      }
+      case "POST roll" -> respondState(exchange, id, AbstractGameGateway::rollDice);
+      case "POST select" -> {
+        int piece = intParam(query, "piece", -1);
+        respondState(exchange, id, gateway -> {
+          ludo(gateway).selectPiece(piece);
+          return null;
+        });
+      }
+      case "POST move" -> respondState(exchange, id, gateway -> ludo(gateway).applyPieceMovement());
+      case "POST reset" -> respondState(exchange, id, gateway -> {
+        gateway.resetGame();
+        return null;
+      });
+      default -> respondMethodNotAllowed(exchange);
+    }
+  }
+
+  private static LudoGateway ludo(AbstractGameGateway gateway) {
+    if (gateway instanceof LudoGateway ludo) {
+      return ludo;
+    }
+    throw new ValidationException("Only Ludo sessions have pieces to select and move");
+  }
+
+  /** Runs a command and reads the state in one mailbox turn, then writes the state. */
+  private void respondState(
+      HttpExchange exchange, String id, Function<AbstractGameGateway, ?> command) throws Exception {
+    CompletableFuture<GameStateDTO> future = host.<GameStateDTO>submit(id, gateway -> {
+      command.apply(gateway);
+      return gateway.exportState();
+    }).orElseThrow(() -> new UnknownSessionException(id));
+    GameStateDTO state = future.get(commandTimeoutNanos, TimeUnit.NANOSECONDS);
+    ByteArrayOutputStream body = new ByteArrayOutputStream(512);
+    stateWriter.write(state, body);
+    send(exchange, 200, body);
+  }
+
+  private void writeStats(JsonGenerator json) throws IOException {
+    json.writeNumberField("sessions", host.sessionCount());
+    json.writeNumberField("estimatedBytes", host.estimatedBytes());
+    json.writeNumberField("memoryBudgetBytes", host.memoryBudgetBytes());
+    json.writeNumberField("evicted", host.evictedCount());
+  }
+
+  /** Writes the fields of a single JSON object. */
+  @FunctionalInterface
+  private interface Fields {
+    void write(JsonGenerator json) throws IOException;
+  }
+
+  private static void respond(HttpExchange exchange, int status, Fields fields) throws IOException {
+    ByteArrayOutputStream body = new ByteArrayOutputStream(128);
+    try (JsonGenerator json = FACTORY.createGenerator(body)) {
+      json.writeStartObject();
+      fields.write(json);
+      json.writeEndObject();
+    }
+    send(exchange, status, body);
+  }
+
+  private static void respondMethodNotAllowed(HttpExchange exchange) throws IOException {
+    respond(exchange, 405, json -> json.writeStringField("error",
+        exchange.getRequestMethod() + " is not supported on " + exchange.getRequestURI().getPath()));
+  }
+
+  private static void send(HttpExchange exchange, int status, ByteArrayOutputStream body)
+      throws IOException {
+    exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+    exchange.sendResponseHeaders(status, body.size());
+    try (OutputStream out = exchange.getResponseBody()) {
+      body.writeTo(out);
+    }
+  }
+
+  private static Throwable unwrap(Throwable e) {
+    while ((e instanceof CompletionException || e instanceof ExecutionException)
+        && e.getCause() != null) {
+      e = e.getCause();
+    }
+    return e;
+  }
+
+  private static int statusOf(Throwable e) {
+    if (e instanceof UnknownSessionException) {
+      return 404;
+    }
+    if (e instanceof ValidationException || e instanceof IllegalArgumentException
+        || e instanceof DateTimeException || e instanceof ResourceNotFoundException) {
+      return 400;
+    }
+    if (e instanceof RuleViolationException || e instanceof IllegalStateException) {
+      return 409;
+    }
+    if (e instanceof RejectedExecutionException || e instanceof GameInitializationException) {
+      return 503;
+    }
+    if (e instanceof TimeoutException) {
+      return 504;
+    }
+    return 500;
+  }
+
+  private static Map<String, String> parseQuery(String rawQuery) {
+    Map<String, String> params = new HashMap<>();
+    if (rawQuery == null || rawQuery.isEmpty()) {
+      return params;
+    }
+    for (String pair : rawQuery.split("&")) {
+      int eq = pair.indexOf('=');
+      String key = eq < 0 ? pair : pair.substring(0, eq);
+      String value = eq < 0 ? "" : pair.substring(eq + 1);
+      params.put(URLDecoder.decode(key, StandardCharsets.UTF_8),
+          URLDecoder.decode(value, StandardCharsets.UTF_8));
+    }
+    return params;
+  }
+
+  private static String require(Map<String, String> query, String name) {
+    String value = query.get(name);
+    if (value == null || value.isBlank()) {
+      throw new ValidationException("Missing query parameter: " + name);
+    }
+    return value;
+  }
+
+  private static int intParam(Map<String, String> query, String name, int fallback) {
+    String value = query.get(name);
+    if (value == null) {
+      return fallback;
+    }
+    try {
+      return Integer.parseInt(value);
+    } catch (NumberFormatException e) {
+      throw new ValidationException("Invalid " + name + ": not a number");
+    }
+  }
+
+  /** Thrown for a session id the host does not know. */
+  private static final class UnknownSessionException extends RuntimeException {
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    UnknownSessionException(String id) {
+      super("No session " + id);
+    }
+  }
+}
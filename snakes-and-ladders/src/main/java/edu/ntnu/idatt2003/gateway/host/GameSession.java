@@ -0,0 +1,188 @@
+package edu.ntnu.idatt2003.gateway.host;
+
+import edu.ntnu.idatt2003.gateway.AbstractGameGateway;
+import edu.ntnu.idatt2003.gateway.GatewayMailbox;
+import edu.ntnu.idatt2003.gateway.LudoGateway;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * One game hosted by a {@link GameHost}: a gateway and the mailbox that is the only way
+ * to reach it.
+ * <p>
+ * Gateways are not thread-safe, so every command goes through {@link #submit(Function)}.
+ * Commands queue up in a {@link GatewayMailbox} and are run one after another by a
+ * single drain task on the host's executor, so the gateway is confined to one writer at
+ * a time without any locking. With a virtual-thread executor an idle session costs no
+ * thread at all.
+ * <p>
+ * After every batch of commands the session re-estimates how much heap its game holds, see
+ * {@link #estimatedBytes()}, and reports the change to the host.
+ */
+public final class GameSession {
+
+  /** Most commands that may wait in one mailbox before new ones are refused. */
+  public static final int MAX_PENDING_COMMANDS = 256;
+
+  // Retained sizes on a 64-bit JVM with compressed references, measured by opening
+  // 5000 sessions of each kind and dividing the heap growth. Ludo's board is fixed and
+  // holds more than its route length in tiles, so it is measured as a whole.
+  static final long SESSION_BYTES = 1_200;
+  static final long TILE_BYTES = 35;
+  static final long LUDO_BOARD_BYTES = 4_500;
+  static final long PLAYER_BYTES = 320;
+
+  private static final Logger LOG = Logger.getLogger(GameSession.class.getName());
+
+  private final String id;
+  private final String gameType;
+  private final AbstractGameGateway gateway;
+  private final LongSupplier clock;
+  private final FootprintListener listener;
+  private final GatewayMailbox<AbstractGameGateway> mailbox;
+  private final AtomicLong footprint = new AtomicLong();
+
+  private volatile long lastActiveNanos;
+  private volatile boolean closed;
+
+  /** Told by a session how much its estimated footprint changed. */
+  @FunctionalInterface
+  interface FootprintListener {
+    void footprintChanged(long deltaBytes);
+  }
+
+  /**
+   * Creates a session whose host has already counted {@code reservedBytes} of its
+   * footprint; only the difference to the first estimate is reported.
+   */
+  GameSession(String id, String gameType, AbstractGameGateway gateway, Executor executor,
+      LongSupplier clock, FootprintListener listener, long reservedBytes) {
+    this.id = Objects.requireNonNull(id, "Id cannot be null");
+    this.gameType = Objects.requireNonNull(gameType, "Game type cannot be null");
+    this.gateway = Objects.requireNonNull(gateway, "Gateway cannot be null");
+    this.mailbox = new GatewayMailbox<>(gateway, executor, MAX_PENDING_COMMANDS,
+        MAX_PENDING_COMMANDS, ignored -> setFootprint(closed ? 0 : estimate()));
+    this.clock = Objects.requireNonNull(clock, "Clock cannot be null");
+    this.listener = Objects.requireNonNull(listener, "Listener cannot be null");
+    this.lastActiveNanos = clock.getAsLong();
+    footprint.set(reservedBytes);
+    setFootprint(estimate());
+  }
+
+  /**
+   * Queues a command for the gateway and returns at once.
+   * The command runs on the session's writer, after every command submitted before it.
+   *
+   * @param command the command, given the gateway
+   * @param <T>     the type of the command's result
+   * @return a future completed with the command's result, or with whatever it threw;
+   *         completed with a {@link RejectedExecutionException} if the session is closed
+   *         or already has {@value #MAX_PENDING_COMMANDS} commands waiting
+   */
+  public <T> CompletableFuture<T> submit(Function<? super AbstractGameGateway, ? extends T> command) {
+    Objects.requireNonNull(command, "Command cannot be null");
+    if (closed) {
+      return CompletableFuture.failedFuture(
+          new RejectedExecutionException("Session " + id + " is closed"));
+    }
+    if (mailbox.pending() >= MAX_PENDING_COMMANDS) {
+      return CompletableFuture.failedFuture(
+          new RejectedExecutionException("Session " + id + " is busy"));
+    }
+    lastActiveNanos = clock.getAsLong();
+    return mailbox.submit(command);
+  }
+
+  /**
+   * Swaps in a new footprint and reports the change. Every change goes through
+   * {@code getAndSet}, so the host's total stays exact even when a drain and
+   * {@link #close()} race.
+   */
+  private void setFootprint(long bytes) {
+    long delta = bytes - footprint.getAndSet(bytes);
+    if (closed) {
+      delta -= footprint.getAndSet(0);
+    }
+    if (delta != 0) {
+      listener.footprintChanged(delta);
+    }
+  }
+
+  private long estimate() {
+    try {
+      long board = gateway instanceof LudoGateway ? LUDO_BOARD_BYTES : gateway.boardSize() * TILE_BYTES;
+      return SESSION_BYTES + board + gateway.players().size() * PLAYER_BYTES;
+    } catch (RuntimeException e) {
+      LOG.log(Level.FINE, "Could not size session " + id, e);
+      return SESSION_BYTES;
+    }
+  }
+
+  /**
+   * Refuses new commands and frees the session's share of the host's memory budget.
+   * Commands already queued complete with a {@link RejectedExecutionException}.
+   */
+  void close() {
+    closed = true;
+    mailbox.closeNow();
+    setFootprint(0);
+  }
+
+  /**
+   * Returns the id the host knows this session by.
+   *
+   * @return the session id
+   */
+  public String id() {
+    return id;
+  }
+
+  /**
+   * Returns the game type, one of the {@code GameStateDTO} game type names.
+   *
+   * @return the game type
+   */
+  public String gameType() {
+    return gameType;
+  }
+
+  /**
+   * Returns the estimated heap held by this session's game, updated after every batch
+   * of commands. This is an estimate from the board size and the number of players,
+   * not a measurement.
+   *
+   * @return the estimated size in bytes
+   */
+  public long estimatedBytes() {
+    return footprint.get();
+  }
+
+  /**
+   * Returns the number of commands waiting in or being run from the mailbox.
+   *
+   * @return the number of pending commands
+   */
+  public int pendingCommands() {
+    return mailbox.pending();
+  }
+
+  /**
+   * Returns whether the session was closed, explicitly or by idle eviction.
+   *
+   * @return {@code true} if the session no longer accepts commands
+   */
+  public boolean isClosed() {
+    return closed;
+  }
+
+  long lastActiveNanos() {
+    return lastActiveNanos;
+  }
+}
@@ -0,0 +1,312 @@
+package edu.ntnu.idatt2003.gateway.journal;
+
+import edu.games.engine.exception.StorageException;
+import edu.games.engine.exception.ValidationException;
+import edu.games.engine.observer.BoardGameEvent;
+import edu.games.engine.observer.BoardGameObserver;
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Observer that appends every game event to a binary journal file.
+ * <p>
+ * Register it with {@code gateway.addObserver(journal)}. {@link #update} only encodes
+ * the event into an in-memory buffer, so the FX thread never waits for the disk. A
+ * background writer swaps that buffer for an empty one and writes the whole batch with
+ * one {@link FileChannel} call: a group commit. A batch is written once the commit
+ * interval has passed since its first record, or earlier when the buffer fills up or
+ * {@link #flush()} is called. With {@code sync} on, every batch is also forced to disk.
+ * <p>
+ * The file is only ever appended to; opening an existing journal continues it, after
+ * dropping a record left half-written by a crash. The record layout is described in
+ * {@link JournalCodec} and read back by {@link EventJournalReader}.
+ */
+public final class EventJournal implements BoardGameObserver, AutoCloseable {
+
+  /** Default time a record may wait in memory before its batch is written. */
+  public static final long DEFAULT_COMMIT_INTERVAL_MILLIS = 50;
+  /** Default initial size of each of the two batch buffers. */
+  public static final int DEFAULT_BUFFER_BYTES = 64 * 1024;
+
+  private static final Logger LOG = Logger.getLogger(EventJournal.class.getName());
+  private static final AtomicInteger WRITER_IDS = new AtomicInteger();
+
+  private final FileChannel channel;
+  private final long startMillis;
+  private final long commitIntervalNanos;
+  private final boolean sync;
+  private final ByteBuffer scratch = ByteBuffer.allocate(JournalCodec.MAX_RECORD_BYTES);
+  private final ReentrantLock lock = new ReentrantLock();
+  private final Condition wake = lock.newCondition();
+  private final Condition committed = lock.newCondition();
+  private final Thread writer;
+
+  private ByteBuffer active;
+  private ByteBuffer spare;
+  private long appended;
+  private long written;
+  private boolean urgent;
+  private boolean closed;
+  private IOException failure;
+
+  /**
+   * Opens a journal with the default commit interval, without forcing batches to disk.
+   *
+   * @param file the journal file, created if missing
+   * @throws StorageException if the file cannot be opened or is not a journal
+   */
+  public EventJournal(Path file) {
+    this(file, DEFAULT_COMMIT_INTERVAL_MILLIS, false);
+  }
+
+  /**
+   * Opens a journal.
+   *
+   * @param file                 the journal file, created if missing
+   * @param commitIntervalMillis the time a record may wait before its batch is written
+   * @param sync                 {@code true} to force every batch to disk after writing it
+   * @throws ValidationException if the interval is negative
+   * @throws StorageException    if the file cannot be opened or is not a journal
+   */
+  public EventJournal(Path file, long commitIntervalMillis, boolean sync) {
+    Objects.requireNonNull(file, "File cannot be null.");
+    if (commitIntervalMillis < 0) {
+      throw new ValidationException("Invalid commitIntervalMillis: cannot be negative");
+    }
+    this.commitIntervalNanos = TimeUnit.MILLISECONDS.toNanos(commitIntervalMillis);
+    this.sync = sync;
+    this.active = ByteBuffer.allocateDirect(DEFAULT_BUFFER_BYTES);
+    this.spare = ByteBuffer.allocateDirect(DEFAULT_BUFFER_BYTES);
+    try {
+      this.channel = FileChannel.open(file,
+          StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+      this.startMillis = openHeader(channel, file);
+    } catch (IOException e) {
+      throw new StorageException("Could not open journal " + file, e);
+    }
+    this.writer = new Thread(this::writeLoop, "event-journal-" + WRITER_IDS.incrementAndGet());
+    writer.setDaemon(true);
+    writer.start();
+    LOG.info(() -> "Journaling game events to " + file);
+  }
+
+  private static long openHeader(FileChannel channel, Path file) throws IOException {
+    if (channel.size() == 0) {
+      long now = System.currentTimeMillis();
+      ByteBuffer header = ByteBuffer.allocate(JournalCodec.HEADER_BYTES);
+      JournalCodec.writeHeader(header, now);
+      header.flip();
+      while (header.hasRemaining()) {
+        channel.write(header, header.position());
+      }
+      channel.position(JournalCodec.HEADER_BYTES);
+      return now;
+    }
+    long start = EventJournalReader.readHeader(channel, file);
+    long end = EventJournalReader.endOfRecords(channel);
+    if (end < channel.size()) {
+      LOG.warning(() -> "Dropping torn record at the end of journal " + file);
+      channel.truncate(end);
+    }
+    channel.position(end);
+    return start;
+  }
+
+  /**
+   * Encodes the event into the current batch. Never blocks on I/O.
+   *
+   * @param event the event to journal
+   */
+  @Override
+  public void update(BoardGameEvent event) {
+    if (event == null || event.getTypeOfEvent() == null) {
+      return;
+    }
+    long elapsed = System.currentTimeMillis() - startMillis;
+    lock.lock();
+    try {
+      if (closed) {
+        return;
+      }
+      scratch.clear();
+      try {
+        JournalCodec.encode(event, elapsed, scratch);
+      } catch (BufferOverflowException | ValidationException e) {
+        LOG.log(Level.WARNING, "Skipping event that cannot be journaled: " + event.getTypeOfEvent(), e);
+        return;
+      }
+      scratch.flip();
+      boolean wasEmpty = active.position() == 0;
+      if (active.remaining() < scratch.remaining()) {
+        active = grow(active, scratch.remaining());
+      }
+      active.put(scratch);
+      appended++;
+      if (active.position() >= active.capacity() / 2) {
+        urgent = true;
+        wake.signal();
+      } else if (wasEmpty) {
+        wake.signal();
+      }
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private static ByteBuffer grow(ByteBuffer buffer, int needed) {
+    int capacity = buffer.capacity();
+    while (capacity - buffer.position() < needed) {
+      capacity *= 2;
+    }
+    ByteBuffer bigger = ByteBuffer.allocateDirect(capacity);
+    buffer.flip();
+    bigger.put(buffer);
+    return bigger;
+  }
+
+  /**
+   * Writes every event journaled so far and waits until it is in the file.
+   *
+   * @throws StorageException if a write failed
+   */
+  public void flush() {
+    lock.lock();
+    try {
+      long target = appended;
+      urgent = true;
+      wake.signal();
+      while (written < target && failure == null) {
+        committed.awaitUninterruptibly();
+      }
+      throwIfFailed();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Writes the remaining events, stops the writer and closes the file.
+   * Events received afterwards are ignored.
+   *
+   * @throws StorageException if a write failed or the file could not be closed
+   */
+  @Override
+  public void close() {
+    lock.lock();
+    try {
+      if (closed) {
+        return;
+      }
+      closed = true;
+      wake.signal();
+    } finally {
+      lock.unlock();
+    }
+    boolean interrupted = false;
+    while (writer.isAlive()) {
+      try {
+        writer.join();
+      } catch (InterruptedException e) {
+        interrupted = true;
+      }
+    }
+    if (interrupted) {
+      Thread.currentThread().interrupt();
+    }
+    try {
+      channel.close();
+    } catch (IOException e) {
+      throw new StorageException("Could not close journal", e);
+    }
+    lock.lock();
+    try {
+      throwIfFailed();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private void throwIfFailed() {
+    if (failure != null) {
+      throw new StorageException("Journal write failed", failure);
+    }
+  }
+
+  /**
+   * Writer thread: waits for a batch to start, lets it fill for the commit interval,
+   * then swaps buffers and writes the full one outside the lock.
+   */
+  private void writeLoop() {
+    while (true) {
+      ByteBuffer batch;
+      long batchEnd;
+      lock.lock();
+      try {
+        while (active.position() == 0 && !closed) {
+          wake.awaitUninterruptibly();
+        }
+        long remaining = commitIntervalNanos;
+        while (!urgent && !closed && remaining > 0) {
+          try {
+            remaining = wake.awaitNanos(remaining);
+          } catch (InterruptedException e) {
+            remaining = 0;
+          }
+        }
+        urgent = false;
+        if (active.position() == 0) {
+          written = appended;
+          committed.signalAll();
+          return;
+        }
+        batch = active;
+        active = spare;
+        spare = batch;
+        batchEnd = appended;
+      } finally {
+        lock.unlock();
+      }
+
+      IOException error = writeBatch(batch);
+      lock.lock();
+      try {
+        if (error != null && failure == null) {
+          failure = error;
+          LOG.log(Level.SEVERE, "Could not write game journal", error);
+        }
+        written = batchEnd;
+        committed.signalAll();
+      } finally {
+        lock.unlock();
+      }
+    }
+  }
+
+  private IOException writeBatch(ByteBuffer batch) {
+    batch.flip();
+    try {
+      while (batch.hasRemaining()) {
+        channel.write(batch);
+      }
+      if (sync) {
+        channel.force(false);
+      }
+      return null;
+    } catch (IOException e) {
+      return e;
+    } finally {
+      batch.clear();
+    }
+  }
+}
@@ -0,0 +1,100 @@
+package edu.ntnu.idatt2003.gateway.journal;
+
+import edu.games.engine.exception.StorageException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * Reads the records of an {@link EventJournal} file back in the order they were written.
+ * A record cut off at the end of the file, as left by a crash mid-write, is ignored.
+ */
+public final class EventJournalReader {
+
+  private EventJournalReader() {
+  }
+
+  /**
+   * Reads every record of a journal.
+   *
+   * @param file the journal file
+   * @return the decoded entries, oldest first
+   * @throws StorageException if the file cannot be read or is not a journal
+   */
+  public static List<JournalEntry> readAll(Path file) {
+    List<JournalEntry> entries = new ArrayList<>();
+    forEach(file, entries::add);
+    return entries;
+  }
+
+  /**
+   * Decodes the records of a journal one at a time.
+   *
+   * @param file   the journal file
+   * @param action called with every entry, oldest first
+   * @throws StorageException if the file cannot be read or is not a journal
+   */
+  public static void forEach(Path file, Consumer<JournalEntry> action) {
+    Objects.requireNonNull(file, "File cannot be null.");
+    Objects.requireNonNull(action, "Action cannot be null.");
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      long startMillis = readHeader(channel, file);
+      ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+      buffer.position(JournalCodec.HEADER_BYTES);
+      while (buffer.remaining() >= JournalCodec.LENGTH_BYTES) {
+        int length = Short.toUnsignedInt(buffer.getShort());
+        if (length == 0 || buffer.remaining() < length) {
+          break;
+        }
+        action.accept(JournalCodec.decode(buffer, length, startMillis));
+      }
+    } catch (IOException e) {
+      throw new StorageException("Could not read journal " + file, e);
+    }
+  }
+
+  /**
+   * Checks the header of a journal and returns its creation time.
+   */
+  static long readHeader(FileChannel channel, Path file) throws IOException {
+    ByteBuffer header = ByteBuffer.allocate(JournalCodec.HEADER_BYTES);
+    while (header.hasRemaining() && channel.read(header, header.position()) >= 0) {
+      // Keep reading until the header is complete or the file ends
+    }
+    header.flip();
+    if (header.remaining() < JournalCodec.HEADER_BYTES
+        || header.getInt() != JournalCodec.MAGIC
+        || header.get() != JournalCodec.VERSION) {
+      throw new StorageException("Not a game journal: " + file);
+    }
+    return header.getLong();
+  }
+
+  /**
+   * Returns the offset just past the last complete record.
+   */
+  static long endOfRecords(FileChannel channel) throws IOException {
+    ByteBuffer length = ByteBuffer.allocate(JournalCodec.LENGTH_BYTES);
+    long size = channel.size();
+    long offset = JournalCodec.HEADER_BYTES;
+    while (offset + JournalCodec.LENGTH_BYTES <= size) {
+      length.clear();
+      while (length.hasRemaining() && channel.read(length, offset + length.position()) >= 0) {
+        // Keep reading until the prefix is complete
+      }
+      int bodyLength = Short.toUnsignedInt(length.getShort(0));
+      long next = offset + JournalCodec.LENGTH_BYTES + bodyLength;
+      if (bodyLength == 0 || next > size) {
+        break;
+      }
+      offset = next;
+    }
+    return offset;
+  }
+}
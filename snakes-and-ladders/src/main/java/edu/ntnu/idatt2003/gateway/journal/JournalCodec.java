@@ -0,0 +1,144 @@
+package edu.ntnu.idatt2003.gateway.journal;
+
+import edu.games.engine.model.Player;
+import edu.games.engine.observer.BoardGameEvent;
+import edu.games.engine.observer.BoardGameEvent.EventType;
+import edu.games.engine.observer.GameEvent;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Binary layout of the journal file.
+ * <p>
+ * The file starts with a 13-byte header: the magic number, the format version and the
+ * epoch milliseconds the journal was created. Every record after it is an unsigned
+ * 16-bit length followed by that many bytes: the event type ordinal, the unsigned
+ * 32-bit milliseconds since creation and a payload that depends on the type. Strings
+ * are an unsigned 16-bit length followed by UTF-8 bytes; all numbers are big-endian.
+ *
+ * <pre>
+ * DICE_ROLLED      u8 count, count x u8 value
+ * PLAYER_MOVED     string player, i16 from, i16 to
+ * TURN_CHANGED     string player
+ * WINNER_DECLARED  string player
+ * PLAYER_ADDED     string player, u8 token
+ * GAME_STARTED     i32 board size
+ * PIECE_SELECTED   u8 piece
+ * PLAYERS_LOADED   u16 count
+ * GAME_RESET       (empty)
+ * </pre>
+ */
+final class JournalCodec {
+
+  static final int MAGIC = 0x474A4E4C;
+  static final byte VERSION = 1;
+  static final int HEADER_BYTES = 13;
+  static final int LENGTH_BYTES = 2;
+  static final int MAX_RECORD_BYTES = LENGTH_BYTES + 0xFFFF;
+
+  private static final EventType[] TYPES = EventType.values();
+
+  private JournalCodec() {
+  }
+
+  static void writeHeader(ByteBuffer buffer, long startMillis) {
+    buffer.putInt(MAGIC).put(VERSION).putLong(startMillis);
+  }
+
+  /**
+   * Encodes one event, length prefix included, at the buffer's position.
+   *
+   * @throws java.nio.BufferOverflowException if the record does not fit
+   */
+  static void encode(BoardGameEvent event, long elapsedMillis, ByteBuffer buffer) {
+    GameEvent typed = event.event();
+    int start = buffer.position();
+    buffer.putShort((short) 0);
+    buffer.put((byte) typed.type().ordinal());
+    buffer.putInt((int) Math.min(Math.max(elapsedMillis, 0), 0xFFFF_FFFFL));
+    switch (typed) {
+      case GameEvent.DiceRolled dice -> {
+        buffer.put((byte) dice.count());
+        for (int i = 0; i < dice.count(); i++) {
+          buffer.put((byte) dice.die(i));
+        }
+      }
+      case GameEvent.PlayerMoved move -> {
+        putString(buffer, nameOf(move.player()));
+        buffer.putShort((short) move.fromTileId()).putShort((short) move.toTileId());
+      }
+      case GameEvent.TurnChanged turn -> putString(buffer, nameOf(turn.player()));
+      case GameEvent.WinnerDeclared win -> putString(buffer, nameOf(win.winner()));
+      case GameEvent.PlayerAdded added -> {
+        putString(buffer, nameOf(added.player()));
+        buffer.put((byte) (added.player() != null ? added.player().getToken().ordinal() : -1));
+      }
+      case GameEvent.GameStarted started -> buffer.putInt(started.boardSize());
+      case GameEvent.PieceSelected selected -> buffer.put((byte) selected.pieceIndex());
+      case GameEvent.PlayersLoaded loaded -> buffer.putShort((short) loaded.playerCount());
+      case GameEvent.GameReset reset -> {
+        // No payload
+      }
+    }
+    buffer.putShort(start, (short) (buffer.position() - start - LENGTH_BYTES));
+  }
+
+  private static String nameOf(Player player) {
+    return player != null ? player.getName() : "";
+  }
+
+  private static void putString(ByteBuffer buffer, String value) {
+    byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+    buffer.putShort((short) bytes.length).put(bytes);
+  }
+
+  /**
+   * Decodes the record whose body starts at the buffer's position and spans {@code length} bytes.
+   */
+  static JournalEntry decode(ByteBuffer buffer, int length, long startMillis) {
+    int end = buffer.position() + length;
+    EventType type = TYPES[buffer.get()];
+    long timeMillis = startMillis + Integer.toUnsignedLong(buffer.getInt());
+    String player = null;
+    int from = -1;
+    int to = -1;
+    int value = -1;
+    List<Integer> dice = List.of();
+    switch (type) {
+      case DICE_ROLLED -> {
+        int count = Byte.toUnsignedInt(buffer.get());
+        List<Integer> values = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+          values.add((int) buffer.get());
+        }
+        dice = values;
+      }
+      case PLAYER_MOVED -> {
+        player = getString(buffer);
+        from = buffer.getShort();
+        to = buffer.getShort();
+      }
+      case TURN_CHANGED, WINNER_DECLARED -> player = getString(buffer);
+      case PLAYER_ADDED -> {
+        player = getString(buffer);
+        value = buffer.get();
+      }
+      case GAME_STARTED -> value = buffer.getInt();
+      case PIECE_SELECTED -> value = buffer.get();
+      case PLAYERS_LOADED -> value = Short.toUnsignedInt(buffer.getShort());
+      case GAME_RESET -> {
+        // No payload
+      }
+    }
+    buffer.position(end);
+    return new JournalEntry(type, timeMillis, player, from, to, value, dice);
+  }
+
+  private static String getString(ByteBuffer buffer) {
+    byte[] bytes = new byte[Short.toUnsignedInt(buffer.getShort())];
+    buffer.get(bytes);
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+}
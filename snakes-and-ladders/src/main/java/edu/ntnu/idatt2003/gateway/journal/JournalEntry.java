@@ -0,0 +1,29 @@
+package edu.ntnu.idatt2003.gateway.journal;
+
+import edu.games.engine.observer.BoardGameEvent.EventType;
+import java.util.List;
+
+/**
+ * One decoded record of an {@link EventJournal}.
+ * Fields that do not apply to the event type are {@code null}, {@code -1} or empty.
+ *
+ * @param type       the event type
+ * @param timeMillis the wall-clock time the event was journaled, in epoch milliseconds
+ * @param player     the player the event is about, for moves, turns, winners and added players
+ * @param from       the tile moved from, for {@code PLAYER_MOVED}; -1 for home
+ * @param to         the tile moved to, for {@code PLAYER_MOVED}; -1 for home
+ * @param value      the board size for {@code GAME_STARTED}, the piece for {@code PIECE_SELECTED},
+ *                   the token ordinal for {@code PLAYER_ADDED} or the number of players for
+ *                   {@code PLAYERS_LOADED}
+ * @param dice       the rolled values, for {@code DICE_ROLLED}
+ */
+public record JournalEntry(
+    EventType type, long timeMillis, String player, int from, int to, int value, List<Integer> dice) {
+
+  /**
+   * Creates an entry, copying the dice values.
+   */
+  public JournalEntry {
+    dice = List.copyOf(dice);
+  }
+}
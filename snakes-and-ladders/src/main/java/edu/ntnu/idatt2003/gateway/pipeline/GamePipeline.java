@@ -0,0 +1,177 @@
+package edu.ntnu.idatt2003.gateway.pipeline;
+
+import edu.games.engine.exception.ValidationException;
+import edu.ntnu.idatt2003.gateway.AbstractGameGateway;
+import edu.ntnu.idatt2003.gateway.GatewayMailbox;
+import edu.ntnu.idatt2003.gateway.LudoGateway;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.function.Function;
+
+/**
+ * Serialises every command for one game onto a single owner thread at a time.
+ * <p>
+ * {@link AbstractGameGateway} and the engine behind it are not thread-safe. Once a
+ * gateway is handed to a pipeline, only its owner touches it: the FX thread,
+ * bots and network handlers call {@link #rollDice()}, {@link #selectPiece(int)},
+ * {@link #applyPieceMovement()}, {@link #resetGame()} or {@link #submit(Function)},
+ * which queue the command in a {@link GatewayMailbox} and return a
+ * {@link CompletableFuture} at once.
+ * <p>
+ * The owner takes whatever commands have queued up, up to {@value #MAX_BATCH} at a time,
+ * runs them in order, and then publishes one {@link GameSnapshot} for the whole batch.
+ * Futures complete only after that, so a caller that waited for its command always sees
+ * a snapshot that includes it. Reads go to {@link #snapshot()}, a single volatile read,
+ * so neither side ever takes a lock.
+ * <p>
+ * Observers registered on the gateway are notified on the owner thread. Views already
+ * hand their updates to the FX thread, but should read positions from the snapshot
+ * rather than from the gateway.
+ *
+ * @param <G> the type of gateway behind the pipeline
+ */
+public final class GamePipeline<G extends AbstractGameGateway> implements AutoCloseable {
+
+  /** Most commands run between two snapshots. */
+  public static final int MAX_BATCH = 64;
+
+  private static final ThreadFactory OWNERS = Thread.ofVirtual().name("game-pipeline-", 1).factory();
+
+  private final ExecutorService owners;
+  private final GatewayMailbox<G> mailbox;
+  private volatile GameSnapshot snapshot;
+  private long version;
+
+  /**
+   * Creates a pipeline whose owner is a virtual thread.
+   *
+   * @param gateway the gateway to own; no other thread may use it afterwards
+   */
+  public GamePipeline(G gateway) {
+    this(gateway, OWNERS);
+  }
+
+  /**
+   * Creates a pipeline whose owner threads come from the given factory, one for each
+   * run of queued commands.
+   *
+   * @param gateway       the gateway to own; no other thread may use it afterwards
+   * @param threadFactory the factory creating the owner threads
+   */
+  public GamePipeline(G gateway, ThreadFactory threadFactory) {
+    Objects.requireNonNull(gateway, "Gateway cannot be null");
+    Objects.requireNonNull(threadFactory, "Thread factory cannot be null");
+    this.snapshot = GameSnapshot.of(0, gateway);
+    this.owners = Executors.newThreadPerTaskExecutor(threadFactory);
+    this.mailbox = new GatewayMailbox<>(gateway, owners, MAX_BATCH, Integer.MAX_VALUE,
+        this::publish);
+  }
+
+  /** Publishes a snapshot of the batch just run. */
+  private void publish(G gateway) {
+    snapshot = GameSnapshot.of(++version, gateway);
+  }
+
+  /**
+   * Queues a roll for the current player.
+   *
+   * @return a future completed with the rolled value
+   */
+  public CompletableFuture<Integer> rollDice() {
+    return submit(AbstractGameGateway::rollDice);
+  }
+
+  /**
+   * Queues the selection of a Ludo piece.
+   *
+   * @param pieceIndex the index of the piece
+   * @return a future completed once the piece is selected; completed with a
+   *         {@link ValidationException} if the gateway is not a Ludo gateway or the
+   *         index is out of range
+   */
+  public CompletableFuture<Void> selectPiece(int pieceIndex) {
+    return submit(gateway -> {
+      ludo(gateway).selectPiece(pieceIndex);
+      return null;
+    });
+  }
+
+  /**
+   * Queues moving the selected Ludo piece by the last roll.
+   *
+   * @return a future completed with the roll used, or 0 if no move was allowed;
+   *         completed with a {@link ValidationException} if the gateway is not a Ludo gateway
+   */
+  public CompletableFuture<Integer> applyPieceMovement() {
+    return submit(gateway -> ludo(gateway).applyPieceMovement());
+  }
+
+  /**
+   * Queues a reset of the game.
+   *
+   * @return a future completed once the game is reset
+   */
+  public CompletableFuture<Void> resetGame() {
+    return submit(gateway -> {
+      gateway.resetGame();
+      return null;
+    });
+  }
+
+  private static LudoGateway ludo(AbstractGameGateway gateway) {
+    if (gateway instanceof LudoGateway ludo) {
+      return ludo;
+    }
+    throw new ValidationException("Only Ludo games have pieces to select and move");
+  }
+
+  /**
+   * Queues any command for the owner thread.
+   *
+   * @param action the command, given the gateway
+   * @param <T>    the type of the command's result
+   * @return a future completed with the command's result or whatever it threw, after
+   *         the snapshot of its batch is published; completed with a
+   *         {@link RejectedExecutionException} if the pipeline is closed
+   */
+  public <T> CompletableFuture<T> submit(Function<? super G, ? extends T> action) {
+    return mailbox.submit(action);
+  }
+
+  /**
+   * Returns the snapshot published after the last batch. Never blocks.
+   *
+   * @return the latest snapshot
+   */
+  public GameSnapshot snapshot() {
+    return snapshot;
+  }
+
+  /**
+   * Returns whether the calling thread is the pipeline's owner, which is the only
+   * thread allowed to use the gateway directly.
+   *
+   * @return {@code true} on the owner thread
+   */
+  public boolean isOwnerThread() {
+    return mailbox.isWriterThread();
+  }
+
+  /**
+   * Stops accepting commands, lets the owner finish the ones already queued and waits
+   * for it to exit. When called from the owner thread itself, returns without waiting.
+   */
+  @Override
+  public void close() {
+    mailbox.close();
+    if (isOwnerThread()) {
+      owners.shutdown();
+    } else {
+      owners.close();
+    }
+  }
+}
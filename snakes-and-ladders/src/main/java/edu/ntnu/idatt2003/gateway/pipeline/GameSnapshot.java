@@ -0,0 +1,61 @@
+package edu.ntnu.idatt2003.gateway.pipeline;
+
+import edu.ntnu.idatt2003.gateway.AbstractGameGateway;
+import edu.ntnu.idatt2003.gateway.LudoGateway;
+import edu.ntnu.idatt2003.gateway.view.PlayerView;
+import java.util.List;
+
+/**
+ * Immutable picture of a game, published by a {@link GamePipeline} after every batch of
+ * commands. Any thread may read it without locking.
+ * <p>
+ * It covers both games. In Ludo, each player's {@link PlayerView#piecePositions()} holds
+ * the tile of every piece, 0 for a piece at home, and {@code selectedPieceIndex} the
+ * piece the current player has chosen to move.
+ *
+ * @param version            the number of batches run before this snapshot was taken
+ * @param boardSize          the size of the board
+ * @param players            the players, in turn order
+ * @param currentPlayerName  the name of the player whose turn it is, or empty if there
+ *                           are no players
+ * @param lastDiceValues     the values of the last roll
+ * @param hasWinner          whether the game has been won
+ * @param selectedPieceIndex the Ludo piece selected by the current player, or -1 if none
+ *                           is selected or the game has no pieces to select
+ */
+public record GameSnapshot(
+    long version,
+    int boardSize,
+    List<PlayerView> players,
+    String currentPlayerName,
+    List<Integer> lastDiceValues,
+    boolean hasWinner,
+    int selectedPieceIndex) {
+
+  /**
+   * Copies the lists so the snapshot cannot change after it is published.
+   */
+  public GameSnapshot {
+    players = List.copyOf(players);
+    lastDiceValues = List.copyOf(lastDiceValues);
+  }
+
+  /**
+   * Takes a snapshot of a gateway. Must run on the thread that owns the gateway.
+   *
+   * @param version the snapshot version
+   * @param gateway the gateway to read
+   * @return the snapshot
+   */
+  static GameSnapshot of(long version, AbstractGameGateway gateway) {
+    List<PlayerView> players = gateway.players();
+    return new GameSnapshot(
+        version,
+        gateway.boardSize(),
+        players,
+        players.isEmpty() ? "" : gateway.currentPlayerName(),
+        gateway.lastDiceValues(),
+        gateway.hasWinner(),
+        gateway instanceof LudoGateway ludo ? ludo.selectedPieceIndex() : -1);
+  }
+}
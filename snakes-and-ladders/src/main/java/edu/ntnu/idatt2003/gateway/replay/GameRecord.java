@@ -0,0 +1,103 @@
+package edu.ntnu.idatt2003.gateway.replay;
+
+import edu.games.engine.exception.ValidationException;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Everything needed to play a game again: which game it was, the board it was played on,
+ * who sat where, and the dice and piece choice of every turn. Nothing else is random, so replaying the turns
+ * on a fresh game reproduces every position.
+ *
+ * @param kind      the game played
+ * @param boardSize the board size the game was started with
+ * @param snakes    the snakes on the board, from start tile ID to end tile ID
+ * @param ladders   the ladders on the board, from start tile ID to end tile ID
+ * @param seats     the players in turn order
+ * @param turns     the turns played, oldest first
+ */
+public record GameRecord(
+    Kind kind,
+    int boardSize,
+    Map<Integer, Integer> snakes,
+    Map<Integer, Integer> ladders,
+    List<Seat> seats,
+    List<Turn> turns) {
+
+  /** The games that can be recorded. */
+  public enum Kind {
+    SNAKES_AND_LADDERS,
+    LUDO
+  }
+
+  /**
+   * A player as added to the game.
+   *
+   * @param name     the player's name
+   * @param token    the token name, e.g. {@code "BLUE"}
+   * @param birthday the player's birthday
+   */
+  public record Seat(String name, String token, LocalDate birthday) {
+  }
+
+  /**
+   * One turn: the dice rolled and, in Ludo, the piece moved with them.
+   *
+   * @param dice  the values rolled
+   * @param piece the ID of the piece moved, or -1 if the game has no piece choice
+   */
+  public record Turn(List<Integer> dice, int piece) {
+
+    /**
+     * Creates a turn.
+     *
+     * @throws ValidationException if no dice were rolled
+     */
+    public Turn {
+      dice = List.copyOf(dice);
+      if (dice.isEmpty()) {
+        throw new ValidationException("Invalid dice: a turn needs at least one value");
+      }
+    }
+  }
+
+  /**
+   * Creates a record.
+   *
+   * @throws ValidationException if there are no seats
+   */
+  public GameRecord {
+    Objects.requireNonNull(kind, "Kind cannot be null.");
+    snakes = Map.copyOf(snakes);
+    ladders = Map.copyOf(ladders);
+    seats = List.copyOf(seats);
+    turns = List.copyOf(turns);
+    if (seats.isEmpty()) {
+      throw new ValidationException("Invalid seats: a record needs at least one player");
+    }
+  }
+
+  /**
+   * Creates a record of a game played without snakes or ladders, such as Ludo.
+   *
+   * @param kind      the game played
+   * @param boardSize the board size the game was started with
+   * @param seats     the players in turn order
+   * @param turns     the turns played, oldest first
+   * @throws ValidationException if there are no seats
+   */
+  public GameRecord(Kind kind, int boardSize, List<Seat> seats, List<Turn> turns) {
+    this(kind, boardSize, Map.of(), Map.of(), seats, turns);
+  }
+
+  /**
+   * Returns the number of turns recorded.
+   *
+   * @return the number of turns
+   */
+  public int turnCount() {
+    return turns.size();
+  }
+}
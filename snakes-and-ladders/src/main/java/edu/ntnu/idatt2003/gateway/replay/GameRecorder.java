@@ -0,0 +1,127 @@
+package edu.ntnu.idatt2003.gateway.replay;
+
+import edu.games.engine.observer.BoardGameEvent;
+import edu.games.engine.observer.BoardGameEvent.EventType;
+import edu.games.engine.observer.BoardGameObserver;
+import edu.games.engine.observer.GameEvent;
+import edu.ntnu.idatt2003.gateway.AbstractGameGateway;
+import edu.ntnu.idatt2003.gateway.LudoGateway;
+import edu.ntnu.idatt2003.gateway.SnlGateway;
+import edu.ntnu.idatt2003.gateway.replay.GameRecord.Seat;
+import edu.ntnu.idatt2003.gateway.replay.GameRecord.Turn;
+import edu.ntnu.idatt2003.gateway.view.PlayerView;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Observer that records the game played on a gateway so that a {@link GameReplayer} can
+ * play it again.
+ * <p>
+ * A turn is recorded from the dice rolled and the piece selected, and is closed by the
+ * turn change that follows. The seats, and in Snakes and Ladders the snakes and ladders
+ * of the board, are taken from the gateway at the first roll, and a new or reset game
+ * starts an empty record. Register it with
+ * {@code gateway.addObserver(recorder, GameRecorder.EVENT_TYPES)} before the first roll,
+ * so moves and the other events it ignores never reach it; like the gateway, it is meant
+ * to be used from one thread.
+ */
+public final class GameRecorder implements BoardGameObserver {
+
+  /** The event types a recorder reads; it ignores all others. */
+  public static final Set<EventType> EVENT_TYPES = Collections.unmodifiableSet(EnumSet.of(
+      EventType.GAME_STARTED,
+      EventType.GAME_RESET,
+      EventType.DICE_ROLLED,
+      EventType.PIECE_SELECTED,
+      EventType.TURN_CHANGED));
+
+  private final AbstractGameGateway gateway;
+  private final GameRecord.Kind kind;
+  private final List<Seat> seats = new ArrayList<>();
+  private final List<Turn> turns = new ArrayList<>();
+  private int boardSize;
+  private Map<Integer, Integer> snakes = Map.of();
+  private Map<Integer, Integer> ladders = Map.of();
+  private List<Integer> pendingDice;
+  private int pendingPiece = -1;
+
+  /**
+   * Creates a recorder for a gateway.
+   *
+   * @param gateway the gateway whose games are recorded
+   */
+  public GameRecorder(AbstractGameGateway gateway) {
+    this.gateway = Objects.requireNonNull(gateway, "Gateway cannot be null.");
+    this.kind = gateway instanceof LudoGateway
+        ? GameRecord.Kind.LUDO
+        : GameRecord.Kind.SNAKES_AND_LADDERS;
+  }
+
+  @Override
+  public void update(BoardGameEvent event) {
+    if (event == null || event.getTypeOfEvent() == null) {
+      return;
+    }
+    switch (event.event()) {
+      case GameEvent.GameStarted started -> {
+        boardSize = Math.max(started.boardSize(), 0);
+        clear();
+      }
+      case GameEvent.GameReset reset -> clear();
+      case GameEvent.DiceRolled dice -> {
+        if (seats.isEmpty()) {
+          if (gateway instanceof SnlGateway snl) {
+            snakes = snl.getSnakes();
+            ladders = snl.getLadders();
+          }
+          for (PlayerView player : gateway.players()) {
+            seats.add(new Seat(player.playerName(), player.playerToken(), player.birthday()));
+          }
+        }
+        pendingDice = dice.values();
+      }
+      case GameEvent.PieceSelected selected -> pendingPiece = selected.pieceIndex();
+      case GameEvent.TurnChanged turn -> {
+        if (pendingDice != null && !pendingDice.isEmpty()) {
+          turns.add(new Turn(pendingDice, pendingPiece));
+        }
+        pendingDice = null;
+        pendingPiece = -1;
+      }
+      default -> {
+        // Not part of the record
+      }
+    }
+  }
+
+  private void clear() {
+    seats.clear();
+    turns.clear();
+    pendingDice = null;
+    pendingPiece = -1;
+  }
+
+  /**
+   * Returns the number of turns recorded so far.
+   *
+   * @return the number of turns
+   */
+  public int turnCount() {
+    return turns.size();
+  }
+
+  /**
+   * Returns the game recorded so far.
+   *
+   * @return an immutable record of the game
+   * @throws edu.games.engine.exception.ValidationException if nothing has been rolled yet
+   */
+  public GameRecord record() {
+    return new GameRecord(kind, boardSize, snakes, ladders, seats, turns);
+  }
+}
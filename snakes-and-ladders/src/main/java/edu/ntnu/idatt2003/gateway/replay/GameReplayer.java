@@ -0,0 +1,328 @@
+package edu.ntnu.idatt2003.gateway.replay;
+
+import edu.games.engine.board.factory.ArrayLinearBoardFactory;
+import edu.games.engine.exception.GameEngineException;
+import edu.games.engine.exception.ValidationException;
+import edu.games.engine.impl.CsvPlayerStore;
+import edu.games.engine.impl.GameCheckpoint;
+import edu.games.engine.impl.overlay.JsonOverlayProvider;
+import edu.ntnu.idatt2003.gateway.AbstractGameGateway;
+import edu.ntnu.idatt2003.gateway.LudoGateway;
+import edu.ntnu.idatt2003.gateway.SnlGateway;
+import edu.ntnu.idatt2003.gateway.replay.GameRecord.Seat;
+import edu.ntnu.idatt2003.gateway.replay.GameRecord.Turn;
+import edu.ntnu.idatt2003.persistence.BoardAdapter.MapData;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Plays a {@link GameRecord} again on a gateway of its own, which views connect to like
+ * any other gateway, for example with {@code view.connectToModel(replayer.gateway())}.
+ * <p>
+ * The whole game is played once up front, keeping a {@link GameCheckpoint} every
+ * {@code checkpointInterval} turns. {@link #seek(int)} restores the nearest checkpoint at
+ * or before the target and plays the remaining turns with events switched off, so a
+ * seek costs at most {@code checkpointInterval} turns however long the game is. The
+ * views then get a single reset event and redraw the position at once.
+ * <p>
+ * {@link #step()} and {@link #play(int, long)} instead play turns with events on, so the
+ * views see every roll and move as in a live game. Ludo views do not move pieces on a
+ * move event, because their controller animates the moves it makes itself, so every
+ * replayed Ludo turn ends with a reset event that redraws the pieces. Playback is timed
+ * on a background thread; each turn is handed to the executor given to the
+ * constructor, so a JavaFX caller passes {@code Platform::runLater} and the gateway is
+ * only ever touched on the FX thread.
+ */
+public final class GameReplayer implements AutoCloseable {
+
+  /** Default number of turns between two checkpoints. */
+  public static final int DEFAULT_CHECKPOINT_INTERVAL = 32;
+
+  private static final Logger LOG = Logger.getLogger(GameReplayer.class.getName());
+
+  private final GameRecord record;
+  private final int checkpointInterval;
+  private final Executor turnExecutor;
+  private final ScriptedDice dice = new ScriptedDice();
+  private final AbstractGameGateway gateway;
+  private final List<GameCheckpoint> checkpoints = new ArrayList<>();
+
+  private ScheduledExecutorService timer;
+  private ScheduledFuture<?> playback;
+  private int turn;
+
+  /**
+   * Creates a replayer with the default checkpoint interval that plays turns on the
+   * timer thread.
+   *
+   * @param record the game to replay
+   * @throws ValidationException if a recorded turn cannot be played
+   */
+  public GameReplayer(GameRecord record) {
+    this(record, DEFAULT_CHECKPOINT_INTERVAL, Runnable::run);
+  }
+
+  /**
+   * Creates a replayer.
+   *
+   * @param record             the game to replay
+   * @param checkpointInterval the number of turns between two checkpoints
+   * @param turnExecutor       runs each turn of a timed playback
+   * @throws ValidationException if the interval is not positive or a recorded turn cannot be played
+   */
+  public GameReplayer(GameRecord record, int checkpointInterval, Executor turnExecutor) {
+    this.record = Objects.requireNonNull(record, "Record cannot be null.");
+    this.turnExecutor = Objects.requireNonNull(turnExecutor, "Executor cannot be null.");
+    if (checkpointInterval <= 0) {
+      throw new ValidationException("Invalid checkpointInterval: must be greater than 0");
+    }
+    this.checkpointInterval = checkpointInterval;
+    this.gateway = createGateway(record.kind());
+
+    gateway.setObserversEnabled(false);
+    if (record.kind() == GameRecord.Kind.SNAKES_AND_LADDERS) {
+      gateway.newGame(new MapData(record.boardSize(), record.snakes(), record.ladders()));
+    } else {
+      gateway.newGame(record.boardSize());
+    }
+    for (Seat seat : record.seats()) {
+      gateway.addPlayer(seat.name(), seat.token(), seat.birthday());
+    }
+    checkpoints.add(gateway.checkpoint());
+    while (turn < record.turnCount()) {
+      playTurn();
+      if (turn % checkpointInterval == 0) {
+        checkpoints.add(gateway.checkpoint());
+      }
+    }
+    gateway.restoreCheckpoint(checkpoints.get(0));
+    turn = 0;
+    gateway.setObserversEnabled(true);
+    LOG.info(() -> "Prepared replay of " + record.turnCount() + " turns with "
+        + checkpoints.size() + " checkpoints");
+  }
+
+  private AbstractGameGateway createGateway(GameRecord.Kind kind) {
+    return switch (kind) {
+      case SNAKES_AND_LADDERS -> new SnlGateway(new ArrayLinearBoardFactory(), () -> dice,
+          new CsvPlayerStore(), new JsonOverlayProvider("/overlays/"), null);
+      case LUDO -> new LudoGateway(() -> dice,
+          new CsvPlayerStore(), new JsonOverlayProvider("/overlays/"));
+    };
+  }
+
+  /**
+   * Returns the gateway the game is replayed on.
+   *
+   * @return the replay gateway
+   */
+  public AbstractGameGateway gateway() {
+    return gateway;
+  }
+
+  /**
+   * Returns the number of turns in the record.
+   *
+   * @return the number of turns
+   */
+  public int turnCount() {
+    return record.turnCount();
+  }
+
+  /**
+   * Returns the number of turns played so far, which is the turn the position is at.
+   *
+   * @return the current turn, between 0 and {@link #turnCount()}
+   */
+  public synchronized int currentTurn() {
+    return turn;
+  }
+
+  /**
+   * Returns the number of checkpoints kept.
+   *
+   * @return the number of checkpoints, including the one at turn 0
+   */
+  public int checkpointCount() {
+    return checkpoints.size();
+  }
+
+  /**
+   * Moves to the position after the given number of turns without animating, stopping
+   * any playback. Views receive one reset event.
+   *
+   * @param target the turn to move to, between 0 and {@link #turnCount()}
+   * @throws ValidationException if the turn is out of range
+   */
+  public synchronized void seek(int target) {
+    checkTurn(target);
+    stopPlayback();
+    fastForward(target);
+    publish();
+  }
+
+  /**
+   * Plays the next turn with events on, so views animate it.
+   *
+   * @return {@code false} if the record has no more turns
+   */
+  public synchronized boolean step() {
+    if (turn >= record.turnCount()) {
+      return false;
+    }
+    playTurn();
+    return true;
+  }
+
+  /**
+   * Plays forward to the given turn, one turn every {@code stepMillis}, animating each.
+   * Calling it again while playing changes the target and speed. A target behind the
+   * current turn, or a step of zero, seeks there instantly instead.
+   *
+   * @param target     the turn to stop at, between 0 and {@link #turnCount()}
+   * @param stepMillis the delay between two turns, or 0 to jump there at once
+   * @throws ValidationException if the turn is out of range or the delay is negative
+   */
+  public synchronized void play(int target, long stepMillis) {
+    checkTurn(target);
+    if (stepMillis < 0) {
+      throw new ValidationException("Invalid stepMillis: cannot be negative");
+    }
+    stopPlayback();
+    if (stepMillis == 0 || target < turn) {
+      fastForward(target);
+      publish();
+      return;
+    }
+    if (timer == null) {
+      timer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "game-replay");
+        thread.setDaemon(true);
+        return thread;
+      });
+    }
+    playback = timer.scheduleWithFixedDelay(
+        () -> turnExecutor.execute(() -> advance(target)), stepMillis, stepMillis, TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * Stops a running playback at the current turn.
+   */
+  public synchronized void pause() {
+    if (playback != null) {
+      stopPlayback();
+      publish();
+    }
+  }
+
+  /**
+   * Checks whether a timed playback is running.
+   *
+   * @return {@code true} while {@link #play(int, long)} is advancing
+   */
+  public synchronized boolean isPlaying() {
+    return playback != null;
+  }
+
+  /**
+   * Stops playback and the timer thread.
+   */
+  @Override
+  public synchronized void close() {
+    stopPlayback();
+    if (timer != null) {
+      timer.shutdownNow();
+      timer = null;
+    }
+  }
+
+  private synchronized void advance(int target) {
+    if (playback == null) {
+      return;
+    }
+    try {
+      if (turn < target) {
+        playTurn();
+      }
+    } catch (GameEngineException e) {
+      LOG.log(Level.SEVERE, "Replay stopped at turn " + turn, e);
+      stopPlayback();
+      return;
+    }
+    if (turn >= target) {
+      stopPlayback();
+      // Views skip moves that arrive while they are still animating, so end on a redraw
+      publish();
+    }
+  }
+
+  private void stopPlayback() {
+    if (playback != null) {
+      playback.cancel(false);
+      playback = null;
+    }
+  }
+
+  /**
+   * Brings the gateway to the target turn with events off. Plays on from the current
+   * turn when that is no further than from the checkpoint.
+   */
+  private void fastForward(int target) {
+    int base = target / checkpointInterval;
+    gateway.setObserversEnabled(false);
+    try {
+      if (turn > target || turn < base * checkpointInterval) {
+        gateway.restoreCheckpoint(checkpoints.get(base));
+        turn = base * checkpointInterval;
+      }
+      while (turn < target) {
+        playTurn();
+      }
+    } finally {
+      gateway.setObserversEnabled(true);
+    }
+  }
+
+  /**
+   * Restoring the position the gateway already holds changes nothing, but sends the
+   * reset event that makes every view redraw it.
+   */
+  private void publish() {
+    gateway.restoreCheckpoint(gateway.checkpoint());
+  }
+
+  private void playTurn() {
+    Turn next = record.turns().get(turn);
+    dice.load(next.dice());
+    try {
+      if (gateway instanceof LudoGateway ludo) {
+        ludo.rollDice();
+        ludo.selectPiece(next.piece());
+        ludo.applyPieceMovement();
+      } else {
+        gateway.rollDice();
+      }
+    } catch (GameEngineException e) {
+      throw new ValidationException("Turn " + turn + " of the record cannot be replayed", e);
+    }
+    turn++;
+    if (gateway instanceof LudoGateway && gateway.isObserversEnabled()) {
+      publish();
+    }
+  }
+
+  private void checkTurn(int target) {
+    if (target < 0 || target > record.turnCount()) {
+      throw new ValidationException(
+          "Invalid turn: must be between 0 and " + record.turnCount());
+    }
+  }
+}
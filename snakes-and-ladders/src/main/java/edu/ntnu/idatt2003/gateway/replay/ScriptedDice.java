@@ -0,0 +1,49 @@
+package edu.ntnu.idatt2003.gateway.replay;
+
+import edu.games.engine.dice.Dice;
+import edu.games.engine.exception.ValidationException;
+import java.util.List;
+
+/**
+ * Dice that roll the values of a recorded turn instead of random ones.
+ * The replayer loads the values of each turn just before the gateway rolls them.
+ */
+final class ScriptedDice implements Dice {
+
+  private List<Integer> next;
+  private List<Integer> last = List.of();
+
+  /**
+   * Sets the values the next roll returns.
+   *
+   * @param values the recorded dice values
+   */
+  void load(List<Integer> values) {
+    this.next = values;
+  }
+
+  /**
+   * Rolls the loaded values.
+   *
+   * @return the sum of the loaded values
+   * @throws ValidationException if no values were loaded since the last roll
+   */
+  @Override
+  public int roll() {
+    if (next == null) {
+      throw new ValidationException("No recorded roll loaded");
+    }
+    last = next;
+    next = null;
+    int sum = 0;
+    for (int value : last) {
+      sum += value;
+    }
+    return sum;
+  }
+
+  @Override
+  public List<Integer> lastValues() {
+    return last;
+  }
+}
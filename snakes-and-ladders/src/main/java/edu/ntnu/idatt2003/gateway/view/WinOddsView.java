@@ -0,0 +1,16 @@
+package edu.ntnu.idatt2003.gateway.view;
+
+import java.util.List;
+
+/**
+ * Represents the estimated chance of winning for each player in the UI layer.
+ *
+ * @param probabilities the chance of winning per player, in the same order as the player views
+ * @param rollouts      the number of simulated games the estimate is based on
+ * @param complete      {@code true} once the estimate will not be refined any further
+ */
+public record WinOddsView(List<Double> probabilities, long rollouts, boolean complete) {
+
+  /** The view shown when there is no estimate for the current game. */
+  public static final WinOddsView EMPTY = new WinOddsView(List.of(), 0, true);
+}
@@ -0,0 +1,36 @@
+package edu.ntnu.idatt2003.model.dto;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Data Transfer Object holding everything needed to resume a game in progress:
+ * the board configuration, every player with the tile of each piece, whose turn it is,
+ * the winner, the selected piece and the last dice rolled.
+ *
+ * @param gameType           the game, {@code "SNAKES_AND_LADDERS"} or {@code "LUDO"}
+ * @param boardSize          the total number of tiles on the board
+ * @param snakes             a map from start tile ID to end tile ID for each snake
+ * @param ladders            a map from start tile ID to end tile ID for each ladder
+ * @param players            the players in turn order
+ * @param currentPlayerIndex the index of the player whose turn it is
+ * @param winnerIndex        the index of the winner, or -1 if nobody has won
+ * @param selectedPieceIndex the piece selected by the current player, or -1
+ * @param lastDiceValues     the values of the last roll
+ */
+public record GameStateDTO(
+    String gameType,
+    int boardSize,
+    Map<Integer, Integer> snakes,
+    Map<Integer, Integer> ladders,
+    List<PlayerStateDTO> players,
+    int currentPlayerIndex,
+    int winnerIndex,
+    int selectedPieceIndex,
+    List<Integer> lastDiceValues) {
+
+  /** Game type of a Snakes and Ladders save. */
+  public static final String SNAKES_AND_LADDERS = "SNAKES_AND_LADDERS";
+  /** Game type of a Ludo save. */
+  public static final String LUDO = "LUDO";
+}
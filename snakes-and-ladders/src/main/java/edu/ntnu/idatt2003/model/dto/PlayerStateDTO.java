@@ -0,0 +1,12 @@
+package edu.ntnu.idatt2003.model.dto;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object representing a player in a saved game.
+ *
+ * @param player       the player's name, token and birthday
+ * @param pieceTileIds the tile ID of each piece in piece order, -1 for a piece at home
+ */
+public record PlayerStateDTO(PlayerDTO player, List<Integer> pieceTileIds) {
+}
@@ -0,0 +1,193 @@
+package edu.ntnu.idatt2003.persistence;
+
+import edu.games.engine.exception.StorageException;
+import edu.ntnu.idatt2003.model.dto.GameStateDTO;
+import edu.ntnu.idatt2003.model.dto.PlayerDTO;
+import edu.ntnu.idatt2003.model.dto.PlayerStateDTO;
+import edu.ntnu.idatt2003.utils.FileHandler;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Compact binary implementation of {@link FileHandler} for saved games.
+ * <p>
+ * The file starts with a magic number and a format version. Tile IDs and jump targets
+ * are written as 16-bit values, indexes and dice as single bytes, birthdays as epoch
+ * days and strings as modified UTF-8, so a four-player Ludo game takes about a hundred
+ * bytes. All numbers are big-endian.
+ * </p>
+ */
+public class BinaryGameStateHandler implements FileHandler<GameStateDTO> {
+
+  /** First four bytes of every file: {@code GSAV}. */
+  public static final int MAGIC = 0x47534156;
+  /** Format version written to every file. */
+  public static final int VERSION = 1;
+
+  private static final Logger LOG = Logger.getLogger(BinaryGameStateHandler.class.getName());
+
+  /**
+   * Saves a game in binary form to the specified path.
+   *
+   * @param state the game to save
+   * @param out   the output file path
+   * @throws StorageException if the file cannot be written or a value does not fit the format
+   */
+  @Override
+  public void save(GameStateDTO state, Path out) {
+    LOG.info("Saving game to binary file: " + out);
+    try (OutputStream stream = new BufferedOutputStream(Files.newOutputStream(out))) {
+      write(state, stream);
+    } catch (IOException e) {
+      LOG.log(Level.SEVERE, "Failed to save game to binary file: " + out, e);
+      throw new StorageException("Failed to save game to binary file: " + out, e);
+    }
+  }
+
+  /**
+   * Loads a game from the specified binary file.
+   *
+   * @param in the input file path
+   * @return the saved game
+   * @throws StorageException if the file cannot be read or is not a saved game
+   */
+  @Override
+  public GameStateDTO load(Path in) {
+    LOG.info("Loading game from binary file: " + in);
+    try (InputStream stream = new BufferedInputStream(Files.newInputStream(in))) {
+      return read(stream);
+    } catch (IOException e) {
+      LOG.log(Level.SEVERE, "Failed to load game from binary file: " + in, e);
+      throw new StorageException("Failed to load game from binary file: " + in, e);
+    }
+  }
+
+  /**
+   * Writes a game in binary form to a stream and flushes it, leaving it open.
+   *
+   * @param state the game to write
+   * @param out   the stream to write to
+   * @throws IOException      if writing fails
+   * @throws StorageException if a value does not fit the format
+   */
+  public void write(GameStateDTO state, OutputStream out) throws IOException {
+    DataOutputStream data = new DataOutputStream(out);
+    data.writeInt(MAGIC);
+    data.writeByte(VERSION);
+    data.writeUTF(state.gameType());
+    data.writeShort(checkShort(state.boardSize()));
+    writeJumps(data, state.snakes());
+    writeJumps(data, state.ladders());
+    data.writeByte(checkByte(state.currentPlayerIndex()));
+    data.writeByte(checkByte(state.winnerIndex()));
+    data.writeByte(checkByte(state.selectedPieceIndex()));
+    data.writeByte(checkByte(state.lastDiceValues().size()));
+    for (int value : state.lastDiceValues()) {
+      data.writeByte(checkByte(value));
+    }
+    data.writeByte(checkByte(state.players().size()));
+    for (PlayerStateDTO player : state.players()) {
+      data.writeUTF(player.player().playerName());
+      data.writeUTF(player.player().playerToken());
+      data.writeInt(Math.toIntExact(LocalDate.parse(player.player().birthday()).toEpochDay()));
+      data.writeByte(checkByte(player.pieceTileIds().size()));
+      for (int tileId : player.pieceTileIds()) {
+        data.writeShort(checkShort(tileId));
+      }
+    }
+    data.flush();
+  }
+
+  private static void writeJumps(DataOutputStream data, Map<Integer, Integer> jumps)
+      throws IOException {
+    data.writeShort(checkShort(jumps.size()));
+    for (Map.Entry<Integer, Integer> jump : jumps.entrySet()) {
+      data.writeShort(checkShort(jump.getKey()));
+      data.writeShort(checkShort(jump.getValue()));
+    }
+  }
+
+  private static int checkShort(int value) {
+    if (value < Short.MIN_VALUE || value > Short.MAX_VALUE) {
+      throw new StorageException("Value " + value + " does not fit a binary save file");
+    }
+    return value;
+  }
+
+  private static int checkByte(int value) {
+    if (value < Byte.MIN_VALUE || value > Byte.MAX_VALUE) {
+      throw new StorageException("Value " + value + " does not fit a binary save file");
+    }
+    return value;
+  }
+
+  /**
+   * Reads a game in binary form from a stream, leaving it open.
+   *
+   * @param in the stream to read from
+   * @return the saved game
+   * @throws IOException      if reading fails
+   * @throws StorageException if the content is not a saved game or is cut off
+   */
+  public GameStateDTO read(InputStream in) throws IOException {
+    DataInputStream data = new DataInputStream(in);
+    try {
+      if (data.readInt() != MAGIC || data.readByte() != VERSION) {
+        throw new StorageException("Not a saved game of version " + VERSION);
+      }
+      String gameType = data.readUTF();
+      int boardSize = data.readShort();
+      Map<Integer, Integer> snakes = readJumps(data);
+      Map<Integer, Integer> ladders = readJumps(data);
+      int currentPlayerIndex = data.readByte();
+      int winnerIndex = data.readByte();
+      int selectedPieceIndex = data.readByte();
+      int diceCount = data.readByte();
+      List<Integer> lastDiceValues = new ArrayList<>(Math.max(diceCount, 0));
+      for (int i = 0; i < diceCount; i++) {
+        lastDiceValues.add((int) data.readByte());
+      }
+      int playerCount = data.readByte();
+      List<PlayerStateDTO> players = new ArrayList<>(Math.max(playerCount, 0));
+      for (int p = 0; p < playerCount; p++) {
+        String name = data.readUTF();
+        String token = data.readUTF();
+        String birthday = LocalDate.ofEpochDay(data.readInt()).toString();
+        int pieceCount = data.readByte();
+        List<Integer> pieces = new ArrayList<>(Math.max(pieceCount, 0));
+        for (int i = 0; i < pieceCount; i++) {
+          pieces.add((int) data.readShort());
+        }
+        players.add(new PlayerStateDTO(new PlayerDTO(name, token, birthday), pieces));
+      }
+      return new GameStateDTO(gameType, boardSize, snakes, ladders, players,
+          currentPlayerIndex, winnerIndex, selectedPieceIndex, lastDiceValues);
+    } catch (EOFException e) {
+      throw new StorageException("Saved game is cut off", e);
+    }
+  }
+
+  private static Map<Integer, Integer> readJumps(DataInputStream data) throws IOException {
+    int count = data.readShort();
+    Map<Integer, Integer> jumps = new LinkedHashMap<>();
+    for (int i = 0; i < count; i++) {
+      jumps.put((int) data.readShort(), (int) data.readShort());
+    }
+    return jumps;
+  }
+}
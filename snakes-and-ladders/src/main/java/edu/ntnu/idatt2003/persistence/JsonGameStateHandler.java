@@ -0,0 +1,238 @@
+package edu.ntnu.idatt2003.persistence;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import edu.ntnu.idatt2003.exception.JsonParsingException;
+import edu.ntnu.idatt2003.model.dto.GameStateDTO;
+import edu.ntnu.idatt2003.model.dto.PlayerDTO;
+import edu.ntnu.idatt2003.model.dto.PlayerStateDTO;
+import edu.ntnu.idatt2003.utils.FileHandler;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * JSON-based implementation of {@link FileHandler} for saved games.
+ * <p>
+ * Writes and reads {@link GameStateDTO} token by token with Jackson's streaming
+ * {@link JsonGenerator} and {@link JsonParser}, so no tree or reflection-based binding
+ * sits between the file and the game. Fields may come in any order and unknown fields
+ * are skipped.
+ * </p>
+ */
+public class JsonGameStateHandler implements FileHandler<GameStateDTO> {
+
+  /** Format version written to every file. */
+  public static final int VERSION = 1;
+
+  private static final JsonFactory FACTORY = new JsonFactory();
+  private static final Logger LOG = Logger.getLogger(JsonGameStateHandler.class.getName());
+
+  /**
+   * Saves a game as JSON to the specified path.
+   *
+   * @param state the game to save
+   * @param out   the output file path
+   * @throws JsonParsingException if an I/O error occurs during serialization
+   */
+  @Override
+  public void save(GameStateDTO state, Path out) {
+    LOG.info("Saving game to JSON file: " + out);
+    try (OutputStream stream = Files.newOutputStream(out)) {
+      write(state, stream);
+    } catch (IOException e) {
+      LOG.log(Level.SEVERE, "Failed to save game to JSON file: " + out, e);
+      throw new JsonParsingException("Failed to save game to JSON file: " + out, e);
+    }
+  }
+
+  /**
+   * Loads a game from the specified JSON file.
+   *
+   * @param in the input file path
+   * @return the saved game
+   * @throws JsonParsingException if the file cannot be read or is not a saved game
+   */
+  @Override
+  public GameStateDTO load(Path in) {
+    LOG.info("Loading game from JSON file: " + in);
+    try (InputStream stream = Files.newInputStream(in)) {
+      return read(stream);
+    } catch (IOException e) {
+      LOG.log(Level.SEVERE, "Failed to load game from JSON file: " + in, e);
+      throw new JsonParsingException("Failed to load game from JSON file: " + in, e);
+    }
+  }
+
+  /**
+   * Writes a game as JSON to a stream, leaving the stream open.
+   *
+   * @param state the game to write
+   * @param out   the stream to write to
+   * @throws IOException if writing fails
+   */
+  public void write(GameStateDTO state, OutputStream out) throws IOException {
+    try (JsonGenerator json = FACTORY.createGenerator(out)) {
+      json.configure(JsonGenerator.Feature.AUTO_CLOSE_TARGET, false);
+      json.useDefaultPrettyPrinter();
+      json.writeStartObject();
+      json.writeNumberField("version", VERSION);
+      json.writeStringField("gameType", state.gameType());
+      json.writeNumberField("boardSize", state.boardSize());
+      writeJumps(json, "snakes", state.snakes());
+      writeJumps(json, "ladders", state.ladders());
+      json.writeNumberField("currentPlayerIndex", state.currentPlayerIndex());
+      json.writeNumberField("winnerIndex", state.winnerIndex());
+      json.writeNumberField("selectedPieceIndex", state.selectedPieceIndex());
+      json.writeFieldName("lastDiceValues");
+      writeInts(json, state.lastDiceValues());
+      json.writeArrayFieldStart("players");
+      for (PlayerStateDTO player : state.players()) {
+        json.writeStartObject();
+        json.writeStringField("name", player.player().playerName());
+        json.writeStringField("token", player.player().playerToken());
+        json.writeStringField("birthday", player.player().birthday());
+        json.writeFieldName("pieces");
+        writeInts(json, player.pieceTileIds());
+        json.writeEndObject();
+      }
+      json.writeEndArray();
+      json.writeEndObject();
+    }
+  }
+
+  private static void writeJumps(JsonGenerator json, String name, Map<Integer, Integer> jumps)
+      throws IOException {
+    json.writeObjectFieldStart(name);
+    for (Map.Entry<Integer, Integer> jump : jumps.entrySet()) {
+      json.writeNumberField(Integer.toString(jump.getKey()), jump.getValue());
+    }
+    json.writeEndObject();
+  }
+
+  private static void writeInts(JsonGenerator json, List<Integer> values) throws IOException {
+    json.writeStartArray();
+    for (int value : values) {
+      json.writeNumber(value);
+    }
+    json.writeEndArray();
+  }
+
+  /**
+   * Reads a game from a JSON stream, leaving the stream open.
+   *
+   * @param in the stream to read from
+   * @return the saved game
+   * @throws IOException          if reading fails
+   * @throws JsonParsingException if the content is not a saved game
+   */
+  public GameStateDTO read(InputStream in) throws IOException {
+    try (JsonParser json = FACTORY.createParser(in)) {
+      json.configure(JsonParser.Feature.AUTO_CLOSE_SOURCE, false);
+      expect(json, json.nextToken(), JsonToken.START_OBJECT);
+      int version = -1;
+      String gameType = null;
+      int boardSize = 0;
+      Map<Integer, Integer> snakes = Map.of();
+      Map<Integer, Integer> ladders = Map.of();
+      int currentPlayerIndex = 0;
+      int winnerIndex = -1;
+      int selectedPieceIndex = -1;
+      List<Integer> lastDiceValues = List.of();
+      List<PlayerStateDTO> players = List.of();
+      while (json.nextToken() == JsonToken.FIELD_NAME) {
+        String field = json.currentName();
+        JsonToken value = json.nextToken();
+        switch (field) {
+          case "version" -> version = json.getIntValue();
+          case "gameType" -> gameType = json.getText();
+          case "boardSize" -> boardSize = json.getIntValue();
+          case "snakes" -> snakes = readJumps(json, value);
+          case "ladders" -> ladders = readJumps(json, value);
+          case "currentPlayerIndex" -> currentPlayerIndex = json.getIntValue();
+          case "winnerIndex" -> winnerIndex = json.getIntValue();
+          case "selectedPieceIndex" -> selectedPieceIndex = json.getIntValue();
+          case "lastDiceValues" -> lastDiceValues = readInts(json, value);
+          case "players" -> players = readPlayers(json, value);
+          default -> json.skipChildren();
+        }
+      }
+      if (version != VERSION || gameType == null) {
+        throw new JsonParsingException("Not a saved game of version " + VERSION, null);
+      }
+      return new GameStateDTO(gameType, boardSize, snakes, ladders, players,
+          currentPlayerIndex, winnerIndex, selectedPieceIndex, lastDiceValues);
+    }
+  }
+
+  private static Map<Integer, Integer> readJumps(JsonParser json, JsonToken start)
+      throws IOException {
+    expect(json, start, JsonToken.START_OBJECT);
+    Map<Integer, Integer> jumps = new LinkedHashMap<>();
+    while (json.nextToken() == JsonToken.FIELD_NAME) {
+      int from = parseTileId(json, json.currentName());
+      json.nextToken();
+      jumps.put(from, json.getIntValue());
+    }
+    return jumps;
+  }
+
+  private static List<Integer> readInts(JsonParser json, JsonToken start) throws IOException {
+    expect(json, start, JsonToken.START_ARRAY);
+    List<Integer> values = new ArrayList<>();
+    while (json.nextToken() != JsonToken.END_ARRAY) {
+      values.add(json.getIntValue());
+    }
+    return values;
+  }
+
+  private static List<PlayerStateDTO> readPlayers(JsonParser json, JsonToken start)
+      throws IOException {
+    expect(json, start, JsonToken.START_ARRAY);
+    List<PlayerStateDTO> players = new ArrayList<>();
+    while (json.nextToken() == JsonToken.START_OBJECT) {
+      String name = null;
+      String token = null;
+      String birthday = null;
+      List<Integer> pieces = List.of();
+      while (json.nextToken() == JsonToken.FIELD_NAME) {
+        String field = json.currentName();
+        JsonToken value = json.nextToken();
+        switch (field) {
+          case "name" -> name = json.getText();
+          case "token" -> token = json.getText();
+          case "birthday" -> birthday = json.getText();
+          case "pieces" -> pieces = readInts(json, value);
+          default -> json.skipChildren();
+        }
+      }
+      players.add(new PlayerStateDTO(new PlayerDTO(name, token, birthday), pieces));
+    }
+    return players;
+  }
+
+  private static int parseTileId(JsonParser json, String text) {
+    try {
+      return Integer.parseInt(text);
+    } catch (NumberFormatException e) {
+      throw new JsonParsingException("Invalid tile ID " + text + " at " + json.currentLocation(), e);
+    }
+  }
+
+  private static void expect(JsonParser json, JsonToken actual, JsonToken expected) {
+    if (actual != expected) {
+      throw new JsonParsingException(
+          "Expected " + expected + " but found " + actual + " at " + json.currentLocation(), null);
+    }
+  }
+}
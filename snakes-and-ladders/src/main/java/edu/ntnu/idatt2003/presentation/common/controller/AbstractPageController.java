@@ -5,8 +5,8 @@ import edu.ntnu.idatt2003.gateway.CompleteBoardGame;
 /**
  * Base class for controllers of full-page views.
  * <p>
- * Automatically registers the view as an observer if it implements
- * {@code BoardGameObserver}. Subclasses should set up event handlers
+ * Views register themselves for the events they handle through their
+ * {@code connectToModel} method. Subclasses should set up event handlers
  * in {@link #initializeEventHandlers()}.
  * </p>
  *
@@ -18,8 +18,7 @@ public abstract class AbstractPageController<V> extends AbstractController {
   protected final V view;
 
   /**
-   * Constructs a page controller and registers the view as observer if
-   * applicable.
+   * Constructs a page controller. The view is connected to the gateway separately.
    *
    * @param view    the UI view for this page
    * @param gateway the shared {@link CompleteBoardGame} instance
@@ -27,11 +26,6 @@ public abstract class AbstractPageController<V> extends AbstractController {
   protected AbstractPageController(V view, CompleteBoardGame gateway) {
     super(gateway);
     this.view = view;
-
-    // Register as observer if view implements BoardGameObserver
-    if (view instanceof edu.games.engine.observer.BoardGameObserver observer) {
-      gateway.addObserver(observer);
-    }
   }
 
   /**
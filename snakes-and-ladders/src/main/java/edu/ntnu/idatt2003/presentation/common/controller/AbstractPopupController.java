@@ -7,9 +7,9 @@ import javafx.stage.Stage;
 /**
  * Base class for controllers of modal popups.
  * <p>
- * Automatically registers the view as an observer if it implements
- * {@code BoardGameObserver}, and calls {@link #initializeEventHandlers()}
- * immediately after construction.
+ * Calls {@link #initializeEventHandlers()} immediately after construction.
+ * Views register themselves for the events they handle through their
+ * {@code connectToModel} method.
  * </p>
  *
  * @param <V> the type of the view managed by this controller
@@ -20,8 +20,8 @@ public abstract class AbstractPopupController<V> extends AbstractController {
   protected final V view;
 
   /**
-   * Constructs a popup controller, registers the view as observer if applicable,
-   * and initializes its event handlers.
+   * Constructs a popup controller and initializes its event handlers. The view is
+   * connected to the gateway separately.
    *
    * @param view    the UI view for this popup
    * @param gateway the shared {@link CompleteBoardGame} instance
@@ -30,11 +30,6 @@ public abstract class AbstractPopupController<V> extends AbstractController {
     super(gateway);
     this.view = view;
 
-    // Register as observer if view implements BoardGameObserver
-    if (view instanceof edu.games.engine.observer.BoardGameObserver observer) {
-      gateway.addObserver(observer);
-    }
-
     // Hook up view event handlers
     initializeEventHandlers();
   }
@@ -1,9 +1,14 @@
 package edu.ntnu.idatt2003.presentation.common.view;
 
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import edu.games.engine.observer.BoardGameEvent;
+import edu.games.engine.observer.BoardGameEvent.EventType;
+import edu.games.engine.observer.GameEvent;
 import edu.ntnu.idatt2003.utils.Log;
 import javafx.application.Platform;
 import javafx.scene.control.Button;
@@ -17,9 +22,21 @@ import javafx.scene.control.Button;
  */
 public abstract class AbstractGameView extends AbstractView implements GameView {
   private static final Logger LOG = Logger.getLogger(AbstractGameView.class.getName());
+  private static final Set<EventType> EVENT_TYPES = Collections.unmodifiableSet(EnumSet.of(
+      EventType.DICE_ROLLED,
+      EventType.PLAYER_MOVED,
+      EventType.WINNER_DECLARED,
+      EventType.GAME_RESET,
+      EventType.TURN_CHANGED));
   protected Button rollButton;
   protected Button playAgainButton;
 
+  /** Returns the event types {@link #handleEvent} routes to a handler. */
+  @Override
+  protected Set<EventType> eventTypes() {
+    return EVENT_TYPES;
+  }
+
   @Override
   protected void handleEvent(BoardGameEvent event) {
     switch (event.getTypeOfEvent()) {
@@ -27,7 +44,9 @@ public abstract class AbstractGameView extends AbstractView implements GameView
         handleDiceRolled(event.getData());
         break;
       case PLAYER_MOVED:
-        handlePlayerMoved(event.getData());
+        if (event.event() instanceof GameEvent.PlayerMoved move) {
+          handlePlayerMoved(move);
+        }
         break;
       case WINNER_DECLARED:
         handleWinnerDeclared(event.getData());
@@ -48,7 +67,7 @@ public abstract class AbstractGameView extends AbstractView implements GameView
   }
 
   /** Default no-op for handling player movement. */
-  protected void handlePlayerMoved(Object data) {
+  protected void handlePlayerMoved(GameEvent.PlayerMoved move) {
   }
 
   /** Default no-op for handling winner declaration. */
@@ -1,8 +1,12 @@
 package edu.ntnu.idatt2003.presentation.common.view;
 
 import edu.games.engine.observer.BoardGameEvent;
+import edu.games.engine.observer.BoardGameEvent.EventType;
 import edu.ntnu.idatt2003.gateway.CompleteBoardGame;
 import edu.ntnu.idatt2003.utils.ResourcePaths;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
 import java.util.logging.Logger;
 import javafx.application.Platform;
 import javafx.scene.control.Button;
@@ -18,6 +22,8 @@ import javafx.scene.control.Label;
  */
 public abstract class AbstractMenuView extends AbstractView implements MenuView {
   private static final Logger LOG = Logger.getLogger(AbstractMenuView.class.getName());
+  private static final Set<EventType> EVENT_TYPES = Collections.unmodifiableSet(
+      EnumSet.of(EventType.GAME_STARTED, EventType.GAME_RESET, EventType.PLAYER_ADDED));
   protected Button startButton;
   protected Button choosePlayerButton;
   protected Button resetButton;
@@ -31,7 +37,13 @@ public abstract class AbstractMenuView extends AbstractView implements MenuView
   @Override
   public void connectToModel(CompleteBoardGame gateway) {
     this.gateway = gateway;
-    gateway.addObserver(this);
+    gateway.addObserver(this, eventTypes());
+  }
+
+  /** Returns the game start, reset and player-add events a menu reacts to. */
+  @Override
+  protected Set<EventType> eventTypes() {
+    return EVENT_TYPES;
   }
 
   /**
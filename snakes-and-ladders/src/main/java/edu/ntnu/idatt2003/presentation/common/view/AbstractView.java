@@ -1,11 +1,14 @@
 package edu.ntnu.idatt2003.presentation.common.view;
 
 import edu.games.engine.observer.BoardGameEvent;
+import edu.games.engine.observer.BoardGameEvent.EventType;
 import edu.games.engine.observer.BoardGameObserver;
 import edu.ntnu.idatt2003.gateway.CompleteBoardGame;
 import edu.ntnu.idatt2003.presentation.navigation.NavigationService;
 import edu.ntnu.idatt2003.utils.ResourcePaths;
 import java.io.InputStream;
+import java.util.EnumSet;
+import java.util.Set;
 import java.util.logging.Logger;
 import javafx.application.Platform;
 import javafx.geometry.Insets;
@@ -33,26 +36,41 @@ public abstract class AbstractView implements BoardGameObserver {
   private static final String iconStyling = "icon-button";
 
   /**
-   * Connects this view to the given game gateway and registers as an observer.
+   * Connects this view to the given game gateway and registers as an observer for the
+   * {@link #eventTypes()} it handles.
    *
    * @param gateway the shared {@link CompleteBoardGame} instance
    */
   public void connectToModel(CompleteBoardGame gateway) {
     this.gateway = gateway;
     if (gateway != null) {
-      gateway.addObserver(this);
+      gateway.addObserver(this, eventTypes());
     }
   }
 
+  /**
+   * Returns the event types this view handles. The gateway builds no events of other
+   * types for it. Defaults to every type.
+   *
+   * @return the event types to register for
+   */
+  protected Set<EventType> eventTypes() {
+    return EnumSet.allOf(EventType.class);
+  }
+
   /**
    * Receives game events and dispatches to {@link #handleEvent(BoardGameEvent)}
-   * on the JavaFX application thread.
+   * on the JavaFX application thread, at once if the event already arrives there.
    *
    * @param event the game event
    */
   @Override
   public void update(BoardGameEvent event) {
-    Platform.runLater(() -> handleEvent(event));
+    if (Platform.isFxApplicationThread()) {
+      handleEvent(event);
+    } else {
+      Platform.runLater(() -> handleEvent(event));
+    }
   }
 
   /**
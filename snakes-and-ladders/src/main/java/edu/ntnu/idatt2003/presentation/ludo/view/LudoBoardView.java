@@ -1,7 +1,7 @@
 package edu.ntnu.idatt2003.presentation.ludo.view;
 
-import edu.games.engine.model.BoardGame.PlayerMoveData;
 import edu.games.engine.model.Player;
+import edu.games.engine.observer.GameEvent;
 import edu.ntnu.idatt2003.gateway.GameGateway;
 import edu.ntnu.idatt2003.gateway.view.PlayerView;
 import edu.ntnu.idatt2003.presentation.common.view.AbstractGameView;
@@ -392,85 +392,19 @@ public class LudoBoardView extends AbstractGameView implements GameView {
   /**
    * Handles player movement events from the game model.
    * <p>
-   * Processes piece movement data, determines the affected piece, and
-   * triggers appropriate animations to visually represent the move.
+   * The controller animates every move it makes itself, so all that is left to do
+   * here is to hand the roll button back once no animation is running.
    * </p>
    *
-   * @param data the player move data containing movement information
+   * @param move the move that was made
    */
   @Override
-  protected void handlePlayerMoved(Object data) {
-    if (hasActiveAnimation)
-      return;
-
-    try {
-      hasActiveAnimation = true;
-
-      if (data instanceof PlayerMoveData moveData) {
-        String tokenName = moveData.getPlayer().getToken().name();
-        int fromId = moveData.getFromTile() != null ? moveData.getFromTile().tileId() : 0;
-        int toId = moveData.getToTile() != null ? moveData.getToTile().tileId() : 0;
-        int pieceIndex = findPieceIndex(tokenName, fromId);
-
-        List<Integer> path = new ArrayList<>();
-        if (fromId > 0)
-          path.add(fromId);
-        path.add(toId);
-
-        animatePlayerMove(tokenName, pieceIndex, path);
-      }
-    } finally {
-      hasActiveAnimation = false;
+  protected void handlePlayerMoved(GameEvent.PlayerMoved move) {
+    if (!hasActiveAnimation) {
       enableRollButton();
     }
   }
 
-  /**
-   * Animates a player piece movement along a specified path.
-   * <p>
-   * This method coordinates with the animation service to create smooth
-   * visual transitions as pieces move across the board.
-   * </p>
-   *
-   * @param tokenName  the token/color of the moving piece
-   * @param pieceIndex the index of the piece to animate
-   * @param path       the list of positions the piece should move through
-   */
-  private void animatePlayerMove(String tokenName, int pieceIndex, List<Integer> path) {
-    List<ImageView> tokens = tokenImages.get(tokenName);
-    if (tokens == null || pieceIndex >= tokens.size() || path.isEmpty()) {
-      return;
-    }
-    animationService.animateMoveAlongPath(tokenName, pieceIndex, path, this::refreshTokens);
-  }
-
-  /**
-   * Finds the index of a piece at a specific board position.
-   * <p>
-   * Searches through all pieces of a given token to find which piece
-   * is currently at the specified tile. Falls back to active piece
-   * or first piece if no exact match is found.
-   * </p>
-   *
-   * @param token  the token/color to search within
-   * @param tileId the tile position to search for
-   * @return the index of the piece at the specified position
-   */
-  private int findPieceIndex(String token, int tileId) {
-    for (PlayerView player : players) {
-      if (player.playerToken().equals(token)) {
-        for (int i = 0; i < player.piecePositions().size(); i++) {
-          if (player.piecePositions().get(i) == tileId) {
-            return i;
-          }
-        }
-        // If not found, use active piece or first piece
-        return player.activePieceIndex() >= 0 ? player.activePieceIndex() : 0;
-      }
-    }
-    return 0;
-  }
-
   /**
    * Handles winner declaration events from the game model.
    * <p>
@@ -554,19 +488,6 @@ public class LudoBoardView extends AbstractGameView implements GameView {
     }
   }
 
-  /**
-   * Refreshes all token positions on the board.
-   * <p>
-   * Updates the visual positions of all player pieces to match
-   * their current state in the game model.
-   * </p>
-   */
-  private void refreshTokens() {
-    for (PlayerView player : players) {
-      updatePiecePositions(player);
-    }
-  }
-
   /**
    * Displays a dice with the specified value.
    * <p>
@@ -636,15 +557,16 @@ public class LudoBoardView extends AbstractGameView implements GameView {
   /**
    * Connects this view to the specified game gateway for model updates.
    * <p>
-   * Registers this view as an observer to receive game state change
-   * notifications from the model.
+   * Subscribes this view to game state change notifications from the model,
+   * delivered on the JavaFX application thread so the game never waits for
+   * the board to redraw.
    * </p>
    *
    * @param gateway the game gateway to observe for model changes
    */
   @Override
   public void connectToModel(GameGateway gateway) {
-    gateway.addObserver(this);
+    gateway.subscribe(this, Platform::runLater, eventTypes());
   }
 
   /**
@@ -1,16 +1,20 @@
 package edu.ntnu.idatt2003.presentation.shared.view;
 
 import edu.games.engine.observer.BoardGameEvent;
+import edu.games.engine.observer.BoardGameEvent.EventType;
 import edu.games.engine.observer.BoardGameObserver;
 import edu.ntnu.idatt2003.gateway.CompleteBoardGame;
 import edu.ntnu.idatt2003.gateway.view.PlayerView;
 import edu.ntnu.idatt2003.utils.ResourcePaths;
 import java.io.InputStream;
 import java.time.LocalDate;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import javafx.application.Platform;
@@ -32,6 +36,8 @@ import javafx.scene.layout.*;
 public class ChoosePlayerPage implements BoardGameObserver {
 
   private static final Logger LOG = Logger.getLogger(ChoosePlayerPage.class.getName());
+  private static final Set<EventType> EVENT_TYPES = Collections.unmodifiableSet(
+      EnumSet.of(EventType.PLAYER_ADDED, EventType.GAME_RESET));
   private final VBox root;
   private final Map<String, ToggleButton> tokenButtons = new HashMap<>();
   private final String[] tokenNames;
@@ -69,13 +75,14 @@ public class ChoosePlayerPage implements BoardGameObserver {
   }
 
   /**
-   * Connects this view to the specified game gateway.
+   * Connects this view to the specified game gateway, observing the player-add and reset
+   * events it shows.
    *
    * @param gateway the game gateway to observe for updates
    */
   public void connectToModel(CompleteBoardGame gateway) {
     this.gameGateway = gateway;
-    gateway.addObserver(this);
+    gateway.addObserver(this, EVENT_TYPES);
   }
 
   /**
@@ -13,13 +13,15 @@ public class SnlBoardSizeController extends AbstractPopupController<SnlBoardSize
 
   /**
    * Creates a new board size selection controller.
-   * Sets up event handlers for all the board size buttons and dialog controls.
+   * Sets up event handlers for all the board size buttons and dialog controls,
+   * and connects the view to the gateway.
    *
    * @param view    the board size selection view
    * @param gateway the game gateway to update with the selected board size
    */
   public SnlBoardSizeController(SnlBoardSizePage view, CompleteBoardGame gateway) {
     super(view, gateway);
+    view.connectToModel(gateway);
   }
 
   /**
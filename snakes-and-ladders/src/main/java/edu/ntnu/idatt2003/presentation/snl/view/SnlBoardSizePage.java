@@ -1,8 +1,10 @@
 package edu.ntnu.idatt2003.presentation.snl.view;
 
 import edu.games.engine.observer.BoardGameEvent;
+import edu.games.engine.observer.BoardGameEvent.EventType;
 import edu.games.engine.observer.BoardGameObserver;
 import edu.ntnu.idatt2003.gateway.GameGateway;
+import java.util.EnumSet;
 import javafx.application.Platform;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
@@ -47,7 +49,7 @@ public class SnlBoardSizePage implements BoardGameObserver {
    * @param gateway the game gateway to observe
    */
   public void connectToModel(GameGateway gateway) {
-    gateway.addObserver(this);
+    gateway.addObserver(this, EnumSet.of(EventType.GAME_STARTED));
   }
 
   /**
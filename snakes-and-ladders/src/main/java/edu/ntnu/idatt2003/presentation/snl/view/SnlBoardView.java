@@ -1,7 +1,7 @@
 package edu.ntnu.idatt2003.presentation.snl.view;
 
-import edu.games.engine.model.BoardGame;
 import edu.games.engine.model.Player;
+import edu.games.engine.observer.GameEvent;
 import edu.ntnu.idatt2003.gateway.GameGateway;
 import edu.ntnu.idatt2003.gateway.view.PlayerView;
 import edu.ntnu.idatt2003.presentation.common.view.AbstractGameView;
@@ -329,29 +329,23 @@ public class SnlBoardView extends AbstractGameView {
    * Handles player movement events from the game model.
    * Animates the player token moving from one tile to another.
    *
-   * @param data the player movement data
+   * @param move the move that was made
    */
   @Override
-  protected void handlePlayerMoved(Object data) {
-    if (hasActiveAnimation)
+  protected void handlePlayerMoved(GameEvent.PlayerMoved move) {
+    if (hasActiveAnimation || move.player() == null)
       return;
 
-    if (data instanceof BoardGame.PlayerMoveData moveData) {
-      String token = moveData.getPlayer().getToken().name();
-      int fromId = moveData.getFromTile().tileId();
-      int toId = moveData.getToTile().tileId();
-
-      hasActiveAnimation = true;
-
-      animationService.animateMove(
-          token,
-          fromId,
-          toId,
-          () -> {
-            hasActiveAnimation = false;
-            enableRollButton();
-          });
-    }
+    hasActiveAnimation = true;
+
+    animationService.animateMove(
+        move.player().getToken().name(),
+        move.fromTileId(),
+        move.toTileId(),
+        () -> {
+          hasActiveAnimation = false;
+          enableRollButton();
+        });
   }
 
   /**
@@ -427,13 +421,14 @@ public class SnlBoardView extends AbstractGameView {
 
   /**
    * Connects this view to the game model.
-   * Registers this view as an observer to receive game events.
+   * Subscribes this view to game events, delivered on the JavaFX application thread
+   * so the game never waits for the board to redraw.
    *
    * @param gateway the game gateway to observe
    */
   @Override
   public void connectToModel(GameGateway gateway) {
-    gateway.addObserver(this);
+    gateway.subscribe(this, Platform::runLater, eventTypes());
   }
 
   /**
@@ -1,5 +1,6 @@
 package edu.ntnu.idatt2003.utils;
 
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 /**
@@ -31,4 +32,17 @@ public final class Log {
   public static Logger rules() {
     return Logger.getLogger("RULES");
   }
+
+  /**
+   * Returns a new logger that drops every message, for batch play that would otherwise
+   * flood the game log.
+   *
+   * @return a muted, anonymous logger
+   */
+  public static Logger muted() {
+    Logger logger = Logger.getAnonymousLogger();
+    logger.setUseParentHandlers(false);
+    logger.setLevel(Level.OFF);
+    return logger;
+  }
 }
\ No newline at end of file
@@ -0,0 +1,26 @@
+package edu.ntnu.idatt2003.utils;
+
+/**
+ * The SplitMix64 finalizer, shared by seed derivation and position hashing.
+ * <p>
+ * It scrambles a 64-bit value so that neighbouring inputs give unrelated outputs.
+ * </p>
+ */
+public final class SplitMix {
+
+  private SplitMix() {
+    // Prevent instantiation
+  }
+
+  /**
+   * Scrambles a value with the SplitMix64 finalizer.
+   *
+   * @param z the value to scramble
+   * @return the scrambled value
+   */
+  public static long mix64(long z) {
+    z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+    z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+    return z ^ (z >>> 31);
+  }
+}
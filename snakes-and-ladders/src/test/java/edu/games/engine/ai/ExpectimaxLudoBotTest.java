@@ -0,0 +1,161 @@
+package edu.games.engine.ai;
+
+import edu.games.engine.board.LudoPath;
+import edu.games.engine.exception.ValidationException;
+import edu.games.engine.model.LudoColor;
+import edu.games.engine.model.LudoState;
+import edu.games.engine.rule.LudoRuleEngine;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.spy;
+
+class ExpectimaxLudoBotTest {
+
+  private final LudoRuleEngine rules = new LudoRuleEngine(new LudoPath());
+  private final LudoState start = LudoState.initial(List.of(LudoColor.BLUE, LudoColor.RED));
+
+  @Nested
+  class WithTranspositionTable {
+
+    private final TranspositionTable table = new TranspositionTable(1 << 16);
+    private final ExpectimaxLudoBot bot =
+        new ExpectimaxLudoBot(rules, 20, Runnable::run, table);
+
+    @Test
+    void shouldStillCaptureOpponentAhead() {
+      LudoState state = start
+          .withRouteIndex(LudoColor.BLUE, 0, 17)
+          .withRouteIndex(LudoColor.BLUE, 1, 30)
+          .withRouteIndex(LudoColor.RED, 0, 7);
+
+      assertEquals(0, bot.choosePiece(state, 3, 2));
+    }
+
+    @Test
+    void shouldAgreeWithSearchWithoutTable() {
+      LudoState state = start
+          .withRouteIndex(LudoColor.BLUE, 0, 10)
+          .withRouteIndex(LudoColor.BLUE, 1, 45)
+          .withRouteIndex(LudoColor.RED, 0, 40);
+      ExpectimaxLudoBot plain = new ExpectimaxLudoBot(rules, 20, Runnable::run);
+
+      for (int roll = 1; roll <= 6; roll++) {
+        assertEquals(plain.choosePiece(state, roll, 3), bot.choosePiece(state, roll, 3));
+      }
+    }
+  }
+
+  @Nested
+  class Decisions {
+
+    private final ExpectimaxLudoBot bot = new ExpectimaxLudoBot(rules, 20);
+
+    @Test
+    void shouldPickOnlyMovablePiece() {
+      LudoState state = start.withRouteIndex(LudoColor.BLUE, 3, 12);
+
+      assertEquals(3, bot.choosePiece(state, 2));
+    }
+
+    @Test
+    void shouldReturnAnyPieceWhenNothingCanMove() {
+      int piece = bot.choosePiece(start, 3);
+
+      assertTrue(piece >= 0 && piece < LudoState.PIECES);
+    }
+
+    @Test
+    void shouldCaptureOpponentAhead() {
+      // BLUE route index 20 is tile 21, which is RED route index 7
+      LudoState state = start
+          .withRouteIndex(LudoColor.BLUE, 0, 17)
+          .withRouteIndex(LudoColor.BLUE, 1, 30)
+          .withRouteIndex(LudoColor.RED, 0, 7);
+
+      assertEquals(0, bot.choosePiece(state, 3, 1));
+    }
+
+    @Test
+    void shouldTakeWinningMove() {
+      LudoState state = start;
+      for (int piece = 0; piece < 3; piece++) {
+        state = state.withRouteIndex(LudoColor.BLUE, piece, LudoPath.FINAL_ROUTE_INDEX);
+      }
+      state = state
+          .withRouteIndex(LudoColor.BLUE, 3, LudoPath.FINAL_ROUTE_INDEX - 4)
+          .withRouteIndex(LudoColor.RED, 0, 2);
+
+      assertEquals(3, bot.choosePiece(state, 4));
+    }
+
+    @Test
+    void shouldDecideForOpponentSeat() {
+      // RED route index 7 is tile 21, which is BLUE route index 20
+      LudoState state = start
+          .withRouteIndex(LudoColor.RED, 2, 4)
+          .withRouteIndex(LudoColor.RED, 3, 40)
+          .withRouteIndex(LudoColor.BLUE, 0, 20)
+          .withSideToMove(1);
+
+      assertEquals(2, bot.choosePiece(state, 3, 2));
+    }
+  }
+
+  @Nested
+  class Budget {
+
+    @Test
+    void shouldAnswerWithinBudget() {
+      ExpectimaxLudoBot bot = new ExpectimaxLudoBot(rules, 15);
+      LudoState state = start
+          .withRouteIndex(LudoColor.BLUE, 0, 5)
+          .withRouteIndex(LudoColor.BLUE, 1, 20)
+          .withRouteIndex(LudoColor.RED, 0, 9)
+          .withRouteIndex(LudoColor.RED, 1, 30);
+
+      long started = System.nanoTime();
+      int piece = bot.choosePiece(state, 6);
+      long elapsedMillis = (System.nanoTime() - started) / 1_000_000;
+
+      assertTrue(piece >= 0 && piece < LudoState.PIECES);
+      assertTrue(elapsedMillis < 500, "took " + elapsedMillis + " ms");
+    }
+
+    @Test
+    void shouldAnswerWithZeroBudget() {
+      ExpectimaxLudoBot bot = new ExpectimaxLudoBot(rules, 0);
+      LudoState state = start.withRouteIndex(LudoColor.BLUE, 0, 5);
+
+      assertTrue(rules.canMove(state, bot.choosePiece(state, 6), 6));
+    }
+
+    @Test
+    void shouldPassOnRuleEngineFailures() {
+      LudoRuleEngine broken = spy(rules);
+      doThrow(new IllegalStateException("broken rules"))
+          .when(broken).applyMove(any(), anyInt(), anyInt());
+      ExpectimaxLudoBot bot = new ExpectimaxLudoBot(broken, 20, Runnable::run);
+      LudoState state = start
+          .withRouteIndex(LudoColor.BLUE, 0, 5)
+          .withRouteIndex(LudoColor.BLUE, 1, 9);
+
+      IllegalStateException thrown =
+          assertThrows(IllegalStateException.class, () -> bot.choosePiece(state, 3));
+      assertEquals("broken rules", thrown.getMessage());
+    }
+
+    @Test
+    void shouldRejectInvalidSettings() {
+      assertThrows(ValidationException.class, () -> new ExpectimaxLudoBot(rules, -1));
+      assertThrows(ValidationException.class,
+          () -> new ExpectimaxLudoBot(rules).choosePiece(start, 6, 0));
+    }
+  }
+}
@@ -0,0 +1,141 @@
+package edu.games.engine.ai;
+
+import edu.games.engine.board.LudoPath;
+import edu.games.engine.exception.ValidationException;
+import edu.games.engine.model.LudoColor;
+import edu.games.engine.model.LudoState;
+import edu.games.engine.rule.LudoRuleEngine;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MctsLudoBotTest {
+
+  private final LudoRuleEngine rules = new LudoRuleEngine(new LudoPath());
+  private final LudoState start = LudoState.initial(List.of(LudoColor.BLUE, LudoColor.RED));
+  private final MctsLudoBot bot = new MctsLudoBot(rules, 3_000, 10_000, 4);
+
+  @AfterEach
+  void tearDown() {
+    bot.close();
+  }
+
+  @Nested
+  class Decisions {
+
+    @Test
+    void shouldPickOnlyMovablePieceWithoutSearching() {
+      LudoState state = start.withRouteIndex(LudoColor.BLUE, 3, 12);
+
+      assertEquals(3, bot.choosePiece(state, 2));
+      assertEquals(0, bot.lastPlayouts());
+    }
+
+    @Test
+    void shouldTakeWinningMove() {
+      LudoState state = start
+          .withRouteIndex(LudoColor.BLUE, 3, LudoPath.FINAL_ROUTE_INDEX - 4)
+          .withRouteIndex(LudoColor.RED, 0, 2);
+      for (int piece = 0; piece < 3; piece++) {
+        state = state.withRouteIndex(LudoColor.BLUE, piece, LudoPath.FINAL_ROUTE_INDEX);
+      }
+
+      assertEquals(3, bot.choosePiece(state, 4));
+    }
+
+    @Test
+    void shouldPreferCaptureOverAdvancingFinishedRunner() {
+      // BLUE route index 20 is tile 21, which is RED route index 7
+      LudoState state = start
+          .withRouteIndex(LudoColor.BLUE, 0, 17)
+          .withRouteIndex(LudoColor.BLUE, 1, 53)
+          .withRouteIndex(LudoColor.RED, 0, 7)
+          .withRouteIndex(LudoColor.RED, 1, 45);
+
+      assertEquals(0, bot.choosePiece(state, 3));
+    }
+  }
+
+  @Nested
+  class Budgets {
+
+    @Test
+    void shouldStopAtPlayoutCount() {
+      LudoState state = start.withRouteIndex(LudoColor.BLUE, 0, 5).withRouteIndex(LudoColor.BLUE, 1, 9);
+
+      bot.choosePiece(state, 3);
+
+      assertEquals(3_000, bot.lastPlayouts());
+    }
+
+    @Test
+    void shouldStopAtTimeBudget() {
+      try (MctsLudoBot timed = new MctsLudoBot(rules, Integer.MAX_VALUE, 10, 2)) {
+        LudoState state = start.withRouteIndex(LudoColor.BLUE, 0, 5).withRouteIndex(LudoColor.BLUE, 1, 9);
+
+        long started = System.nanoTime();
+        timed.choosePiece(state, 3);
+        long elapsedMillis = (System.nanoTime() - started) / 1_000_000;
+
+        assertTrue(elapsedMillis < 1_000, "took " + elapsedMillis + " ms");
+        assertTrue(timed.lastPlayouts() >= 2);
+      }
+    }
+
+    @Test
+    void shouldRunOnTheGivenExecutorAndLeaveItRunning() throws Exception {
+      ExecutorService executor = Executors.newFixedThreadPool(2);
+      try {
+        MctsLudoBot own = new MctsLudoBot(rules, 500, 10_000, 2, executor);
+        LudoState state = start.withRouteIndex(LudoColor.BLUE, 0, 5).withRouteIndex(LudoColor.BLUE, 1, 9);
+
+        own.choosePiece(state, 3);
+        own.close();
+
+        assertEquals(500, own.lastPlayouts());
+        assertFalse(executor.isShutdown());
+      } finally {
+        executor.shutdownNow();
+      }
+    }
+
+    @Test
+    void shouldRejectInvalidLimits() {
+      assertThrows(ValidationException.class, () -> new MctsLudoBot(rules, 0, 10, 1));
+      assertThrows(ValidationException.class, () -> new MctsLudoBot(rules, 10, -1, 1));
+      assertThrows(ValidationException.class, () -> new MctsLudoBot(rules, 10, 10, 0));
+    }
+  }
+
+  @Nested
+  class SubtreeReuse {
+
+    @Test
+    void shouldReuseSubtreeAfterOwnMove() {
+      LudoState state = start.withRouteIndex(LudoColor.BLUE, 0, 5).withRouteIndex(LudoColor.BLUE, 1, 9);
+      int piece = bot.choosePiece(state, 6);
+      LudoState next = rules.applyMove(state, piece, 6);
+
+      bot.choosePiece(next, 3);
+
+      assertTrue(bot.lastReusedVisits() > 0);
+      assertEquals(3_000, bot.lastPlayouts());
+    }
+
+    @Test
+    void shouldStartFreshForUnrelatedPosition() {
+      LudoState state = start.withRouteIndex(LudoColor.BLUE, 0, 5).withRouteIndex(LudoColor.BLUE, 1, 9);
+      bot.choosePiece(state, 6);
+
+      bot.choosePiece(start.withRouteIndex(LudoColor.BLUE, 0, 30).withRouteIndex(LudoColor.BLUE, 2, 40), 2);
+
+      assertEquals(0, bot.lastReusedVisits());
+    }
+  }
+}
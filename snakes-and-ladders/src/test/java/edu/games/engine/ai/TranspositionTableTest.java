@@ -0,0 +1,132 @@
+package edu.games.engine.ai;
+
+import edu.games.engine.exception.ValidationException;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TranspositionTableTest {
+
+  @Nested
+  class StoreAndProbe {
+
+    private final TranspositionTable table = new TranspositionTable(1024);
+
+    @Test
+    void shouldReturnStoredEntry() {
+      table.store(42L, 5, 1.5, 3);
+
+      long entry = table.probe(42L);
+
+      assertNotEquals(TranspositionTable.MISS, entry);
+      assertEquals(1.5, TranspositionTable.value(entry));
+      assertEquals(5, TranspositionTable.depth(entry));
+      assertEquals(3, TranspositionTable.bestMove(entry));
+    }
+
+    @Test
+    void shouldMissUnknownPositionInSameSlot() {
+      table.store(42L, 5, 1.5, -1);
+
+      assertEquals(TranspositionTable.MISS, table.probe(42L + table.capacity()));
+      assertEquals(-1, TranspositionTable.bestMove(table.probe(42L)));
+    }
+
+    @Test
+    void shouldKeepDeeperEntryWithinSearch() {
+      table.store(7L, 6, 1.0, 0);
+      table.store(7L + table.capacity(), 2, 2.0, 1);
+
+      assertEquals(6, TranspositionTable.depth(table.probe(7L)));
+      assertEquals(TranspositionTable.MISS, table.probe(7L + table.capacity()));
+    }
+
+    @Test
+    void shouldReplaceWithEqualOrDeeperEntry() {
+      table.store(7L, 3, 1.0, 0);
+      table.store(7L, 3, 2.0, 1);
+
+      assertEquals(2.0, TranspositionTable.value(table.probe(7L)));
+    }
+
+    @Test
+    void shouldReplaceDeepEntryFromEarlierSearch() {
+      table.store(7L, 9, 1.0, 0);
+      table.newSearch();
+      table.store(7L + table.capacity(), 1, 2.0, 1);
+
+      assertEquals(1, TranspositionTable.depth(table.probe(7L + table.capacity())));
+    }
+
+    @Test
+    void shouldClampDepth() {
+      table.store(1L, 1000, 0.0, -1);
+
+      assertEquals(TranspositionTable.MAX_DEPTH, TranspositionTable.depth(table.probe(1L)));
+    }
+
+    @Test
+    void shouldForgetEverythingOnClear() {
+      table.store(1L, 1, 1.0, 0);
+      table.clear();
+
+      assertEquals(TranspositionTable.MISS, table.probe(1L));
+    }
+  }
+
+  @Nested
+  class Sizing {
+
+    @Test
+    void shouldRoundCapacityUpToPowerOfTwo() {
+      assertEquals(1024, new TranspositionTable(1000).capacity());
+      assertEquals(1, new TranspositionTable(1).capacity());
+    }
+
+    @Test
+    void shouldRejectInvalidSize() {
+      assertThrows(ValidationException.class, () -> new TranspositionTable(0));
+      assertThrows(ValidationException.class, () -> new TranspositionTable((1 << 29) + 1));
+    }
+  }
+
+  @Nested
+  class Concurrency {
+
+    @Test
+    void shouldNeverReturnAnotherPositionsEntry() throws InterruptedException {
+      TranspositionTable table = new TranspositionTable(64);
+      AtomicBoolean corrupt = new AtomicBoolean();
+      List<Thread> threads = new ArrayList<>();
+      for (int t = 0; t < 4; t++) {
+        long seed = t;
+        threads.add(Thread.ofPlatform().start(() -> {
+          SplittableRandom random = new SplittableRandom(seed);
+          for (int i = 0; i < 200_000; i++) {
+            long hash = random.nextLong(4096);
+            // Every position always stores the same value, so any hit must carry it
+            table.store(hash, (int) (hash % 16), hash, (int) (hash % 7) - 1);
+            long entry = table.probe(random.nextLong(4096));
+            if (entry != TranspositionTable.MISS) {
+              long value = (long) TranspositionTable.value(entry);
+              if (TranspositionTable.depth(entry) != value % 16) {
+                corrupt.set(true);
+              }
+            }
+          }
+        }));
+      }
+      for (Thread thread : threads) {
+        thread.join();
+      }
+
+      assertFalse(corrupt.get());
+    }
+  }
+}
@@ -0,0 +1,125 @@
+package edu.games.engine.board;
+
+import edu.games.engine.exception.ValidationException;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ArrayLinearBoardTest {
+
+  @Nested
+  class Constructor {
+
+    @Test
+    void shouldCreateBoardWithValidSize() {
+      ArrayLinearBoard board = new ArrayLinearBoard(5);
+      assertNotNull(board.tile(0));
+      assertNotNull(board.tile(5));
+      assertEquals(5, board.lastTileId());
+    }
+
+    @Test
+    void shouldThrowExceptionWhenSizeLessThanTwo() {
+      assertThrows(ValidationException.class, () -> new ArrayLinearBoard(1));
+    }
+
+    @Test
+    void shouldLinkTilesForNextCallers() {
+      ArrayLinearBoard board = new ArrayLinearBoard(3);
+      assertSame(board.tile(1), board.tile(0).next());
+      assertSame(board.tile(3), board.tile(2).next());
+      assertNull(board.tile(3).next());
+    }
+  }
+
+  @Nested
+  class Movement {
+
+    ArrayLinearBoard board = new ArrayLinearBoard(5);
+
+    @Test
+    void shouldReturnStartTile() {
+      assertEquals(0, board.start().tileId());
+    }
+
+    @Test
+    void shouldMoveCorrectNumberOfSteps() {
+      Tile moved = board.move(board.start(), 3);
+      assertSame(board.tile(3), moved);
+    }
+
+    @Test
+    void shouldStayOnTileWhenMovingZeroSteps() {
+      Tile tile = board.tile(2);
+      assertSame(tile, board.move(tile, 0));
+    }
+
+    @Test
+    void shouldStopAtLastTileIfStepsTooFar() {
+      assertEquals(5, board.move(board.start(), 10).tileId());
+    }
+
+    @Test
+    void shouldNotOverflowOnHugeStepCount() {
+      assertEquals(5, board.move(board.tile(3), Integer.MAX_VALUE).tileId());
+    }
+
+    @Test
+    void shouldThrowIfStepsNegative() {
+      assertThrows(ValidationException.class, () -> board.move(board.start(), -1));
+    }
+
+    @Test
+    void shouldThrowIfTileIsNotLinearTile() {
+      Tile fakeTile = () -> 0;
+      assertThrows(ValidationException.class, () -> board.move(fakeTile, 1));
+    }
+
+    @Test
+    void shouldThrowIfTileIsOutsideBoard() {
+      assertThrows(ValidationException.class, () -> board.move(new LinearTile(9), 1));
+    }
+
+    @Test
+    void shouldReturnNullIfTileIdDoesNotExist() {
+      assertNull(board.tile(999));
+      assertNull(board.tile(-1));
+    }
+
+    @Test
+    void shouldMatchLinkedBoardForEveryMove() {
+      LinearBoard linked = new LinearBoard(40);
+      ArrayLinearBoard indexed = new ArrayLinearBoard(40);
+      for (int from = 0; from <= 40; from++) {
+        for (int steps = 0; steps <= 12; steps++) {
+          assertEquals(
+              linked.move(linked.tile(from), steps).tileId(),
+              indexed.move(indexed.tile(from), steps).tileId());
+        }
+      }
+    }
+  }
+
+  @Nested
+  class EndCheck {
+
+    ArrayLinearBoard board = new ArrayLinearBoard(3);
+
+    @Test
+    void shouldReturnTrueIfTileIsLast() {
+      assertTrue(board.isEnd(board.tile(3)));
+    }
+
+    @Test
+    void shouldReturnFalseIfTileIsNotLast() {
+      assertFalse(board.isEnd(board.tile(2)));
+    }
+
+    @Test
+    void shouldThrowIfTileNotLinear() {
+      Tile fakeTile = () -> 1;
+      assertThrows(ValidationException.class, () -> board.isEnd(fakeTile));
+    }
+  }
+}
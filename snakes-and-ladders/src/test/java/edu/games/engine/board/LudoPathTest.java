@@ -1,5 +1,6 @@
 package edu.games.engine.board;
 
+import edu.games.engine.exception.ValidationException;
 import edu.games.engine.model.LudoColor;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
@@ -434,6 +435,68 @@ class LudoPathTest {
     }
   }
 
+  @Nested
+  class RouteIndexMovement {
+
+    @Test
+    void shouldStartEveryRouteOnColorStartTile() {
+      for (LudoColor color : LudoColor.values()) {
+        assertEquals(ludoPath.getStartTile(color), ludoPath.tileAt(color, 0));
+        assertEquals(0, ludoPath.routeIndexOf(color, ludoPath.getStartTile(color)));
+      }
+    }
+
+    @Test
+    void shouldEndEveryRouteOnFinalGoalTile() {
+      for (LudoColor color : LudoColor.values()) {
+        Tile last = ludoPath.tileAt(color, LudoPath.FINAL_ROUTE_INDEX);
+        assertTrue(ludoPath.isEnd(last));
+        assertEquals(ludoPath.goals().get(color).get(5), last);
+      }
+    }
+
+    @Test
+    void shouldMapHomeToNullTile() {
+      assertNull(ludoPath.tileAt(LudoColor.RED, LudoPath.HOME));
+      assertEquals(LudoPath.HOME, ludoPath.routeIndexOf(LudoColor.RED, null));
+    }
+
+    @Test
+    void shouldNotFindOtherColorsGoalTilesOnRoute() {
+      assertEquals(LudoPath.HOME, ludoPath.routeIndexOf(LudoColor.RED, 53));
+    }
+
+    @Test
+    void shouldLeaveHomeOnlyWithSix() {
+      assertEquals(0, LudoPath.advance(LudoPath.HOME, 6));
+      assertEquals(LudoPath.HOME, LudoPath.advance(LudoPath.HOME, 5));
+    }
+
+    @Test
+    void shouldClampAtFinalGoalTile() {
+      assertEquals(LudoPath.FINAL_ROUTE_INDEX, LudoPath.advance(55, 6));
+      assertEquals(LudoPath.FINAL_ROUTE_INDEX, LudoPath.advance(0, Integer.MAX_VALUE));
+    }
+
+    @Test
+    void shouldRejectIndexOutsideRoute() {
+      assertThrows(ValidationException.class,
+          () -> ludoPath.tileAt(LudoColor.BLUE, LudoPath.ROUTE_LENGTH));
+    }
+
+    @Test
+    void shouldAgreeWithTileMovementOnEveryRouteTile() {
+      for (LudoColor color : LudoColor.values()) {
+        for (int index = 0; index < LudoPath.ROUTE_LENGTH; index++) {
+          for (int steps = 1; steps <= 6; steps++) {
+            Tile expected = ludoPath.tileAt(color, LudoPath.advance(index, steps));
+            assertEquals(expected, ludoPath.nextTile(ludoPath.tileAt(color, index), steps, color));
+          }
+        }
+      }
+    }
+  }
+
   @Nested
   class AllColorsIntegration {
 
@@ -0,0 +1,44 @@
+package edu.games.engine.dice;
+
+import edu.games.engine.exception.ValidationException;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PackedRollTest {
+
+  @Test
+  void shouldPackSumCountAndDice() {
+    int packed = PackedRoll.pack(new int[] {3, 5}, 2);
+
+    assertEquals(8, PackedRoll.sum(packed));
+    assertEquals(2, PackedRoll.count(packed));
+    assertEquals(3, PackedRoll.die(packed, 0));
+    assertEquals(5, PackedRoll.die(packed, 1));
+  }
+
+  @Test
+  void shouldHoldMaximumNumberOfSixes() {
+    int[] sixes = {6, 6, 6, 6, 6, 6};
+
+    int packed = PackedRoll.pack(sixes, PackedRoll.MAX_DICE);
+
+    assertEquals(36, PackedRoll.sum(packed));
+    assertEquals(List.of(6, 6, 6, 6, 6, 6), PackedRoll.toList(packed));
+  }
+
+  @Test
+  void shouldDetectDoubles() {
+    assertTrue(PackedRoll.isDouble(PackedRoll.pack(new int[] {4, 4}, 2)));
+    assertFalse(PackedRoll.isDouble(PackedRoll.pack(new int[] {4, 3}, 2)));
+    assertFalse(PackedRoll.isDouble(PackedRoll.pack(new int[] {4}, 1)));
+  }
+
+  @Test
+  void shouldRejectInvalidCountOrValue() {
+    assertThrows(ValidationException.class, () -> PackedRoll.pack(new int[7], 7));
+    assertThrows(ValidationException.class, () -> PackedRoll.pack(new int[] {0}, 1));
+  }
+}
@@ -288,6 +288,94 @@ class RandomDiceTest {
     }
   }
 
+  @Nested
+  class PrimitiveRolls {
+
+    @Test
+    void shouldRollIntoArray() {
+      Random mockRandom = mock(Random.class);
+      when(mockRandom.nextInt(1, 7)).thenReturn(2, 5);
+      RandomDice dice = new RandomDice(2, mockRandom);
+      int[] out = new int[2];
+
+      int sum = dice.rollInto(out);
+
+      assertEquals(7, sum);
+      assertArrayEquals(new int[] {2, 5}, out);
+      assertEquals(List.of(2, 5), dice.lastValues());
+    }
+
+    @Test
+    void shouldRejectTooShortArray() {
+      RandomDice dice = new RandomDice(2);
+
+      assertThrows(ValidationException.class, () -> dice.rollInto(new int[1]));
+    }
+
+    @Test
+    void shouldRollPacked() {
+      Random mockRandom = mock(Random.class);
+      when(mockRandom.nextInt(1, 7)).thenReturn(6, 6);
+      RandomDice dice = new RandomDice(2, mockRandom);
+
+      int packed = dice.rollPacked();
+
+      assertEquals(12, PackedRoll.sum(packed));
+      assertTrue(PackedRoll.isDouble(packed));
+      assertEquals(packed, dice.lastPacked());
+    }
+
+    @Test
+    void shouldPackPlainRolls() {
+      Random mockRandom = mock(Random.class);
+      when(mockRandom.nextInt(1, 7)).thenReturn(1, 4);
+      RandomDice dice = new RandomDice(2, mockRandom);
+
+      dice.roll();
+
+      assertEquals(PackedRoll.pack(new int[] {1, 4}, 2), dice.lastPacked());
+    }
+
+    @Test
+    void shouldReturnZeroPackedBeforeFirstRoll() {
+      assertEquals(0, new RandomDice(2).lastPacked());
+    }
+
+    @Test
+    void shouldRollManyPacked() {
+      Random mockRandom = mock(Random.class);
+      when(mockRandom.nextInt(1, 7)).thenReturn(1, 2, 3);
+      RandomDice dice = new RandomDice(1, mockRandom);
+      int[] out = new int[3];
+
+      dice.rollMany(3, out);
+
+      assertEquals(1, PackedRoll.sum(out[0]));
+      assertEquals(2, PackedRoll.sum(out[1]));
+      assertEquals(3, PackedRoll.sum(out[2]));
+      assertEquals(List.of(3), dice.lastValues());
+    }
+
+    @Test
+    void shouldRejectPackingTooManyDice() {
+      RandomDice dice = new RandomDice(PackedRoll.MAX_DICE + 1);
+
+      assertThrows(ValidationException.class, dice::rollPacked);
+    }
+
+    @Test
+    void shouldReuseLastValuesUntilNextRoll() {
+      RandomDice dice = new RandomDice(2);
+      dice.roll();
+
+      List<Integer> first = dice.lastValues();
+
+      assertSame(first, dice.lastValues());
+      dice.roll();
+      assertNotSame(first, dice.lastValues());
+    }
+  }
+
   @Nested
   class EdgeCasesAndIntegration {
 
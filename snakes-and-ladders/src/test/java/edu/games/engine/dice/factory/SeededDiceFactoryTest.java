@@ -0,0 +1,91 @@
+package edu.games.engine.dice.factory;
+
+import edu.games.engine.dice.Dice;
+import edu.games.engine.dice.RandomDice;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SeededDiceFactoryTest {
+
+  private static int[] rolls(Dice dice, int count) {
+    int[] rolls = new int[count];
+    for (int i = 0; i < count; i++) {
+      rolls[i] = dice.roll();
+    }
+    return rolls;
+  }
+
+  @Nested
+  class Streams {
+
+    @Test
+    void shouldRepeatStreamForSameSeedAndIndex() {
+      Dice first = new SeededDiceFactory(42).create(7);
+      Dice second = new SeededDiceFactory(42).create(7);
+
+      assertArrayEquals(rolls(first, 100), rolls(second, 100));
+    }
+
+    @Test
+    void shouldGiveDifferentIndicesDifferentStreams() {
+      SeededDiceFactory factory = new SeededDiceFactory(42);
+
+      assertFalse(Arrays.equals(rolls(factory.create(0), 100), rolls(factory.create(1), 100)));
+    }
+
+    @Test
+    void shouldGiveDifferentSeedsDifferentStreams() {
+      assertFalse(Arrays.equals(
+          rolls(new SeededDiceFactory(1).create(0), 100),
+          rolls(new SeededDiceFactory(2).create(0), 100)));
+    }
+
+    @Test
+    void shouldNotProduceShiftedCopiesForNeighbouringIndices() {
+      SeededDiceFactory factory = new SeededDiceFactory(42);
+      long[] first = factory.stream(0).longs(5).toArray();
+      long[] second = factory.stream(1).longs(5).toArray();
+
+      for (int i = 0; i < 4; i++) {
+        assertNotEquals(first[i + 1], second[i]);
+      }
+    }
+
+    @Test
+    void shouldHandOutStreamsInOrderWithoutIndex() {
+      SeededDiceFactory factory = new SeededDiceFactory(9);
+      Dice first = factory.create();
+      Dice second = factory.create();
+
+      assertArrayEquals(rolls(new SeededDiceFactory(9).create(0), 50), rolls(first, 50));
+      assertArrayEquals(rolls(new SeededDiceFactory(9).create(1), 50), rolls(second, 50));
+    }
+  }
+
+  @Nested
+  class Configuration {
+
+    @Test
+    void shouldCreateTwoDiceByDefault() {
+      Dice dice = new SeededDiceFactory(0).create();
+
+      assertEquals(2, ((RandomDice) dice).getDiceCount());
+    }
+
+    @Test
+    void shouldCreateConfiguredNumberOfDice() {
+      Dice dice = new SeededDiceFactory(1, 0).create(3);
+
+      assertEquals(1, ((RandomDice) dice).getDiceCount());
+    }
+
+    @Test
+    void shouldExposeMasterSeed() {
+      assertEquals(1234L, new SeededDiceFactory(1234L).getMasterSeed());
+    }
+  }
+}
@@ -17,6 +17,7 @@ import org.mockito.MockitoAnnotations;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
 
@@ -394,6 +395,112 @@ class DefaultGameTest {
     }
   }
 
+  @Nested
+  class OccupancyTests {
+
+    @Test
+    void shouldTrackInitialPlayers() {
+      player1.moveTo(mockTile);
+      DefaultGame game = new DefaultGame(mockBoard, mockStrategy, players, mockDice);
+
+      assertEquals(List.of(player1), game.getOccupancy().occupantsOf(mockTile.tileId()));
+    }
+
+    @Test
+    void shouldTrackPlayersAddedAndRemovedThroughPlayerList() {
+      DefaultGame game = new DefaultGame(mockBoard, mockStrategy, new ArrayList<>(), mockDice);
+      game.getPlayers().add(player1);
+      game.getPlayers().add(player2);
+      player1.moveTo(mockTile);
+      player2.moveTo(mockTile);
+
+      game.getPlayers().remove(player1);
+
+      assertEquals(List.of(player2), game.getOccupancy().occupantsOf(mockTile.tileId()));
+
+      game.getPlayers().clear();
+
+      assertFalse(game.getOccupancy().isOccupied(mockTile.tileId()));
+    }
+
+    @Test
+    void shouldKeepTrackingPlayersWhenTheListIsSorted() {
+      DefaultGame game = new DefaultGame(mockBoard, mockStrategy, players, mockDice);
+      player1.moveTo(mockTile);
+      player2.moveTo(mockTile);
+
+      game.getPlayers().sort(Comparator.comparing(Player::getName).reversed());
+      game.getPlayers().sort(Comparator.comparing(Player::getName));
+
+      assertEquals(2, game.getOccupancy().occupantsOf(mockTile.tileId()).size());
+    }
+
+    @Test
+    void shouldLetANewGameTakeOverPlayersOfAnOldOne() {
+      DefaultGame old = new DefaultGame(mockBoard, mockStrategy, players, mockDice);
+
+      DefaultGame game = new DefaultGame(mockBoard, mockStrategy, players, mockDice);
+      player1.moveTo(mockTile);
+
+      assertEquals(List.of(player1), game.getOccupancy().occupantsOf(mockTile.tileId()));
+      assertFalse(old.getOccupancy().isOccupied(mockTile.tileId()));
+    }
+
+    @Test
+    void shouldUntrackAPlayerOnlyWithItsLastSlot() {
+      DefaultGame game = new DefaultGame(mockBoard, mockStrategy, players, mockDice);
+      player1.moveTo(mockTile);
+      game.getPlayers().add(player1);
+
+      game.getPlayers().remove(0);
+      assertTrue(game.getOccupancy().isOccupied(mockTile.tileId()));
+
+      game.getPlayers().add(player1);
+      game.getPlayers().set(1, player2);
+      assertTrue(game.getOccupancy().isOccupied(mockTile.tileId()));
+
+      game.getPlayers().set(2, player2);
+      assertFalse(game.getOccupancy().isOccupied(mockTile.tileId()));
+    }
+  }
+
+  @Nested
+  class CheckpointTests {
+
+    @Test
+    void shouldRestorePiecesTurnAndWinner() {
+      Tile other = mock(Tile.class);
+      DefaultGame game = new DefaultGame(mockBoard, mockStrategy, players, mockDice);
+      player1.movePiece(2, mockTile);
+      game.setCurrentPlayerIndex(1);
+      game.setWinner(player2);
+      long hash = game.positionHash();
+      GameCheckpoint checkpoint = game.checkpoint();
+
+      player1.movePiece(2, null);
+      player2.movePiece(0, other);
+      game.setCurrentPlayerIndex(0);
+      game.setWinner(null);
+      game.restore(checkpoint);
+
+      assertEquals(mockTile, player1.getPiece(2).getCurrentTile());
+      assertNull(player2.getPiece(0).getCurrentTile());
+      assertEquals(player2, game.currentPlayer());
+      assertEquals(Optional.of(player2), game.getWinner());
+      assertEquals(hash, game.positionHash());
+      assertEquals(List.of(player1), game.getOccupancy().occupantsOf(mockTile.tileId()));
+    }
+
+    @Test
+    void shouldRejectCheckpointOfOtherPlayers() {
+      DefaultGame game = new DefaultGame(mockBoard, mockStrategy, players, mockDice);
+      GameCheckpoint checkpoint = game.checkpoint();
+      game.getPlayers().remove(player2);
+
+      assertThrows(ValidationException.class, () -> game.restore(checkpoint));
+    }
+  }
+
   @Nested
   class EdgeCasesAndIntegration {
 
@@ -0,0 +1,129 @@
+package edu.games.engine.model;
+
+import edu.games.engine.board.LudoPath;
+import edu.games.engine.exception.ValidationException;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LudoStateTest {
+
+  private static final List<LudoColor> SEATS =
+      List.of(LudoColor.RED, LudoColor.BLUE, LudoColor.YELLOW);
+
+  @Nested
+  class Seating {
+
+    @Test
+    void shouldStartWithAllPiecesHomeAndFirstSeatToMove() {
+      LudoState state = LudoState.initial(SEATS);
+
+      assertEquals(3, state.seatCount());
+      assertEquals(0, state.sideToMove());
+      for (LudoColor color : LudoColor.values()) {
+        for (int piece = 0; piece < LudoState.PIECES; piece++) {
+          assertEquals(LudoState.HOME, state.routeIndex(color, piece));
+        }
+      }
+    }
+
+    @Test
+    void shouldKeepSeatOrder() {
+      LudoState state = LudoState.initial(SEATS);
+
+      assertEquals(LudoColor.RED, state.seatColor(0));
+      assertEquals(LudoColor.BLUE, state.seatColor(1));
+      assertEquals(LudoColor.YELLOW, state.seatColor(2));
+    }
+
+    @Test
+    void shouldPassTurnAroundTheTable() {
+      LudoState state = LudoState.initial(SEATS).withSideToMove(2);
+
+      assertEquals(LudoColor.YELLOW, state.colorToMove());
+      assertEquals(LudoColor.RED, state.nextSide().colorToMove());
+    }
+
+    @Test
+    void shouldRejectRepeatedColors() {
+      assertThrows(ValidationException.class,
+          () -> LudoState.initial(List.of(LudoColor.RED, LudoColor.RED)));
+    }
+
+    @Test
+    void shouldRejectEmptyTable() {
+      assertThrows(ValidationException.class, () -> LudoState.initial(List.of()));
+    }
+
+    @Test
+    void shouldRejectSeatOutsideTable() {
+      LudoState state = LudoState.initial(SEATS);
+
+      assertThrows(ValidationException.class, () -> state.withSideToMove(3));
+    }
+  }
+
+  @Nested
+  class Pieces {
+
+    @Test
+    void shouldStoreEveryPieceIndependently() {
+      LudoState state = LudoState.initial(List.of(LudoColor.values()));
+      int value = 0;
+      for (LudoColor color : LudoColor.values()) {
+        for (int piece = 0; piece < LudoState.PIECES; piece++) {
+          state = state.withRouteIndex(color, piece, value++);
+        }
+      }
+
+      value = 0;
+      for (LudoColor color : LudoColor.values()) {
+        for (int piece = 0; piece < LudoState.PIECES; piece++) {
+          assertEquals(value++, state.routeIndex(color, piece));
+        }
+      }
+    }
+
+    @Test
+    void shouldNotDisturbTurnWhenMovingPieces() {
+      LudoState state = LudoState.initial(SEATS).withSideToMove(1)
+          .withRouteIndex(LudoColor.YELLOW, 3, LudoPath.FINAL_ROUTE_INDEX);
+
+      assertEquals(1, state.sideToMove());
+      assertEquals(3, state.seatCount());
+      assertEquals(LudoColor.YELLOW, state.seatColor(2));
+    }
+
+    @Test
+    void shouldDetectAllPiecesOnOneIndex() {
+      LudoState state = LudoState.initial(SEATS);
+      for (int piece = 0; piece < LudoState.PIECES; piece++) {
+        state = state.withRouteIndex(LudoColor.BLUE, piece, LudoPath.FINAL_ROUTE_INDEX);
+      }
+
+      assertTrue(state.allPiecesAt(LudoColor.BLUE, LudoPath.FINAL_ROUTE_INDEX));
+      assertFalse(state.allPiecesAt(LudoColor.RED, LudoPath.FINAL_ROUTE_INDEX));
+      assertTrue(state.allPiecesAt(LudoColor.RED, LudoState.HOME));
+    }
+
+    @Test
+    void shouldCompareByValue() {
+      LudoState a = LudoState.initial(SEATS).withRouteIndex(LudoColor.RED, 0, 5);
+      LudoState b = LudoState.initial(SEATS).withRouteIndex(LudoColor.RED, 0, 5);
+
+      assertEquals(a, b);
+      assertEquals(a.hashCode(), b.hashCode());
+    }
+
+    @Test
+    void shouldRejectInvalidPieceOrIndex() {
+      LudoState state = LudoState.initial(SEATS);
+
+      assertThrows(ValidationException.class, () -> state.routeIndex(LudoColor.RED, 4));
+      assertThrows(ValidationException.class, () -> state.withRouteIndex(LudoColor.RED, 0, -2));
+    }
+  }
+}
@@ -0,0 +1,130 @@
+package edu.games.engine.model;
+
+import edu.games.engine.board.LinearTile;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TileOccupancyTest {
+
+  private TileOccupancy occupancy;
+  private Player alice;
+  private Player bob;
+
+  @BeforeEach
+  void setUp() {
+    occupancy = new TileOccupancy();
+    alice = new Player("Alice", Token.BLUE, LocalDate.of(1990, 1, 1));
+    bob = new Player("Bob", Token.RED, LocalDate.of(1991, 1, 1));
+  }
+
+  @Nested
+  class Tracking {
+
+    @Test
+    void shouldIndexPlayerUnderCurrentTileWhenTracked() {
+      alice.moveTo(new LinearTile(4));
+
+      occupancy.track(alice);
+
+      assertEquals(List.of(alice), occupancy.occupantsOf(4));
+    }
+
+    @Test
+    void shouldNotIndexPlayersAtHome() {
+      occupancy.track(alice);
+
+      assertFalse(occupancy.isOccupied(0));
+      assertTrue(occupancy.occupantsOf(0).isEmpty());
+    }
+
+    @Test
+    void shouldRemovePlayerWhenUntracked() {
+      occupancy.track(alice);
+      alice.moveTo(new LinearTile(4));
+
+      occupancy.untrack(alice);
+      alice.moveTo(new LinearTile(7));
+
+      assertFalse(occupancy.isOccupied(4));
+      assertFalse(occupancy.isOccupied(7));
+    }
+
+    @Test
+    void shouldTakeOverPlayerTrackedByAnotherIndex() {
+      TileOccupancy other = new TileOccupancy();
+      alice.moveTo(new LinearTile(4));
+      other.track(alice);
+
+      occupancy.track(alice);
+      alice.moveTo(new LinearTile(6));
+
+      assertFalse(other.isOccupied(4));
+      assertFalse(other.isOccupied(6));
+      assertEquals(List.of(alice), occupancy.occupantsOf(6));
+    }
+
+    @Test
+    void shouldAcceptPlayerUntrackedByAnotherIndex() {
+      TileOccupancy other = new TileOccupancy();
+      alice.moveTo(new LinearTile(4));
+      other.track(alice);
+      other.untrack(alice);
+
+      occupancy.track(alice);
+
+      assertEquals(List.of(alice), occupancy.occupantsOf(4));
+    }
+  }
+
+  @Nested
+  class Movement {
+
+    @Test
+    void shouldFollowPlayerMoves() {
+      occupancy.track(alice);
+
+      alice.moveTo(new LinearTile(3));
+      alice.moveTo(new LinearTile(9));
+
+      assertFalse(occupancy.isOccupied(3));
+      assertEquals(List.of(alice), occupancy.occupantsOf(9));
+    }
+
+    @Test
+    void shouldFollowMovesOfSpecificPieces() {
+      occupancy.track(alice);
+
+      alice.movePiece(0, new LinearTile(5));
+      alice.getPiece(0).moveTo(new LinearTile(6));
+
+      assertFalse(occupancy.isOccupied(5));
+      assertTrue(occupancy.isOccupied(6));
+    }
+
+    @Test
+    void shouldListSharedTileOccupantsInArrivalOrder() {
+      occupancy.track(alice);
+      occupancy.track(bob);
+
+      bob.moveTo(new LinearTile(8));
+      alice.moveTo(new LinearTile(8));
+
+      assertEquals(List.of(bob, alice), occupancy.occupantsOf(8));
+    }
+
+    @Test
+    void shouldExposeReadOnlyOccupants() {
+      occupancy.track(alice);
+      alice.moveTo(new LinearTile(2));
+
+      assertThrows(UnsupportedOperationException.class,
+          () -> occupancy.occupantsOf(2).clear());
+    }
+  }
+}
@@ -0,0 +1,78 @@
+package edu.games.engine.model;
+
+import edu.games.engine.board.LinearTile;
+import edu.games.engine.board.Tile;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ZobristTest {
+
+  @Test
+  void shouldGiveHomeNoKey() {
+    assertEquals(0, Zobrist.piece(Token.BLUE, 0, (Tile) null));
+  }
+
+  @Test
+  void shouldGiveDistinctKeysPerTokenPieceAndTile() {
+    Set<Long> keys = new HashSet<>();
+    for (Token token : Token.values()) {
+      for (int piece = 0; piece < LudoState.PIECES; piece++) {
+        for (int tileId = 0; tileId < 200; tileId++) {
+          keys.add(Zobrist.piece(token, piece, tileId));
+        }
+      }
+    }
+
+    assertEquals(Token.values().length * LudoState.PIECES * 200, keys.size());
+  }
+
+  @Test
+  void shouldWrapSideKeys() {
+    assertEquals(Zobrist.side(1), Zobrist.side(1 + Zobrist.SIDES));
+    assertNotEquals(Zobrist.side(0), Zobrist.side(1));
+  }
+
+  @Test
+  void shouldKeepPlayerKeyInStepWithPieceMoves() {
+    Player player = new Player("Alice", Token.RED, LocalDate.of(2000, 1, 1));
+    Tile five = new LinearTile(5);
+    Tile nine = new LinearTile(9);
+
+    player.movePiece(0, five);
+    player.movePiece(2, five);
+    player.movePiece(0, nine);
+
+    assertEquals(Zobrist.piece(Token.RED, 0, nine) ^ Zobrist.piece(Token.RED, 2, five),
+        player.positionKey());
+
+    player.movePiece(0, null);
+    player.movePiece(2, null);
+
+    assertEquals(0, player.positionKey());
+  }
+
+  @Test
+  void shouldOnlyMaintainTheKeyOnceItHasBeenRead() {
+    Player player = new Player("Alice", Token.RED, LocalDate.of(2000, 1, 1));
+    Tile five = new LinearTile(5);
+    Tile nine = new LinearTile(9);
+
+    player.movePiece(1, five);
+    player.movePiece(3, nine);
+
+    assertFalse(player.keyed);
+    assertEquals(0, player.positionKey);
+    assertEquals(Zobrist.piece(Token.RED, 1, five) ^ Zobrist.piece(Token.RED, 3, nine),
+        player.positionKey());
+
+    player.movePiece(1, nine);
+
+    assertEquals(Zobrist.piece(Token.RED, 1, nine) ^ Zobrist.piece(Token.RED, 3, nine),
+        player.positionKey());
+  }
+}
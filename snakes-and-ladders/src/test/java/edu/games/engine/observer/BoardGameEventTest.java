@@ -0,0 +1,125 @@
+package edu.games.engine.observer;
+
+import edu.games.engine.exception.ValidationException;
+import edu.games.engine.model.BoardGame;
+import edu.games.engine.model.Player;
+import edu.games.engine.model.Token;
+import edu.games.engine.observer.BoardGameEvent.EventType;
+import edu.games.engine.observer.GameEvent.DiceRolled;
+import edu.games.engine.observer.GameEvent.PlayerMoved;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BoardGameEventTest {
+
+  private final Player alice = new Player("Alice", Token.BLUE, LocalDate.of(1990, 1, 1));
+
+  @Nested
+  class Typed {
+
+    @Test
+    void shouldTakeTheTypeFromTheRecord() {
+      BoardGameEvent event = new BoardGameEvent(new GameEvent.TurnChanged(alice));
+
+      assertEquals(EventType.TURN_CHANGED, event.getTypeOfEvent());
+      assertSame(alice, event.getData());
+    }
+
+    @Test
+    void shouldWorkOutTheUntypedDataOnlyOnce() {
+      BoardGameEvent event = new BoardGameEvent(new PlayerMoved(alice, 4, 13));
+
+      BoardGame.PlayerMoveData move = (BoardGame.PlayerMoveData) event.getData();
+
+      assertSame(alice, move.getPlayer());
+      assertEquals(4, move.getFromTileId());
+      assertEquals(13, move.getToTileId());
+      assertSame(move, event.getData());
+    }
+
+    @Test
+    void shouldKeepDataGivenByTheProducer() {
+      List<Integer> values = List.of(3, 5);
+
+      BoardGameEvent event = BoardGameEvent.of(DiceRolled.of(values), values);
+
+      assertSame(values, event.getData());
+      assertEquals(new DiceRolled(DiceRolled.pack(values)), event.event());
+    }
+
+    @Test
+    void shouldSupportPatternMatching() {
+      GameEvent event = new BoardGameEvent(new GameEvent.PieceSelected(2)).event();
+
+      int piece = switch (event) {
+        case GameEvent.PieceSelected selected -> selected.pieceIndex();
+        default -> -1;
+      };
+
+      assertEquals(2, piece);
+    }
+  }
+
+  @Nested
+  class Untyped {
+
+    @Test
+    void shouldConvertEveryType() {
+      assertEquals(new GameEvent.GameStarted(90),
+          new BoardGameEvent(EventType.GAME_STARTED, 90).event());
+      assertEquals(new GameEvent.GameReset(), new BoardGameEvent(EventType.GAME_RESET, null).event());
+      assertEquals(new GameEvent.PlayerAdded(alice),
+          new BoardGameEvent(EventType.PLAYER_ADDED, alice).event());
+      assertEquals(new GameEvent.PlayersLoaded(2),
+          new BoardGameEvent(EventType.PLAYERS_LOADED, List.of("a", "b")).event());
+      assertEquals(new PlayerMoved(alice, 4, 13),
+          new BoardGameEvent(EventType.PLAYER_MOVED, new BoardGame.PlayerMoveData(alice, 4, 13)).event());
+      assertEquals(new GameEvent.PieceSelected(1),
+          new BoardGameEvent(EventType.PIECE_SELECTED, 1).event());
+      assertEquals(new GameEvent.TurnChanged(alice),
+          new BoardGameEvent(EventType.TURN_CHANGED, alice).event());
+      assertEquals(new GameEvent.WinnerDeclared(alice),
+          new BoardGameEvent(EventType.WINNER_DECLARED, alice).event());
+    }
+
+    @Test
+    void shouldReadPayloadsOfTheWrongKindAsMissing() {
+      assertEquals(new PlayerMoved(null, -1, -1),
+          new BoardGameEvent(EventType.PLAYER_MOVED, "nonsense").event());
+      assertEquals(new GameEvent.TurnChanged(null),
+          new BoardGameEvent(EventType.TURN_CHANGED, 3).event());
+      assertEquals(0, ((DiceRolled) new BoardGameEvent(EventType.DICE_ROLLED, null).event()).count());
+    }
+
+    @Test
+    void shouldHaveNoTypedFormWithoutAType() {
+      assertNull(new BoardGameEvent(null, null).event());
+    }
+  }
+
+  @Nested
+  class Dice {
+
+    @Test
+    void shouldPackDieValues() {
+      DiceRolled dice = DiceRolled.of(List.of(6, 2));
+
+      assertEquals(2, dice.count());
+      assertEquals(6, dice.die(0));
+      assertEquals(2, dice.die(1));
+      assertEquals(8, dice.sum());
+      assertEquals(List.of(6, 2), dice.values());
+    }
+
+    @Test
+    void shouldRejectRollsThatDoNotFit() {
+      assertThrows(ValidationException.class, () -> DiceRolled.of(List.of(1, 2, 3, 4, 5, 6, 1)));
+      assertThrows(ValidationException.class, () -> DiceRolled.of(List.of(9)));
+    }
+  }
+}
@@ -0,0 +1,134 @@
+package edu.games.engine.observer;
+
+import edu.games.engine.exception.ValidationException;
+import edu.games.engine.observer.BoardGameEvent.EventType;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ObserverIndexTest {
+
+  private final ObserverIndex index = new ObserverIndex();
+
+  private static BoardGameEvent event(EventType type, Object data) {
+    return new BoardGameEvent(type, data);
+  }
+
+  @Nested
+  class ByType {
+
+    @Test
+    void shouldOnlyDeliverTheTypesAnObserverAskedFor() {
+      BoardGameObserver rolls = mock(BoardGameObserver.class);
+      BoardGameObserver all = mock(BoardGameObserver.class);
+      index.add(rolls, Set.of(EventType.DICE_ROLLED), null);
+      index.add(all);
+
+      BoardGameEvent roll = event(EventType.DICE_ROLLED, List.of(3));
+      BoardGameEvent turn = event(EventType.TURN_CHANGED, null);
+      index.publish(roll);
+      index.publish(turn);
+
+      verify(rolls).update(roll);
+      verify(rolls, never()).update(turn);
+      verify(all).update(roll);
+      verify(all).update(turn);
+    }
+
+    @Test
+    void shouldKnowWhichTypesAreWanted() {
+      index.add(mock(BoardGameObserver.class),
+          EnumSet.of(EventType.GAME_STARTED, EventType.WINNER_DECLARED), null);
+
+      assertTrue(index.wants(EventType.GAME_STARTED));
+      assertTrue(index.wants(EventType.WINNER_DECLARED));
+      assertFalse(index.wants(EventType.PLAYER_MOVED));
+    }
+
+    @Test
+    void shouldOnlyDeliverEventsWithoutATypeToObserversOfEveryType() {
+      BoardGameObserver rolls = mock(BoardGameObserver.class);
+      BoardGameObserver all = mock(BoardGameObserver.class);
+      index.add(rolls, Set.of(EventType.DICE_ROLLED), null);
+      index.add(all);
+
+      index.publish(event(null, null));
+
+      verifyNoInteractions(rolls);
+      verify(all).update(any());
+    }
+
+    @Test
+    void shouldNotBeAffectedByChangesToTheGivenSet() {
+      BoardGameObserver observer = mock(BoardGameObserver.class);
+      Set<EventType> types = EnumSet.of(EventType.DICE_ROLLED);
+      index.add(observer, types, null);
+
+      types.add(EventType.TURN_CHANGED);
+      index.publish(event(EventType.TURN_CHANGED, null));
+
+      verifyNoInteractions(observer);
+    }
+
+    @Test
+    void shouldRejectAnEmptySetOfTypes() {
+      BoardGameObserver observer = mock(BoardGameObserver.class);
+
+      assertThrows(ValidationException.class,
+          () -> index.add(observer, EnumSet.noneOf(EventType.class), null));
+      assertTrue(index.isEmpty());
+    }
+  }
+
+  @Test
+  void shouldApplyTheFilterAfterTheType() {
+    BoardGameObserver observer = mock(BoardGameObserver.class);
+    index.add(observer, Set.of(EventType.PIECE_SELECTED), event -> (Integer) event.getData() > 1);
+
+    index.publish(event(EventType.PIECE_SELECTED, 0));
+    index.publish(event(EventType.PIECE_SELECTED, 2));
+    index.publish(event(EventType.GAME_STARTED, 5));
+
+    verify(observer, times(1)).update(any());
+  }
+
+  @Test
+  void shouldRemoveAnObserverFromEveryType() {
+    BoardGameObserver observer = mock(BoardGameObserver.class);
+    index.add(observer, EnumSet.of(EventType.DICE_ROLLED, EventType.TURN_CHANGED), null);
+
+    assertTrue(index.remove(observer));
+    index.publish(event(EventType.DICE_ROLLED, List.of(1)));
+    index.publish(event(EventType.TURN_CHANGED, null));
+
+    verifyNoInteractions(observer);
+    assertFalse(index.wants(EventType.DICE_ROLLED));
+    assertFalse(index.remove(observer));
+    assertTrue(index.isEmpty());
+  }
+
+  @Test
+  void shouldFinishAPublishWhenAnObserverRemovesItself() {
+    List<String> calls = new ArrayList<>();
+    index.add(new BoardGameObserver() {
+      @Override
+      public void update(BoardGameEvent event) {
+        calls.add("first");
+        index.remove(this);
+      }
+    });
+    index.add(event -> calls.add("second"));
+
+    index.publish(event(EventType.GAME_RESET, null));
+    index.publish(event(EventType.GAME_RESET, null));
+
+    assertEquals(List.of("first", "second", "second"), calls);
+  }
+}
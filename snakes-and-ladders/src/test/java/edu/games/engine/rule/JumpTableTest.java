@@ -0,0 +1,106 @@
+package edu.games.engine.rule;
+
+import edu.games.engine.exception.ValidationException;
+import edu.ntnu.idatt2003.persistence.BoardAdapter;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JumpTableTest {
+
+  @Nested
+  class Resolution {
+
+    @Test
+    void shouldResolveSnakesAndLadders() {
+      JumpTable table = JumpTable.compile(20, Map.of(16, 6), Map.of(2, 18));
+
+      assertEquals(6, table.resolve(16));
+      assertEquals(18, table.resolve(2));
+      assertTrue(table.hasJump(16));
+    }
+
+    @Test
+    void shouldLeavePlainTilesInPlace() {
+      JumpTable table = JumpTable.compile(20, Map.of(16, 6), Map.of(2, 18));
+
+      assertEquals(10, table.resolve(10));
+      assertFalse(table.hasJump(10));
+    }
+
+    @Test
+    void shouldTreatTilesOutsideTableAsPlain() {
+      JumpTable table = JumpTable.compile(20, Map.of(), Map.of());
+
+      assertEquals(99, table.resolve(99));
+      assertEquals(-1, table.resolve(-1));
+    }
+
+    @Test
+    void shouldResolveChainedJumpsUpFront() {
+      // Ladder 3 -> 12 lands on snake 12 -> 5, which lands on ladder 5 -> 15
+      JumpTable table = JumpTable.compile(20, Map.of(12, 5), Map.of(3, 12, 5, 15));
+
+      assertEquals(15, table.resolve(3));
+      assertEquals(15, table.resolve(12));
+      assertEquals(15, table.resolve(5));
+    }
+
+    @Test
+    void shouldPreferSnakeWhenTileHasBoth() {
+      JumpTable table = JumpTable.compile(20, Map.of(10, 5), Map.of(10, 15));
+
+      assertEquals(5, table.resolve(10));
+    }
+
+    @Test
+    void shouldCompileFromMapData() {
+      JumpTable table = JumpTable.compile(new BoardAdapter.MapData(30, Map.of(25, 1), Map.of(4, 14)));
+
+      assertEquals(30, table.lastTileId());
+      assertEquals(1, table.resolve(25));
+      assertEquals(14, table.resolve(4));
+    }
+
+    @Test
+    void shouldGrowTableForJumpsPastTheBoard() {
+      JumpTable table = JumpTable.compile(20, Map.of(25, 3), Map.of());
+
+      assertEquals(25, table.lastTileId());
+      assertEquals(3, table.resolve(25));
+    }
+
+    @Test
+    void shouldSizeTableFromJumpsWhenBoardSizeUnknown() {
+      JumpTable table = JumpTable.compile(Map.of(47, 26), Map.of(2, 38));
+
+      assertEquals(47, table.lastTileId());
+    }
+  }
+
+  @Nested
+  class Validation {
+
+    @Test
+    void shouldRejectCycles() {
+      assertThrows(ValidationException.class,
+          () -> JumpTable.compile(20, Map.of(12, 3), Map.of(3, 12)));
+    }
+
+    @Test
+    void shouldRejectLongerCycles() {
+      assertThrows(ValidationException.class,
+          () -> JumpTable.compile(20, Map.of(15, 4), Map.of(4, 10, 10, 15)));
+    }
+
+
+    @Test
+    void shouldRejectNegativeTiles() {
+      assertThrows(ValidationException.class,
+          () -> JumpTable.compile(20, Map.of(5, -1), Map.of()));
+    }
+  }
+}
@@ -1,12 +1,18 @@
 package edu.games.engine.rule;
 
+import edu.games.engine.board.Board;
 import edu.games.engine.board.LudoPath;
 import edu.games.engine.board.Tile;
+import edu.games.engine.dice.Dice;
+import edu.games.engine.exception.RuleViolationException;
+import edu.games.engine.exception.ValidationException;
 import edu.games.engine.impl.DefaultGame;
 import edu.games.engine.model.LudoColor;
+import edu.games.engine.model.LudoState;
 import edu.games.engine.model.Player;
 import edu.games.engine.model.PlayerPiece;
 import edu.games.engine.model.Token;
+import edu.games.engine.strategy.GameStrategy;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -16,6 +22,7 @@ import org.mockito.MockitoAnnotations;
 import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Random;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -289,6 +296,283 @@ class LudoRuleEngineTest {
         }
     }
 
+    @Nested
+    class PackedMoves {
+
+        private final LudoState start = LudoState.initial(List.of(LudoColor.BLUE, LudoColor.RED));
+
+        @Test
+        void shouldOnlyLeaveHomeOnSix() {
+            assertFalse(ruleEngine.canMove(start, 0, 5));
+            assertTrue(ruleEngine.canMove(start, 0, 6));
+
+            LudoState result = ruleEngine.applyMove(start, 0, 6);
+
+            assertEquals(0, result.routeIndex(LudoColor.BLUE, 0));
+            assertEquals(LudoColor.BLUE, result.colorToMove());
+        }
+
+        @Test
+        void shouldPassTurnAfterMoveWithoutSix() {
+            LudoState state = start.withRouteIndex(LudoColor.BLUE, 0, 3);
+
+            LudoState result = ruleEngine.applyMove(state, 0, 4);
+
+            assertEquals(7, result.routeIndex(LudoColor.BLUE, 0));
+            assertEquals(LudoColor.RED, result.colorToMove());
+        }
+
+        @Test
+        void shouldPassTurnWithoutMovingWhenMoveIsImpossible() {
+            LudoState state = start.withRouteIndex(LudoColor.BLUE, 0, LudoPath.FINAL_ROUTE_INDEX);
+
+            assertFalse(ruleEngine.canMove(state, 0, 6));
+            assertEquals(state.nextSide(), ruleEngine.applyMove(state, 0, 6));
+        }
+
+        @Test
+        void shouldBumpOpponentWhenLandingOnIt() {
+            // BLUE route index 20 is tile 21, which is RED route index 7
+            LudoState state = start
+                    .withRouteIndex(LudoColor.BLUE, 0, 17)
+                    .withRouteIndex(LudoColor.RED, 1, 7);
+
+            LudoState result = ruleEngine.applyMove(state, 0, 3);
+
+            assertEquals(LudoState.HOME, result.routeIndex(LudoColor.RED, 1));
+        }
+    }
+
+    @Nested
+    class PackedState {
+
+        private static final List<LudoColor> SEATS = List.of(LudoColor.BLUE, LudoColor.RED);
+
+        @Test
+        void shouldBumpOpponentSharingRingTile() {
+            // BLUE route index 20 is tile 21, which is RED route index 7
+            LudoState state = LudoState.initial(SEATS)
+                    .withRouteIndex(LudoColor.RED, 2, 7)
+                    .withRouteIndex(LudoColor.BLUE, 0, 20);
+
+            LudoState result = ruleEngine.applyBumping(state, LudoColor.BLUE, 0);
+
+            assertEquals(LudoState.HOME, result.routeIndex(LudoColor.RED, 2));
+            assertEquals(20, result.routeIndex(LudoColor.BLUE, 0));
+        }
+
+        @Test
+        void shouldNotBumpOwnPiecesOrPiecesElsewhere() {
+            LudoState state = LudoState.initial(SEATS)
+                    .withRouteIndex(LudoColor.BLUE, 1, 20)
+                    .withRouteIndex(LudoColor.RED, 0, 8)
+                    .withRouteIndex(LudoColor.BLUE, 0, 20);
+
+            assertEquals(state, ruleEngine.applyBumping(state, LudoColor.BLUE, 0));
+        }
+
+        @Test
+        void shouldNotBumpFromGoalLane() {
+            LudoState state = LudoState.initial(SEATS)
+                    .withRouteIndex(LudoColor.BLUE, 0, 53);
+
+            assertSame(state, ruleEngine.applyBumping(state, LudoColor.BLUE, 0));
+        }
+
+        @Test
+        void shouldDetectWinOnPackedState() {
+            LudoState state = LudoState.initial(SEATS);
+            for (int piece = 0; piece < LudoState.PIECES; piece++) {
+                state = state.withRouteIndex(LudoColor.RED, piece, LudoPath.FINAL_ROUTE_INDEX);
+            }
+
+            assertTrue(ruleEngine.hasWon(state, LudoColor.RED));
+            assertFalse(ruleEngine.hasWon(state, LudoColor.BLUE));
+        }
+
+        @Test
+        void shouldRoundTripGameThroughPackedState() {
+            Player blue = createTestPlayer("Blue", Token.BLUE);
+            Player red = createTestPlayer("Red", Token.RED);
+            blue.movePiece(0, ludoPath.ring().get(30));
+            red.movePiece(3, ludoPath.goals().get(LudoColor.RED).get(2));
+            DefaultGame game = new DefaultGame(
+                    mock(Board.class), mock(GameStrategy.class), List.of(blue, red), mock(Dice.class));
+            game.setCurrentPlayerIndex(1);
+
+            LudoState state = ruleEngine.capture(game);
+            blue.movePiece(0, null);
+            red.movePiece(3, null);
+            game.setCurrentPlayerIndex(0);
+            ruleEngine.restore(state, game);
+
+            assertEquals(31, blue.getPiece(0).getCurrentTile().tileId());
+            assertEquals(61, red.getPiece(3).getCurrentTile().tileId());
+            assertTrue(blue.getPiece(1).isAtHome());
+            assertEquals(red, game.currentPlayer());
+        }
+
+        @Test
+        void shouldRejectRestoreIntoDifferentSeating() {
+            DefaultGame game = new DefaultGame(
+                    mock(Board.class), mock(GameStrategy.class),
+                    List.of(createTestPlayer("Red", Token.RED), createTestPlayer("Blue", Token.BLUE)),
+                    mock(Dice.class));
+
+            assertThrows(ValidationException.class,
+                    () -> ruleEngine.restore(LudoState.initial(SEATS), game));
+        }
+    }
+
+    @Nested
+    class MakeUnmake {
+
+        private Player blue;
+        private Player red;
+        private DefaultGame game;
+
+        @BeforeEach
+        void setUpGame() {
+            blue = createTestPlayer("Blue", Token.BLUE);
+            red = createTestPlayer("Red", Token.RED);
+            game = new DefaultGame(
+                    mock(Board.class), mock(GameStrategy.class), List.of(blue, red), mock(Dice.class));
+        }
+
+        @Test
+        void shouldMoveLikePackedMoveAndUndoExactly() {
+            blue.movePiece(0, ludoPath.ring().get(3));
+            LudoState before = ruleEngine.capture(game);
+
+            long undo = ruleEngine.makeMove(game, 0, 4);
+
+            assertEquals(ruleEngine.applyMove(before, 0, 4), ruleEngine.capture(game));
+            assertTrue(MoveUndo.moved(undo));
+            assertEquals(3, MoveUndo.fromRouteIndex(undo));
+            assertEquals(red, game.currentPlayer());
+
+            ruleEngine.unmakeMove(game, undo);
+
+            assertEquals(before, ruleEngine.capture(game));
+            assertSame(ludoPath.ring().get(3), blue.getPiece(0).getCurrentTile());
+        }
+
+        @Test
+        void shouldRecordAndRestoreBumpedPieces() {
+            // BLUE route index 20 is tile 21, which is RED route index 7
+            Tile shared = ludoPath.tileAt(LudoColor.RED, 7);
+            blue.movePiece(0, ludoPath.tileAt(LudoColor.BLUE, 17));
+            red.movePiece(1, shared);
+            red.movePiece(2, shared);
+
+            long undo = ruleEngine.makeMove(game, 0, 3);
+
+            assertTrue(red.getPiece(1).isAtHome());
+            assertTrue(red.getPiece(2).isAtHome());
+            assertEquals(2, MoveUndo.bumpedCount(undo));
+            assertEquals(0b0110_0000, MoveUndo.bumpedMask(undo));
+
+            ruleEngine.unmakeMove(game, undo);
+
+            assertSame(shared, red.getPiece(1).getCurrentTile());
+            assertSame(shared, red.getPiece(2).getCurrentTile());
+            assertEquals(List.of(blue), game.getOccupancy().occupantsOf(18));
+        }
+
+        @Test
+        void shouldKeepTurnOnSixAndPassOnImpossibleMove() {
+            long six = ruleEngine.makeMove(game, 0, 6);
+            assertEquals(blue, game.currentPlayer());
+            assertEquals(1, blue.getPiece(0).getCurrentTile().tileId());
+
+            long blocked = ruleEngine.makeMove(game, 1, 5);
+            assertFalse(MoveUndo.moved(blocked));
+            assertEquals(red, game.currentPlayer());
+
+            ruleEngine.unmakeMove(game, blocked);
+            ruleEngine.unmakeMove(game, six);
+
+            assertEquals(blue, game.currentPlayer());
+            assertTrue(blue.getPiece(0).isAtHome());
+        }
+
+        @Test
+        void shouldDeclareAndClearWinner() {
+            for (int piece = 0; piece < 3; piece++) {
+                blue.movePiece(piece, ludoPath.tileAt(LudoColor.BLUE, LudoPath.FINAL_ROUTE_INDEX));
+            }
+            blue.movePiece(3, ludoPath.tileAt(LudoColor.BLUE, 54));
+
+            long undo = ruleEngine.makeMove(game, 3, 3);
+
+            assertTrue(MoveUndo.won(undo));
+            assertEquals(blue, game.getWinner().orElseThrow());
+            assertThrows(RuleViolationException.class, () -> ruleEngine.makeMove(game, 0, 1));
+
+            ruleEngine.unmakeMove(game, undo);
+
+            assertTrue(game.getWinner().isEmpty());
+            assertEquals(blue, game.currentPlayer());
+        }
+
+        @Test
+        void shouldRestoreStartAfterUnwindingLongLine() {
+            Random random = new Random(5);
+            LudoState start = ruleEngine.capture(game);
+            long[] undos = new long[500];
+            int made = 0;
+            while (made < undos.length && game.getWinner().isEmpty()) {
+                int roll = 1 + random.nextInt(6);
+                LudoState expected = ruleEngine.applyMove(ruleEngine.capture(game), made % LudoState.PIECES, roll);
+                undos[made] = ruleEngine.makeMove(game, made % LudoState.PIECES, roll);
+                assertEquals(expected, ruleEngine.capture(game));
+                assertEquals(ruleEngine.hash(expected), game.positionHash());
+                made++;
+            }
+            while (made > 0) {
+                ruleEngine.unmakeMove(game, undos[--made]);
+            }
+
+            assertEquals(start, ruleEngine.capture(game));
+            assertEquals(ruleEngine.hash(start), game.positionHash());
+        }
+
+        @Test
+        void shouldHashSamePositionReachedByDifferentMoveOrders() {
+            blue.movePiece(0, ludoPath.tileAt(LudoColor.BLUE, 4));
+            blue.movePiece(1, ludoPath.tileAt(LudoColor.BLUE, 9));
+            long first = game.positionHash();
+
+            blue.movePiece(0, null);
+            blue.movePiece(1, null);
+            blue.movePiece(1, ludoPath.tileAt(LudoColor.BLUE, 9));
+            blue.movePiece(0, ludoPath.tileAt(LudoColor.BLUE, 4));
+
+            assertEquals(first, game.positionHash());
+            game.setCurrentPlayerIndex(1);
+            assertNotEquals(first, game.positionHash());
+        }
+
+        @Test
+        void shouldAgreeWithPackedStateOnWhichPiecesCanMove() {
+            blue.movePiece(0, ludoPath.tileAt(LudoColor.BLUE, 4));
+            blue.movePiece(1, ludoPath.tileAt(LudoColor.BLUE, LudoPath.FINAL_ROUTE_INDEX));
+            LudoState state = ruleEngine.capture(game);
+
+            for (int roll = 1; roll <= 6; roll++) {
+                for (int piece = 0; piece < LudoState.PIECES; piece++) {
+                    assertEquals(ruleEngine.canMove(state, piece, roll),
+                            ruleEngine.canMove(game, piece, roll));
+                }
+            }
+        }
+
+        @Test
+        void shouldRejectInvalidPiece() {
+            assertThrows(ValidationException.class, () -> ruleEngine.makeMove(game, 4, 6));
+        }
+    }
+
     private Player createTestPlayer(String name, Token token) {
         return new Player(name, token, LocalDate.of(1990, 1, 1));
     }
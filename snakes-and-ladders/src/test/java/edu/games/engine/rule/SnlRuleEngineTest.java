@@ -2,8 +2,10 @@ package edu.games.engine.rule;
 
 import edu.games.engine.board.LinearBoard;
 import edu.games.engine.board.Tile;
+import edu.games.engine.dice.PackedRoll;
 import edu.games.engine.impl.DefaultGame;
 import edu.games.engine.model.Player;
+import edu.games.engine.model.TileOccupancy;
 import edu.games.engine.model.Token;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
@@ -28,10 +30,13 @@ class SnlRuleEngineTest {
 
     @Mock
     private DefaultGame mockGame;
+    private TileOccupancy gameOccupancy;
 
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
+        gameOccupancy = new TileOccupancy();
+        when(mockGame.getOccupancy()).thenReturn(gameOccupancy);
 
         snakes = new HashMap<>();
         snakes.put(16, 6); // Snake from 16 to 6
@@ -110,6 +115,31 @@ class SnlRuleEngineTest {
         }
     }
 
+    @Nested
+    class PackedExtraTurnRules {
+
+        @Test
+        void shouldGrantExtraTurnForPackedDouble() {
+            int packed = PackedRoll.pack(new int[] {3, 3}, 2);
+
+            assertTrue(ruleEngine.grantsExtraTurn(null, packed, mockGame));
+        }
+
+        @Test
+        void shouldNotGrantExtraTurnForPackedDoubleSixes() {
+            int packed = PackedRoll.pack(new int[] {6, 6}, 2);
+
+            assertFalse(ruleEngine.grantsExtraTurn(null, packed, mockGame));
+        }
+
+        @Test
+        void shouldNotGrantExtraTurnForPackedNonDouble() {
+            int packed = PackedRoll.pack(new int[] {2, 5}, 2);
+
+            assertFalse(ruleEngine.grantsExtraTurn(null, packed, mockGame));
+        }
+    }
+
     @Nested
     class PostLandingEffectsWithRealBoard {
 
@@ -125,6 +155,7 @@ class SnlRuleEngineTest {
             currentPlayer = createTestPlayer("Current", Token.BLUE);
             opponentPlayer = createTestPlayer("Opponent", Token.RED);
             allPlayers = Arrays.asList(currentPlayer, opponentPlayer);
+            allPlayers.forEach(gameOccupancy::track);
 
             when(mockGame.getBoard()).thenReturn(realBoard);
             when(mockGame.getPlayers()).thenReturn(allPlayers);
@@ -196,6 +227,56 @@ class SnlRuleEngineTest {
         }
     }
 
+    @Nested
+    class BumpingWithOccupancyIndex {
+
+        private LinearBoard realBoard;
+        private TileOccupancy occupancy;
+        private Player currentPlayer;
+
+        @BeforeEach
+        void setUp() {
+            realBoard = new LinearBoard(100);
+            occupancy = new TileOccupancy();
+            currentPlayer = createTestPlayer("Current", Token.BLUE);
+            occupancy.track(currentPlayer);
+
+            when(mockGame.getBoard()).thenReturn(realBoard);
+            when(mockGame.getOccupancy()).thenReturn(occupancy);
+        }
+
+        @Test
+        void shouldBumpEveryOpponentOnLandingTile() {
+            Player first = createTestPlayer("First", Token.RED);
+            Player second = createTestPlayer("Second", Token.GREEN);
+            occupancy.track(first);
+            occupancy.track(second);
+            first.moveTo(realBoard.tile(20));
+            second.moveTo(realBoard.tile(20));
+            currentPlayer.moveTo(realBoard.tile(20));
+
+            ruleEngine.applyPostLandingEffects(currentPlayer, null, realBoard.tile(20), mockGame);
+
+            assertEquals(realBoard.start(), first.getCurrentTile());
+            assertEquals(realBoard.start(), second.getCurrentTile());
+            assertEquals(List.of(currentPlayer), occupancy.occupantsOf(20));
+            verify(mockGame, never()).getPlayers();
+        }
+
+        @Test
+        void shouldBumpOpponentOnLadderTop() {
+            Player opponent = createTestPlayer("Opponent", Token.RED);
+            occupancy.track(opponent);
+            opponent.moveTo(realBoard.tile(38));
+            currentPlayer.moveTo(realBoard.tile(2));
+
+            ruleEngine.applyPostLandingEffects(currentPlayer, null, realBoard.tile(2), mockGame);
+
+            assertEquals(38, currentPlayer.getCurrentTile().tileId());
+            assertEquals(realBoard.start(), opponent.getCurrentTile());
+        }
+    }
+
     @Nested
     class PostLandingEffectsWithBehaviorVerification {
 
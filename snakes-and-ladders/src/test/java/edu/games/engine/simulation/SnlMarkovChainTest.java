@@ -0,0 +1,150 @@
+package edu.games.engine.simulation;
+
+import edu.games.engine.exception.ValidationException;
+import edu.ntnu.idatt2003.persistence.BoardAdapter;
+import edu.ntnu.idatt2003.persistence.BoardFactory;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SnlMarkovChainTest {
+
+  private static final double EPS = 1e-9;
+
+  @Nested
+  class Transitions {
+
+    @Test
+    void shouldStayInPlaceOnDoubleSixes() {
+      SnlMarkovChain chain = SnlMarkovChain.of(new BoardAdapter.MapData(30, Map.of(), Map.of()));
+
+      assertEquals(1.0 / 36, chain.transition(5, 5), EPS);
+      assertEquals(6.0 / 36, chain.transition(5, 12), EPS);
+    }
+
+    @Test
+    void shouldFollowLaddersAndClampAtEnd() {
+      SnlMarkovChain chain = SnlMarkovChain.of(new BoardAdapter.MapData(30, Map.of(), Map.of(7, 20)));
+
+      assertEquals(0, chain.transition(0, 7), EPS);
+      assertEquals(6.0 / 36, chain.transition(0, 20), EPS);
+      assertEquals(35.0 / 36, chain.transition(28, 30), EPS);
+    }
+
+    @Test
+    void shouldKeepLastTileAbsorbing() {
+      SnlMarkovChain chain = SnlMarkovChain.of(new BoardAdapter.MapData(30, Map.of(), Map.of()));
+
+      assertEquals(1, chain.transition(30, 30));
+      assertEquals(0, chain.transition(30, 0));
+    }
+  }
+
+  @Nested
+  class Expectations {
+
+    @Test
+    void shouldSolveTrivialBoardInClosedForm() {
+      SnlMarkovChain chain = SnlMarkovChain.of(new BoardAdapter.MapData(2, Map.of(), Map.of()));
+
+      assertEquals(36.0 / 35, chain.expectedRollsFrom()[0], EPS);
+      assertEquals(36.0 / 35, chain.expectedTurnsFrom()[0], EPS);
+    }
+
+    @Test
+    void shouldCountFewerTurnsThanRolls() {
+      MarkovAnalysis analysis = SnlMarkovChain.of(BoardFactory.loadFromClasspath("/boards/board90.json")).analyze();
+
+      assertTrue(analysis.expectedTurns() < analysis.expectedRolls());
+    }
+
+    @Test
+    void shouldMatchVisitsAndDistributionToExpectedRolls() {
+      MarkovAnalysis analysis = SnlMarkovChain.of(BoardFactory.loadFromClasspath("/boards/board90.json")).analyze();
+      double[] visits = analysis.expectedVisits();
+      double[] length = analysis.lengthDistribution();
+
+      double landings = Arrays.stream(visits, 0, visits.length - 1).sum();
+      double mean = 0;
+      for (int rolls = 0; rolls < length.length; rolls++) {
+        mean += rolls * length[rolls];
+      }
+
+      assertEquals(analysis.expectedRolls(), 1 + landings, 1e-6);
+      assertEquals(analysis.expectedRolls(), mean, 1e-6);
+      assertEquals(1, Arrays.stream(length).sum() + analysis.tailProbability(), 1e-9);
+      assertEquals(1, visits[visits.length - 1]);
+    }
+
+    @Test
+    void shouldNeverVisitLadderBottomsOrSnakeHeads() {
+      Map<Integer, Integer> snakes = Map.of(25, 3);
+      Map<Integer, Integer> ladders = Map.of(4, 18);
+      double[] visits = SnlMarkovChain.of(new BoardAdapter.MapData(40, snakes, ladders)).expectedVisits();
+
+      assertEquals(0, visits[4]);
+      assertEquals(0, visits[25]);
+      assertTrue(visits[18] > 0);
+      assertTrue(visits[3] > 0);
+    }
+
+    @Test
+    void shouldAgreeWithSeededSimulation() {
+      BoardAdapter.MapData board = BoardFactory.loadFromClasspath("/boards/board90.json");
+      SimulationResult simulated = new SnlSimulator(board).run(20_000, 1, 11L);
+
+      double exact = SnlMarkovChain.of(board).analyze().expectedRolls();
+
+      assertEquals(exact, simulated.meanLength(), exact * 0.03);
+    }
+
+    @Test
+    void shouldSolveLargeBoard() {
+      Map<Integer, Integer> snakes = new HashMap<>();
+      Map<Integer, Integer> ladders = new HashMap<>();
+      for (int tile = 50; tile < 10_000; tile += 97) {
+        snakes.put(tile, tile - 40);
+        ladders.put(tile + 13, tile + 60);
+      }
+
+      MarkovAnalysis analysis =
+          SnlMarkovChain.of(new BoardAdapter.MapData(10_000, snakes, ladders)).analyze();
+
+      assertTrue(analysis.expectedRolls() > 10_000 / 12.0);
+      assertEquals(1, analysis.finishedWithin(analysis.lengthDistribution().length), 1e-9);
+    }
+  }
+
+  @Nested
+  class Validation {
+
+    @Test
+    void shouldRejectBoardThatCannotBeFinished() {
+      assertThrows(ValidationException.class,
+          () -> SnlMarkovChain.of(new BoardAdapter.MapData(10, Map.of(10, 0), Map.of())));
+    }
+
+    @Test
+    void shouldRejectInvalidDistributionBounds() {
+      SnlMarkovChain chain = SnlMarkovChain.of(new BoardAdapter.MapData(10, Map.of(), Map.of()));
+
+      assertThrows(ValidationException.class, () -> chain.lengthDistribution(0, 10));
+      assertThrows(ValidationException.class, () -> chain.lengthDistribution(1e-9, 0));
+    }
+
+    @Test
+    void shouldReportTailWhenRollCapIsHit() {
+      SnlMarkovChain chain = SnlMarkovChain.of(new BoardAdapter.MapData(100, Map.of(), Map.of()));
+
+      SnlMarkovChain.LengthDistribution distribution = chain.lengthDistribution(1e-12, 3);
+
+      assertEquals(4, distribution.probabilities().length);
+      assertEquals(1, distribution.tailProbability(), EPS);
+    }
+  }
+}
@@ -0,0 +1,183 @@
+package edu.games.engine.simulation;
+
+import edu.games.engine.exception.ValidationException;
+import edu.ntnu.idatt2003.persistence.BoardAdapter;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SnlSimulatorTest {
+
+  @Nested
+  class Validation {
+
+    @Test
+    void shouldRejectNonPositiveRollCap() {
+      BoardAdapter.MapData map = new BoardAdapter.MapData(20, Map.of(), Map.of());
+      assertThrows(ValidationException.class, () -> new SnlSimulator(map, 0));
+    }
+
+    @Test
+    void shouldRejectInvalidSeatCount() {
+      SnlSimulator simulator = new SnlSimulator(new BoardAdapter.MapData(20, Map.of(), Map.of()));
+      assertThrows(ValidationException.class, () -> simulator.run(10, 0));
+      assertThrows(ValidationException.class, () -> simulator.run(10, 6));
+    }
+
+    @Test
+    void shouldRejectNegativeGameCount() {
+      SnlSimulator simulator = new SnlSimulator(new BoardAdapter.MapData(20, Map.of(), Map.of()));
+      assertThrows(ValidationException.class, () -> simulator.run(-1, 2));
+    }
+  }
+
+  @Nested
+  class Aggregation {
+
+    @Test
+    void shouldAccountForEveryGame() {
+      SimulationResult result = SnlSimulator.fromClasspath("/boards/board90.json").run(500, 3);
+
+      assertEquals(500, result.gamesPlayed());
+      assertEquals(result.finishedGames(), Arrays.stream(result.lengthHistogram()).sum());
+      assertEquals(result.finishedGames(), Arrays.stream(result.winsBySeat()).sum());
+      assertEquals(3, result.winsBySeat().length);
+      assertTrue(result.meanLength() > 0);
+    }
+
+    @Test
+    void shouldCountSnakesAndLaddersOnRealBoard() {
+      SimulationResult result = SnlSimulator.fromClasspath("/boards/board90.json").run(200, 2);
+
+      assertTrue(result.snakes() > 0);
+      assertTrue(result.ladders() > 0);
+    }
+
+    @Test
+    void shouldNotCountJumpsOnPlainBoard() {
+      SimulationResult result = new SnlSimulator(new BoardAdapter.MapData(30, Map.of(), Map.of()))
+          .run(100, 1);
+
+      assertEquals(0, result.snakes());
+      assertEquals(0, result.ladders());
+      assertEquals(0, result.bumps());
+      assertEquals(1.0, result.winRate(0));
+    }
+
+    @Test
+    void shouldReportUnfinishedGamesWhenRollCapIsHit() {
+      SimulationResult result = new SnlSimulator(new BoardAdapter.MapData(500, Map.of(), Map.of()), 1)
+          .run(50, 2);
+
+      assertEquals(50, result.unfinishedGames());
+      assertEquals(0, result.finishedGames());
+      assertEquals(0, result.meanLength());
+    }
+  }
+
+  @Nested
+  class RolloutsFromPosition {
+
+    private final SnlSimulator simulator = new SnlSimulator(new BoardAdapter.MapData(20, Map.of(), Map.of()));
+
+    @Test
+    void shouldFavourSeatCloseToGoal() {
+      SimulationResult result = simulator.rollouts(new int[] {0, 18}, 0, 400, 3L);
+
+      assertEquals(400, result.gamesPlayed());
+      assertTrue(result.winRate(1) > result.winRate(0));
+    }
+
+    @Test
+    void shouldStartWithGivenSeatToMove() {
+      SimulationResult result = simulator.rollouts(new int[] {18, 18}, 1, 200, 3L);
+
+      assertTrue(result.winRate(1) > result.winRate(0));
+    }
+
+    @Test
+    void shouldBeReproducibleForSameSeed() {
+      SimulationResult first = simulator.rollouts(new int[] {4, 9, 2}, 2, 100, 11L);
+      SimulationResult second = simulator.rollouts(new int[] {4, 9, 2}, 2, 100, 11L);
+
+      assertArrayEquals(first.winsBySeat(), second.winsBySeat());
+      assertArrayEquals(first.lengthHistogram(), second.lengthHistogram());
+    }
+
+    @Test
+    void shouldRejectInvalidPosition() {
+      assertThrows(ValidationException.class, () -> simulator.rollouts(new int[] {0, 21}, 0, 1, 1L));
+      assertThrows(ValidationException.class, () -> simulator.rollouts(new int[] {0, -1}, 0, 1, 1L));
+      assertThrows(ValidationException.class, () -> simulator.rollouts(new int[] {0, 0}, 2, 1, 1L));
+      assertThrows(ValidationException.class, () -> simulator.rollouts(new int[] {0, 0}, 0, -1, 1L));
+    }
+
+    @Test
+    void shouldStopEarlyWhenInterrupted() {
+      Thread.currentThread().interrupt();
+      try {
+        assertEquals(0, simulator.rollouts(new int[] {0, 0}, 0, 100, 1L).gamesPlayed());
+      } finally {
+        Thread.interrupted();
+      }
+    }
+  }
+
+  @Nested
+  class Reproducibility {
+
+    private final SnlSimulator simulator = SnlSimulator.fromClasspath("/boards/board90.json");
+
+    @Test
+    void shouldGiveSameResultForSameSeedRegardlessOfThreadCount() throws Exception {
+      SimulationResult single = runOn(1, () -> simulator.run(300, 3, 2024L));
+      SimulationResult many = runOn(4, () -> simulator.run(300, 3, 2024L));
+
+      assertArrayEquals(single.lengthHistogram(), many.lengthHistogram());
+      assertArrayEquals(single.winsBySeat(), many.winsBySeat());
+      assertEquals(single.snakes(), many.snakes());
+      assertEquals(single.ladders(), many.ladders());
+      assertEquals(single.bumps(), many.bumps());
+    }
+
+    @Test
+    void shouldReplaySingleGameOfBatch() {
+      SimulationResult batch = simulator.run(1, 2, 77L);
+      SimulationResult replay = simulator.replay(77L, 0, 2);
+
+      assertArrayEquals(batch.lengthHistogram(), replay.lengthHistogram());
+      assertArrayEquals(batch.winsBySeat(), replay.winsBySeat());
+    }
+
+    @Test
+    void shouldMatchBatchWhenReplayingEveryGame() {
+      SimulationResult batch = simulator.run(20, 2, 5L);
+      long snakes = 0;
+      for (int game = 0; game < 20; game++) {
+        snakes += simulator.replay(5L, game, 2).snakes();
+      }
+
+      assertEquals(batch.snakes(), snakes);
+    }
+
+    @Test
+    void shouldRejectNegativeGameIndex() {
+      assertThrows(ValidationException.class, () -> simulator.replay(1L, -1, 2));
+    }
+
+    private SimulationResult runOn(int threads, Callable<SimulationResult> task) throws Exception {
+      ForkJoinPool pool = new ForkJoinPool(threads);
+      try {
+        return pool.submit(task).get();
+      } finally {
+        pool.shutdown();
+      }
+    }
+  }
+}
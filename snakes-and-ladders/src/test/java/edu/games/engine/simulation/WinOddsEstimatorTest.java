@@ -0,0 +1,122 @@
+package edu.games.engine.simulation;
+
+import edu.games.engine.exception.ValidationException;
+import edu.ntnu.idatt2003.persistence.BoardAdapter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WinOddsEstimatorTest {
+
+  private final SnlSimulator simulator = new SnlSimulator(new BoardAdapter.MapData(20, Map.of(), Map.of()));
+  private final WinOddsEstimator estimator = new WinOddsEstimator(400, 100, 2);
+
+  @AfterEach
+  void tearDown() {
+    estimator.close();
+  }
+
+  private WinOdds awaitComplete(long generation) throws InterruptedException {
+    long deadline = System.nanoTime() + 10_000_000_000L;
+    WinOdds odds = estimator.latest();
+    while (!(odds.generation() == generation && odds.complete()) && System.nanoTime() < deadline) {
+      Thread.sleep(5);
+      odds = estimator.latest();
+    }
+    return odds;
+  }
+
+  @Nested
+  class Estimates {
+
+    @Test
+    void shouldStartWithNoEstimate() {
+      assertEquals(WinOdds.none(), estimator.latest());
+      assertEquals(0, estimator.latest().seats());
+    }
+
+    @Test
+    void shouldPublishCompleteEstimateSummingToOne() throws InterruptedException {
+      long generation = estimator.submit(simulator, new int[] {0, 18}, 0);
+
+      WinOdds odds = awaitComplete(generation);
+
+      assertTrue(odds.complete());
+      assertEquals(400, odds.rollouts());
+      assertEquals(1.0, odds.probability(0) + odds.probability(1), 1e-9);
+      assertTrue(odds.probability(1) > odds.probability(0));
+    }
+
+    @Test
+    void shouldDecideFinishedPositionWithoutRollouts() {
+      long generation = estimator.submit(simulator, new int[] {3, 20, 7}, 2);
+
+      WinOdds odds = estimator.latest();
+
+      assertEquals(generation, odds.generation());
+      assertTrue(odds.complete());
+      assertArrayEquals(new double[] {0, 1, 0}, odds.probabilities());
+    }
+
+    @Test
+    void shouldRejectInvalidPosition() {
+      assertThrows(ValidationException.class, () -> estimator.submit(simulator, new int[] {0, 99}, 0));
+      assertEquals(WinOdds.none(), estimator.latest());
+    }
+
+    @Test
+    void shouldKeepTheSharedPoolRunningWhenOneEstimatorCloses() throws InterruptedException {
+      WinOddsEstimator closed = new WinOddsEstimator();
+      WinOddsEstimator open = new WinOddsEstimator();
+      closed.close();
+
+      long generation = open.submit(simulator, new int[] {0, 18}, 0);
+      long deadline = System.nanoTime() + 10_000_000_000L;
+      while (!open.latest().complete() && System.nanoTime() < deadline) {
+        Thread.sleep(5);
+      }
+
+      assertEquals(generation, open.latest().generation());
+      assertTrue(open.latest().complete());
+      open.close();
+    }
+
+    @Test
+    void shouldRejectNonPositiveSettings() {
+      assertThrows(ValidationException.class, () -> new WinOddsEstimator(0, 1, 1));
+      assertThrows(ValidationException.class, () -> new WinOddsEstimator(1, 0, 1));
+      assertThrows(ValidationException.class, () -> new WinOddsEstimator(1, 1, 0));
+    }
+  }
+
+  @Nested
+  class StaleWork {
+
+    @Test
+    void shouldOnlyPublishNewestGeneration() throws InterruptedException {
+      long first = estimator.submit(simulator, new int[] {0, 0}, 0);
+      long second = estimator.submit(simulator, new int[] {0, 19}, 0);
+
+      WinOdds odds = awaitComplete(second);
+
+      assertTrue(second > first);
+      assertEquals(second, odds.generation());
+      assertEquals(400, odds.rollouts());
+      Thread.sleep(50);
+      assertEquals(second, estimator.latest().generation());
+    }
+
+    @Test
+    void shouldClearEstimate() throws InterruptedException {
+      awaitComplete(estimator.submit(simulator, new int[] {0, 0}, 0));
+
+      estimator.clear();
+
+      assertEquals(WinOdds.none(), estimator.latest());
+    }
+  }
+}
@@ -254,6 +254,62 @@ class LudoGameStrategyTest {
         }
     }
 
+    @Nested
+    class PlayingAMove {
+
+        private Player alice;
+        private Player bob;
+        private Tile destination;
+        private LudoGameStrategy spied;
+
+        @BeforeEach
+        void setUp() {
+            alice = createTestPlayer("Alice", Token.BLUE);
+            bob = createTestPlayer("Bob", Token.RED);
+            destination = mock(Tile.class);
+            when(destination.tileId()).thenReturn(12);
+            when(mockGame.getPlayers()).thenReturn(Arrays.asList(alice, bob));
+            spied = spy(strategy);
+        }
+
+        @Test
+        void shouldPassTheTurnWhenThePieceCannotMove() {
+            doReturn(null).when(spied).movePiece(alice, 0, 3, mockGame);
+
+            MoveResult result = spied.playMove(alice, 0, 3, mockGame);
+
+            assertFalse(result.moved());
+            verify(mockGame).setCurrentPlayerIndex(1);
+            verify(mockRuleEngine, never()).applyPostLandingEffects(any(), any(), any(), any());
+        }
+
+        @Test
+        void shouldMoveApplyRulesAndKeepTheTurnOnAnExtraTurn() {
+            doReturn(destination).when(spied).movePiece(alice, 0, 6, mockGame);
+            doReturn(true).when(spied).processDiceRoll(alice, 6, mockGame);
+
+            MoveResult result = spied.playMove(alice, 0, 6, mockGame);
+
+            assertTrue(result.moved());
+            assertTrue(result.extraTurn());
+            assertSame(destination, alice.getPiece(0).getCurrentTile());
+            verify(mockRuleEngine).applyPostLandingEffects(alice, alice.getPiece(0), destination, mockGame);
+            verify(mockGame, never()).setCurrentPlayerIndex(anyInt());
+        }
+
+        @Test
+        void shouldReportAWinAndPassTheTurn() {
+            doReturn(destination).when(spied).movePiece(bob, 1, 2, mockGame);
+            doReturn(false).when(spied).processDiceRoll(bob, 2, mockGame);
+            when(mockRuleEngine.hasWon(bob, mockGame)).thenReturn(true);
+
+            MoveResult result = spied.playMove(bob, 1, 2, mockGame);
+
+            assertTrue(result.won());
+            verify(mockGame).setCurrentPlayerIndex(0);
+        }
+    }
+
     @Nested
     class WinConditionChecking {
 
@@ -3,6 +3,8 @@ package edu.games.engine.strategy;
 import edu.games.engine.board.Board;
 import edu.games.engine.board.Tile;
 import edu.games.engine.dice.Dice;
+import edu.games.engine.dice.PackedRoll;
+import edu.games.engine.dice.PrimitiveDice;
 import edu.games.engine.impl.DefaultGame;
 import edu.games.engine.model.Player;
 import edu.games.engine.model.PlayerPiece;
@@ -134,6 +136,22 @@ class SnlGameStrategyTest {
 
             assertFalse(result);
         }
+
+        @Test
+        void shouldUsePackedRollForPrimitiveDice() {
+            Player player = createTestPlayer("Carol", Token.GREEN);
+            PrimitiveDice primitiveDice = mock(PrimitiveDice.class);
+            int packed = PackedRoll.pack(new int[] {2, 2}, 2);
+            when(primitiveDice.getDiceCount()).thenReturn(2);
+            when(primitiveDice.lastPacked()).thenReturn(packed);
+            when(mockGame.getDice()).thenReturn(primitiveDice);
+            when(mockRuleEngine.grantsExtraTurn(player, packed, mockGame)).thenReturn(true);
+
+            boolean result = strategy.processDiceRoll(player, 4, mockGame);
+
+            assertTrue(result);
+            verify(primitiveDice, never()).lastValues();
+        }
     }
 
     @Nested
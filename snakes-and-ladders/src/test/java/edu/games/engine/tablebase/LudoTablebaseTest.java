@@ -0,0 +1,188 @@
+package edu.games.engine.tablebase;
+
+import edu.games.engine.ai.TablebaseLudoBot;
+import edu.games.engine.board.LudoPath;
+import edu.games.engine.exception.StorageException;
+import edu.games.engine.exception.ValidationException;
+import edu.games.engine.model.LudoColor;
+import edu.games.engine.model.LudoState;
+import edu.games.engine.rule.LudoRuleEngine;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LudoTablebaseTest {
+
+  private static final List<LudoColor> SEATS = List.of(LudoColor.BLUE, LudoColor.RED);
+  private static final double QUANTUM = 1.0 / 65535;
+  private static final LudoPath PATH = new LudoPath();
+  private static final LudoRuleEngine RULES = new LudoRuleEngine(PATH);
+
+  private static Path dir;
+  private static LudoTablebase tablebase;
+
+  @BeforeAll
+  static void generate(@TempDir Path tempDir) {
+    dir = tempDir;
+    Path file = dir.resolve("blue-red-1.ltb");
+    new LudoTablebaseGenerator(PATH, SEATS, 1).generate(file);
+    tablebase = LudoTablebase.open(file);
+  }
+
+  /** Finishes every piece of a color except the ones listed. */
+  private static LudoState endgame(int blue, int red, int sideToMove) {
+    LudoState state = LudoState.initial(SEATS).withSideToMove(sideToMove);
+    for (int piece = 1; piece < LudoState.PIECES; piece++) {
+      state = state
+          .withRouteIndex(LudoColor.BLUE, piece, LudoPath.FINAL_ROUTE_INDEX)
+          .withRouteIndex(LudoColor.RED, piece, LudoPath.FINAL_ROUTE_INDEX);
+    }
+    return state.withRouteIndex(LudoColor.BLUE, 0, blue).withRouteIndex(LudoColor.RED, 0, red);
+  }
+
+  @Nested
+  class Lookups {
+
+    @Test
+    void shouldDescribeItsContents() {
+      assertEquals(SEATS, tablebase.seats());
+      assertEquals(1, tablebase.maxPieces());
+      assertEquals(2 * 58 * 58, tablebase.size());
+    }
+
+    @Test
+    void shouldWinForSureOneStepFromGoal() {
+      assertEquals(1.0, tablebase.winProbability(endgame(56, 10, 0)), QUANTUM);
+    }
+
+    @Test
+    void shouldMatchHandSolvedRace() {
+      // BLUE wins on any roll but a one, after which RED cannot miss
+      assertEquals(5.0 / 6, tablebase.winProbability(endgame(55, 56, 0)), QUANTUM);
+      assertEquals(1.0, tablebase.winProbability(endgame(55, 56, 1)), QUANTUM);
+    }
+
+    @Test
+    void shouldSatisfyBellmanEquationFromFile() {
+      SplittableRandom random = new SplittableRandom(11);
+      for (int i = 0; i < 200; i++) {
+        LudoState state = endgame(random.nextInt(-1, 57), random.nextInt(-1, 57), random.nextInt(2));
+        double expected = 0;
+        for (int roll = 1; roll <= 6; roll++) {
+          expected += bestAfterRoll(state, roll) / 6;
+        }
+        assertEquals(expected, tablebase.winProbability(state), 2 * QUANTUM);
+      }
+    }
+
+    private double bestAfterRoll(LudoState state, int roll) {
+      if (!RULES.canMove(state, 0, roll)) {
+        return 1 - tablebase.winProbability(RULES.applyMove(state, 0, roll));
+      }
+      LudoState next = RULES.applyMove(state, 0, roll);
+      if (RULES.hasWon(next, state.colorToMove())) {
+        return 1;
+      }
+      return next.sideToMove() == state.sideToMove()
+          ? tablebase.winProbability(next)
+          : 1 - tablebase.winProbability(next);
+    }
+
+    @Test
+    void shouldNotCoverOtherPositions() {
+      assertFalse(tablebase.covers(LudoState.initial(SEATS)));
+      assertFalse(tablebase.covers(LudoState.initial(List.of(LudoColor.RED, LudoColor.BLUE))));
+      assertFalse(tablebase.covers(endgame(LudoPath.FINAL_ROUTE_INDEX, 3, 1)));
+      assertThrows(ValidationException.class,
+          () -> tablebase.winProbability(LudoState.initial(SEATS)));
+    }
+  }
+
+  @Nested
+  class TwoPieceEndgames {
+
+    @Test
+    void shouldRankEveryPairOfPlacesUniquely() {
+      int states = LudoTablebase.colorStates(2);
+      boolean[] seen = new boolean[states];
+      for (int low = 0; low < LudoTablebase.PLACES; low++) {
+        seen[LudoTablebase.rank(1, low, 0)] = true;
+        for (int high = low; high < LudoTablebase.PLACES; high++) {
+          int rank = LudoTablebase.rank(2, low, high);
+          assertFalse(seen[rank]);
+          seen[rank] = true;
+        }
+      }
+
+      for (boolean used : seen) {
+        assertTrue(used);
+      }
+      assertEquals(2 * states * states, LudoTablebase.entryCount(2));
+    }
+  }
+
+  @Nested
+  class Bot {
+
+    @Test
+    void shouldPreferBumpThatSavesTheGame() {
+      // BLUE route index 20 is tile 21, which is RED route index 7
+      LudoState state = endgame(17, 7, 0)
+          .withRouteIndex(LudoColor.BLUE, 1, 50)
+          .withRouteIndex(LudoColor.RED, 1, LudoPath.FINAL_ROUTE_INDEX);
+      TablebaseLudoBot bot = new TablebaseLudoBot(RULES, tablebase, (s, roll) -> 3);
+
+      assertEquals(3, bot.choosePiece(state, 3));
+      assertEquals(0, bot.choosePiece(endgame(17, 7, 0), 3));
+    }
+
+    @Test
+    void shouldTakeWinningMove() {
+      TablebaseLudoBot bot = new TablebaseLudoBot(RULES, tablebase, (s, roll) -> 3);
+
+      assertEquals(0, bot.choosePiece(endgame(54, 56, 0), 4));
+    }
+  }
+
+  @Nested
+  class FileFormat {
+
+    @Test
+    void shouldRejectForeignFile() throws IOException {
+      Path file = Files.write(dir.resolve("junk.ltb"), new byte[64]);
+
+      assertThrows(StorageException.class, () -> LudoTablebase.open(file));
+    }
+
+    @Test
+    void shouldRejectTruncatedFile() throws IOException {
+      byte[] header = Files.readAllBytes(dir.resolve("blue-red-1.ltb"));
+      Path file = Files.write(dir.resolve("short.ltb"), Arrays.copyOf(header, 100));
+
+      assertThrows(StorageException.class, () -> LudoTablebase.open(file));
+    }
+
+    @Test
+    void shouldRejectMissingFile() {
+      assertThrows(StorageException.class, () -> LudoTablebase.open(dir.resolve("missing.ltb")));
+    }
+
+    @Test
+    void shouldRejectInvalidGeneratorSettings() {
+      assertThrows(ValidationException.class,
+          () -> new LudoTablebaseGenerator(PATH, List.of(LudoColor.BLUE), 1));
+      assertThrows(ValidationException.class,
+          () -> new LudoTablebaseGenerator(PATH, SEATS, 3));
+    }
+  }
+}
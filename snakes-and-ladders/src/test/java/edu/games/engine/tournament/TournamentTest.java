@@ -0,0 +1,97 @@
+package edu.games.engine.tournament;
+
+import edu.games.engine.ai.HeuristicLudoBots;
+import edu.games.engine.ai.RandomLudoBot;
+import edu.games.engine.exception.ValidationException;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TournamentTest {
+
+  private static final Entrant RANDOM = new Entrant("random", RandomLudoBot::new);
+  private static final Entrant LEADER =
+      new Entrant("leader", (rules, random) -> HeuristicLudoBots.advanceLeader(rules));
+  private static final Entrant CAPTURE =
+      new Entrant("capture", (rules, random) -> HeuristicLudoBots.captureFirst(rules));
+  private static final Entrant TRAILER =
+      new Entrant("trailer", (rules, random) -> HeuristicLudoBots.advanceTrailer(rules));
+
+  @Nested
+  class Scheduling {
+
+    @Test
+    void shouldPlayEverySeatingEachRound() {
+      Tournament tournament = new Tournament(List.of(RANDOM, LEADER, CAPTURE), 2, 2, 2, 5_000);
+
+      TournamentResult result = tournament.run(1L);
+
+      assertEquals(6, tournament.gamesPerRound());
+      assertEquals(12, result.gamesPlayed());
+      assertEquals(2, result.rounds());
+      result.standings().forEach(rating -> assertEquals(8, rating.games()));
+    }
+
+    @Test
+    void shouldCountEveryFinishedGameAsOneWin() {
+      TournamentResult result = new Tournament(List.of(RANDOM, LEADER, CAPTURE, TRAILER), 4, 1, 1, 5_000).run(3L);
+
+      long wins = result.standings().stream().mapToLong(Rating::wins).sum();
+      assertEquals(24, result.gamesPlayed());
+      assertEquals(result.gamesPlayed() - result.unfinishedGames(), wins);
+    }
+
+    @Test
+    void shouldGiveSameResultRegardlessOfThreadCount() {
+      Tournament tournament = new Tournament(List.of(RANDOM, LEADER, CAPTURE), 3, 3, 3, 5_000);
+
+      TournamentResult single = tournament.run(42L, new ForkJoinPool(1), 1);
+      TournamentResult many = tournament.run(42L, new ForkJoinPool(4), 1);
+
+      assertEquals(single.standings(), many.standings());
+    }
+  }
+
+  @Nested
+  class Ratings {
+
+    @Test
+    void shouldRankStrongerPolicyFirstAndStopEarly() {
+      Entrant idle = new Entrant("idle", (rules, random) -> (state, roll) -> 0);
+      Tournament tournament = new Tournament(List.of(idle, CAPTURE), 2, 200, 2, 2_000);
+
+      TournamentResult result = tournament.run(7L);
+
+      assertEquals("capture", result.leader().name());
+      assertTrue(result.settled());
+      assertTrue(result.rounds() < 200);
+      assertTrue(result.leader().clearlyAbove(result.standings().get(1)));
+    }
+
+    @Test
+    void shouldCenterRatingsOnZero() {
+      TournamentResult result = new Tournament(List.of(RANDOM, LEADER, TRAILER), 2, 3, 3, 5_000).run(9L);
+
+      double total = result.standings().stream().mapToDouble(Rating::elo).sum();
+      assertEquals(0, total, 1e-6);
+      result.standings().forEach(r -> assertTrue(r.lower() < r.elo() && r.elo() < r.upper()));
+    }
+  }
+
+  @Nested
+  class Validation {
+
+    @Test
+    void shouldRejectInvalidSetup() {
+      assertThrows(ValidationException.class, () -> new Tournament(List.of(RANDOM), 2, 1, 1, 10));
+      assertThrows(ValidationException.class, () -> new Tournament(List.of(RANDOM, LEADER), 5, 1, 1, 10));
+      assertThrows(ValidationException.class, () -> new Tournament(List.of(RANDOM, RANDOM), 2, 1, 1, 10));
+      assertThrows(ValidationException.class, () -> new Tournament(List.of(RANDOM, LEADER), 2, 1, 2, 10));
+      assertThrows(ValidationException.class, () -> new Entrant(" ", RandomLudoBot::new));
+    }
+  }
+}
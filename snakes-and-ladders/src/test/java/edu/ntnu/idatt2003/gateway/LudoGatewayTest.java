@@ -1,20 +1,33 @@
 package edu.ntnu.idatt2003.gateway;
 
+import edu.games.engine.ai.ExpectimaxLudoBot;
+import edu.games.engine.board.LudoPath;
+import edu.games.engine.board.Tile;
 import edu.games.engine.dice.factory.DiceFactory;
 import edu.games.engine.exception.ValidationException;
 import edu.games.engine.impl.overlay.OverlayProvider;
+import edu.games.engine.model.LudoColor;
+import edu.games.engine.model.LudoState;
 import edu.games.engine.observer.BoardGameEvent;
 import edu.games.engine.observer.BoardGameObserver;
+import edu.games.engine.observer.GameEvent;
+import edu.games.engine.rule.LudoRuleEngine;
 import edu.games.engine.store.PlayerStore;
+import edu.ntnu.idatt2003.gateway.event.PlayerMoveData;
 import edu.ntnu.idatt2003.gateway.view.PlayerView;
+import edu.ntnu.idatt2003.model.dto.GameStateDTO;
+import edu.ntnu.idatt2003.model.dto.PlayerDTO;
+import edu.ntnu.idatt2003.model.dto.PlayerStateDTO;
 import edu.ntnu.idatt2003.persistence.BoardAdapter;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
+import java.nio.file.Path;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
@@ -303,6 +316,27 @@ class LudoGatewayTest {
             verify(mockObserver, atLeastOnce()).update(eventCaptor.capture());
         }
 
+        @Test
+        void shouldPublishTheTilesOfAMove() {
+            when(mockDice.roll()).thenReturn(6);
+            when(mockDice.lastValues()).thenReturn(List.of(6));
+            gateway.rollDice();
+            gateway.addObserver(mockObserver);
+
+            gateway.applyPieceMovement();
+
+            ArgumentCaptor<BoardGameEvent> eventCaptor = ArgumentCaptor.forClass(BoardGameEvent.class);
+            verify(mockObserver, atLeastOnce()).update(eventCaptor.capture());
+            BoardGameEvent moved = eventCaptor.getAllValues().stream()
+                    .filter(event -> event.getTypeOfEvent() == BoardGameEvent.EventType.PLAYER_MOVED)
+                    .findFirst()
+                    .orElseThrow();
+            PlayerMoveData move = (PlayerMoveData) moved.getData();
+            assertNull(move.getFrom());
+            assertInstanceOf(Tile.class, move.getTo());
+            assertEquals(new GameEvent.PlayerMoved(move.getPlayer(), -1, move.getToTileId()), moved.event());
+        }
+
         @Test
         void shouldReturnZeroWhenApplyingMovementWithoutGame() {
             LudoGateway gatewayWithoutGame = new LudoGateway(mockDiceFactory, mockPlayerStore, mockOverlayProvider);
@@ -397,6 +431,95 @@ class LudoGatewayTest {
         }
     }
 
+    @Nested
+    class PackedStateSnapshots {
+
+        @BeforeEach
+        void setUp() {
+            gateway.newGame(0);
+            gateway.addPlayer("Alice", "BLUE", LocalDate.of(1990, 1, 1));
+            gateway.addPlayer("Bob", "RED", LocalDate.of(1990, 2, 2));
+        }
+
+        @Test
+        void shouldRestoreSnapshotPositionsAndTurn() {
+            LudoState state = gateway.snapshotState()
+                    .withRouteIndex(LudoColor.RED, 1, 4)
+                    .withSideToMove(1);
+
+            gateway.restoreState(state);
+
+            assertEquals("Bob", gateway.currentPlayerName());
+            assertEquals(List.of(0, 18, 0, 0), gateway.players().get(1).piecePositions());
+            assertEquals(state, gateway.snapshotState());
+        }
+
+        @Test
+        void shouldDeclareWinnerFromRestoredSnapshot() {
+            LudoState state = gateway.snapshotState();
+            for (int piece = 0; piece < LudoState.PIECES; piece++) {
+                state = state.withRouteIndex(LudoColor.BLUE, piece, LudoPath.FINAL_ROUTE_INDEX);
+            }
+            gateway.addObserver(mockObserver);
+
+            gateway.restoreState(state);
+
+            assertTrue(gateway.hasWinner());
+            ArgumentCaptor<BoardGameEvent> eventCaptor = ArgumentCaptor.forClass(BoardGameEvent.class);
+            verify(mockObserver, times(2)).update(eventCaptor.capture());
+            assertEquals(BoardGameEvent.EventType.WINNER_DECLARED, eventCaptor.getValue().getTypeOfEvent());
+        }
+
+        @Test
+        void shouldThrowWhenSnapshottingWithoutGame() {
+            LudoGateway gatewayWithoutGame = new LudoGateway(mockDiceFactory, mockPlayerStore, mockOverlayProvider);
+
+            assertThrows(NullPointerException.class, gatewayWithoutGame::snapshotState);
+        }
+    }
+
+    @Nested
+    class BotSelection {
+
+        @BeforeEach
+        void setUp() {
+            gateway.newGame(0);
+            gateway.addPlayer("Alice", "BLUE", LocalDate.of(1990, 1, 1));
+            gateway.addPlayer("Bob", "RED", LocalDate.of(1990, 2, 2));
+        }
+
+        @Test
+        void shouldNotDecideBeforeRoll() {
+            assertEquals(-1, gateway.selectPieceWith((state, roll) -> 2));
+        }
+
+        @Test
+        void shouldSelectPieceChosenByBot() {
+            gateway.restoreState(gateway.snapshotState().withRouteIndex(LudoColor.BLUE, 2, 10));
+            gateway.rollDice();
+
+            int piece = gateway.selectPieceWith(new ExpectimaxLudoBot(new LudoRuleEngine(new LudoPath()), 5));
+
+            assertEquals(2, piece);
+            assertEquals(2, gateway.players().get(0).activePieceIndex());
+        }
+
+        @Test
+        void shouldMatchPackedMoveWhenApplied() {
+            LudoRuleEngine rules = new LudoRuleEngine(new LudoPath());
+            LudoState state = gateway.snapshotState()
+                    .withRouteIndex(LudoColor.BLUE, 1, 16)
+                    .withRouteIndex(LudoColor.RED, 3, 7);
+            gateway.restoreState(state);
+            gateway.rollDice();
+
+            gateway.selectPieceWith((s, roll) -> 1);
+            gateway.applyPieceMovement();
+
+            assertEquals(rules.applyMove(state, 1, 4), gateway.snapshotState());
+        }
+    }
+
     @Nested
     class ObserverPattern {
 
@@ -442,4 +565,149 @@ class LudoGatewayTest {
             assertDoesNotThrow(() -> gateway.removeObserver(null));
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    class SaveAndResume {
+
+        @TempDir
+        Path dir;
+
+        private LudoGateway playedGateway() {
+            gateway.newGame(0);
+            gateway.addPlayer("Alice", "BLUE", LocalDate.of(1990, 1, 1));
+            gateway.addPlayer("Bob", "RED", LocalDate.of(1991, 1, 1));
+            when(mockDice.roll()).thenReturn(6);
+            when(mockDice.lastValues()).thenReturn(List.of(6));
+            gateway.rollDice();
+            gateway.selectPiece(0);
+            gateway.applyPieceMovement();
+            gateway.rollDice();
+            gateway.selectPiece(2);
+            return gateway;
+        }
+
+        private LudoGateway freshGateway() {
+            return new LudoGateway(mockDiceFactory, mockPlayerStore, mockOverlayProvider);
+        }
+
+        @Test
+        void shouldResumePiecesTurnAndSelection() {
+            LudoGateway played = playedGateway();
+            LudoGateway resumed = freshGateway();
+
+            resumed.importState(played.exportState());
+
+            assertEquals(played.players(), resumed.players());
+            assertEquals(played.exportState(), resumed.exportState());
+            assertEquals(2, resumed.exportState().selectedPieceIndex());
+            assertEquals(List.of(6), resumed.lastDiceValues());
+            assertEquals("Alice", resumed.currentPlayerName());
+        }
+
+        @Test
+        void shouldContinuePlayingAfterResume() {
+            LudoGateway played = playedGateway();
+            LudoGateway resumed = freshGateway();
+            resumed.importState(played.exportState());
+
+            played.applyPieceMovement();
+            resumed.applyPieceMovement();
+
+            assertEquals(played.players(), resumed.players());
+        }
+
+        @Test
+        void shouldRoundTripThroughJsonAndBinaryFiles() {
+            LudoGateway played = playedGateway();
+            for (String name : List.of("game.json", "game.sav")) {
+                Path file = dir.resolve(name);
+                played.saveGame(file);
+
+                LudoGateway resumed = freshGateway();
+                resumed.loadGame(file);
+
+                assertEquals(played.exportState(), resumed.exportState(), name);
+            }
+        }
+
+        @Test
+        void shouldNotifyObserversToRedraw() {
+            LudoGateway resumed = freshGateway();
+            resumed.addObserver(mockObserver);
+
+            resumed.importState(playedGateway().exportState());
+
+            ArgumentCaptor<BoardGameEvent> captor = ArgumentCaptor.forClass(BoardGameEvent.class);
+            verify(mockObserver).update(captor.capture());
+            assertEquals(BoardGameEvent.EventType.GAME_RESET, captor.getValue().getTypeOfEvent());
+        }
+
+        @Test
+        void shouldRejectSnakesAndLaddersState() {
+            GameStateDTO state = playedGateway().exportState();
+            GameStateDTO snl = new GameStateDTO(GameStateDTO.SNAKES_AND_LADDERS, 57, Map.of(), Map.of(),
+                    state.players(), 0, -1, -1, List.of());
+
+            assertThrows(ValidationException.class, () -> freshGateway().importState(snl));
+        }
+
+        @Test
+        void shouldRejectPieceOffItsRoute() {
+            GameStateDTO state = playedGateway().exportState();
+            PlayerStateDTO alice = state.players().get(0);
+            GameStateDTO broken = new GameStateDTO(GameStateDTO.LUDO, 57, Map.of(), Map.of(),
+                    List.of(new PlayerStateDTO(alice.player(), List.of(9999, -1, -1, -1))),
+                    0, -1, -1, List.of());
+
+            assertThrows(ValidationException.class, () -> freshGateway().importState(broken));
+        }
+
+        @Test
+        void shouldRejectSelectionOutOfRange() {
+            GameStateDTO state = playedGateway().exportState();
+            GameStateDTO broken = new GameStateDTO(GameStateDTO.LUDO, 57, Map.of(), Map.of(),
+                    state.players(), 0, -1, 4, List.of());
+
+            assertThrows(ValidationException.class, () -> freshGateway().importState(broken));
+        }
+
+        @Test
+        void shouldRejectSelectionWithoutARoll() {
+            GameStateDTO state = playedGateway().exportState();
+            GameStateDTO broken = new GameStateDTO(GameStateDTO.LUDO, 57, Map.of(), Map.of(),
+                    state.players(), 0, -1, 1, List.of());
+
+            assertThrows(ValidationException.class, () -> freshGateway().importState(broken));
+        }
+
+        @Test
+        void shouldRejectMissingBirthday() {
+            GameStateDTO state = playedGateway().exportState();
+            PlayerStateDTO alice = state.players().get(0);
+            PlayerDTO noBirthday = new PlayerDTO("Alice", "BLUE", null);
+            GameStateDTO broken = new GameStateDTO(GameStateDTO.LUDO, 57, Map.of(), Map.of(),
+                    List.of(new PlayerStateDTO(noBirthday, alice.pieceTileIds())), 0, -1, -1, List.of());
+
+            assertThrows(ValidationException.class, () -> freshGateway().importState(broken));
+        }
+
+        @Test
+        void shouldKeepTheGameInPlayWhenAnImportFails() {
+            LudoGateway played = playedGateway();
+            GameStateDTO before = played.exportState();
+            PlayerStateDTO alice = before.players().get(0);
+            GameStateDTO broken = new GameStateDTO(GameStateDTO.LUDO, 57, Map.of(), Map.of(),
+                    List.of(new PlayerStateDTO(alice.player(), List.of(-1, -1, -1, -1)),
+                            new PlayerStateDTO(alice.player(), List.of(9999, -1, -1, -1))),
+                    0, -1, -1, List.of());
+            played.addObserver(mockObserver);
+
+            assertThrows(ValidationException.class, () -> played.importState(broken));
+
+            assertEquals(before, played.exportState());
+            verifyNoInteractions(mockObserver);
+            played.applyPieceMovement();
+            assertNotEquals(before.players(), played.exportState().players());
+        }
+    }
+}
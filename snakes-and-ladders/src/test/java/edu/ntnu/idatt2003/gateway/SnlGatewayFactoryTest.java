@@ -9,6 +9,21 @@ import static org.junit.jupiter.api.Assertions.*;
 
 class SnlGatewayFactoryTest {
 
+    @Nested
+    class HeadlessCreation {
+
+        @Test
+        void shouldPlayWithoutWinOddsEstimates() {
+            SnlGateway gateway = SnlGatewayFactory.createHeadless();
+            gateway.newGame(90);
+            gateway.addPlayer("Alice", "BLUE", java.time.LocalDate.of(1990, 1, 1));
+
+            gateway.rollDice();
+
+            assertEquals(edu.ntnu.idatt2003.gateway.view.WinOddsView.EMPTY, gateway.winOdds());
+        }
+    }
+
     @Nested
     class DefaultCreation {
 
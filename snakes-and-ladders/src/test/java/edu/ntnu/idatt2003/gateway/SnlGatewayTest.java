@@ -1,22 +1,32 @@
 package edu.ntnu.idatt2003.gateway;
 
 import edu.games.engine.board.LinearBoard;
+import edu.games.engine.board.factory.ArrayLinearBoardFactory;
 import edu.games.engine.board.factory.JsonBoardLoader;
 import edu.games.engine.dice.factory.DiceFactory;
+import edu.games.engine.dice.factory.SeededDiceFactory;
+import edu.games.engine.exception.ValidationException;
 import edu.games.engine.impl.overlay.OverlayProvider;
 import edu.games.engine.observer.BoardGameEvent;
 import edu.games.engine.observer.BoardGameObserver;
+import edu.games.engine.simulation.WinOddsEstimator;
 import edu.games.engine.store.PlayerStore;
 import edu.ntnu.idatt2003.gateway.view.PlayerView;
+import edu.ntnu.idatt2003.gateway.view.WinOddsView;
+import edu.ntnu.idatt2003.model.dto.GameStateDTO;
+import edu.ntnu.idatt2003.model.dto.PlayerStateDTO;
 import edu.ntnu.idatt2003.persistence.BoardAdapter;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.MockitoAnnotations;
 
+import java.nio.file.Path;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
@@ -566,4 +576,167 @@ class SnlGatewayTest {
             }
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    class WinOddsEstimates {
+
+        private WinOddsEstimator estimator;
+        private SnlGateway liveGateway;
+
+        @BeforeEach
+        void setUp() {
+            estimator = new WinOddsEstimator(200, 50, 1);
+            liveGateway = new SnlGateway(new ArrayLinearBoardFactory(), new SeededDiceFactory(9L),
+                    mockPlayerStore, mockOverlayProvider, estimator);
+        }
+
+        @AfterEach
+        void tearDown() {
+            estimator.close();
+        }
+
+        private WinOddsView awaitComplete() throws InterruptedException {
+            long deadline = System.nanoTime() + 10_000_000_000L;
+            WinOddsView odds = liveGateway.winOdds();
+            while (!(odds.complete() && odds.rollouts() > 0) && System.nanoTime() < deadline) {
+                Thread.sleep(5);
+                odds = liveGateway.winOdds();
+            }
+            return odds;
+        }
+
+        @Test
+        void shouldBeEmptyWithoutGame() {
+            assertEquals(WinOddsView.EMPTY, gateway.winOdds());
+        }
+
+        @Test
+        void shouldEstimateOddsForEveryPlayerAfterRoll() throws InterruptedException {
+            liveGateway.newGame(64);
+            liveGateway.addPlayer("Alice", "BLUE", LocalDate.of(1990, 1, 1));
+            liveGateway.addPlayer("Bob", "RED", LocalDate.of(1991, 1, 1));
+
+            liveGateway.rollDice();
+            WinOddsView odds = awaitComplete();
+
+            assertEquals(2, odds.probabilities().size());
+            assertEquals(200, odds.rollouts());
+            assertEquals(1.0, odds.probabilities().get(0) + odds.probabilities().get(1), 1e-9);
+        }
+
+        @Test
+        void shouldDropEstimateWhenPlayersAreCleared() throws InterruptedException {
+            liveGateway.newGame(64);
+            liveGateway.addPlayer("Alice", "BLUE", LocalDate.of(1990, 1, 1));
+            awaitComplete();
+
+            liveGateway.clearPlayers();
+
+            assertEquals(WinOddsView.EMPTY, liveGateway.winOdds());
+        }
+    }
+
+    @Nested
+    class SaveAndResume {
+
+        @TempDir
+        Path dir;
+
+        private SnlGateway liveGateway(long seed) {
+            return new SnlGateway(new ArrayLinearBoardFactory(), new SeededDiceFactory(seed),
+                    mockPlayerStore, mockOverlayProvider, null);
+        }
+
+        private SnlGateway playedGateway() {
+            SnlGateway played = liveGateway(5L);
+            played.newGame(64);
+            played.addPlayer("Alice", "BLUE", LocalDate.of(1990, 1, 1));
+            played.addPlayer("Bob", "PURPLE", LocalDate.of(1991, 1, 1));
+            for (int i = 0; i < 7 && !played.hasWinner(); i++) {
+                played.rollDice();
+            }
+            return played;
+        }
+
+        @Test
+        void shouldResumePositionsTurnAndBoard() {
+            SnlGateway played = playedGateway();
+            SnlGateway resumed = liveGateway(6L);
+
+            resumed.importState(played.exportState());
+
+            assertEquals(played.players(), resumed.players());
+            assertEquals(played.exportState(), resumed.exportState());
+            assertEquals(played.getSnakes(), resumed.getSnakes());
+            assertEquals(played.getLadders(), resumed.getLadders());
+            assertEquals(played.lastDiceValues(), resumed.lastDiceValues());
+            assertEquals(played.boardSize(), resumed.boardSize());
+        }
+
+        @Test
+        void shouldResumeWinner() {
+            SnlGateway played = liveGateway(5L);
+            played.newGame(64);
+            played.addPlayer("Alice", "BLUE", LocalDate.of(1990, 1, 1));
+            while (!played.hasWinner()) {
+                played.rollDice();
+            }
+            SnlGateway resumed = liveGateway(6L);
+
+            resumed.importState(played.exportState());
+
+            assertTrue(resumed.hasWinner());
+        }
+
+        @Test
+        void shouldRoundTripThroughJsonAndBinaryFiles() {
+            SnlGateway played = playedGateway();
+            for (String name : List.of("game.json", "game.bin")) {
+                Path file = dir.resolve(name);
+                played.saveGame(file);
+
+                SnlGateway resumed = liveGateway(6L);
+                resumed.loadGame(file);
+
+                assertEquals(played.exportState(), resumed.exportState(), name);
+            }
+        }
+
+        @Test
+        void shouldRejectTileOffTheBoard() {
+            GameStateDTO state = playedGateway().exportState();
+            GameStateDTO broken = new GameStateDTO(state.gameType(), state.boardSize(), state.snakes(),
+                    state.ladders(),
+                    List.of(new PlayerStateDTO(state.players().get(0).player(), List.of(500, -1, -1, -1))),
+                    0, -1, -1, List.of());
+
+            assertThrows(ValidationException.class, () -> liveGateway(6L).importState(broken));
+        }
+
+        @Test
+        void shouldRejectWinnerOutOfRange() {
+            GameStateDTO state = playedGateway().exportState();
+            GameStateDTO broken = new GameStateDTO(state.gameType(), state.boardSize(), state.snakes(),
+                    state.ladders(), state.players(), 0, 2, -1, List.of());
+
+            assertThrows(ValidationException.class, () -> liveGateway(6L).importState(broken));
+        }
+
+        @Test
+        void shouldKeepTheGameInPlayWhenAnImportFails() {
+            SnlGateway played = playedGateway();
+            GameStateDTO before = played.exportState();
+            GameStateDTO broken = new GameStateDTO(before.gameType(), 90, Map.of(10, 2), Map.of(),
+                    List.of(new PlayerStateDTO(before.players().get(0).player(), List.of(500, -1, -1, -1))),
+                    0, -1, -1, List.of());
+            played.addObserver(mockObserver);
+
+            assertThrows(ValidationException.class, () -> played.importState(broken));
+
+            assertEquals(before, played.exportState());
+            assertEquals(before.snakes(), played.getSnakes());
+            verifyNoInteractions(mockObserver);
+            assertDoesNotThrow(played::rollDice);
+        }
+    }
+}
@@ -0,0 +1,368 @@
+package edu.ntnu.idatt2003.gateway.event;
+
+import edu.games.engine.exception.ValidationException;
+import edu.games.engine.observer.BoardGameEvent;
+import edu.games.engine.observer.BoardGameEvent.EventType;
+import edu.games.engine.observer.BoardGameObserver;
+import edu.ntnu.idatt2003.gateway.LudoGateway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class EventDispatcherTest {
+
+  private final EventDispatcher dispatcher = new EventDispatcher();
+  private final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+  @AfterEach
+  void shutdown() {
+    executor.shutdownNow();
+  }
+
+  private static BoardGameEvent event(int value) {
+    return new BoardGameEvent(EventType.GAME_STARTED, value);
+  }
+
+  /** Records every event it gets, and can be made to wait before returning. */
+  private static final class Recorder implements BoardGameObserver {
+    final List<Integer> values = Collections.synchronizedList(new ArrayList<>());
+    final AtomicReference<Thread> thread = new AtomicReference<>();
+    volatile CountDownLatch gate = new CountDownLatch(0);
+
+    @Override
+    public void update(BoardGameEvent event) {
+      thread.set(Thread.currentThread());
+      try {
+        gate.await(10, TimeUnit.SECONDS);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      values.add((Integer) event.getData());
+    }
+
+    void awaitCount(int count) throws InterruptedException {
+      long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+      while (values.size() < count && System.nanoTime() < deadline) {
+        Thread.sleep(1);
+      }
+      assertEquals(count, values.size());
+    }
+  }
+
+  @Nested
+  class Registry {
+
+    @Test
+    void shouldCallAddedObserversInOrderBeforeReturning() {
+      List<String> calls = new ArrayList<>();
+      dispatcher.add(event -> calls.add("first"));
+      dispatcher.add(event -> calls.add("second"));
+
+      dispatcher.publish(event(1));
+
+      assertEquals(List.of("first", "second"), calls);
+    }
+
+    @Test
+    void shouldNotAddTheSameObserverTwice() {
+      BoardGameObserver observer = mock(BoardGameObserver.class);
+
+      assertTrue(dispatcher.add(observer));
+      assertFalse(dispatcher.add(observer));
+      dispatcher.publish(event(1));
+
+      verify(observer, times(1)).update(any());
+    }
+
+    @Test
+    void shouldKeepDeliveringWhenAnObserverThrows() {
+      BoardGameObserver failing = mock(BoardGameObserver.class);
+      BoardGameObserver healthy = mock(BoardGameObserver.class);
+      doThrow(new IllegalStateException("boom")).when(failing).update(any());
+      dispatcher.add(failing);
+      dispatcher.add(healthy);
+
+      assertDoesNotThrow(() -> dispatcher.publish(event(1)));
+
+      verify(healthy).update(any());
+    }
+
+    @Test
+    void shouldAllowObserversToUnregisterWhileBeingNotified() {
+      BoardGameObserver second = mock(BoardGameObserver.class);
+      dispatcher.add(new BoardGameObserver() {
+        @Override
+        public void update(BoardGameEvent event) {
+          dispatcher.remove(this);
+        }
+      });
+      dispatcher.add(second);
+
+      dispatcher.publish(event(1));
+      dispatcher.publish(event(2));
+
+      verify(second, times(2)).update(any());
+      assertTrue(dispatcher.hasObservers());
+      dispatcher.remove(second);
+      assertFalse(dispatcher.hasObservers());
+    }
+
+    @Test
+    void shouldMoveAnAddedObserverToItsSubscription() {
+      BoardGameObserver observer = mock(BoardGameObserver.class);
+      dispatcher.add(observer);
+
+      dispatcher.subscribe(observer, Runnable::run);
+      dispatcher.publish(event(1));
+
+      verify(observer, times(1)).update(any());
+    }
+
+    @Test
+    void shouldReplaceAnEarlierSubscriptionOfTheSameObserver() {
+      BoardGameObserver observer = mock(BoardGameObserver.class);
+      EventSubscription first = dispatcher.subscribe(observer, Runnable::run);
+
+      EventSubscription second = dispatcher.subscribe(observer, Runnable::run);
+      dispatcher.publish(event(1));
+
+      assertTrue(first.isClosed());
+      assertFalse(second.isClosed());
+      verify(observer, times(1)).update(any());
+    }
+
+    @Test
+    void shouldNotAddAnObserverThatIsSubscribed() {
+      BoardGameObserver observer = mock(BoardGameObserver.class);
+      dispatcher.subscribe(observer, Runnable::run);
+
+      assertFalse(dispatcher.add(observer));
+      dispatcher.publish(event(1));
+
+      verify(observer, times(1)).update(any());
+    }
+
+    @Test
+    void shouldRemoveSubscriptionsByObserver() {
+      Recorder recorder = new Recorder();
+      EventSubscription subscription = dispatcher.subscribe(recorder, executor);
+
+      assertTrue(dispatcher.remove(recorder));
+
+      assertTrue(subscription.isClosed());
+      assertFalse(dispatcher.hasObservers());
+      assertFalse(dispatcher.remove(recorder));
+    }
+  }
+
+  @Nested
+  class Subscriptions {
+
+    @Test
+    void shouldDeliverInOrderOnTheSubscribersExecutor() throws Exception {
+      Recorder recorder = new Recorder();
+      dispatcher.subscribe(recorder, executor);
+
+      for (int i = 0; i < 1_000; i++) {
+        dispatcher.publish(event(i));
+      }
+
+      recorder.awaitCount(1_000);
+      for (int i = 0; i < 1_000; i++) {
+        assertEquals(i, recorder.values.get(i));
+      }
+      assertNotSame(Thread.currentThread(), recorder.thread.get());
+    }
+
+    @Test
+    void shouldNotWaitForASlowSubscriber() throws Exception {
+      Recorder slow = new Recorder();
+      slow.gate = new CountDownLatch(1);
+      Recorder fast = new Recorder();
+      EventSubscription subscription = dispatcher.subscribe(slow, executor, 8, WaitStrategy.blocking());
+      ExecutorService other = Executors.newSingleThreadExecutor();
+      dispatcher.subscribe(fast, other);
+
+      long start = System.nanoTime();
+      for (int i = 0; i < 100; i++) {
+        dispatcher.publish(event(i));
+      }
+      long elapsed = System.nanoTime() - start;
+
+      fast.awaitCount(100);
+      assertTrue(elapsed < TimeUnit.SECONDS.toNanos(1));
+      assertTrue(subscription.droppedCount() >= 100 - 8 - 1);
+      slow.gate.countDown();
+      slow.awaitCount((int) (100 - subscription.droppedCount()));
+      assertEquals(0, subscription.backlog());
+      other.shutdownNow();
+    }
+
+    @Test
+    void shouldDeliverEverythingWithEachWaitStrategy() throws Exception {
+      List<WaitStrategy> strategies = List.of(
+          WaitStrategy.blocking(),
+          WaitStrategy.busySpin(1_000),
+          WaitStrategy.yielding(10),
+          WaitStrategy.sleeping(Duration.ofMillis(1)));
+      for (WaitStrategy strategy : strategies) {
+        Recorder recorder = new Recorder();
+        EventSubscription subscription = dispatcher.subscribe(recorder, executor, 64, strategy);
+
+        for (int i = 0; i < 500; i++) {
+          dispatcher.publish(event(i));
+          if (i % 50 == 0) {
+            Thread.sleep(1);
+          }
+        }
+
+        recorder.awaitCount(500 - (int) subscription.droppedCount());
+        subscription.close();
+      }
+    }
+
+    @Test
+    void shouldStopDeliveringOnceClosed() throws Exception {
+      Recorder recorder = new Recorder();
+      EventSubscription subscription = dispatcher.subscribe(recorder, executor);
+      dispatcher.publish(event(1));
+      recorder.awaitCount(1);
+
+      subscription.close();
+      dispatcher.publish(event(2));
+      executor.submit(() -> { }).get(10, TimeUnit.SECONDS);
+
+      assertEquals(List.of(1), recorder.values);
+      assertFalse(dispatcher.hasObservers());
+    }
+
+    @Test
+    void shouldRejectInvalidCapacity() {
+      BoardGameObserver observer = mock(BoardGameObserver.class);
+
+      assertThrows(ValidationException.class,
+          () -> dispatcher.subscribe(observer, executor, 0, WaitStrategy.blocking()));
+      assertThrows(ValidationException.class, () -> WaitStrategy.busySpin(-1));
+    }
+
+    @Test
+    void shouldRoundCapacityUpToAPowerOfTwo() {
+      BoardGameObserver observer = mock(BoardGameObserver.class);
+
+      assertEquals(1, dispatcher.subscribe(observer, executor, 1, WaitStrategy.blocking()).capacity());
+      assertEquals(8, dispatcher.subscribe(observer, executor, 5, WaitStrategy.blocking()).capacity());
+      assertEquals(1024, dispatcher.subscribe(observer, executor).capacity());
+    }
+  }
+
+  @Nested
+  class Topics {
+
+    @Test
+    void shouldOnlyCallObserversForTheTypesTheyWant() {
+      BoardGameObserver turns = mock(BoardGameObserver.class);
+      dispatcher.add(turns, Set.of(EventType.TURN_CHANGED));
+
+      dispatcher.publish(event(1));
+      BoardGameEvent turn = new BoardGameEvent(EventType.TURN_CHANGED, null);
+      dispatcher.publish(turn);
+
+      verify(turns, times(1)).update(turn);
+    }
+
+    @Test
+    void shouldOnlyCallObserversForEventsPassingTheirFilter() {
+      Recorder odd = new Recorder();
+      dispatcher.add(odd, event -> (Integer) event.getData() % 2 == 1);
+
+      for (int i = 0; i < 5; i++) {
+        dispatcher.publish(event(i));
+      }
+
+      assertEquals(List.of(1, 3), odd.values);
+    }
+
+    @Test
+    void shouldNotAddTheSameObserverTwiceForDifferentTypes() {
+      BoardGameObserver observer = mock(BoardGameObserver.class);
+
+      assertTrue(dispatcher.add(observer, Set.of(EventType.GAME_STARTED)));
+      assertFalse(dispatcher.add(observer));
+    }
+
+    @Test
+    void shouldNotBufferUnwantedEventsForSubscribers() throws Exception {
+      Recorder recorder = new Recorder();
+      EventSubscription subscription =
+          dispatcher.subscribe(recorder, executor, Set.of(EventType.GAME_STARTED));
+
+      for (int i = 0; i < 10; i++) {
+        dispatcher.publish(new BoardGameEvent(EventType.PLAYER_MOVED, null));
+        dispatcher.publish(event(i));
+      }
+
+      recorder.awaitCount(10);
+      assertEquals(0, subscription.droppedCount());
+      assertTrue(dispatcher.remove(recorder));
+    }
+
+    @Test
+    void shouldTellWhichTypesAreWanted() {
+      dispatcher.add(mock(BoardGameObserver.class), Set.of(EventType.TURN_CHANGED));
+      dispatcher.subscribe(mock(BoardGameObserver.class), executor, Set.of(EventType.DICE_ROLLED));
+
+      assertTrue(dispatcher.wants(EventType.TURN_CHANGED));
+      assertTrue(dispatcher.wants(EventType.DICE_ROLLED));
+      assertFalse(dispatcher.wants(EventType.PLAYER_MOVED));
+    }
+
+    @Test
+    void shouldRejectAnEmptySetOfTypes() {
+      BoardGameObserver observer = mock(BoardGameObserver.class);
+
+      assertThrows(ValidationException.class,
+          () -> dispatcher.add(observer, EnumSet.noneOf(EventType.class)));
+      assertThrows(ValidationException.class,
+          () -> dispatcher.subscribe(observer, executor, EnumSet.noneOf(EventType.class)));
+      assertFalse(dispatcher.hasObservers());
+    }
+  }
+
+  @Test
+  void shouldDeliverGatewayEventsToSubscribers() throws Exception {
+    LudoGateway gateway = LudoGateway.createDefault();
+    List<EventType> types = Collections.synchronizedList(new ArrayList<>());
+    CountDownLatch added = new CountDownLatch(2);
+    EventSubscription subscription = gateway.subscribe(event -> {
+      types.add(event.getTypeOfEvent());
+      if (event.getTypeOfEvent() == EventType.PLAYER_ADDED) {
+        added.countDown();
+      }
+    }, executor);
+
+    gateway.newGame(0);
+    gateway.addPlayer("Alice", "BLUE", LocalDate.of(2000, 1, 1));
+    gateway.addPlayer("Bob", "GREEN", LocalDate.of(2000, 1, 1));
+
+    assertTrue(added.await(10, TimeUnit.SECONDS));
+    assertEquals(EventType.GAME_STARTED, types.get(0));
+    gateway.removeObserver(subscription.observer());
+    assertTrue(subscription.isClosed());
+  }
+}
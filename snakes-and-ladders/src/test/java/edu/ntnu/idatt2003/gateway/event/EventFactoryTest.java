@@ -0,0 +1,270 @@
+package edu.ntnu.idatt2003.gateway.event;
+
+import edu.games.engine.board.LinearTile;
+import edu.games.engine.board.Tile;
+import edu.games.engine.model.Player;
+import edu.games.engine.model.Token;
+import edu.games.engine.observer.BoardGameEvent;
+import edu.games.engine.observer.BoardGameEvent.EventType;
+import edu.games.engine.observer.GameEvent;
+import edu.ntnu.idatt2003.gateway.SnlGateway;
+import edu.ntnu.idatt2003.gateway.SnlGatewayFactory;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EventFactoryTest {
+
+  private final Player alice = new Player("Alice", Token.BLUE, LocalDate.of(1990, 1, 1));
+  private final Player bob = new Player("Bob", Token.GREEN, LocalDate.of(1990, 1, 1));
+
+  @Nested
+  class Allocating {
+
+    private final EventFactory events = EventFactory.allocating();
+
+    @Test
+    void shouldBuildANewEventEveryTime() {
+      assertNotSame(events.turnChanged(alice), events.turnChanged(alice));
+      assertEquals(events.turnChanged(alice).event(), events.turnChanged(alice).event());
+    }
+
+    @Test
+    void shouldPassProducerDataOn() {
+      List<Integer> values = List.of(4, 4);
+      List<String> players = List.of("a", "b", "c");
+
+      assertSame(values, events.diceRolled(values).getData());
+      assertSame(players, events.playersLoaded(players).getData());
+      assertEquals(new GameEvent.PlayersLoaded(3), events.playersLoaded(players).event());
+    }
+
+    @Test
+    void shouldPassMovesOnAsTheyWereGiven() {
+      Tile from = new LinearTile(4);
+      Tile to = new LinearTile(13);
+
+      PlayerMoveData byIds = (PlayerMoveData) events.playerMoved(alice, 4, 13).getData();
+      PlayerMoveData byTiles = (PlayerMoveData) events.playerMoved(alice, from, to).getData();
+
+      assertEquals(4, byIds.getFrom());
+      assertEquals(13, byIds.getTo());
+      assertSame(from, byTiles.getFrom());
+      assertSame(to, byTiles.getTo());
+      assertEquals(new GameEvent.PlayerMoved(alice, 4, 13), events.playerMoved(alice, from, to).event());
+      assertEquals(new GameEvent.PlayerMoved(alice, -1, 13), events.playerMoved(alice, null, to).event());
+    }
+  }
+
+  @Nested
+  class Flyweight {
+
+    private final EventFactory events = EventFactory.flyweight();
+
+    @Test
+    void shouldReuseEqualEvents() {
+      assertSame(events.gameReset(), events.gameReset());
+      assertSame(events.gameStarted(90), events.gameStarted(90));
+      assertSame(events.diceRolled(List.of(3, 5)), events.diceRolled(List.of(3, 5)));
+      assertSame(events.pieceSelected(2), events.pieceSelected(2));
+      assertSame(events.turnChanged(alice), events.turnChanged(alice));
+      assertSame(events.winnerDeclared(alice), events.winnerDeclared(alice));
+      assertSame(events.playerMoved(alice, 4, 13), events.playerMoved(alice, 4, 13));
+      assertSame(events.playerMoved(alice, -1, 0), events.playerMoved(alice, -1, 0));
+    }
+
+    @Test
+    void shouldTellDifferentEventsApart() {
+      assertNotSame(events.diceRolled(List.of(3, 5)), events.diceRolled(List.of(5, 3)));
+      assertNotSame(events.turnChanged(alice), events.turnChanged(bob));
+      assertNotSame(events.playerMoved(alice, 4, 13), events.playerMoved(alice, 13, 4));
+      assertNotSame(events.playerMoved(alice, 4, 13), events.playerMoved(bob, 4, 13));
+      assertEquals(new GameEvent.PlayerMoved(bob, 13, 4), events.playerMoved(bob, 13, 4).event());
+    }
+
+    @Test
+    void shouldReuseTileMovesOnlyForTheSameTiles() {
+      Tile from = new LinearTile(4);
+      Tile to = new LinearTile(13);
+      BoardGameEvent move = events.playerMoved(alice, from, to);
+
+      assertSame(move, events.playerMoved(alice, from, to));
+      BoardGameEvent otherTiles = events.playerMoved(alice, new LinearTile(4), new LinearTile(13));
+      assertNotSame(move, otherTiles);
+      assertEquals(move.event(), otherTiles.event());
+      assertNotSame(move, events.playerMoved(alice, 4, 13));
+      assertSame(from, ((PlayerMoveData) events.playerMoved(alice, from, to).getData()).getFrom());
+    }
+
+    @Test
+    void shouldKeepOneMoveEntryWhenTheTilesChange() {
+      for (int i = 0; i < FlyweightEventFactory.MAX_MOVES_PER_PLAYER + 10; i++) {
+        events.playerMoved(alice, new LinearTile(4), new LinearTile(13));
+      }
+      Tile from = new LinearTile(5);
+      Tile to = new LinearTile(14);
+      BoardGameEvent move = events.playerMoved(alice, from, to);
+
+      assertSame(move, events.playerMoved(alice, from, to));
+    }
+
+    @Test
+    void shouldForgetPlayersWhenAGameStarts() {
+      BoardGameEvent before = events.turnChanged(alice);
+
+      events.gameStarted(90);
+
+      assertNotSame(before, events.turnChanged(alice));
+    }
+
+    @Test
+    void shouldStillBuildMovesOnceTheCacheIsFull() {
+      for (int to = 0; to < FlyweightEventFactory.MAX_MOVES_PER_PLAYER + 10; to++) {
+        assertEquals(new GameEvent.PlayerMoved(alice, 1, to), events.playerMoved(alice, 1, to).event());
+      }
+      assertSame(events.playerMoved(alice, 1, 0), events.playerMoved(alice, 1, 0));
+    }
+  }
+
+  @Nested
+  class Cache {
+
+    @Test
+    void shouldFindEveryKeyAfterGrowing() {
+      IntEventCache cache = new IntEventCache(1_000);
+      List<BoardGameEvent> added = new ArrayList<>();
+      for (int key = -500; key < 500; key++) {
+        BoardGameEvent event = new BoardGameEvent(new GameEvent.PieceSelected(key));
+        cache.put(key, event);
+        added.add(event);
+      }
+
+      for (int key = -500; key < 500; key++) {
+        assertSame(added.get(key + 500), cache.get(key));
+      }
+      assertNull(cache.get(500));
+      assertEquals(1_000, cache.size());
+    }
+
+    @Test
+    void shouldStopCachingWhenFull() {
+      IntEventCache cache = new IntEventCache(2);
+      cache.put(1, new BoardGameEvent(new GameEvent.GameReset()));
+      cache.put(2, new BoardGameEvent(new GameEvent.GameReset()));
+      cache.put(3, new BoardGameEvent(new GameEvent.GameReset()));
+
+      assertNull(cache.get(3));
+      assertEquals(2, cache.size());
+    }
+
+    @Test
+    void shouldReplaceTheEventOfACachedKey() {
+      IntEventCache cache = new IntEventCache(2);
+      cache.put(1, new BoardGameEvent(new GameEvent.GameReset()));
+      cache.put(2, new BoardGameEvent(new GameEvent.GameReset()));
+      BoardGameEvent replacement = new BoardGameEvent(new GameEvent.GameReset());
+
+      cache.put(2, replacement);
+
+      assertSame(replacement, cache.get(2));
+      assertEquals(2, cache.size());
+    }
+  }
+
+  @Nested
+  class Gateway {
+
+    private final SnlGateway gateway = SnlGatewayFactory.createHeadless();
+
+    private List<BoardGameEvent> playTurns(int turns) {
+      List<BoardGameEvent> seen = new ArrayList<>();
+      gateway.addObserver(seen::add);
+      gateway.newGame(90);
+      gateway.addPlayer("Alice", "BLUE", LocalDate.of(1990, 1, 1));
+      gateway.addPlayer("Bob", "GREEN", LocalDate.of(1990, 1, 1));
+      for (int i = 0; i < turns && !gateway.hasWinner(); i++) {
+        gateway.rollDice();
+      }
+      return seen;
+    }
+
+    @Test
+    void shouldPublishTypedEvents() {
+      List<BoardGameEvent> seen = playTurns(20);
+
+      assertEquals(new GameEvent.GameStarted(90), seen.get(0).event());
+      assertInstanceOf(GameEvent.PlayerAdded.class, seen.get(1).event());
+      for (BoardGameEvent event : seen) {
+        assertNotNull(event.event());
+        assertEquals(event.getTypeOfEvent(), event.event().type());
+      }
+      assertTrue(seen.stream().anyMatch(e -> e.event() instanceof GameEvent.DiceRolled dice
+          && dice.count() == 2 && dice.values().equals(e.getData())));
+    }
+
+    @Test
+    void shouldPublishTheSameEventsWithTheFlyweightFactory() {
+      gateway.setEventFactory(EventFactory.flyweight());
+
+      List<BoardGameEvent> seen = playTurns(200);
+
+      long distinct = seen.stream().map(System::identityHashCode).distinct().count();
+      assertTrue(distinct < seen.size());
+      for (BoardGameEvent event : seen) {
+        assertEquals(event.getTypeOfEvent(), event.event().type());
+      }
+    }
+
+    @Test
+    void shouldBuildNoEventsWhileNobodyListens() {
+      assertThrows(NullPointerException.class, () -> gateway.setEventFactory(null));
+      gateway.setEventFactory(new EventFactory() {
+        @Override
+        public BoardGameEvent diceRolled(List<Integer> values) {
+          throw new AssertionError("Built an event nobody receives");
+        }
+      });
+      gateway.newGame(90);
+      gateway.addPlayer("Alice", "BLUE", LocalDate.of(1990, 1, 1));
+
+      assertDoesNotThrow(gateway::rollDice);
+    }
+
+    @Test
+    void shouldBuildNoEventsOfTypesNobodyWants() {
+      List<BoardGameEvent> turns = new ArrayList<>();
+      gateway.setEventFactory(new EventFactory() {
+        @Override
+        public BoardGameEvent diceRolled(List<Integer> values) {
+          throw new AssertionError("Built an event nobody receives");
+        }
+      });
+      gateway.addObserver(turns::add, Set.of(EventType.TURN_CHANGED));
+      gateway.newGame(90);
+      gateway.addPlayer("Alice", "BLUE", LocalDate.of(1990, 1, 1));
+
+      assertDoesNotThrow(gateway::rollDice);
+      assertEquals(List.of(EventType.TURN_CHANGED),
+          turns.stream().map(BoardGameEvent::getTypeOfEvent).toList());
+    }
+  }
+
+  @Test
+  void shouldKeepTheTypeOfEveryFactoryEvent() {
+    EventFactory events = EventFactory.allocating();
+
+    assertEquals(EventType.GAME_STARTED, events.gameStarted(0).getTypeOfEvent());
+    assertEquals(EventType.GAME_RESET, events.gameReset().getTypeOfEvent());
+    assertEquals(EventType.PLAYER_ADDED, events.playerAdded(alice).getTypeOfEvent());
+    assertEquals(EventType.DICE_ROLLED, events.diceRolled(List.of(1)).getTypeOfEvent());
+    assertEquals(EventType.PLAYER_MOVED, events.playerMoved(alice, 1, 2).getTypeOfEvent());
+    assertEquals(EventType.PIECE_SELECTED, events.pieceSelected(0).getTypeOfEvent());
+    assertEquals(EventType.WINNER_DECLARED, events.winnerDeclared(alice).getTypeOfEvent());
+  }
+}
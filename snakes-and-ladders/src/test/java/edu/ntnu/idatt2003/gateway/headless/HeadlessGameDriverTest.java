@@ -0,0 +1,155 @@
+package edu.ntnu.idatt2003.gateway.headless;
+
+import edu.games.engine.ai.RandomLudoBot;
+import edu.games.engine.board.LudoPath;
+import edu.games.engine.exception.ValidationException;
+import edu.games.engine.observer.BoardGameObserver;
+import edu.games.engine.rule.LudoRuleEngine;
+import edu.ntnu.idatt2003.gateway.LudoGateway;
+import edu.ntnu.idatt2003.gateway.SnlGateway;
+import edu.ntnu.idatt2003.gateway.SnlGatewayFactory;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class HeadlessGameDriverTest {
+
+  @Nested
+  class SnakesAndLadders {
+
+    @Test
+    void shouldPlayEveryGameToAWinner() {
+      SnlGateway gateway = SnlGatewayFactory.createHeadless();
+      HeadlessGameDriver<SnlGateway> driver = new HeadlessGameDriver<>(gateway, 64,
+          List.of("BLUE", "RED", "GREEN"),
+          List.of(GatewayBot.snlRoller(), GatewayBot.snlRoller(), GatewayBot.snlRoller()));
+
+      HeadlessReport report = driver.play(50);
+
+      assertEquals(50, report.gamesPlayed());
+      assertEquals(0, report.unfinishedGames());
+      assertEquals(50, report.winsBySeat()[0] + report.winsBySeat()[1] + report.winsBySeat()[2]);
+      assertTrue(report.meanTurns() > 0);
+    }
+
+    @Test
+    void shouldCountGamesHittingTurnCapAsUnfinished() {
+      HeadlessGameDriver<SnlGateway> driver = new HeadlessGameDriver<>(SnlGatewayFactory.createHeadless(), 64,
+          List.of("BLUE", "RED"), List.of(GatewayBot.snlRoller(), GatewayBot.snlRoller()), 1);
+
+      HeadlessReport report = driver.play(3);
+
+      assertEquals(3, report.unfinishedGames());
+      assertEquals(3, report.turns());
+    }
+  }
+
+  @Nested
+  class Ludo {
+
+    @Test
+    void shouldPlayThroughSelectPieceAndApplyMovement() {
+      RandomLudoBot policy = new RandomLudoBot(new LudoRuleEngine(new LudoPath()), new SplittableRandom(4));
+      HeadlessGameDriver<LudoGateway> driver = new HeadlessGameDriver<>(LudoGateway.createDefault(), 0,
+          List.of("BLUE", "RED"), List.of(GatewayBot.ludo(policy), GatewayBot.ludo(policy)));
+
+      HeadlessReport report = driver.play(5);
+
+      assertEquals(0, report.unfinishedGames());
+      assertEquals(5, report.winsBySeat()[0] + report.winsBySeat()[1]);
+    }
+  }
+
+  @Nested
+  class Isolation {
+
+    @Test
+    void shouldNotNotifyObserversDuringRun() throws Exception {
+      SnlGateway gateway = SnlGatewayFactory.createHeadless();
+      BoardGameObserver observer = mock(BoardGameObserver.class);
+      gateway.addObserver(observer);
+      HeadlessGameDriver<SnlGateway> driver = new HeadlessGameDriver<>(gateway, 64,
+          List.of("BLUE"), List.of(GatewayBot.snlRoller()));
+
+      driver.play(2);
+
+      verify(observer, never()).update(any());
+      assertTrue(gateway.isObserversEnabled());
+    }
+
+    @Test
+    void shouldRestoreLogLevelsAfterRun() {
+      Logger game = Logger.getLogger("GAME");
+      Level before = game.getLevel();
+      HeadlessGameDriver<SnlGateway> driver = new HeadlessGameDriver<>(SnlGatewayFactory.createHeadless(), 64,
+          List.of("BLUE"), List.of(GatewayBot.snlRoller()));
+
+      driver.play(1);
+
+      assertEquals(before, game.getLevel());
+    }
+
+    @Test
+    void shouldOnlyMuteTheDrivenGateway() {
+      SnlGateway other = SnlGatewayFactory.createHeadless();
+      other.newGame(64);
+      other.addPlayer("Other", "GREEN", LocalDate.of(2000, 1, 1));
+      List<String> messages = Collections.synchronizedList(new ArrayList<>());
+      Handler handler = new Handler() {
+        @Override
+        public void publish(LogRecord logRecord) {
+          messages.add(String.valueOf(logRecord.getMessage()));
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+      };
+      Logger game = Logger.getLogger("GAME");
+      game.addHandler(handler);
+      try {
+        HeadlessGameDriver<SnlGateway> driver = new HeadlessGameDriver<>(SnlGatewayFactory.createHeadless(), 64,
+            List.of("BLUE"), List.of(gateway -> {
+              gateway.rollDice();
+              other.rollDice();
+            }), 3);
+
+        driver.play(1);
+      } finally {
+        game.removeHandler(handler);
+      }
+
+      assertTrue(messages.stream().anyMatch(message -> message.startsWith("Other")));
+      assertTrue(messages.stream().noneMatch(message -> message.startsWith("Bot 1")));
+      assertTrue(other.isLoggingEnabled());
+    }
+
+    @Test
+    void shouldRejectMismatchedSeats() {
+      SnlGateway gateway = SnlGatewayFactory.createHeadless();
+      assertThrows(ValidationException.class,
+          () -> new HeadlessGameDriver<>(gateway, 64, List.of("BLUE", "RED"), List.of(GatewayBot.snlRoller())));
+      assertThrows(ValidationException.class,
+          () -> new HeadlessGameDriver<SnlGateway>(gateway, 64, List.of(), List.of()));
+      assertThrows(ValidationException.class,
+          () -> new HeadlessGameDriver<>(gateway, 64, List.of("BLUE"), List.of(GatewayBot.snlRoller()), 0));
+    }
+  }
+}
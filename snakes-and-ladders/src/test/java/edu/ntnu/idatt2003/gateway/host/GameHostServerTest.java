@@ -0,0 +1,147 @@
+package edu.ntnu.idatt2003.gateway.host;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import edu.ntnu.idatt2003.model.dto.GameStateDTO;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameHostServerTest {
+
+  private static final ObjectMapper JSON = new ObjectMapper();
+
+  private final HttpClient client = HttpClient.newHttpClient();
+  private GameHost host;
+  private GameHostServer server;
+
+  @BeforeEach
+  void setUp() {
+    host = new GameHost();
+    server = new GameHostServer(host, 0);
+  }
+
+  @AfterEach
+  void tearDown() {
+    server.close();
+    host.close();
+  }
+
+  private HttpResponse<String> send(String method, String path) throws IOException, InterruptedException {
+    HttpRequest request = HttpRequest.newBuilder(URI.create("http://127.0.0.1:" + server.port() + path))
+        .method(method, HttpRequest.BodyPublishers.noBody())
+        .build();
+    return client.send(request, HttpResponse.BodyHandlers.ofString());
+  }
+
+  private JsonNode body(HttpResponse<String> response) throws IOException {
+    return JSON.readTree(response.body());
+  }
+
+  private String open(String game, int size) throws Exception {
+    HttpResponse<String> response = send("POST", "/sessions?game=" + game + "&size=" + size);
+    assertEquals(201, response.statusCode());
+    return body(response).get("id").asText();
+  }
+
+  @Nested
+  class Games {
+
+    @Test
+    void shouldPlaySnakesAndLaddersOverHttp() throws Exception {
+      String id = open(GameStateDTO.SNAKES_AND_LADDERS, 90);
+      assertEquals(200, send("POST", "/sessions/" + id + "/players?name=Alice&token=BLUE").statusCode());
+      assertEquals(200, send("POST", "/sessions/" + id + "/players?name=Bj%C3%B8rn&token=RED&birthday=1991-02-03")
+          .statusCode());
+
+      HttpResponse<String> rolled = send("POST", "/sessions/" + id + "/roll");
+
+      assertEquals(200, rolled.statusCode());
+      JsonNode state = body(rolled);
+      assertEquals(GameStateDTO.SNAKES_AND_LADDERS, state.get("gameType").asText());
+      assertEquals(90, state.get("boardSize").asInt());
+      assertEquals("Bjørn", state.get("players").get(1).get("name").asText());
+      assertFalse(state.get("lastDiceValues").isEmpty());
+      assertEquals(state, body(send("GET", "/sessions/" + id)));
+    }
+
+    @Test
+    void shouldSelectAndMoveLudoPieces() throws Exception {
+      String id = open(GameStateDTO.LUDO, 0);
+      send("POST", "/sessions/" + id + "/players?name=Alice&token=BLUE");
+      send("POST", "/sessions/" + id + "/players?name=Bob&token=GREEN");
+      send("POST", "/sessions/" + id + "/roll");
+
+      JsonNode selected = body(send("POST", "/sessions/" + id + "/select?piece=2"));
+      assertEquals(2, selected.get("selectedPieceIndex").asInt());
+
+      assertEquals(200, send("POST", "/sessions/" + id + "/move").statusCode());
+      JsonNode reset = body(send("POST", "/sessions/" + id + "/reset"));
+      assertEquals(0, reset.get("currentPlayerIndex").asInt());
+    }
+
+    @Test
+    void shouldReportHostStatistics() throws Exception {
+      open(GameStateDTO.LUDO, 0);
+      open(GameStateDTO.SNAKES_AND_LADDERS, 64);
+
+      JsonNode stats = body(send("GET", "/sessions"));
+
+      assertEquals(2, stats.get("sessions").asInt());
+      assertEquals(host.estimatedBytes(), stats.get("estimatedBytes").asLong());
+      assertEquals(GameHost.DEFAULT_MEMORY_BUDGET_BYTES, stats.get("memoryBudgetBytes").asLong());
+    }
+
+    @Test
+    void shouldCloseSessions() throws Exception {
+      String id = open(GameStateDTO.LUDO, 0);
+
+      assertEquals(204, send("DELETE", "/sessions/" + id).statusCode());
+
+      assertEquals(404, send("GET", "/sessions/" + id).statusCode());
+      assertEquals(404, send("DELETE", "/sessions/" + id).statusCode());
+      assertEquals(0, host.sessionCount());
+    }
+  }
+
+  @Nested
+  class Errors {
+
+    @Test
+    void shouldAnswer404ForUnknownSession() throws Exception {
+      HttpResponse<String> response = send("POST", "/sessions/nope/roll");
+
+      assertEquals(404, response.statusCode());
+      assertTrue(body(response).get("error").asText().contains("nope"));
+    }
+
+    @Test
+    void shouldAnswer400ForInvalidInput() throws Exception {
+      String id = open(GameStateDTO.SNAKES_AND_LADDERS, 90);
+
+      assertEquals(400, send("POST", "/sessions?game=CHESS").statusCode());
+      assertEquals(400, send("POST", "/sessions?game=SNAKES_AND_LADDERS&size=7").statusCode());
+      assertEquals(400, send("POST", "/sessions/" + id + "/players?name=Alice").statusCode());
+      assertEquals(400, send("POST", "/sessions/" + id + "/players?name=Alice&token=BLUE&birthday=soon")
+          .statusCode());
+      assertEquals(400, send("POST", "/sessions/" + id + "/select?piece=1").statusCode());
+    }
+
+    @Test
+    void shouldAnswer405ForUnsupportedMethods() throws Exception {
+      String id = open(GameStateDTO.LUDO, 0);
+
+      assertEquals(405, send("PUT", "/sessions").statusCode());
+      assertEquals(405, send("GET", "/sessions/" + id + "/roll").statusCode());
+    }
+  }
+}
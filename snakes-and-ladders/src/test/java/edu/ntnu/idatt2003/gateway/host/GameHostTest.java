@@ -0,0 +1,317 @@
+package edu.ntnu.idatt2003.gateway.host;
+
+import edu.games.engine.exception.ValidationException;
+import edu.ntnu.idatt2003.exception.GameInitializationException;
+import edu.ntnu.idatt2003.gateway.AbstractGameGateway;
+import edu.ntnu.idatt2003.gateway.LudoGateway;
+import edu.ntnu.idatt2003.gateway.SnlGatewayFactory;
+import edu.ntnu.idatt2003.model.dto.GameStateDTO;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameHostTest {
+
+  private static final Duration IDLE = Duration.ofSeconds(60);
+  private static final LocalDate BIRTHDAY = LocalDate.of(2000, 1, 1);
+  private static final Map<String, Supplier<? extends AbstractGameGateway>> FACTORIES = Map.of(
+      GameStateDTO.SNAKES_AND_LADDERS, SnlGatewayFactory::createHeadless,
+      GameStateDTO.LUDO, LudoGateway::createDefault);
+
+  private final AtomicLong clock = new AtomicLong();
+  private GameHost host = newHost(Long.MAX_VALUE);
+
+  private GameHost newHost(long budget) {
+    return new GameHost(FACTORIES, IDLE, budget, clock::get, false);
+  }
+
+  @AfterEach
+  void closeHost() {
+    host.close();
+  }
+
+  private static <T> T await(CompletableFuture<T> future) throws Exception {
+    return future.get(10, TimeUnit.SECONDS);
+  }
+
+  private static void addPlayer(GameSession session, String name, String token) throws Exception {
+    await(session.submit(gateway -> {
+      gateway.addPlayer(name, token, BIRTHDAY);
+      return null;
+    }));
+  }
+
+  @Nested
+  class Sessions {
+
+    @Test
+    void shouldOpenIndependentGames() throws Exception {
+      GameSession snl = host.open(GameStateDTO.SNAKES_AND_LADDERS, 90);
+      GameSession ludo = host.open(GameStateDTO.LUDO, 0);
+      addPlayer(snl, "Alice", "BLUE");
+
+      assertNotEquals(snl.id(), ludo.id());
+      assertEquals(2, host.sessionCount());
+      assertEquals(90, (int) await(snl.<Integer>submit(AbstractGameGateway::boardSize)));
+      assertEquals(1, (int) await(snl.<Integer>submit(gateway -> gateway.players().size())));
+      assertEquals(0, (int) await(ludo.<Integer>submit(gateway -> gateway.players().size())));
+      assertSame(ludo, host.session(ludo.id()).orElseThrow());
+    }
+
+    @Test
+    void shouldRejectUnknownGameType() {
+      assertThrows(ValidationException.class, () -> host.open("CHESS", 0));
+      assertEquals(0, host.sessionCount());
+    }
+
+    @Test
+    void shouldCompleteFutureWithTheCommandsException() {
+      GameSession session = host.open(GameStateDTO.LUDO, 0);
+
+      ExecutionException e = assertThrows(ExecutionException.class,
+          () -> await(session.submit(gateway -> {
+            ((LudoGateway) gateway).addPlayer("Alice", "BLUE", BIRTHDAY);
+            ((LudoGateway) gateway).selectPiece(9);
+            return null;
+          })));
+      assertInstanceOf(ValidationException.class, e.getCause());
+    }
+
+    @Test
+    void shouldRefuseCommandsOnceClosed() {
+      GameSession session = host.open(GameStateDTO.SNAKES_AND_LADDERS, 64);
+
+      assertTrue(host.close(session.id()));
+
+      assertTrue(session.isClosed());
+      assertTrue(host.session(session.id()).isEmpty());
+      assertTrue(host.submit(session.id(), AbstractGameGateway::boardSize).isEmpty());
+      ExecutionException e = assertThrows(ExecutionException.class,
+          () -> await(session.submit(AbstractGameGateway::boardSize)));
+      assertInstanceOf(RejectedExecutionException.class, e.getCause());
+      assertFalse(host.close(session.id()));
+    }
+  }
+
+  @Nested
+  class Mailbox {
+
+    @Test
+    void shouldRunCommandsInSubmissionOrder() throws Exception {
+      GameSession session = host.open(GameStateDTO.SNAKES_AND_LADDERS, 90);
+      List<Integer> order = new ArrayList<>();
+      List<CompletableFuture<Boolean>> futures = new ArrayList<>();
+
+      for (int i = 0; i < 100; i++) {
+        int command = i;
+        futures.add(session.submit(gateway -> order.add(command)));
+      }
+      CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get(10, TimeUnit.SECONDS);
+
+      for (int i = 0; i < 100; i++) {
+        assertEquals(i, order.get(i));
+      }
+    }
+
+    @Test
+    void shouldNeverRunTwoCommandsOfOneSessionAtOnce() throws Exception {
+      int sessionCount = 200;
+      int commandsPerClient = 25;
+      List<GameSession> sessions = new ArrayList<>();
+      int[] counters = new int[sessionCount];
+      AtomicInteger[] running = new AtomicInteger[sessionCount];
+      AtomicInteger overlaps = new AtomicInteger();
+      for (int s = 0; s < sessionCount; s++) {
+        sessions.add(host.open(GameStateDTO.LUDO, 0));
+        running[s] = new AtomicInteger();
+      }
+
+      List<CompletableFuture<?>> futures = new ArrayList<>();
+      try (ExecutorService clients = Executors.newFixedThreadPool(4)) {
+        for (int client = 0; client < 4; client++) {
+          clients.submit(() -> {
+            for (int i = 0; i < commandsPerClient; i++) {
+              for (int s = 0; s < sessionCount; s++) {
+                int session = s;
+                CompletableFuture<?> future = sessions.get(s).submit(gateway -> {
+                  if (running[session].incrementAndGet() > 1) {
+                    overlaps.incrementAndGet();
+                  }
+                  counters[session]++;
+                  running[session].decrementAndGet();
+                  return null;
+                });
+                synchronized (futures) {
+                  futures.add(future);
+                }
+              }
+            }
+          });
+        }
+      }
+      CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get(30, TimeUnit.SECONDS);
+
+      assertEquals(0, overlaps.get());
+      for (int s = 0; s < sessionCount; s++) {
+        int session = s;
+        assertEquals(4 * commandsPerClient,
+            (int) await(sessions.get(s).<Integer>submit(gateway -> counters[session])));
+      }
+    }
+  }
+
+  @Nested
+  class Memory {
+
+    @Test
+    void shouldTrackEstimatedFootprintPerSession() throws Exception {
+      GameSession small = host.open(GameStateDTO.SNAKES_AND_LADDERS, 64);
+      GameSession large = host.open(GameStateDTO.SNAKES_AND_LADDERS, 120);
+      long before = small.estimatedBytes();
+
+      addPlayer(small, "Alice", "BLUE");
+      addPlayer(small, "Bob", "RED");
+
+      assertTrue(large.estimatedBytes() > before);
+      assertEquals(before + 2 * GameSession.PLAYER_BYTES, small.estimatedBytes());
+      assertEquals(small.estimatedBytes() + large.estimatedBytes(), host.estimatedBytes());
+    }
+
+    @Test
+    void shouldReleaseFootprintOnClose() {
+      GameSession session = host.open(GameStateDTO.LUDO, 0);
+      assertTrue(host.estimatedBytes() > 0);
+
+      host.close(session.id());
+
+      assertEquals(0, session.estimatedBytes());
+      assertEquals(0, host.estimatedBytes());
+    }
+
+    @Test
+    void shouldRefuseSessionsPastTheBudget() {
+      host.close();
+      host = newHost(3 * GameSession.SESSION_BYTES);
+      host.open(GameStateDTO.SNAKES_AND_LADDERS, 64);
+
+      assertThrows(GameInitializationException.class,
+          () -> host.open(GameStateDTO.SNAKES_AND_LADDERS, 64));
+      assertEquals(1, host.sessionCount());
+    }
+
+    @Test
+    void shouldNotOvershootTheBudgetWhenOpeningConcurrently() throws Exception {
+      host.close();
+      host = newHost(2 * GameSession.SESSION_BYTES - 1);
+      ExecutorService pool = Executors.newFixedThreadPool(16);
+      CountDownLatch start = new CountDownLatch(1);
+      AtomicInteger opened = new AtomicInteger();
+      List<Future<?>> opens = new ArrayList<>();
+      for (int i = 0; i < 16; i++) {
+        opens.add(pool.submit(() -> {
+          start.await();
+          try {
+            host.open(GameStateDTO.SNAKES_AND_LADDERS, 64);
+            opened.incrementAndGet();
+          } catch (GameInitializationException e) {
+            // Refused, as all but one should be
+          }
+          return null;
+        }));
+      }
+
+      start.countDown();
+      for (Future<?> open : opens) {
+        open.get(10, TimeUnit.SECONDS);
+      }
+      pool.shutdown();
+
+      assertEquals(1, opened.get());
+      assertEquals(1, host.sessionCount());
+      assertEquals(host.sessions().iterator().next().estimatedBytes(), host.estimatedBytes());
+    }
+
+    @Test
+    void shouldReleaseTheReservationWhenAGameFailsToStart() {
+      host.close();
+      Supplier<AbstractGameGateway> broken = () -> {
+        throw new IllegalStateException("boom");
+      };
+      host = new GameHost(Map.of("BROKEN", broken), IDLE, GameSession.SESSION_BYTES, clock::get, false);
+
+      assertThrows(IllegalStateException.class, () -> host.open("BROKEN", 0));
+
+      assertEquals(0, host.estimatedBytes());
+      assertEquals(0, host.sessionCount());
+    }
+
+    @Test
+    void shouldEvictIdleSessionsToMakeRoom() {
+      host.close();
+      host = newHost(GameSession.SESSION_BYTES + 64 * GameSession.TILE_BYTES);
+      GameSession idle = host.open(GameStateDTO.SNAKES_AND_LADDERS, 64);
+      clock.addAndGet(IDLE.toNanos());
+
+      GameSession fresh = host.open(GameStateDTO.SNAKES_AND_LADDERS, 64);
+
+      assertTrue(idle.isClosed());
+      assertEquals(List.of(fresh), List.copyOf(host.sessions()));
+      assertEquals(1, host.evictedCount());
+    }
+  }
+
+  @Nested
+  class Eviction {
+
+    @Test
+    void shouldEvictOnlySessionsIdleForTheTimeout() throws Exception {
+      GameSession idle = host.open(GameStateDTO.SNAKES_AND_LADDERS, 90);
+      GameSession active = host.open(GameStateDTO.LUDO, 0);
+
+      clock.addAndGet(IDLE.toNanos() - 1);
+      assertEquals(0, host.evictIdle());
+      await(active.submit(AbstractGameGateway::boardSize));
+      clock.addAndGet(1);
+
+      assertEquals(1, host.evictIdle());
+      assertTrue(idle.isClosed());
+      assertFalse(active.isClosed());
+      assertTrue(host.session(idle.id()).isEmpty());
+      assertEquals(active.estimatedBytes(), host.estimatedBytes());
+    }
+
+    @Test
+    void shouldSweepInTheBackground() throws Exception {
+      host.close();
+      host = new GameHost(FACTORIES, Duration.ofMillis(20), Long.MAX_VALUE);
+      GameSession session = host.open(GameStateDTO.LUDO, 0);
+
+      long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+      while (!session.isClosed() && System.nanoTime() < deadline) {
+        Thread.sleep(5);
+      }
+
+      assertTrue(session.isClosed());
+      assertEquals(0, host.sessionCount());
+    }
+  }
+}
@@ -0,0 +1,208 @@
+package edu.ntnu.idatt2003.gateway.journal;
+
+import edu.games.engine.board.Tile;
+import edu.games.engine.exception.StorageException;
+import edu.games.engine.exception.ValidationException;
+import edu.games.engine.model.Player;
+import edu.games.engine.model.Token;
+import edu.games.engine.observer.BoardGameEvent;
+import edu.games.engine.observer.BoardGameEvent.EventType;
+import edu.ntnu.idatt2003.gateway.SnlGateway;
+import edu.ntnu.idatt2003.gateway.SnlGatewayFactory;
+import edu.ntnu.idatt2003.gateway.event.PlayerMoveData;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EventJournalTest {
+
+  @TempDir
+  Path dir;
+
+  private final Player alice = new Player("Alice", Token.BLUE, LocalDate.of(1990, 1, 1));
+
+  private Path file() {
+    return dir.resolve("game.journal");
+  }
+
+  @Nested
+  class Encoding {
+
+    @Test
+    void shouldRoundTripEveryEventType() {
+      try (EventJournal journal = new EventJournal(file())) {
+        journal.update(new BoardGameEvent(EventType.GAME_STARTED, 90));
+        journal.update(new BoardGameEvent(EventType.PLAYER_ADDED, alice));
+        journal.update(new BoardGameEvent(EventType.PLAYERS_LOADED, List.of("a", "b")));
+        journal.update(new BoardGameEvent(EventType.DICE_ROLLED, List.of(3, 6)));
+        journal.update(new BoardGameEvent(EventType.PLAYER_MOVED, new PlayerMoveData(alice, 4, 13)));
+        journal.update(new BoardGameEvent(EventType.PIECE_SELECTED, 2));
+        journal.update(new BoardGameEvent(EventType.TURN_CHANGED, alice));
+        journal.update(new BoardGameEvent(EventType.WINNER_DECLARED, alice));
+        journal.update(new BoardGameEvent(EventType.GAME_RESET, null));
+      }
+
+      List<JournalEntry> entries = EventJournalReader.readAll(file());
+
+      assertEquals(9, entries.size());
+      assertEquals(90, entries.get(0).value());
+      assertEquals("Alice", entries.get(1).player());
+      assertEquals(Token.BLUE.ordinal(), entries.get(1).value());
+      assertEquals(2, entries.get(2).value());
+      assertEquals(List.of(3, 6), entries.get(3).dice());
+      JournalEntry move = entries.get(4);
+      assertEquals(EventType.PLAYER_MOVED, move.type());
+      assertEquals("Alice", move.player());
+      assertEquals(4, move.from());
+      assertEquals(13, move.to());
+      assertEquals(2, entries.get(5).value());
+      assertEquals(EventType.TURN_CHANGED, entries.get(6).type());
+      assertEquals("Alice", entries.get(7).player());
+      assertEquals(EventType.GAME_RESET, entries.get(8).type());
+      assertTrue(entries.get(0).timeMillis() > 0);
+    }
+
+    @Test
+    void shouldRecordMissingTilesAsMinusOne() {
+      try (EventJournal journal = new EventJournal(file())) {
+        journal.update(new BoardGameEvent(EventType.PLAYER_MOVED,
+            new PlayerMoveData(alice, (Tile) null, (Tile) null)));
+      }
+
+      JournalEntry move = EventJournalReader.readAll(file()).get(0);
+
+      assertEquals(-1, move.from());
+      assertEquals(-1, move.to());
+    }
+
+    @Test
+    void shouldIgnoreEventsWithoutType() {
+      try (EventJournal journal = new EventJournal(file())) {
+        journal.update(null);
+        journal.update(new BoardGameEvent(null, null));
+      }
+
+      assertTrue(EventJournalReader.readAll(file()).isEmpty());
+    }
+  }
+
+  @Nested
+  class FileHandling {
+
+    @Test
+    void shouldMakeRecordsReadableAfterFlush() {
+      try (EventJournal journal = new EventJournal(file(), 10_000, true)) {
+        journal.update(new BoardGameEvent(EventType.DICE_ROLLED, List.of(5)));
+        journal.flush();
+
+        assertEquals(1, EventJournalReader.readAll(file()).size());
+      }
+    }
+
+    @Test
+    void shouldAppendWhenReopened() {
+      try (EventJournal journal = new EventJournal(file())) {
+        journal.update(new BoardGameEvent(EventType.DICE_ROLLED, List.of(1)));
+      }
+      try (EventJournal journal = new EventJournal(file())) {
+        journal.update(new BoardGameEvent(EventType.DICE_ROLLED, List.of(2)));
+      }
+
+      List<JournalEntry> entries = EventJournalReader.readAll(file());
+
+      assertEquals(2, entries.size());
+      assertEquals(List.of(2), entries.get(1).dice());
+    }
+
+    @Test
+    void shouldDropTornRecordWhenReopened() throws IOException {
+      try (EventJournal journal = new EventJournal(file())) {
+        journal.update(new BoardGameEvent(EventType.DICE_ROLLED, List.of(1)));
+      }
+      long intact = Files.size(file());
+      Files.write(file(), new byte[] {0, 40, 1, 2}, StandardOpenOption.APPEND);
+
+      assertEquals(1, EventJournalReader.readAll(file()).size());
+
+      try (EventJournal journal = new EventJournal(file())) {
+        assertEquals(intact, Files.size(file()));
+        journal.update(new BoardGameEvent(EventType.DICE_ROLLED, List.of(4)));
+      }
+
+      List<JournalEntry> entries = EventJournalReader.readAll(file());
+      assertEquals(2, entries.size());
+      assertEquals(List.of(4), entries.get(1).dice());
+    }
+
+    @Test
+    void shouldRejectFileThatIsNotAJournal() throws IOException {
+      Files.writeString(file(), "not a journal at all");
+
+      assertThrows(StorageException.class, () -> new EventJournal(file()));
+      assertThrows(StorageException.class, () -> EventJournalReader.readAll(file()));
+    }
+
+    @Test
+    void shouldRejectNegativeCommitInterval() {
+      assertThrows(ValidationException.class, () -> new EventJournal(file(), -1, false));
+    }
+
+    @Test
+    void shouldIgnoreEventsAfterClose() {
+      EventJournal journal = new EventJournal(file());
+      journal.close();
+      journal.update(new BoardGameEvent(EventType.GAME_RESET, null));
+      journal.close();
+
+      assertTrue(EventJournalReader.readAll(file()).isEmpty());
+    }
+
+    @Test
+    void shouldKeepAllRecordsBeyondOneBuffer() {
+      int events = 20_000;
+      try (EventJournal journal = new EventJournal(file(), 1, false)) {
+        for (int i = 0; i < events; i++) {
+          journal.update(new BoardGameEvent(EventType.PIECE_SELECTED, i % 4));
+        }
+      }
+
+      List<JournalEntry> entries = EventJournalReader.readAll(file());
+
+      assertEquals(events, entries.size());
+      assertEquals(3, entries.get(events - 1).value());
+    }
+  }
+
+  @Nested
+  class WithGateway {
+
+    @Test
+    void shouldJournalEventsPublishedByGateway() {
+      SnlGateway gateway = SnlGatewayFactory.createHeadless();
+      try (EventJournal journal = new EventJournal(file())) {
+        gateway.addObserver(journal);
+        gateway.newGame(64);
+        gateway.addPlayer("Alice", "BLUE", LocalDate.of(1990, 1, 1));
+        gateway.addPlayer("Bob", "RED", LocalDate.of(1991, 1, 1));
+        gateway.rollDice();
+      }
+
+      List<EventType> types = EventJournalReader.readAll(file()).stream()
+          .map(JournalEntry::type)
+          .toList();
+
+      assertTrue(types.contains(EventType.PLAYER_ADDED));
+      assertTrue(types.contains(EventType.DICE_ROLLED));
+      assertTrue(types.contains(EventType.PLAYER_MOVED));
+    }
+  }
+}
@@ -0,0 +1,212 @@
+package edu.ntnu.idatt2003.gateway.pipeline;
+
+import edu.games.engine.board.factory.ArrayLinearBoardFactory;
+import edu.games.engine.dice.factory.SeededDiceFactory;
+import edu.games.engine.exception.ValidationException;
+import edu.games.engine.impl.overlay.OverlayProvider;
+import edu.games.engine.store.PlayerStore;
+import edu.ntnu.idatt2003.gateway.AbstractGameGateway;
+import edu.ntnu.idatt2003.gateway.LudoGateway;
+import edu.ntnu.idatt2003.gateway.SnlGateway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+class GamePipelineTest {
+
+  private static final LocalDate BIRTHDAY = LocalDate.of(2000, 1, 1);
+
+  private final List<GamePipeline<?>> pipelines = new ArrayList<>();
+
+  @AfterEach
+  void closePipelines() {
+    pipelines.forEach(GamePipeline::close);
+  }
+
+  private static SnlGateway snlGateway(long seed) {
+    SnlGateway gateway = new SnlGateway(new ArrayLinearBoardFactory(), new SeededDiceFactory(seed),
+        mock(PlayerStore.class), mock(OverlayProvider.class), null);
+    gateway.newGame(90);
+    gateway.addPlayer("Alice", "BLUE", BIRTHDAY);
+    gateway.addPlayer("Bob", "RED", BIRTHDAY);
+    return gateway;
+  }
+
+  private <G extends AbstractGameGateway> GamePipeline<G> pipeline(G gateway) {
+    GamePipeline<G> pipeline = new GamePipeline<>(gateway);
+    pipelines.add(pipeline);
+    return pipeline;
+  }
+
+  private static <T> T await(CompletableFuture<T> future) throws Exception {
+    return future.get(10, TimeUnit.SECONDS);
+  }
+
+  @Nested
+  class Commands {
+
+    @Test
+    void shouldRunEveryCommandOnTheOwnerThread() throws Exception {
+      GamePipeline<SnlGateway> pipeline = pipeline(snlGateway(1));
+
+      assertFalse(pipeline.isOwnerThread());
+      assertTrue(await(pipeline.<Boolean>submit(gateway -> pipeline.isOwnerThread())));
+    }
+
+    @Test
+    void shouldPlayLikeTheGatewayItself() throws Exception {
+      SnlGateway direct = snlGateway(7);
+      GamePipeline<SnlGateway> pipeline = pipeline(snlGateway(7));
+
+      for (int turn = 0; turn < 20 && !direct.hasWinner(); turn++) {
+        assertEquals(direct.rollDice(), (int) await(pipeline.rollDice()));
+      }
+
+      GameSnapshot snapshot = pipeline.snapshot();
+      assertEquals(direct.players(), snapshot.players());
+      assertEquals(direct.currentPlayerName(), snapshot.currentPlayerName());
+      assertEquals(direct.lastDiceValues(), snapshot.lastDiceValues());
+    }
+
+    @Test
+    void shouldSelectAndMoveLudoPieces() throws Exception {
+      LudoGateway gateway = LudoGateway.createDefault();
+      gateway.newGame(0);
+      gateway.addPlayer("Alice", "BLUE", BIRTHDAY);
+      gateway.addPlayer("Bob", "GREEN", BIRTHDAY);
+      GamePipeline<LudoGateway> pipeline = pipeline(gateway);
+
+      int roll = await(pipeline.rollDice());
+      await(pipeline.selectPiece(1));
+      assertEquals(1, pipeline.snapshot().players().stream()
+          .filter(player -> player.activePieceIndex() >= 0).findFirst().orElseThrow().activePieceIndex());
+      assertEquals(1, pipeline.snapshot().selectedPieceIndex());
+      assertEquals(roll, (int) await(pipeline.applyPieceMovement()));
+      assertEquals(-1, pipeline.snapshot().selectedPieceIndex());
+
+      await(pipeline.resetGame());
+      assertEquals("Alice", pipeline.snapshot().currentPlayerName());
+    }
+
+    @Test
+    void shouldCompleteWithTheCommandsException() {
+      GamePipeline<SnlGateway> pipeline = pipeline(snlGateway(1));
+
+      ExecutionException e = assertThrows(ExecutionException.class, () -> await(pipeline.selectPiece(0)));
+
+      assertInstanceOf(ValidationException.class, e.getCause());
+      assertDoesNotThrow(() -> await(pipeline.rollDice()));
+    }
+
+    @Test
+    void shouldKeepRunningWhenACommandThrowsAnError() throws Exception {
+      GamePipeline<SnlGateway> pipeline = pipeline(snlGateway(1));
+
+      ExecutionException e = assertThrows(ExecutionException.class,
+          () -> await(pipeline.submit(gateway -> {
+            throw new StackOverflowError("deep");
+          })));
+
+      assertInstanceOf(StackOverflowError.class, e.getCause());
+      assertTrue(await(pipeline.rollDice()) > 0);
+      assertEquals(2, pipeline.snapshot().version());
+    }
+
+    @Test
+    void shouldFinishQueuedCommandsAndRejectNewOnesOnClose() throws Exception {
+      GamePipeline<SnlGateway> pipeline = pipeline(snlGateway(1));
+      CompletableFuture<Integer> queued = pipeline.rollDice();
+
+      pipeline.close();
+
+      assertTrue(await(queued) > 0);
+      ExecutionException e = assertThrows(ExecutionException.class, () -> await(pipeline.rollDice()));
+      assertInstanceOf(RejectedExecutionException.class, e.getCause());
+    }
+  }
+
+  @Nested
+  class Snapshots {
+
+    @Test
+    void shouldPublishSnapshotBeforeCompletingTheCommand() throws Exception {
+      GamePipeline<SnlGateway> pipeline = pipeline(snlGateway(3));
+      assertTrue(pipeline.snapshot().lastDiceValues().isEmpty());
+
+      await(pipeline.rollDice());
+
+      assertFalse(pipeline.snapshot().lastDiceValues().isEmpty());
+      assertEquals("Bob", pipeline.snapshot().currentPlayerName());
+    }
+
+    @Test
+    void shouldPublishOneSnapshotPerBatch() throws Exception {
+      GamePipeline<SnlGateway> pipeline = pipeline(snlGateway(3));
+      CountDownLatch release = new CountDownLatch(1);
+      pipeline.submit(gateway -> {
+        try {
+          return release.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+          throw new IllegalStateException(e);
+        }
+      });
+      List<CompletableFuture<Integer>> rolls = new ArrayList<>();
+      for (int i = 0; i < GamePipeline.MAX_BATCH; i++) {
+        rolls.add(pipeline.submit(gateway -> gateway.hasWinner() ? 0 : gateway.rollDice()));
+      }
+
+      release.countDown();
+      CompletableFuture.allOf(rolls.toArray(CompletableFuture[]::new)).get(10, TimeUnit.SECONDS);
+
+      assertEquals(2, pipeline.snapshot().version());
+    }
+
+    @Test
+    void shouldNotChangeOncePublished() throws Exception {
+      GamePipeline<SnlGateway> pipeline = pipeline(snlGateway(3));
+      GameSnapshot before = pipeline.snapshot();
+
+      await(pipeline.rollDice());
+
+      assertTrue(before.lastDiceValues().isEmpty());
+      assertThrows(UnsupportedOperationException.class, () -> before.players().clear());
+    }
+  }
+
+  @Test
+  void shouldSerialiseCommandsFromManyThreads() throws Exception {
+    GamePipeline<SnlGateway> pipeline = pipeline(snlGateway(5));
+    int[] counter = new int[1];
+    List<CompletableFuture<Integer>> futures = new ArrayList<>();
+
+    try (ExecutorService callers = Executors.newFixedThreadPool(4)) {
+      for (int caller = 0; caller < 4; caller++) {
+        callers.submit(() -> {
+          for (int i = 0; i < 2_500; i++) {
+            CompletableFuture<Integer> future = pipeline.submit(gateway -> ++counter[0]);
+            synchronized (futures) {
+              futures.add(future);
+            }
+          }
+        });
+      }
+    }
+    CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get(30, TimeUnit.SECONDS);
+
+    assertEquals(10_000, (int) await(pipeline.submit(gateway -> counter[0])));
+  }
+}
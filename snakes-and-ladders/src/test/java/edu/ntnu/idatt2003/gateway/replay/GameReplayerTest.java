@@ -0,0 +1,332 @@
+package edu.ntnu.idatt2003.gateway.replay;
+
+import edu.games.engine.ai.RandomLudoBot;
+import edu.games.engine.board.LudoPath;
+import edu.games.engine.exception.ValidationException;
+import edu.games.engine.observer.BoardGameEvent;
+import edu.games.engine.observer.BoardGameEvent.EventType;
+import edu.games.engine.observer.BoardGameObserver;
+import edu.games.engine.rule.LudoRuleEngine;
+import edu.ntnu.idatt2003.gateway.LudoGateway;
+import edu.ntnu.idatt2003.gateway.SnlGateway;
+import edu.ntnu.idatt2003.gateway.SnlGatewayFactory;
+import edu.ntnu.idatt2003.gateway.view.PlayerView;
+import edu.ntnu.idatt2003.persistence.BoardAdapter.MapData;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class GameReplayerTest {
+
+  /** Positions after every turn of a recorded game, starting before the first. */
+  private final List<List<PlayerView>> positions = new ArrayList<>();
+
+  private GameRecord recordSnl() {
+    return recordSnl(gateway -> gateway.newGame(64));
+  }
+
+  private GameRecord recordSnl(Consumer<SnlGateway> newGame) {
+    SnlGateway gateway = SnlGatewayFactory.createHeadless();
+    GameRecorder recorder = new GameRecorder(gateway);
+    gateway.addObserver(recorder);
+    newGame.accept(gateway);
+    gateway.addPlayer("Alice", "BLUE", LocalDate.of(1990, 1, 1));
+    gateway.addPlayer("Bob", "RED", LocalDate.of(1991, 2, 2));
+    gateway.addPlayer("Cleo", "PURPLE", LocalDate.of(1992, 3, 3));
+    positions.add(gateway.players());
+    while (!gateway.hasWinner() && positions.size() <= 300) {
+      gateway.rollDice();
+      positions.add(gateway.players());
+    }
+    return recorder.record();
+  }
+
+  private GameRecord recordLudo() {
+    LudoGateway gateway = LudoGateway.createDefault();
+    RandomLudoBot bot = new RandomLudoBot(new LudoRuleEngine(new LudoPath()), new SplittableRandom(11));
+    GameRecorder recorder = new GameRecorder(gateway);
+    gateway.addObserver(recorder);
+    gateway.newGame(0);
+    gateway.addPlayer("Alice", "BLUE", LocalDate.of(1990, 1, 1));
+    gateway.addPlayer("Bob", "GREEN", LocalDate.of(1991, 2, 2));
+    positions.add(gateway.players());
+    while (!gateway.hasWinner()) {
+      gateway.rollDice();
+      gateway.selectPieceWith(bot);
+      gateway.applyPieceMovement();
+      positions.add(gateway.players());
+    }
+    return recorder.record();
+  }
+
+  @Nested
+  class Recording {
+
+    @Test
+    void shouldRecordSeatsAndEveryTurn() {
+      GameRecord record = recordSnl();
+
+      assertEquals(GameRecord.Kind.SNAKES_AND_LADDERS, record.kind());
+      assertEquals(64, record.boardSize());
+      assertEquals(List.of("Alice", "Bob", "Cleo"),
+          record.seats().stream().map(GameRecord.Seat::name).toList());
+      assertEquals(positions.size() - 1, record.turnCount());
+      assertEquals(-1, record.turns().get(0).piece());
+      assertEquals(2, record.turns().get(0).dice().size());
+    }
+
+    @Test
+    void shouldRecordPieceChoicesInLudo() {
+      GameRecord record = recordLudo();
+
+      assertEquals(GameRecord.Kind.LUDO, record.kind());
+      assertTrue(record.turns().stream().allMatch(turn -> turn.piece() >= 0 && turn.piece() < 4));
+    }
+
+    @Test
+    void shouldStartOverWhenGameIsReset() {
+      SnlGateway gateway = SnlGatewayFactory.createHeadless();
+      GameRecorder recorder = new GameRecorder(gateway);
+      gateway.addObserver(recorder);
+      gateway.newGame(64);
+      gateway.addPlayer("Alice", "BLUE", LocalDate.of(1990, 1, 1));
+      gateway.rollDice();
+      gateway.rollDice();
+
+      gateway.resetGame();
+      gateway.rollDice();
+
+      assertEquals(1, recorder.turnCount());
+    }
+
+    @Test
+    void shouldRecordTheSameGameWhenRegisteredForItsEventTypes() {
+      SnlGateway gateway = SnlGatewayFactory.createHeadless();
+      GameRecorder everything = new GameRecorder(gateway);
+      GameRecorder typed = new GameRecorder(gateway);
+      gateway.addObserver(everything);
+      gateway.addObserver(typed, GameRecorder.EVENT_TYPES);
+      gateway.newGame(64);
+      gateway.addPlayer("Alice", "BLUE", LocalDate.of(1990, 1, 1));
+      gateway.addPlayer("Bob", "RED", LocalDate.of(1991, 2, 2));
+      for (int i = 0; i < 20 && !gateway.hasWinner(); i++) {
+        gateway.rollDice();
+      }
+
+      assertEquals(everything.turnCount(), typed.turnCount());
+      assertEquals(everything.record(), typed.record());
+    }
+
+    @Test
+    void shouldRejectRecordWithoutSeats() {
+      assertThrows(ValidationException.class,
+          () -> new GameRecord(GameRecord.Kind.LUDO, 0, List.of(), List.of()));
+    }
+  }
+
+  @Nested
+  class Seeking {
+
+    @Test
+    void shouldRebuildEverySnakesAndLaddersPosition() {
+      GameRecord record = recordSnl();
+      try (GameReplayer replayer = new GameReplayer(record, 4, Runnable::run)) {
+        for (int turn = record.turnCount(); turn >= 0; turn -= 3) {
+          replayer.seek(turn);
+
+          assertEquals(positions.get(turn), replayer.gateway().players(), "turn " + turn);
+          assertEquals(turn, replayer.currentTurn());
+        }
+      }
+    }
+
+    @Test
+    void shouldReplayOnTheRecordedCustomBoard() {
+      MapData board = new MapData(64, Map.of(30, 4, 50, 11, 62, 1), Map.of(2, 40, 6, 45, 9, 60));
+      GameRecord record = recordSnl(gateway -> gateway.newGame(board));
+
+      assertEquals(board.snakes(), record.snakes());
+      assertEquals(board.ladders(), record.ladders());
+      try (GameReplayer replayer = new GameReplayer(record, 4, Runnable::run)) {
+        for (int turn = 0; turn <= record.turnCount(); turn++) {
+          replayer.seek(turn);
+
+          assertEquals(positions.get(turn), replayer.gateway().players(), "turn " + turn);
+        }
+      }
+    }
+
+    @Test
+    void shouldRebuildLudoPositionsInAnyOrder() {
+      GameRecord record = recordLudo();
+      SplittableRandom random = new SplittableRandom(3);
+      try (GameReplayer replayer = new GameReplayer(record, 8, Runnable::run)) {
+        for (int i = 0; i < 40; i++) {
+          int turn = random.nextInt(record.turnCount() + 1);
+          replayer.seek(turn);
+
+          assertEquals(positions.get(turn), replayer.gateway().players(), "turn " + turn);
+        }
+        replayer.seek(record.turnCount());
+        assertTrue(replayer.gateway().hasWinner());
+      }
+    }
+
+    @Test
+    void shouldKeepCheckpointEveryIntervalTurns() {
+      GameRecord record = recordLudo();
+      try (GameReplayer replayer = new GameReplayer(record, 10, Runnable::run)) {
+        assertEquals(record.turnCount() / 10 + 1, replayer.checkpointCount());
+        assertEquals(0, replayer.currentTurn());
+        assertEquals(positions.get(0), replayer.gateway().players());
+      }
+    }
+
+    @Test
+    void shouldSendViewsOneResetPerSeek() {
+      GameRecord record = recordSnl();
+      BoardGameObserver view = mock(BoardGameObserver.class);
+      try (GameReplayer replayer = new GameReplayer(record)) {
+        replayer.gateway().addObserver(view);
+
+        replayer.seek(record.turnCount());
+
+        ArgumentCaptor<BoardGameEvent> events = ArgumentCaptor.forClass(BoardGameEvent.class);
+        verify(view).update(events.capture());
+        assertEquals(EventType.GAME_RESET, events.getValue().getTypeOfEvent());
+      }
+    }
+
+    @Test
+    void shouldRejectTurnOutOfRange() {
+      try (GameReplayer replayer = new GameReplayer(recordSnl())) {
+        assertThrows(ValidationException.class, () -> replayer.seek(-1));
+        assertThrows(ValidationException.class, () -> replayer.seek(replayer.turnCount() + 1));
+      }
+    }
+
+    @Test
+    void shouldRejectInvalidInterval() {
+      GameRecord record = recordSnl();
+
+      assertThrows(ValidationException.class, () -> new GameReplayer(record, 0, Runnable::run));
+    }
+  }
+
+  @Nested
+  class Playback {
+
+    @Test
+    void shouldAnimateNextTurn() {
+      GameRecord record = recordSnl();
+      BoardGameObserver view = mock(BoardGameObserver.class);
+      try (GameReplayer replayer = new GameReplayer(record)) {
+        replayer.gateway().addObserver(view);
+
+        assertTrue(replayer.step());
+
+        verify(view, atLeastOnce()).update(argThat(e -> e.getTypeOfEvent() == EventType.DICE_ROLLED));
+        assertEquals(1, replayer.currentTurn());
+        assertEquals(positions.get(1), replayer.gateway().players());
+      }
+    }
+
+    @Test
+    void shouldRedrawLudoPiecesAfterEveryStep() {
+      GameRecord record = recordLudo();
+      BoardGameObserver view = mock(BoardGameObserver.class);
+      try (GameReplayer replayer = new GameReplayer(record)) {
+        replayer.gateway().addObserver(view);
+
+        assertTrue(replayer.step());
+        assertTrue(replayer.step());
+
+        ArgumentCaptor<BoardGameEvent> events = ArgumentCaptor.forClass(BoardGameEvent.class);
+        verify(view, atLeastOnce()).update(events.capture());
+        List<EventType> types = events.getAllValues().stream()
+            .map(BoardGameEvent::getTypeOfEvent)
+            .toList();
+        assertEquals(2, types.stream().filter(type -> type == EventType.GAME_RESET).count());
+        assertEquals(EventType.GAME_RESET, types.get(types.size() - 1));
+        assertEquals(positions.get(2), replayer.gateway().players());
+      }
+    }
+
+    @Test
+    void shouldNotRedrawSnakesAndLaddersAfterSteps() {
+      GameRecord record = recordSnl();
+      BoardGameObserver view = mock(BoardGameObserver.class);
+      try (GameReplayer replayer = new GameReplayer(record)) {
+        replayer.gateway().addObserver(view);
+
+        replayer.step();
+
+        verify(view, never()).update(argThat(e -> e.getTypeOfEvent() == EventType.GAME_RESET));
+      }
+    }
+
+    @Test
+    void shouldStopStepsAtEndOfRecord() {
+      GameRecord record = recordSnl();
+      try (GameReplayer replayer = new GameReplayer(record)) {
+        replayer.seek(record.turnCount());
+
+        assertFalse(replayer.step());
+      }
+    }
+
+    @Test
+    void shouldPlayToTargetAtGivenSpeed() throws InterruptedException {
+      GameRecord record = recordLudo();
+      int target = Math.min(20, record.turnCount());
+      try (GameReplayer replayer = new GameReplayer(record)) {
+        replayer.play(target, 1);
+
+        long deadline = System.nanoTime() + 10_000_000_000L;
+        while (replayer.isPlaying() && System.nanoTime() < deadline) {
+          Thread.sleep(5);
+        }
+
+        assertFalse(replayer.isPlaying());
+        assertEquals(target, replayer.currentTurn());
+        assertEquals(positions.get(target), replayer.gateway().players());
+      }
+    }
+
+    @Test
+    void shouldStopWhenPaused() {
+      GameRecord record = recordLudo();
+      try (GameReplayer replayer = new GameReplayer(record)) {
+        replayer.play(record.turnCount(), 60_000);
+        assertTrue(replayer.isPlaying());
+
+        replayer.pause();
+
+        assertFalse(replayer.isPlaying());
+        assertEquals(0, replayer.currentTurn());
+      }
+    }
+
+    @Test
+    void shouldJumpWithoutDelayWhenStepIsZero() {
+      GameRecord record = recordLudo();
+      try (GameReplayer replayer = new GameReplayer(record)) {
+        replayer.play(record.turnCount(), 0);
+
+        assertFalse(replayer.isPlaying());
+        assertEquals(record.turnCount(), replayer.currentTurn());
+      }
+    }
+  }
+}
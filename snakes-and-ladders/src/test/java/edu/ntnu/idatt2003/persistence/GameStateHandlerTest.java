@@ -0,0 +1,140 @@
+package edu.ntnu.idatt2003.persistence;
+
+import edu.games.engine.exception.StorageException;
+import edu.ntnu.idatt2003.exception.JsonParsingException;
+import edu.ntnu.idatt2003.model.dto.GameStateDTO;
+import edu.ntnu.idatt2003.model.dto.PlayerDTO;
+import edu.ntnu.idatt2003.model.dto.PlayerStateDTO;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameStateHandlerTest {
+
+  private static final GameStateDTO STATE = new GameStateDTO(
+      GameStateDTO.SNAKES_AND_LADDERS,
+      90,
+      Map.of(16, 6, 47, 26),
+      Map.of(1, 38, 4, 14),
+      List.of(
+          new PlayerStateDTO(new PlayerDTO("Alice", "BLUE", "1990-01-01"), List.of(12, -1, -1, -1)),
+          new PlayerStateDTO(new PlayerDTO("Bjørn", "PURPLE", "1991-02-03"), List.of(0, -1, -1, -1))),
+      1,
+      -1,
+      -1,
+      List.of(3, 4));
+
+  @TempDir
+  Path dir;
+
+  @Nested
+  class Json {
+
+    private final JsonGameStateHandler handler = new JsonGameStateHandler();
+
+    @Test
+    void shouldRoundTripThroughFile() {
+      Path file = dir.resolve("game.json");
+
+      handler.save(STATE, file);
+
+      assertEquals(STATE, handler.load(file));
+    }
+
+    @Test
+    void shouldSkipUnknownFieldsInAnyOrder() throws IOException {
+      String json = """
+          {"players": [{"pieces": [5, -1, -1, -1], "extra": {"a": [1]}, "name": "Alice",
+            "token": "RED", "birthday": "1990-01-01"}],
+           "comment": "written by hand", "gameType": "LUDO", "version": 1,
+           "selectedPieceIndex": 0, "lastDiceValues": [6]}
+          """;
+
+      GameStateDTO state = handler.read(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+
+      assertEquals(GameStateDTO.LUDO, state.gameType());
+      assertEquals(List.of(5, -1, -1, -1), state.players().get(0).pieceTileIds());
+      assertEquals("RED", state.players().get(0).player().playerToken());
+      assertEquals(0, state.selectedPieceIndex());
+      assertEquals(-1, state.winnerIndex());
+    }
+
+    @Test
+    void shouldRejectFileWithoutVersion() {
+      byte[] json = "{\"gameType\": \"LUDO\"}".getBytes(StandardCharsets.UTF_8);
+
+      assertThrows(JsonParsingException.class, () -> handler.read(new ByteArrayInputStream(json)));
+    }
+
+    @Test
+    void shouldRejectMalformedFile() throws IOException {
+      Path file = dir.resolve("broken.json");
+      Files.writeString(file, "{\"version\": 1, \"players\": [");
+
+      assertThrows(JsonParsingException.class, () -> handler.load(file));
+    }
+  }
+
+  @Nested
+  class Binary {
+
+    private final BinaryGameStateHandler handler = new BinaryGameStateHandler();
+
+    @Test
+    void shouldRoundTripThroughFile() {
+      Path file = dir.resolve("game.sav");
+
+      handler.save(STATE, file);
+
+      assertEquals(STATE, handler.load(file));
+    }
+
+    @Test
+    void shouldBeSmallerThanJson() throws IOException {
+      ByteArrayOutputStream binary = new ByteArrayOutputStream();
+      ByteArrayOutputStream json = new ByteArrayOutputStream();
+
+      handler.write(STATE, binary);
+      new JsonGameStateHandler().write(STATE, json);
+
+      assertTrue(binary.size() * 3 < json.size());
+    }
+
+    @Test
+    void shouldRejectForeignFile() throws IOException {
+      Path file = dir.resolve("foreign.sav");
+      Files.writeString(file, "definitely not a save");
+
+      assertThrows(StorageException.class, () -> handler.load(file));
+    }
+
+    @Test
+    void shouldRejectCutOffFile() throws IOException {
+      ByteArrayOutputStream out = new ByteArrayOutputStream();
+      handler.write(STATE, out);
+      byte[] bytes = Arrays.copyOf(out.toByteArray(), out.size() - 3);
+
+      assertThrows(StorageException.class, () -> handler.read(new ByteArrayInputStream(bytes)));
+    }
+
+    @Test
+    void shouldRejectValuesThatDoNotFit() {
+      GameStateDTO huge = new GameStateDTO(GameStateDTO.LUDO, 100_000, Map.of(), Map.of(),
+          List.of(), 0, -1, -1, List.of());
+
+      assertThrows(StorageException.class, () -> handler.write(huge, new ByteArrayOutputStream()));
+    }
+  }
+}